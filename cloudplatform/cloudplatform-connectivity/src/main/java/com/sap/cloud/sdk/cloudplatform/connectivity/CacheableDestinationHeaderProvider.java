@@ -0,0 +1,139 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.Beta;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * A {@link DestinationHeaderProvider} whose headers may be reused for subsequent requests to the same destination, for
+ * example until an authentication token expires.
+ * <p>
+ * The {@link DefaultHttpDestination} compiles the headers of all its header providers into one immutable set of
+ * headers, as long as all of them are cacheable. Subsequent requests only copy this set, without invoking any header
+ * provider again, until the earliest expiry of the provided headers is reached. The headers of a provider must
+ * therefore not depend on the request URI, but only on the destination and the cache scope of the provider.
+ * <p>
+ * The reused headers are not part of any cache registered at the {@code CacheManager}, so invalidating the caches does
+ * not discard them by itself. If the headers are derived from a cache, for example an authentication token, the cache
+ * scope should change whenever that cache is invalidated. Otherwise, the headers are reused until their expiry, even
+ * after the underlying cache was cleared. The {@code OAuth2} header provider of the SAP Cloud SDK includes the
+ * generation of its token cache in its scope for this reason.
+ *
+ * @since 5.23.0
+ */
+@Beta
+public interface CacheableDestinationHeaderProvider extends DestinationHeaderProvider
+{
+    /**
+     * The cache scope of headers that only depend on the destination.
+     */
+    Object DESTINATION_SCOPE = "destination";
+
+    /**
+     * Get the scope in which the headers of this provider may be reused, for example the ID of the current tenant.
+     * Headers provided in one scope are never reused in another scope. This method is invoked for every request, so it
+     * should be cheap to compute.
+     *
+     * @param requestContext
+     *            The destination and request specific context.
+     * @return The cache scope, {@link #DESTINATION_SCOPE} if the headers only depend on the destination, or
+     *         {@code null} if the headers must not be reused for this request.
+     */
+    @Nullable
+    Object getCacheScope( @Nonnull final DestinationRequestContext requestContext );
+
+    /**
+     * Provides the headers which should be used with the given destination, together with the point in time until which
+     * they may be reused.
+     *
+     * @param requestContext
+     *            The destination and request specific context.
+     * @return The headers to use with the given destination.
+     */
+    @Nonnull
+    CacheableHeaders getCacheableHeaders( @Nonnull final DestinationRequestContext requestContext );
+
+    @Nonnull
+    @Override
+    default List<Header> getHeaders( @Nonnull final DestinationRequestContext requestContext )
+    {
+        return getCacheableHeaders(requestContext).getHeaders();
+    }
+
+    /**
+     * Headers that may be reused until the given expiry.
+     *
+     * @since 5.23.0
+     */
+    @Beta
+    @Value
+    @AllArgsConstructor( access = AccessLevel.PRIVATE )
+    class CacheableHeaders
+    {
+        /**
+         * The provided headers.
+         */
+        @Nonnull
+        List<Header> headers;
+
+        /**
+         * The point in time after which the headers must no longer be reused.
+         */
+        @Nonnull
+        Instant expiry;
+
+        /**
+         * Create headers that may be reused until the given point in time.
+         *
+         * @param headers
+         *            The provided headers.
+         * @param expiry
+         *            The point in time after which the headers must no longer be reused.
+         * @return The cacheable headers.
+         */
+        @Nonnull
+        public static CacheableHeaders until( @Nonnull final List<Header> headers, @Nonnull final Instant expiry )
+        {
+            return new CacheableHeaders(List.copyOf(headers), expiry);
+        }
+
+        /**
+         * Create headers that may be reused for the given duration.
+         *
+         * @param headers
+         *            The provided headers.
+         * @param timeToLive
+         *            The duration for which the headers may be reused.
+         * @return The cacheable headers.
+         */
+        @Nonnull
+        public static
+            CacheableHeaders
+            withTimeToLive( @Nonnull final List<Header> headers, @Nonnull final Duration timeToLive )
+        {
+            return until(headers, Instant.now().plus(timeToLive));
+        }
+
+        /**
+         * Create headers that may be reused for as long as the destination is used.
+         *
+         * @param headers
+         *            The provided headers.
+         * @return The cacheable headers.
+         */
+        @Nonnull
+        public static CacheableHeaders unlimited( @Nonnull final List<Header> headers )
+        {
+            return until(headers, Instant.MAX);
+        }
+    }
+}
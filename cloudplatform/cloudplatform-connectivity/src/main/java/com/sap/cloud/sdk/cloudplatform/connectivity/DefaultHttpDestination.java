@@ -1,10 +1,8 @@
 package com.sap.cloud.sdk.cloudplatform.connectivity;
 
-import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationKeyStoreComparator.resolveCertificatesOnly;
-import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationKeyStoreComparator.resolveKeyStoreHashCode;
-
 import java.net.URI;
 import java.security.KeyStore;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -12,18 +10,20 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLContext;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
+import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.net.HttpHeaders;
+import com.sap.cloud.sdk.cloudplatform.connectivity.CacheableDestinationHeaderProvider.CacheableHeaders;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
 import com.sap.cloud.sdk.cloudplatform.requestheader.RequestHeaderAccessor;
 import com.sap.cloud.sdk.cloudplatform.requestheader.RequestHeaderContainer;
@@ -38,6 +38,7 @@ import io.vavr.control.Option;
 import io.vavr.control.Try;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.experimental.Delegate;
@@ -49,6 +50,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class DefaultHttpDestination implements HttpDestination
 {
+    // upper bound of compiled header sets per destination, e.g. one per tenant
+    private static final int MAX_COMPILED_HEADER_SETS = 100;
+
     @Delegate
     private final DestinationProperties baseProperties;
 
@@ -94,6 +98,15 @@ public final class DefaultHttpDestination implements HttpDestination
     @Nonnull
     private final ImmutableList<Header> cachedProxyAuthorizationHeaders;
 
+    // the headers of all header providers, if they are cacheable, by the cache scopes of the header providers.
+    // like the fingerprint, the compiled headers are excluded from the equals and hashCode methods.
+    @Nonnull
+    private final Map<List<Object>, CompiledHeaders> compiledHeaders = new ConcurrentHashMap<>();
+
+    // lazily computed, since hashing the properties and key-stores is only needed once the destination is compared
+    @Nullable
+    private volatile DestinationFingerprint cachedFingerprint;
+
     private DefaultHttpDestination(
         @Nonnull final DestinationProperties baseProperties,
         @Nonnull final ComplexDestinationPropertyFactory destinationPropertyFactory,
@@ -166,16 +179,27 @@ public final class DefaultHttpDestination implements HttpDestination
     @Override
     public Collection<Header> getHeaders( @Nonnull final URI requestUri )
     {
+        final DestinationRequestContext requestContext = new DestinationRequestContext(this, requestUri);
+        final List<Object> cacheScopes = getHeaderCacheScopes(requestContext);
+        if( cacheScopes != null ) {
+            final CompiledHeaders compiled = compiledHeaders.get(cacheScopes);
+            if( compiled != null && compiled.isValid() ) {
+                return new ArrayList<>(compiled.headers);
+            }
+        }
+
+        final List<Header> providedHeaders = new ArrayList<>();
+        final Instant expiry =
+            collectHeadersFromHeaderProviders(
+                requestContext,
+                customHeaderProviders,
+                headerProvidersFromClassLoading,
+                providedHeaders);
+
         final Collection<Header> allHeaders = new ArrayList<>();
 
         allHeaders.addAll(customHeaders);
-        allHeaders
-            .addAll(
-                getHeadersFromHeaderProviders(
-                    this,
-                    requestUri,
-                    customHeaderProviders,
-                    headerProvidersFromClassLoading));
+        allHeaders.addAll(providedHeaders);
         allHeaders.addAll(cachedHeadersFromProperties);
         if( allHeaders.stream().noneMatch(header -> header.getName().equalsIgnoreCase(HttpHeaders.AUTHORIZATION)) ) {
             allHeaders.addAll(getHeadersForAuthType());
@@ -183,14 +207,85 @@ public final class DefaultHttpDestination implements HttpDestination
         if( allHeaders.stream().map(Header::getName).noneMatch(HttpHeaders.PROXY_AUTHORIZATION::equalsIgnoreCase) ) {
             allHeaders.addAll(cachedProxyAuthorizationHeaders);
         }
+
+        if( cacheScopes != null ) {
+            putCompiledHeaders(cacheScopes, new CompiledHeaders(ImmutableList.copyOf(allHeaders), expiry));
+        }
         return allHeaders;
     }
 
+    /**
+     * Get the cache scopes of all header providers, if the headers of this destination may be reused.
+     *
+     * @return The cache scopes, or {@code null} if the headers must be computed for the request.
+     */
+    @Nullable
+    private List<Object> getHeaderCacheScopes( @Nonnull final DestinationRequestContext requestContext )
+    {
+        // the forwarded token is specific to the current request
+        if( cachedAuthenticationType == AuthenticationType.TOKEN_FORWARDING ) {
+            return null;
+        }
+        final List<Object> scopes =
+            new ArrayList<>(customHeaderProviders.size() + headerProvidersFromClassLoading.size());
+        for( final DestinationHeaderProvider headerProvider : Iterables
+            .concat(customHeaderProviders, headerProvidersFromClassLoading) ) {
+            if( !(headerProvider instanceof CacheableDestinationHeaderProvider cacheableProvider) ) {
+                return null;
+            }
+            final Object scope =
+                invokeHeaderProvider(headerProvider, () -> cacheableProvider.getCacheScope(requestContext));
+            if( scope == null ) {
+                return null;
+            }
+            scopes.add(scope);
+        }
+        return scopes;
+    }
+
+    private void putCompiledHeaders( @Nonnull final List<Object> cacheScopes, @Nonnull final CompiledHeaders headers )
+    {
+        if( !headers.isValid() ) {
+            return;
+        }
+        if( compiledHeaders.size() >= MAX_COMPILED_HEADER_SETS ) {
+            compiledHeaders.values().removeIf(compiled -> !compiled.isValid());
+            if( compiledHeaders.size() >= MAX_COMPILED_HEADER_SETS ) {
+                compiledHeaders.clear();
+            }
+        }
+        compiledHeaders.put(cacheScopes, headers);
+    }
+
     static List<Header> getHeadersFromHeaderProviders(
         @Nonnull final HttpDestination destination,
         @Nonnull final URI requestUri,
         @Nonnull final List<DestinationHeaderProvider> customHeaderProviders,
         @Nonnull final List<DestinationHeaderProvider> headerProvidersFromClassLoading )
+    {
+        final DestinationRequestContext requestContext = new DestinationRequestContext(destination, requestUri);
+
+        final List<Header> result = new ArrayList<>();
+        collectHeadersFromHeaderProviders(
+            requestContext,
+            customHeaderProviders,
+            headerProvidersFromClassLoading,
+            result);
+        return result;
+    }
+
+    /**
+     * Add the headers of all header providers to the given list.
+     *
+     * @return The point in time until which the headers may be reused, which is in the past, if any header provider is
+     *         not cacheable.
+     */
+    @Nonnull
+    private static Instant collectHeadersFromHeaderProviders(
+        @Nonnull final DestinationRequestContext requestContext,
+        @Nonnull final List<DestinationHeaderProvider> customHeaderProviders,
+        @Nonnull final List<DestinationHeaderProvider> headerProvidersFromClassLoading,
+        @Nonnull final List<Header> result )
     {
         final List<DestinationHeaderProvider> aggregatedHeaderProviders = new ArrayList<>();
         aggregatedHeaderProviders.addAll(customHeaderProviders);
@@ -199,21 +294,48 @@ public final class DefaultHttpDestination implements HttpDestination
         final String msg = "Found these {} destination header providers: {}";
         log.debug(msg, aggregatedHeaderProviders.size(), aggregatedHeaderProviders);
 
-        final DestinationRequestContext requestContext = new DestinationRequestContext(destination, requestUri);
-
-        final List<Header> result = new ArrayList<>();
+        Instant expiry = Instant.MAX;
         for( final DestinationHeaderProvider headerProvider : aggregatedHeaderProviders ) {
-            try {
-                result.addAll(headerProvider.getHeaders(requestContext));
-            }
-            catch( final Exception e ) {
-                final String err =
-                    "Header provider '%s' threw an exception: %s"
-                        .formatted(headerProvider.getClass().getSimpleName(), e.getMessage());
-                throw new DestinationAccessException(err, e);
+            if( headerProvider instanceof CacheableDestinationHeaderProvider cacheableProvider ) {
+                final CacheableHeaders headers =
+                    invokeHeaderProvider(headerProvider, () -> cacheableProvider.getCacheableHeaders(requestContext));
+                result.addAll(headers.getHeaders());
+                expiry = headers.getExpiry().isBefore(expiry) ? headers.getExpiry() : expiry;
+            } else {
+                result.addAll(invokeHeaderProvider(headerProvider, () -> headerProvider.getHeaders(requestContext)));
+                expiry = Instant.MIN;
             }
         }
-        return result;
+        return expiry;
+    }
+
+    private static <T> T invokeHeaderProvider(
+        @Nonnull final DestinationHeaderProvider headerProvider,
+        @Nonnull final Supplier<T> invocation )
+    {
+        try {
+            return invocation.get();
+        }
+        catch( final Exception e ) {
+            final String err =
+                "Header provider '%s' threw an exception: %s"
+                    .formatted(headerProvider.getClass().getSimpleName(), e.getMessage());
+            throw new DestinationAccessException(err, e);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class CompiledHeaders
+    {
+        @Nonnull
+        private final ImmutableList<Header> headers;
+        @Nonnull
+        private final Instant expiry;
+
+        boolean isValid()
+        {
+            return expiry.isAfter(Instant.now());
+        }
     }
 
     private Collection<Header> getHeadersForAuthType()
@@ -523,6 +645,27 @@ public final class DefaultHttpDestination implements HttpDestination
         return builder;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The fingerprint is computed once per destination instance. It covers the destination properties, the custom
+     * headers and a digest of the certificates of the key and trust store.
+     *
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    @Override
+    public Object getFingerprint()
+    {
+        DestinationFingerprint fingerprint = cachedFingerprint;
+        if( fingerprint == null ) {
+            fingerprint = new DestinationFingerprint(baseProperties, customHeaders, keyStore, trustStore);
+            cachedFingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
     @Override
     public boolean equals( @Nullable final Object o )
     {
@@ -535,23 +678,13 @@ public final class DefaultHttpDestination implements HttpDestination
         }
 
         final DefaultHttpDestination that = (DefaultHttpDestination) o;
-        return new EqualsBuilder()
-            .append(baseProperties, that.baseProperties)
-            .append(customHeaders, that.customHeaders)
-            .append(resolveCertificatesOnly(keyStore), resolveCertificatesOnly(that.keyStore))
-            .append(resolveCertificatesOnly(trustStore), resolveCertificatesOnly(that.trustStore))
-            .isEquals();
+        return getFingerprint().equals(that.getFingerprint());
     }
 
     @Override
     public int hashCode()
     {
-        return new HashCodeBuilder(17, 37)
-            .append(baseProperties)
-            .append(customHeaders)
-            .append(resolveKeyStoreHashCode(keyStore))
-            .append(resolveKeyStoreHashCode(trustStore))
-            .toHashCode();
+        return getFingerprint().hashCode();
     }
 
     /**
@@ -0,0 +1,78 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationKeyStoreComparator.resolveKeyStoreDigest;
+import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationKeyStoreComparator.resolveKeyStoreHashCode;
+
+import java.security.KeyStore;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Immutable identity of a {@link DefaultHttpDestination}, which is computed once per destination instance. The hash
+ * code and the digests of the key and trust store are precomputed, so that comparing fingerprints, e.g. as part of a
+ * {@link com.sap.cloud.sdk.cloudplatform.cache.CacheKey}, neither needs to hash all destination properties nor to read
+ * the certificates of the key-stores again.
+ * <p>
+ * The key and trust store of a destination are expected not to change after the destination was built.
+ */
+final class DestinationFingerprint
+{
+    @Nonnull
+    private final DestinationProperties baseProperties;
+
+    @Nonnull
+    private final List<Header> customHeaders;
+
+    @Nonnull
+    private final byte[] keyStoreDigest;
+
+    @Nonnull
+    private final byte[] trustStoreDigest;
+
+    private final int hashCode;
+
+    DestinationFingerprint(
+        @Nonnull final DestinationProperties baseProperties,
+        @Nonnull final List<Header> customHeaders,
+        @Nullable final KeyStore keyStore,
+        @Nullable final KeyStore trustStore )
+    {
+        this.baseProperties = baseProperties;
+        this.customHeaders = customHeaders;
+        keyStoreDigest = resolveKeyStoreDigest(keyStore);
+        trustStoreDigest = resolveKeyStoreDigest(trustStore);
+        hashCode =
+            new HashCodeBuilder(17, 37)
+                .append(baseProperties)
+                .append(customHeaders)
+                .append(resolveKeyStoreHashCode(keyStore))
+                .append(resolveKeyStoreHashCode(trustStore))
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals( @Nullable final Object o )
+    {
+        if( this == o ) {
+            return true;
+        }
+        if( !(o instanceof DestinationFingerprint that) || hashCode != that.hashCode ) {
+            return false;
+        }
+        return Arrays.equals(keyStoreDigest, that.keyStoreDigest)
+            && Arrays.equals(trustStoreDigest, that.trustStoreDigest)
+            && customHeaders.equals(that.customHeaders)
+            && baseProperties.equals(that.baseProperties);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hashCode;
+    }
+}
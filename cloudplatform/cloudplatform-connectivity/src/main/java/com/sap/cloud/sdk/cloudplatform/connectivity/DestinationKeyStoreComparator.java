@@ -1,7 +1,10 @@
 package com.sap.cloud.sdk.cloudplatform.connectivity;
 
 import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.cert.Certificate;
+import java.security.cert.CertificateEncodingException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 
@@ -34,6 +37,37 @@ class DestinationKeyStoreComparator
         return out.toHashCode();
     }
 
+    /**
+     * Calculate a SHA-256 digest over the encoded certificates of a KeyStore. Two key-stores with the same digest are
+     * considered equal, just as if their {@link #resolveCertificatesOnly(KeyStore) certificates} were compared.
+     *
+     * @param ks
+     *            The KeyStore to calculate the digest for.
+     * @return The digest of the certificates, which equals the digest of an empty key-store in case the key-store was
+     *         not initialized or contains non-certificate based elements.
+     */
+    @Nonnull
+    static byte[] resolveKeyStoreDigest( @Nullable final KeyStore ks )
+    {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch( final NoSuchAlgorithmException e ) {
+            throw new IllegalStateException("SHA-256 is not supported by the Java runtime.", e);
+        }
+        try {
+            for( final Certificate certificate : resolveCertificatesOnly(ks) ) {
+                digest.update(certificate.getEncoded());
+            }
+        }
+        catch( final CertificateEncodingException e ) {
+            log.debug("Error while encoding certificates from KeyStore", e);
+            digest.reset();
+        }
+        return digest.digest();
+    }
+
     /**
      * Resolve certificates-only from a KeyStore.
      *
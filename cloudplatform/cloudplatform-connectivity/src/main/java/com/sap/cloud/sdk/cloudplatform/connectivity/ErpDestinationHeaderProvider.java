@@ -19,8 +19,36 @@ import lombok.extern.slf4j.Slf4j;
  * @since 4.16.0
  */
 @Slf4j
-public class ErpDestinationHeaderProvider implements DestinationHeaderProvider
+public class ErpDestinationHeaderProvider implements CacheableDestinationHeaderProvider
 {
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The headers only depend on the destination, unless the language of the current locale is used.
+     *
+     * @since 5.23.0
+     */
+    @Nonnull
+    @Override
+    public Object getCacheScope( @Nonnull final DestinationRequestContext requestContext )
+    {
+        final boolean dynamicLanguage =
+            requestContext.getDestination().get(DestinationProperty.DYNAMIC_SAP_LANGUAGE).getOrElse(false);
+        return dynamicLanguage ? LocaleAccessor.getCurrentLocale() : DESTINATION_SCOPE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 5.23.0
+     */
+    @Nonnull
+    @Override
+    public CacheableHeaders getCacheableHeaders( @Nonnull final DestinationRequestContext requestContext )
+    {
+        return CacheableHeaders.unlimited(getHeaders(requestContext));
+    }
+
     @Nonnull
     @Override
     public List<Header> getHeaders( @Nonnull final DestinationRequestContext requestContext )
@@ -6,6 +6,7 @@ import java.util.Collection;
 
 import javax.annotation.Nonnull;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
 import com.sap.cloud.sdk.cloudplatform.security.BasicCredentials;
 
@@ -140,4 +141,22 @@ public interface HttpDestinationProperties extends Destination
     {
         return SecurityConfigurationStrategy.getDefault();
     }
+
+    /**
+     * Returns an immutable fingerprint of this destination, which identifies the destination in caches, e.g. the cache
+     * of HTTP clients. Destinations with equal fingerprints must be interchangeable for creating HTTP clients. Since
+     * the fingerprint is hashed and compared on every cache lookup, implementations should compute it only once.
+     * <p>
+     * By default, the destination itself is returned.
+     *
+     * @return An object that identifies this destination via {@link Object#equals(Object)} and
+     *         {@link Object#hashCode()}.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    default Object getFingerprint()
+    {
+        return this;
+    }
 }
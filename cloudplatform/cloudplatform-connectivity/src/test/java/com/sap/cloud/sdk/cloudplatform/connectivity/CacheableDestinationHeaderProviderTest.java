@@ -0,0 +1,153 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.sap.cloud.sdk.cloudplatform.util.FacadeLocator;
+
+@Isolated( "Replaces the header providers loaded by the FacadeLocator" )
+class CacheableDestinationHeaderProviderTest
+{
+    private static final Header HEADER = new Header("foo", "bar");
+
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AtomicReference<Object> scope =
+        new AtomicReference<>(CacheableDestinationHeaderProvider.DESTINATION_SCOPE);
+    private final AtomicReference<Instant> expiry = new AtomicReference<>(Instant.MAX);
+
+    @BeforeEach
+    void setup()
+    {
+        FacadeLocator.setMockableInstance(new FacadeLocator.MockableInstance()
+        {
+            @SuppressWarnings( "unchecked" )
+            @Nonnull
+            @Override
+            public <FacadeT> Collection<FacadeT> getFacades( @Nonnull final Class<FacadeT> facadeInterface )
+            {
+                if( facadeInterface == DestinationHeaderProvider.class ) {
+                    return (Collection<FacadeT>) List.of(new ErpDestinationHeaderProvider());
+                }
+                return super.getFacades(facadeInterface);
+            }
+        });
+    }
+
+    @AfterEach
+    void resetFacadeLocator()
+    {
+        FacadeLocator.setMockableInstance(new FacadeLocator.MockableInstance());
+    }
+
+    @Test
+    void testHeadersAreCompiledOnce()
+    {
+        final DefaultHttpDestination destination =
+            DefaultHttpDestination
+                .builder("http://foo.com")
+                .property(DestinationProperty.SAP_CLIENT, "001")
+                .header("custom", "header")
+                .headerProviders(new TestProvider())
+                .basicCredentials("user", "password")
+                .build();
+
+        final Collection<Header> first = destination.getHeaders(URI.create("/path"));
+        final Collection<Header> second = destination.getHeaders(URI.create("/other/path"));
+
+        assertThat(invocations).hasValue(1);
+        assertThat(second).isNotSameAs(first).containsExactlyElementsOf(first);
+        assertThat(first).extracting(Header::getName).containsExactly("custom", "foo", "sap-client", "Authorization");
+
+        // the returned collection may be modified by the caller
+        second.clear();
+        assertThat(destination.getHeaders()).containsExactlyElementsOf(first);
+    }
+
+    @Test
+    void testHeadersAreCompiledPerScope()
+    {
+        final DefaultHttpDestination destination =
+            DefaultHttpDestination.builder("http://foo.com").headerProviders(new TestProvider()).build();
+
+        scope.set("tenant-1");
+        destination.getHeaders();
+        destination.getHeaders();
+        scope.set("tenant-2");
+        destination.getHeaders();
+        scope.set("tenant-1");
+        destination.getHeaders();
+
+        assertThat(invocations).hasValue(2);
+
+        scope.set(null);
+        destination.getHeaders();
+        destination.getHeaders();
+
+        assertThat(invocations).hasValue(4);
+    }
+
+    @Test
+    void testExpiredHeadersAreProvidedAgain()
+    {
+        final DefaultHttpDestination destination =
+            DefaultHttpDestination.builder("http://foo.com").headerProviders(new TestProvider()).build();
+
+        expiry.set(Instant.now().minus(Duration.ofSeconds(1L)));
+        destination.getHeaders();
+        destination.getHeaders();
+        assertThat(invocations).hasValue(2);
+
+        expiry.set(Instant.now().plus(Duration.ofHours(1L)));
+        destination.getHeaders();
+        destination.getHeaders();
+        assertThat(invocations).hasValue(3);
+    }
+
+    @Test
+    void testHeadersOfOtherProvidersAreNotCached()
+    {
+        final DestinationHeaderProvider provider = any -> {
+            invocations.incrementAndGet();
+            return List.of(HEADER);
+        };
+        final DefaultHttpDestination destination =
+            DefaultHttpDestination.builder("http://foo.com").headerProviders(new TestProvider(), provider).build();
+
+        assertThat(destination.getHeaders()).containsExactly(HEADER, HEADER);
+        assertThat(destination.getHeaders()).containsExactly(HEADER, HEADER);
+        assertThat(invocations).hasValue(4);
+    }
+
+    private class TestProvider implements CacheableDestinationHeaderProvider
+    {
+        @Nullable
+        @Override
+        public Object getCacheScope( @Nonnull final DestinationRequestContext requestContext )
+        {
+            return scope.get();
+        }
+
+        @Nonnull
+        @Override
+        public CacheableHeaders getCacheableHeaders( @Nonnull final DestinationRequestContext requestContext )
+        {
+            invocations.incrementAndGet();
+            return CacheableHeaders.until(List.of(HEADER), expiry.get());
+        }
+    }
+}
@@ -179,6 +179,28 @@ class DefaultHttpDestinationTest
         assertThat(dest1).doesNotHaveSameHashCodeAs(dest3);
     }
 
+    @SneakyThrows
+    @Test
+    void testFingerprintIsComputedOnce()
+    {
+        final KeyPair keyPair = DestinationKeyStoreComparatorTest.generateKeyPair();
+        final Certificate cert = DestinationKeyStoreComparatorTest.generateCertificate(keyPair, "a");
+
+        final KeyStore keystore = KeyStore.getInstance("JKS");
+        keystore.load(null);
+        keystore.setCertificateEntry("a", cert);
+
+        final DefaultHttpDestination dest1 = DefaultHttpDestination.builder(VALID_URI).keyStore(keystore).build();
+        final DefaultHttpDestination dest2 = DefaultHttpDestination.builder(VALID_URI).keyStore(keystore).build();
+
+        final Object fingerprint = dest1.getFingerprint();
+        assertThat(dest1.getFingerprint()).isSameAs(fingerprint);
+        assertThat(fingerprint).isEqualTo(dest2.getFingerprint()).hasSameHashCodeAs(dest2.getFingerprint());
+
+        final DefaultHttpDestination dest3 = DefaultHttpDestination.builder(VALID_URI).build();
+        assertThat(fingerprint).isNotEqualTo(dest3.getFingerprint());
+    }
+
     @Test
     void testHashCodeIsImplemented()
     {
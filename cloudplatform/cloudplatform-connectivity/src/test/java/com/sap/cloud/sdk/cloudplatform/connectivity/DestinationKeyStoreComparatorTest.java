@@ -137,6 +137,37 @@ class DestinationKeyStoreComparatorTest
         }
     }
 
+    @SneakyThrows
+    @Test
+    void testResolveKeyStoreDigest()
+    {
+        final KeyPair keyPair = generateKeyPair();
+        final Certificate cert1 = generateCertificate(keyPair, "a");
+        final Certificate cert2 = generateCertificate(keyPair, "b");
+
+        final byte[] emptyDigest = DestinationKeyStoreComparator.resolveKeyStoreDigest(null);
+
+        final KeyStore keyStore1 = KeyStore.getInstance("JKS");
+        keyStore1.load(null);
+        keyStore1.setCertificateEntry("a", cert1);
+
+        final KeyStore keyStore2 = KeyStore.getInstance("JKS");
+        keyStore2.load(null);
+        keyStore2.setCertificateEntry("a", cert1);
+
+        final KeyStore keyStore3 = KeyStore.getInstance("JKS");
+        keyStore3.load(null);
+        keyStore3.setCertificateEntry("a", cert2);
+
+        assertThat(DestinationKeyStoreComparator.resolveKeyStoreDigest(KeyStore.getInstance("JKS")))
+            .isEqualTo(emptyDigest);
+        assertThat(DestinationKeyStoreComparator.resolveKeyStoreDigest(keyStore1))
+            .hasSize(32)
+            .isEqualTo(DestinationKeyStoreComparator.resolveKeyStoreDigest(keyStore2))
+            .isNotEqualTo(DestinationKeyStoreComparator.resolveKeyStoreDigest(keyStore3))
+            .isNotEqualTo(emptyDigest);
+    }
+
     @Test // sanity-check
     void testEqualsBehavior()
     {
@@ -0,0 +1,126 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.annotations.Beta;
+import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextPropertyException;
+import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextPropertyNotFoundException;
+
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of {@link ThreadContext} that stores its properties in an immutable, persistent map.
+ * <p>
+ * In contrast to {@link DefaultThreadContext}, {@link #duplicate()} does not copy the properties. Instead, the
+ * duplicate shares the current map with this context, which makes propagating a context to another thread a constant
+ * time operation. Every modification replaces the map of the modified context only, reusing most of the structure of
+ * the previous map. {@link LazyProperty Lazy properties} are still evaluated separately per context: a duplicate copies
+ * an inherited lazy property on first access.
+ *
+ * @see CopyOnWriteThreadContextFacade
+ * @since 5.23.0
+ */
+@Beta
+@Slf4j
+@ToString( onlyExplicitlyIncluded = true )
+@EqualsAndHashCode( onlyExplicitlyIncluded = true )
+public final class CopyOnWriteThreadContext implements ThreadContext
+{
+    @Nonnull
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private volatile Map<String, Property<?>> properties;
+
+    /**
+     * The properties shared with the context this context was duplicated from.
+     */
+    @Nonnull
+    private final Map<String, Property<?>> inheritedProperties;
+
+    /**
+     * Creates a new {@link CopyOnWriteThreadContext} without any properties.
+     */
+    public CopyOnWriteThreadContext()
+    {
+        this(HashMap.empty());
+    }
+
+    private CopyOnWriteThreadContext( @Nonnull final Map<String, Property<?>> properties )
+    {
+        this.properties = properties;
+        inheritedProperties = properties;
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <T> Try<T> getPropertyValue( @Nonnull final String name )
+    {
+        final Property<?> property = properties.get(name).getOrNull();
+        if( property == null ) {
+            return Try.failure(new ThreadContextPropertyNotFoundException(name));
+        }
+        return (Try<T>) ownProperty(name, property).getValue();
+    }
+
+    /**
+     * Lazy properties must not be evaluated by more than one context. Hence, inherited lazy properties are replaced
+     * with a copy before they are evaluated by this context.
+     */
+    @Nonnull
+    private Property<?> ownProperty( @Nonnull final String name, @Nonnull final Property<?> property )
+    {
+        if( !(property instanceof LazyProperty) || inheritedProperties.get(name).getOrNull() != property ) {
+            return property;
+        }
+        synchronized( this ) {
+            final Property<?> current = properties.get(name).getOrNull();
+            if( current != property ) {
+                return current != null ? current : property;
+            }
+            final Property<?> copy = property.copy();
+            properties = properties.put(name, copy);
+            return copy;
+        }
+    }
+
+    @Override
+    public synchronized void setPropertyIfAbsent( @Nonnull final String name, @Nonnull final Property<?> value )
+        throws ThreadContextPropertyException
+    {
+        log.debug("Setting property '{}' to value: {}.", name, value);
+        if( !properties.containsKey(name) ) {
+            properties = properties.put(name, value);
+        }
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public synchronized <T> Option<Property<T>> removeProperty( @Nonnull final String name )
+        throws ClassCastException
+    {
+        final Option<Property<?>> removed = properties.get(name);
+        properties = properties.remove(name);
+        return (Option<Property<T>>) (Option<?>) removed;
+    }
+
+    @Override
+    public boolean containsProperty( @Nonnull final String name )
+    {
+        return properties.containsKey(name);
+    }
+
+    @Nonnull
+    @Override
+    public ThreadContext duplicate()
+    {
+        return new CopyOnWriteThreadContext(properties);
+    }
+}
@@ -0,0 +1,26 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Implementation of {@link ThreadContextFacade} that stores the current {@link ThreadContext} like
+ * {@link ThreadLocalThreadContextFacade}, but creates new contexts as {@link CopyOnWriteThreadContext}. This makes
+ * propagating a context to asynchronous tasks, e.g. via {@link ThreadContextExecutors}, a constant time operation,
+ * independent of the number of properties stored in the context.
+ * <p>
+ * To use this facade, pass an instance to {@link ThreadContextAccessor#setThreadContextFacade(ThreadContextFacade)}.
+ *
+ * @since 5.23.0
+ */
+@Beta
+public class CopyOnWriteThreadContextFacade extends ThreadLocalThreadContextFacade
+{
+    @Nonnull
+    @Override
+    public ThreadContext newThreadContext()
+    {
+        return new CopyOnWriteThreadContext();
+    }
+}
@@ -12,6 +12,7 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.thread.exception.ThreadContextExecutionException;
 
 import lombok.AccessLevel;
@@ -44,6 +45,33 @@ public final class DefaultThreadContextExecutorService implements ThreadContextE
         return new DefaultThreadContextExecutorService(executorService);
     }
 
+    /**
+     * Static factory method for an executor service that runs every task in a new virtual thread, while attaching a
+     * {@link ThreadContext} to it in the same way as {@link #of(ExecutorService)}. In contrast to a pool of platform
+     * threads, many concurrently blocked tasks (e.g. tasks waiting for a slow backend) do not require a platform thread
+     * each.
+     * <p>
+     * Virtual threads are only available from Java 21 on. On older Java versions, the tasks are executed by a cached
+     * pool of platform threads, as done by the default executor of {@link ThreadContextExecutors}.
+     * <p>
+     * To use virtual threads for all asynchronous operations of the SDK, e.g. for time limiters, pass the result to
+     * {@link ThreadContextExecutors#setExecutor(ThreadContextExecutorService)}.
+     *
+     * @return The customized executor service.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public static DefaultThreadContextExecutorService ofVirtualThreads()
+    {
+        final ExecutorService executorService =
+            ThreadContextExecutors
+                .tryNewVirtualThreadExecutor()
+                .onFailure(e -> log.debug("Virtual threads are not supported, falling back to platform threads.", e))
+                .getOrElse(ThreadContextExecutors::newPlatformThreadExecutor);
+        return of(executorService);
+    }
+
     @Nonnull
     private <T> Callable<T> decorate( @Nonnull final Callable<T> task )
     {
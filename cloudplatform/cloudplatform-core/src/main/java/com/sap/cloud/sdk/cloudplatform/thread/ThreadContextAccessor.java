@@ -1,5 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.thread;
 
+import java.util.Objects;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -99,4 +101,21 @@ public final class ThreadContextAccessor
     {
         return threadContextFacade.map(ThreadContextFacade::getCurrentContextOrNull).getOrNull();
     }
+
+    /**
+     * Creates a new, empty {@link ThreadContext} using the current {@link ThreadContextFacade}. If no facade is
+     * available, a {@link DefaultThreadContext} is created.
+     *
+     * @return A new {@link ThreadContext} without any properties.
+     * @see ThreadContextFacade#newThreadContext()
+     * @since 5.23.0
+     */
+    @Nonnull
+    public static ThreadContext newThreadContext()
+    {
+        return threadContextFacade
+            .map(ThreadContextFacade::newThreadContext)
+            .filter(Objects::nonNull)
+            .getOrElse(DefaultThreadContext::new);
+    }
 }
@@ -79,14 +79,15 @@ public final class ThreadContextExecutor
     }
 
     /**
-     * Create a {@link ThreadContextExecutor} using a new instance of {@link ThreadContext} with empty properties.
+     * Create a {@link ThreadContextExecutor} using a new instance of {@link ThreadContext} with empty properties. The
+     * instance is created by {@link ThreadContextAccessor#newThreadContext()}.
      *
      * @return A new instance of {@link ThreadContextExecutor}.
      */
     @Nonnull
     public static ThreadContextExecutor fromNewContext()
     {
-        return new ThreadContextExecutor(new DefaultThreadContext());
+        return new ThreadContextExecutor(ThreadContextAccessor.newThreadContext());
     }
 
     /**
@@ -1,14 +1,18 @@
 package com.sap.cloud.sdk.cloudplatform.thread;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.vavr.control.Try;
+
 /**
  * Convenience class, giving static access to the functionality of a {@link ThreadContextExecutorService}, using a
  * configurable instance.
@@ -29,15 +33,37 @@ public class ThreadContextExecutors
 
     private static ThreadContextExecutorService newDefaultThreadContextExecutorService()
     {
-        return DefaultThreadContextExecutorService
-            .of(
-                Executors
-                    .newCachedThreadPool(
-                        new ThreadFactoryBuilder()
-                            .setNameFormat("cloudsdk-executor-%d")
-                            .setDaemon(true)
-                            .setPriority(Thread.MAX_PRIORITY)
-                            .build()));
+        return DefaultThreadContextExecutorService.of(newPlatformThreadExecutor());
+    }
+
+    @Nonnull
+    static ExecutorService newPlatformThreadExecutor()
+    {
+        return Executors
+            .newCachedThreadPool(
+                new ThreadFactoryBuilder()
+                    .setNameFormat("cloudsdk-executor-%d")
+                    .setDaemon(true)
+                    .setPriority(Thread.MAX_PRIORITY)
+                    .build());
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task. Virtual threads are only available from Java
+     * 21 on, while the SDK is compiled for Java 17. Hence, the JDK API is looked up reflectively.
+     */
+    @Nonnull
+    static Try<ExecutorService> tryNewVirtualThreadExecutor()
+    {
+        return Try.of(() -> {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builderClass.getMethod("name", String.class, long.class).invoke(builder, "cloudsdk-virtual-executor-", 0L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, threadFactory);
+        });
     }
 
     /**
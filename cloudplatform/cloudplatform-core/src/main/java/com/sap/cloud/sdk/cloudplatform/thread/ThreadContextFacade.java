@@ -41,4 +41,16 @@ public interface ThreadContextFacade
     {
         return tryGetCurrentContext().getOrNull();
     }
+
+    /**
+     * Creates a new, empty {@link ThreadContext}. By default, this is a {@link DefaultThreadContext}.
+     *
+     * @return A new {@link ThreadContext} without any properties.
+     * @since 5.23.0
+     */
+    @Nonnull
+    default ThreadContext newThreadContext()
+    {
+        return new DefaultThreadContext();
+    }
 }
@@ -1,9 +1,12 @@
 package com.sap.cloud.sdk.cloudplatform.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -16,6 +19,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * This class is for internal use only. It determines facades that are used to abstract certain logic, e.g., to adjust
  * to different platform services based on the current Cloud platform.
+ * <p>
+ * The located facades are cached per facade interface, so that {@code META-INF/services} is only scanned once for the
+ * class loader of this class. Consequently, repeated lookups return the same facade instances.
  */
 @Slf4j
 public class FacadeLocator
@@ -37,6 +43,11 @@ public class FacadeLocator
          */
         private final ClassLoader classLoader = MockableInstance.class.getClassLoader();
 
+        /**
+         * Holds the facades located via the class loader above, per facade interface.
+         */
+        private final Map<Class<?>, List<?>> facades = new ConcurrentHashMap<>();
+
         /**
          * Retrieves the facades for a given facade interface.
          * <p>
@@ -52,10 +63,36 @@ public class FacadeLocator
         @Nonnull
         public <FacadeT> Collection<FacadeT> getFacades( @Nonnull final Class<FacadeT> facadeInterface )
         {
+            return new ArrayList<>(getCachedFacades(facadeInterface));
+        }
+
+        @Nonnull
+        @SuppressWarnings( "unchecked" )
+        private <FacadeT> List<FacadeT> getCachedFacades( @Nonnull final Class<FacadeT> facadeInterface )
+        {
+            final List<?> cachedFacades = facades.get(facadeInterface);
+            if( cachedFacades != null ) {
+                return (List<FacadeT>) cachedFacades;
+            }
+            // not using computeIfAbsent, since facades may look up other facades while being instantiated
             final ServiceLoader<FacadeT> serviceLoader = ServiceLoader.load(facadeInterface, classLoader);
-            final List<FacadeT> result = Lists.newArrayList(serviceLoader);
+            final List<FacadeT> result = Collections.unmodifiableList(Lists.newArrayList(serviceLoader));
             log.debug("Located the following extensions of {}: {}", facadeInterface, result);
-            return result;
+
+            final List<?> concurrentResult = facades.putIfAbsent(facadeInterface, result);
+            return concurrentResult != null ? (List<FacadeT>) concurrentResult : result;
+        }
+
+        /**
+         * Removes all cached facades, so that they are located again on the next lookup.
+         * <p>
+         * For internal use only.
+         *
+         * @since 5.23.0
+         */
+        public void invalidateCache()
+        {
+            facades.clear();
         }
 
         /**
@@ -74,28 +111,23 @@ public class FacadeLocator
         @Nonnull
         public <FacadeT> Try<FacadeT> getFacade( @Nonnull final Class<FacadeT> facadeInterface )
         {
-            final ServiceLoader<FacadeT> serviceLoader = ServiceLoader.load(facadeInterface, classLoader);
-            final Iterator<FacadeT> serviceIt = serviceLoader.iterator();
+            final List<FacadeT> facadeList = getCachedFacades(facadeInterface);
 
-            final FacadeT facade;
-
-            if( serviceIt.hasNext() ) {
-                facade = serviceIt.next();
-
-                if( serviceIt.hasNext() ) {
+            if( !facadeList.isEmpty() ) {
+                if( facadeList.size() > 1 ) {
                     return Try
                         .failure(
                             new ObjectLookupFailedException(
                                 "Found multiple implementations of "
                                     + facadeInterface.getSimpleName()
                                     + ": "
-                                    + getFacades(facadeInterface)
+                                    + facadeList
                                     + ". Make sure to only specify one implementation in META-INF/services/"
                                     + facadeInterface.getName()
                                     + "."));
                 }
 
-                return Try.success(facade);
+                return Try.success(facadeList.get(0));
             }
 
             return Try
@@ -131,6 +163,19 @@ public class FacadeLocator
         FacadeLocator.mockableInstance = mockableInstance;
     }
 
+    /**
+     * Removes all cached facades of the current {@link MockableInstance}, so that they are located again on the next
+     * lookup. This is useful in tests, which change the available facades at runtime.
+     * <p>
+     * For internal use only.
+     *
+     * @since 5.23.0
+     */
+    public static void invalidateCache()
+    {
+        mockableInstance.invalidateCache();
+    }
+
     /**
      * Retrieves the facades for a given facade interface.
      * <p>
@@ -0,0 +1,99 @@
+package com.sap.cloud.sdk.cloudplatform.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vavr.control.Try;
+
+class CopyOnWriteThreadContextTest
+{
+    @AfterEach
+    void resetFacade()
+    {
+        ThreadContextAccessor.setThreadContextFacade(null);
+    }
+
+    @Test
+    void testEqualityWithProperties()
+    {
+        final CopyOnWriteThreadContext context1 = new CopyOnWriteThreadContext();
+        context1.setPropertyIfAbsent("foo", Property.ofTry(Try.success("bar")));
+        context1.setPropertyIfAbsent("baz", Property.ofTry(Try.failure(new IllegalStateException())));
+        context1.removeProperty("baz");
+
+        final CopyOnWriteThreadContext context2 = new CopyOnWriteThreadContext();
+        context2.setPropertyIfAbsent("foo", Property.ofTry(Try.success("bar")));
+
+        assertThat(context1).isEqualTo(context2);
+        assertThat(context1.duplicate()).isEqualTo(context2);
+    }
+
+    @Test
+    void testDuplicateSharesPropertiesWithoutCopying()
+    {
+        final Property<String> property = Property.of("foo");
+
+        final CopyOnWriteThreadContext initial = new CopyOnWriteThreadContext();
+        initial.setPropertyIfAbsent("property", property);
+
+        final ThreadContext duplicated = initial.duplicate();
+        assertThat(duplicated.<String> getPropertyValue("property")).isSameAs(property.getValue());
+    }
+
+    @Test
+    void testModificationsAreIsolated()
+    {
+        final CopyOnWriteThreadContext initial = new CopyOnWriteThreadContext();
+        initial.setPropertyIfAbsent("shared", Property.of("shared"));
+        initial.setPropertyIfAbsent("removed", Property.of("removed"));
+
+        final ThreadContext duplicated = initial.duplicate();
+        duplicated.setPropertyIfAbsent("added", Property.of("added"));
+        duplicated.removeProperty("removed");
+        initial.setProperty("shared", Property.of("changed"));
+
+        assertThat(initial.containsProperty("added")).isFalse();
+        assertThat(initial.containsProperty("removed")).isTrue();
+        assertThat(initial.getPropertyValue("shared").get()).isEqualTo("changed");
+
+        assertThat(duplicated.containsProperty("added")).isTrue();
+        assertThat(duplicated.containsProperty("removed")).isFalse();
+        assertThat(duplicated.getPropertyValue("shared").get()).isEqualTo("shared");
+    }
+
+    @Test
+    void testLazyPropertiesCanHaveDifferentValues()
+    {
+        final Supplier<Integer> supplier = new AtomicInteger()::getAndIncrement;
+
+        final CopyOnWriteThreadContext initial = new CopyOnWriteThreadContext();
+        initial.setProperty("property", LazyProperty.of(supplier));
+
+        final ThreadContext duplicated = initial.duplicate();
+        assertThat(duplicated.containsProperty("property")).isTrue();
+        // we are accessing the duplicated value first, so it will have the lower number
+        assertThat(duplicated.<Integer> getPropertyValue("property").get()).isEqualTo(0);
+        // the property of the initial context is evaluated later and, therefore, will have the higher number
+        assertThat(initial.<Integer> getPropertyValue("property").get()).isEqualTo(1);
+        // evaluated values are kept per context
+        assertThat(duplicated.<Integer> getPropertyValue("property").get()).isEqualTo(0);
+        assertThat(initial.<Integer> getPropertyValue("property").get()).isEqualTo(1);
+    }
+
+    @Test
+    void testFacadeCreatesCopyOnWriteContexts()
+    {
+        ThreadContextAccessor.setThreadContextFacade(new CopyOnWriteThreadContextFacade());
+
+        ThreadContextExecutor
+            .fromNewContext()
+            .execute(
+                () -> assertThat(ThreadContextAccessor.getCurrentContext())
+                    .isInstanceOf(CopyOnWriteThreadContext.class));
+    }
+}
@@ -193,6 +193,33 @@ class ThreadContextExecutorTest
         softly.assertAll();
     }
 
+    @Test
+    @SneakyThrows
+    void testVirtualThreadExecutorServicePropagatedContext()
+    {
+        final SoftAssertions softly = new SoftAssertions();
+        final Property<?> property = Property.of("value");
+        final ExecutorService executor = DefaultThreadContextExecutorService.ofVirtualThreads();
+
+        try {
+            ThreadContextExecutor.fromNewContext().withListeners(new MyThreadContextListener(property)).execute(() -> {
+                final Future<Boolean> isVirtual = executor.submit(() -> {
+                    assertCurrentContextContains(softly, property);
+                    return isVirtualThread(Thread.currentThread());
+                });
+                // virtual threads are only available from Java 21 on
+                softly
+                    .assertThat(isVirtual.get(TIMEOUT, TimeUnit.SECONDS))
+                    .isEqualTo(Runtime.version().feature() >= 21);
+            });
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        softly.assertAll();
+    }
+
     @Test
     @SneakyThrows
     void testExecutorServicePropagatedThreadContextExecutor()
@@ -391,6 +418,11 @@ class ThreadContextExecutorTest
             .hasMessageContaining("test");
     }
 
+    private static boolean isVirtualThread( @Nonnull final Thread thread )
+    {
+        return Try.of(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(thread)).getOrElse(false);
+    }
+
     private static class IncrementThreadContextListener implements ThreadContextListener
     {
         private static int n = 1;
@@ -0,0 +1,63 @@
+package com.sap.cloud.sdk.cloudplatform.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.exception.ObjectLookupFailedException;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextFacade;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextListener;
+
+class FacadeLocatorTest
+{
+    @BeforeEach
+    @AfterEach
+    void resetFacadeLocator()
+    {
+        FacadeLocator.setMockableInstance(new FacadeLocator.MockableInstance());
+    }
+
+    @Test
+    void testFacadesAreCached()
+    {
+        final List<ThreadContextListener> first =
+            new ArrayList<>(FacadeLocator.getFacades(ThreadContextListener.class));
+        final Collection<ThreadContextListener> second = FacadeLocator.getFacades(ThreadContextListener.class);
+
+        assertThat(first).isNotEmpty();
+        assertThat(second).isNotSameAs(first).hasSameSizeAs(first);
+        assertThat(second).allSatisfy(facade -> assertThat(first).anyMatch(f -> f == facade));
+
+        // modifying the returned collection does not affect the cache
+        second.clear();
+        assertThat(FacadeLocator.getFacades(ThreadContextListener.class)).hasSameSizeAs(first);
+
+        final ThreadContextFacade facade = FacadeLocator.getFacade(ThreadContextFacade.class).get();
+        assertThat(FacadeLocator.getFacade(ThreadContextFacade.class).get()).isSameAs(facade);
+    }
+
+    @Test
+    void testInvalidateCache()
+    {
+        final ThreadContextFacade facade = FacadeLocator.getFacade(ThreadContextFacade.class).get();
+
+        FacadeLocator.invalidateCache();
+
+        assertThat(FacadeLocator.getFacade(ThreadContextFacade.class).get())
+            .isNotSameAs(facade)
+            .isInstanceOf(facade.getClass());
+    }
+
+    @Test
+    void testMissingFacade()
+    {
+        assertThat(FacadeLocator.getFacades(Runnable.class)).isEmpty();
+        assertThat(FacadeLocator.getFacade(Runnable.class).getCause()).isInstanceOf(ObjectLookupFailedException.class);
+    }
+}
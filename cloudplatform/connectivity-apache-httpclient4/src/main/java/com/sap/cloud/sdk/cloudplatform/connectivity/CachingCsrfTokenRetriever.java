@@ -0,0 +1,166 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.cookie.SM;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.Beta;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of {@link CsrfTokenRetriever} that caches the retrieved CSRF tokens, so that subsequent modifying
+ * requests against the same service do not need to fetch a new token first.
+ * <p>
+ * Tokens are cached per tenant, principal, HTTP client, destination URI, service path and cookie headers. Since the
+ * HTTP clients provided by {@link HttpClientAccessor} hold the cookie store of a destination, a token is only reused
+ * within the session it was issued for. Tokens expire after the configured duration and the least recently used tokens
+ * are evicted once the maximum number of tokens is exceeded. Rejected tokens can be dropped from the cache via
+ * {@link #invalidateCsrfToken(HttpClient, String, Map)}.
+ *
+ * @since 5.23.0
+ */
+@Beta
+@Slf4j
+public class CachingCsrfTokenRetriever implements CsrfTokenRetriever
+{
+    private static final long DEFAULT_MAXIMUM_TOKENS = 10_000L;
+    private static final Duration DEFAULT_TOKEN_EXPIRATION = Duration.ofMinutes(15L);
+
+    @Nonnull
+    private final CsrfTokenRetriever delegate;
+
+    @Nonnull
+    private final Cache<CacheKey, CsrfToken> tokens;
+
+    /**
+     * Creates a new {@link CachingCsrfTokenRetriever} which retrieves tokens via {@link DefaultCsrfTokenRetriever} and
+     * caches up to 10,000 tokens for 15 minutes.
+     */
+    public CachingCsrfTokenRetriever()
+    {
+        this(new DefaultCsrfTokenRetriever(), DEFAULT_MAXIMUM_TOKENS, DEFAULT_TOKEN_EXPIRATION);
+    }
+
+    /**
+     * Creates a new {@link CachingCsrfTokenRetriever}.
+     *
+     * @param delegate
+     *            The {@link CsrfTokenRetriever} used to retrieve tokens that are not cached yet.
+     * @param maximumTokens
+     *            The maximum number of cached tokens.
+     * @param tokenExpiration
+     *            The duration after which a cached token is retrieved again.
+     * @throws IllegalArgumentException
+     *             If the maximum number of tokens or the token expiration is not positive.
+     */
+    public CachingCsrfTokenRetriever(
+        @Nonnull final CsrfTokenRetriever delegate,
+        final long maximumTokens,
+        @Nonnull final Duration tokenExpiration )
+    {
+        if( maximumTokens <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of CSRF tokens must be positive.");
+        }
+        if( tokenExpiration.isNegative() || tokenExpiration.isZero() ) {
+            throw new IllegalArgumentException("The CSRF token expiration must be positive.");
+        }
+        this.delegate = delegate;
+        tokens = Caffeine.newBuilder().maximumSize(maximumTokens).expireAfterWrite(tokenExpiration).build();
+        CacheManager.register(tokens);
+    }
+
+    @Nonnull
+    @Override
+    public CsrfToken retrieveCsrfToken( @Nonnull final HttpClient httpClient, @Nonnull final String servicePath )
+    {
+        return retrieveCsrfToken(httpClient, servicePath, Collections.emptyMap());
+    }
+
+    @Nonnull
+    @Override
+    public CsrfToken retrieveCsrfToken(
+        @Nonnull final HttpClient httpClient,
+        @Nonnull final String servicePath,
+        @Nonnull final Map<String, Collection<String>> headers )
+    {
+        final CacheKey cacheKey = getCacheKey(httpClient, servicePath, headers);
+        final CsrfToken cachedToken = tokens.getIfPresent(cacheKey);
+        if( cachedToken != null ) {
+            log.debug("Using cached CSRF token for service path {}.", servicePath);
+            return cachedToken;
+        }
+        final CsrfToken token = delegate.retrieveCsrfToken(httpClient, servicePath, headers);
+        tokens.put(cacheKey, token);
+        return token;
+    }
+
+    @Override
+    public boolean invalidateCsrfToken(
+        @Nonnull final HttpClient httpClient,
+        @Nonnull final String servicePath,
+        @Nonnull final Map<String, Collection<String>> headers )
+    {
+        final CsrfToken removedToken = tokens.asMap().remove(getCacheKey(httpClient, servicePath, headers));
+        if( removedToken != null ) {
+            log.debug("Invalidated cached CSRF token for service path {}.", servicePath);
+        }
+        return removedToken != null;
+    }
+
+    @Override
+    public boolean isEnabled()
+    {
+        return delegate.isEnabled();
+    }
+
+    /**
+     * Returns the number of currently cached CSRF tokens.
+     *
+     * @return The number of cached tokens.
+     */
+    public long getCachedTokenCount()
+    {
+        tokens.cleanUp();
+        return tokens.estimatedSize();
+    }
+
+    @Nonnull
+    private static CacheKey getCacheKey(
+        @Nonnull final HttpClient httpClient,
+        @Nonnull final String servicePath,
+        @Nonnull final Map<String, Collection<String>> headers )
+    {
+        // the wrapper is re-created per destination instance, while the wrapped client and its cookie store are cached
+        final Object client;
+        final Object destinationUri;
+        if( httpClient instanceof HttpClientWrapper wrapper ) {
+            client = wrapper.getHttpClient();
+            destinationUri = wrapper.getDestination().getUri();
+        } else {
+            client = httpClient;
+            destinationUri = "";
+        }
+
+        final List<String> cookies = new ArrayList<>();
+        headers
+            .entrySet()
+            .stream()
+            .filter(header -> SM.COOKIE.equalsIgnoreCase(header.getKey()))
+            .forEach(header -> cookies.addAll(header.getValue()));
+
+        return CacheKey.ofTenantAndPrincipalOptionalIsolation().append(client, destinationUri, servicePath, cookies);
+    }
+}
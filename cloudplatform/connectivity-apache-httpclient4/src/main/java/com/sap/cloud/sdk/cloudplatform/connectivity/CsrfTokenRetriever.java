@@ -7,6 +7,7 @@ import javax.annotation.Nonnull;
 
 import org.apache.http.client.HttpClient;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.CsrfTokenRetrievalException;
 
 /**
@@ -78,6 +79,28 @@ public interface CsrfTokenRetriever
         @Nonnull final String servicePath,
         @Nonnull final Map<String, Collection<String>> headers );
 
+    /**
+     * Invalidates a previously retrieved CSRF token, e.g. because the remote system rejected it. Implementations that
+     * do not keep retrieved tokens do nothing.
+     *
+     * @param httpClient
+     *            The {@link HttpClient} that was used to issue the CSRF token request.
+     * @param servicePath
+     *            The service path that was used to issue the CSRF token request.
+     * @param headers
+     *            The additional headers that were used for the CSRF token request.
+     * @return {@code true} if a token was invalidated, so that retrieving a token again yields a fresh one.
+     * @since 5.23.0
+     */
+    @Beta
+    default boolean invalidateCsrfToken(
+        @Nonnull final HttpClient httpClient,
+        @Nonnull final String servicePath,
+        @Nonnull final Map<String, Collection<String>> headers )
+    {
+        return false;
+    }
+
     /**
      * Indicates if CSRF token retrieval is enabled.
      *
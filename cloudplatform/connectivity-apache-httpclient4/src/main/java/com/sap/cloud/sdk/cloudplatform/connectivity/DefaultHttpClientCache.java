@@ -79,7 +79,7 @@ public class DefaultHttpClientCache extends AbstractHttpClientCache
     protected Try<CacheKey> getCacheKey( @Nonnull final HttpDestinationProperties destination )
     {
         if( !requiresPrincipalIsolation(destination) ) {
-            return Try.success(CacheKey.ofTenantOptionalIsolation().append(destination));
+            return Try.success(CacheKey.ofTenantOptionalIsolation().append(destination.getFingerprint()));
         }
         final Try<Tenant> maybeTenant = TenantAccessor.tryGetCurrentTenant();
         final Try<Principal> principal = PrincipalAccessor.tryGetCurrentPrincipal();
@@ -95,7 +95,7 @@ public class DefaultHttpClientCache extends AbstractHttpClientCache
                 "Tenant and Principal accessors are returning inconsistent results: A principal is defined, but no tenant is defined in the current context.";
             return Try.failure(new IllegalStateException(msg, maybeTenant.getCause()));
         }
-        return Try.success(CacheKey.of(maybeTenant.getOrNull(), principal.get()).append(destination));
+        return Try.success(CacheKey.of(maybeTenant.getOrNull(), principal.get()).append(destination.getFingerprint()));
     }
 
     static boolean requiresPrincipalIsolation( @Nonnull final HttpDestinationProperties destination )
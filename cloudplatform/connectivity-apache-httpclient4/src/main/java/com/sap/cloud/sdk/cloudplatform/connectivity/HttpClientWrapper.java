@@ -32,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 class HttpClientWrapper extends CloseableHttpClient implements UriQueryMerger
 {
+    @Getter( AccessLevel.PACKAGE )
     private final CloseableHttpClient httpClient;
     @Getter( AccessLevel.PACKAGE )
     private final HttpDestinationProperties destination;
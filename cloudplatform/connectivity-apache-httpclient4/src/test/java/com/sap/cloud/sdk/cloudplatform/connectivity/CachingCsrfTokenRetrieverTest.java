@@ -0,0 +1,103 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.client.HttpClient;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+@WireMockTest
+class CachingCsrfTokenRetrieverTest
+{
+    private static final String SERVICE_PATH = "/service";
+
+    @Test
+    void testTokenIsCachedPerDestinationAndServicePath( final WireMockRuntimeInfo wm )
+    {
+        stubFor(head(urlEqualTo(SERVICE_PATH)).willReturn(ok().withHeader("x-csrf-token", "token")));
+        stubFor(head(urlEqualTo("/other")).willReturn(ok().withHeader("x-csrf-token", "other-token")));
+
+        final Destination destination = DefaultHttpDestination.builder(wm.getHttpBaseUrl()).build();
+        final CachingCsrfTokenRetriever retriever = new CachingCsrfTokenRetriever();
+
+        final CsrfToken first =
+            retriever.retrieveCsrfToken(HttpClientAccessor.getHttpClient(destination), SERVICE_PATH);
+        final CsrfToken second =
+            retriever.retrieveCsrfToken(HttpClientAccessor.getHttpClient(destination), SERVICE_PATH);
+        final CsrfToken other = retriever.retrieveCsrfToken(HttpClientAccessor.getHttpClient(destination), "/other");
+
+        assertThat(first.getToken()).isEqualTo("token");
+        assertThat(second).isSameAs(first);
+        assertThat(other.getToken()).isEqualTo("other-token");
+        assertThat(retriever.getCachedTokenCount()).isEqualTo(2);
+        verify(1, headRequestedFor(urlEqualTo(SERVICE_PATH)));
+        verify(1, headRequestedFor(urlEqualTo("/other")));
+    }
+
+    @Test
+    void testTokenIsCachedPerCookie()
+    {
+        final CsrfTokenRetriever delegate = mock(CsrfTokenRetriever.class);
+        when(delegate.retrieveCsrfToken(any(), anyString(), anyMap()))
+            .thenReturn(new CsrfToken("first"), new CsrfToken("second"));
+        final HttpClient httpClient = mock(HttpClient.class);
+        final Map<String, Collection<String>> session1 = Map.of("Cookie", List.of("session=1"));
+        final Map<String, Collection<String>> session2 = Map.of("cookie", List.of("session=2"));
+
+        final CachingCsrfTokenRetriever retriever = new CachingCsrfTokenRetriever(delegate, 10, Duration.ofMinutes(1));
+
+        assertThat(retriever.retrieveCsrfToken(httpClient, SERVICE_PATH, session1).getToken()).isEqualTo("first");
+        assertThat(retriever.retrieveCsrfToken(httpClient, SERVICE_PATH, session2).getToken()).isEqualTo("second");
+        assertThat(retriever.retrieveCsrfToken(httpClient, SERVICE_PATH, session1).getToken()).isEqualTo("first");
+        Mockito.verify(delegate, times(2)).retrieveCsrfToken(any(), anyString(), anyMap());
+    }
+
+    @Test
+    void testInvalidatedTokenIsRetrievedAgain()
+    {
+        final CsrfTokenRetriever delegate = mock(CsrfTokenRetriever.class);
+        when(delegate.retrieveCsrfToken(any(), anyString(), anyMap()))
+            .thenReturn(new CsrfToken("first"), new CsrfToken("second"));
+        final HttpClient httpClient = mock(HttpClient.class);
+
+        final CachingCsrfTokenRetriever retriever = new CachingCsrfTokenRetriever(delegate, 10, Duration.ofMinutes(1));
+
+        assertThat(retriever.invalidateCsrfToken(httpClient, SERVICE_PATH, Collections.emptyMap())).isFalse();
+        assertThat(retriever.retrieveCsrfToken(httpClient, SERVICE_PATH).getToken()).isEqualTo("first");
+        assertThat(retriever.invalidateCsrfToken(httpClient, SERVICE_PATH, Collections.emptyMap())).isTrue();
+        assertThat(retriever.retrieveCsrfToken(httpClient, SERVICE_PATH).getToken()).isEqualTo("second");
+    }
+
+    @Test
+    void testInvalidLimits()
+    {
+        final CsrfTokenRetriever delegate = new DefaultCsrfTokenRetriever();
+
+        assertThatThrownBy(() -> new CachingCsrfTokenRetriever(delegate, 0, Duration.ofMinutes(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CachingCsrfTokenRetriever(delegate, 10, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -4,10 +4,14 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.pool.PoolStats;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.HttpClientInstantiationException;
 
+import io.vavr.control.Option;
+
 /**
  * Factory class that creates {@link HttpClient} instances based on the given {@link Destination}.
  * <p>
@@ -53,4 +57,20 @@ public interface ApacheHttpClient5Factory
     HttpClient createHttpClient( @Nullable final HttpDestinationProperties destination )
         throws DestinationAccessException,
             HttpClientInstantiationException;
+
+    /**
+     * Returns the accumulated statistics of all connection pools that are shared between the {@link HttpClient}
+     * instances created by this factory.
+     *
+     * @return The statistics of the shared connection pools, or {@link Option#none()} if this factory does not share
+     *         connection pools.
+     * @see ApacheHttpClient5FactoryBuilder#shareConnectionPools(boolean)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    default Option<PoolStats> getSharedConnectionPoolStats()
+    {
+        return Option.none();
+    }
 }
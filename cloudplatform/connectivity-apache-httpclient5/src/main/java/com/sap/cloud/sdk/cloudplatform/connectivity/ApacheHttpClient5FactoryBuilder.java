@@ -20,6 +20,7 @@ public class ApacheHttpClient5FactoryBuilder
     private TlsUpgrade tlsUpgrade = TlsUpgrade.AUTOMATIC;
     private int maxConnectionsTotal = DefaultApacheHttpClient5Factory.DEFAULT_MAX_CONNECTIONS_TOTAL;
     private int maxConnectionsPerRoute = DefaultApacheHttpClient5Factory.DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    private boolean shareConnectionPools = false;
 
     /**
      * Enum to control the automatic TLS upgrade feature for insecure connections.
@@ -145,6 +146,35 @@ public class ApacheHttpClient5FactoryBuilder
         return this;
     }
 
+    /**
+     * Sets whether {@link HttpClient} instances created by the to-be-built {@link ApacheHttpClient5Factory} should
+     * share their connection pool with other instances that target the same host with the same TLS configuration
+     * (security configuration strategy, trust settings, TLS version, trust store and key store).
+     * <p>
+     * By default, every {@link HttpClient} has its own connection pool. Since HTTP clients are cached per tenant and,
+     * for user dependent destinations, per principal, many tenants or users calling the same system lead to many pools
+     * and TLS handshakes. With shared connection pools, connections and TLS sessions are reused across tenants and
+     * users, while the destination specific headers are still added per request. The limits set via
+     * {@link #maxConnectionsTotal(int)} and {@link #maxConnectionsPerRoute(int)} then apply to each shared pool.
+     * </p>
+     * <p>
+     * This is an <b>optional</b> parameter. By default, connection pools are not shared.
+     * </p>
+     *
+     * @param shareConnectionPools
+     *            Whether connection pools should be shared.
+     * @return This builder.
+     * @see ApacheHttpClient5Factory#getSharedConnectionPoolStats()
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public ApacheHttpClient5FactoryBuilder shareConnectionPools( final boolean shareConnectionPools )
+    {
+        this.shareConnectionPools = shareConnectionPools;
+        return this;
+    }
+
     /**
      * Builds a new {@link ApacheHttpClient5Factory} instance with the previously configured parameters.
      *
@@ -158,6 +188,7 @@ public class ApacheHttpClient5FactoryBuilder
             maxConnectionsTotal,
             maxConnectionsPerRoute,
             null,
-            tlsUpgrade);
+            tlsUpgrade,
+            shareConnectionPools);
     }
 }
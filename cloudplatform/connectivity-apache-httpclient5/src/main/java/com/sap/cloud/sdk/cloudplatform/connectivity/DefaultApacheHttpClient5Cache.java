@@ -105,7 +105,7 @@ class DefaultApacheHttpClient5Cache implements ApacheHttpClient5Cache
             return CacheKey.ofTenantAndPrincipalOptionalIsolation();
         }
         if( !requiresPrincipalIsolation(destination) ) {
-            return CacheKey.ofTenantOptionalIsolation().append(destination);
+            return CacheKey.ofTenantOptionalIsolation().append(destination.getFingerprint());
         }
         final Try<Tenant> maybeTenant = TenantAccessor.tryGetCurrentTenant();
         final Try<Principal> principal = PrincipalAccessor.tryGetCurrentPrincipal();
@@ -119,7 +119,7 @@ class DefaultApacheHttpClient5Cache implements ApacheHttpClient5Cache
                 "Tenant and Principal accessors are returning inconsistent results: A principal is defined, but no tenant is defined in the current context.";
             throw new IllegalStateException(msg, maybeTenant.getCause());
         }
-        return CacheKey.of(maybeTenant.getOrNull(), principal.get()).append(destination);
+        return CacheKey.of(maybeTenant.getOrNull(), principal.get()).append(destination.getFingerprint());
     }
 
     private static boolean requiresPrincipalIsolation( @Nonnull final HttpDestinationProperties destination )
@@ -1,8 +1,10 @@
 package com.sap.cloud.sdk.cloudplatform.connectivity;
 
 import java.io.IOException;
+import java.lang.ref.Cleaner;
 import java.net.URI;
 import java.security.GeneralSecurityException;
+import java.security.KeyStore;
 import java.time.Duration;
 import java.util.Objects;
 
@@ -11,14 +13,18 @@ import javax.annotation.Nullable;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.client5.http.ssl.DefaultHostnameVerifier;
 import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
@@ -26,8 +32,14 @@ import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.HttpClientInstantiationException;
 import com.sap.cloud.sdk.cloudplatform.util.StringUtils;
@@ -42,6 +54,8 @@ class DefaultApacheHttpClient5Factory implements ApacheHttpClient5Factory
     static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 200;
     static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
 
+    private static final Cleaner CONNECTION_POOL_CLEANER = Cleaner.create();
+
     @Nonnull
     private final Timeout timeout;
     private final int maxConnectionsTotal;
@@ -53,18 +67,38 @@ class DefaultApacheHttpClient5Factory implements ApacheHttpClient5Factory
     @Nonnull
     private final ApacheHttpClient5FactoryBuilder.TlsUpgrade tlsUpgrade;
 
+    /**
+     * Connection managers shared between all HTTP clients targeting the same host with the same TLS configuration, or
+     * {@code null} if every HTTP client uses its own connection manager. Weak values ensure a connection manager is
+     * only kept as long as at least one HTTP client uses it. Its connection pool is closed once it is no longer used.
+     */
+    @Nullable
+    private final Cache<ConnectionPoolKey, SharedConnectionManager> sharedConnectionManagers;
+
     DefaultApacheHttpClient5Factory(
         @Nonnull final Duration timeout,
         final int maxConnectionsTotal,
         final int maxConnectionsPerRoute,
         @Nullable final HttpRequestInterceptor requestInterceptor,
         @Nonnull final ApacheHttpClient5FactoryBuilder.TlsUpgrade tlsUpgrade )
+    {
+        this(timeout, maxConnectionsTotal, maxConnectionsPerRoute, requestInterceptor, tlsUpgrade, false);
+    }
+
+    DefaultApacheHttpClient5Factory(
+        @Nonnull final Duration timeout,
+        final int maxConnectionsTotal,
+        final int maxConnectionsPerRoute,
+        @Nullable final HttpRequestInterceptor requestInterceptor,
+        @Nonnull final ApacheHttpClient5FactoryBuilder.TlsUpgrade tlsUpgrade,
+        final boolean shareConnectionPools )
     {
         this.timeout = toTimeout(timeout);
         this.maxConnectionsTotal = maxConnectionsTotal;
         this.maxConnectionsPerRoute = maxConnectionsPerRoute;
         this.requestInterceptor = requestInterceptor;
         this.tlsUpgrade = tlsUpgrade;
+        sharedConnectionManagers = shareConnectionPools ? Caffeine.newBuilder().weakValues().build() : null;
     }
 
     @Nonnull
@@ -88,11 +122,14 @@ class DefaultApacheHttpClient5Factory implements ApacheHttpClient5Factory
         @Nonnull final RequestConfig requestConfig )
     {
         final HttpClientBuilder builder =
-            HttpClients
-                .custom()
-                .setConnectionManager(getConnectionManager(destination))
-                .setDefaultRequestConfig(requestConfig)
-                .setProxy(getProxy(destination));
+            HttpClients.custom().setDefaultRequestConfig(requestConfig).setProxy(getProxy(destination));
+
+        if( sharedConnectionManagers != null && !isOnPremise(destination) ) {
+            // closing a single HTTP client must not shut down the connection manager used by other clients
+            builder.setConnectionManager(getSharedConnectionManager(destination)).setConnectionManagerShared(true);
+        } else {
+            builder.setConnectionManager(getConnectionManager(destination));
+        }
 
         if( requestInterceptor != null ) {
             builder.addRequestInterceptorFirst(requestInterceptor);
@@ -101,8 +138,46 @@ class DefaultApacheHttpClient5Factory implements ApacheHttpClient5Factory
         return builder.build();
     }
 
+    private static boolean isOnPremise( @Nullable final HttpDestinationProperties destination )
+    {
+        // connections to the connectivity proxy are authenticated per tenant, so they are never shared
+        return destination != null && destination.getProxyType().contains(ProxyType.ON_PREMISE);
+    }
+
+    @Nonnull
+    private SharedConnectionManager getSharedConnectionManager( @Nullable final HttpDestinationProperties destination )
+    {
+        final ConnectionPoolKey key = ConnectionPoolKey.of(destination, supportsTls(destination));
+        return Objects.requireNonNull(sharedConnectionManagers).get(key, k -> {
+            log.debug("Creating shared HTTP client connection manager for {}.", k);
+            return SharedConnectionManager.of(k, getConnectionManager(destination));
+        });
+    }
+
+    @Nonnull
+    @Override
+    public Option<PoolStats> getSharedConnectionPoolStats()
+    {
+        if( sharedConnectionManagers == null ) {
+            return Option.none();
+        }
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for( final SharedConnectionManager connectionManager : sharedConnectionManagers.asMap().values() ) {
+            final PoolStats stats = connectionManager.pool.getTotalStats();
+            leased += stats.getLeased();
+            pending += stats.getPending();
+            available += stats.getAvailable();
+            max += stats.getMax();
+        }
+        return Option.some(new PoolStats(leased, pending, available, max));
+    }
+
     @Nonnull
-    private HttpClientConnectionManager getConnectionManager( @Nullable final HttpDestinationProperties destination )
+    private PoolingHttpClientConnectionManager getConnectionManager(
+        @Nullable final HttpDestinationProperties destination )
     {
         try {
             return PoolingHttpClientConnectionManagerBuilder
@@ -233,4 +308,123 @@ class DefaultApacheHttpClient5Factory implements ApacheHttpClient5Factory
         }
         return true;
     }
+
+    /**
+     * A connection manager shared between HTTP clients. The HTTP clients only reference this handle, never the
+     * underlying connection pool, so the pool and its open connections are closed gracefully once the last HTTP client
+     * using it became unreachable.
+     */
+    private static final class SharedConnectionManager implements HttpClientConnectionManager
+    {
+        @Nonnull
+        private final PoolingHttpClientConnectionManager pool;
+
+        private SharedConnectionManager( @Nonnull final PoolingHttpClientConnectionManager pool )
+        {
+            this.pool = pool;
+        }
+
+        @Nonnull
+        static
+            SharedConnectionManager
+            of( @Nonnull final ConnectionPoolKey key, @Nonnull final PoolingHttpClientConnectionManager pool )
+        {
+            final SharedConnectionManager connectionManager = new SharedConnectionManager(pool);
+            // the cleaning action must not reference the handle, otherwise it never becomes unreachable
+            CONNECTION_POOL_CLEANER.register(connectionManager, () -> {
+                log.debug("Closing shared HTTP client connection manager for {}.", key);
+                pool.close(CloseMode.GRACEFUL);
+            });
+            return connectionManager;
+        }
+
+        @Override
+        public
+            LeaseRequest
+            lease( final String id, final HttpRoute route, final Timeout requestTimeout, final Object state )
+        {
+            return pool.lease(id, route, requestTimeout, state);
+        }
+
+        @Override
+        public void release( final ConnectionEndpoint endpoint, final Object newState, final TimeValue validDuration )
+        {
+            pool.release(endpoint, newState, validDuration);
+        }
+
+        @Override
+        public
+            void
+            connect( final ConnectionEndpoint endpoint, final TimeValue connectTimeout, final HttpContext context )
+                throws IOException
+        {
+            pool.connect(endpoint, connectTimeout, context);
+        }
+
+        @Override
+        public void upgrade( final ConnectionEndpoint endpoint, final HttpContext context )
+            throws IOException
+        {
+            pool.upgrade(endpoint, context);
+        }
+
+        @Override
+        public void close( final CloseMode closeMode )
+        {
+            pool.close(closeMode);
+        }
+
+        @Override
+        public void close()
+        {
+            pool.close();
+        }
+    }
+
+    /**
+     * Identifies connections that can be shared between HTTP clients: the target host and the TLS configuration of the
+     * destination. Trust and key stores are compared by identity, so connections authenticated with different client
+     * certificates are never shared.
+     */
+    private record ConnectionPoolKey(
+        @Nullable String scheme,
+        @Nullable String host,
+        int port,
+        @Nullable SecurityConfigurationStrategy securityConfigurationStrategy,
+        boolean trustingAllCertificates,
+        @Nullable String tlsVersion,
+        @Nullable KeyStore trustStore,
+        @Nullable KeyStore keyStore,
+        @Nullable String keyStorePassword )
+    {
+        @Nonnull
+        static ConnectionPoolKey of( @Nullable final HttpDestinationProperties destination, final boolean supportsTls )
+        {
+            if( destination == null ) {
+                return new ConnectionPoolKey(null, null, -1, null, false, null, null, null, null);
+            }
+            final URI uri = destination.getUri();
+            if( !supportsTls ) {
+                final String scheme = uri.getScheme();
+                return new ConnectionPoolKey(scheme, uri.getHost(), uri.getPort(), null, false, null, null, null, null);
+            }
+            return new ConnectionPoolKey(
+                uri.getScheme(),
+                uri.getHost(),
+                uri.getPort(),
+                destination.getSecurityConfigurationStrategy(),
+                destination.isTrustingAllCertificates(),
+                destination.getTlsVersion().getOrNull(),
+                destination.getTrustStore().getOrNull(),
+                destination.getKeyStore().getOrNull(),
+                destination.getKeyStorePassword().getOrNull());
+        }
+
+        @Nonnull
+        @Override
+        public String toString()
+        {
+            return "ConnectionPoolKey(" + scheme + "://" + host + ":" + port + ")";
+        }
+    }
 }
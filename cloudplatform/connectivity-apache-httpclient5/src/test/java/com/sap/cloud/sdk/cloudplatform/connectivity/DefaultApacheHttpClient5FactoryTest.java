@@ -1,5 +1,6 @@
 package com.sap.cloud.sdk.cloudplatform.connectivity;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
@@ -170,6 +171,52 @@ class DefaultApacheHttpClient5FactoryTest
         assertCannotBeExecutedInParallel(firstRequest, firstRequest, client);
     }
 
+    @Test
+    @SneakyThrows
+    void testSharedConnectionPoolIsReusedAcrossHttpClients()
+    {
+        WIRE_MOCK_SERVER.stubFor(get(urlEqualTo("/shared-pool")).willReturn(ok()));
+
+        final ApacheHttpClient5Factory sharingFactory =
+            new DefaultApacheHttpClient5Factory(
+                CLIENT_TIMEOUT,
+                MAX_CONNECTIONS,
+                MAX_CONNECTIONS_PER_ROUTE,
+                requestInterceptor,
+                AUTOMATIC,
+                true);
+
+        final DefaultHttpDestination tenantDestination =
+            DefaultHttpDestination.builder(WIRE_MOCK_SERVER.baseUrl()).header("tenant", "tenant-1").build();
+        final DefaultHttpDestination otherTenantDestination =
+            DefaultHttpDestination.builder(WIRE_MOCK_SERVER.baseUrl()).header("tenant", "tenant-2").build();
+
+        final HttpClient tenantClient = sharingFactory.createHttpClient(tenantDestination);
+        final HttpClient otherTenantClient = sharingFactory.createHttpClient(otherTenantDestination);
+        assertThat(tenantClient).isNotSameAs(otherTenantClient);
+
+        tenantClient.execute(new HttpGet("/shared-pool"), assertOk());
+        otherTenantClient.execute(new HttpGet("/shared-pool"), assertOk());
+
+        // the connection of the first request is reused for the second one
+        assertThat(sharingFactory.getSharedConnectionPoolStats()).isNotEmpty();
+        assertThat(sharingFactory.getSharedConnectionPoolStats().get().getAvailable()).isEqualTo(1);
+        assertThat(sharingFactory.getSharedConnectionPoolStats().get().getLeased()).isZero();
+        assertThat(sharingFactory.getSharedConnectionPoolStats().get().getMax()).isEqualTo(MAX_CONNECTIONS);
+
+        WIRE_MOCK_SERVER.verify(getRequestedFor(urlEqualTo("/shared-pool")).withHeader("tenant", equalTo("tenant-1")));
+        WIRE_MOCK_SERVER.verify(getRequestedFor(urlEqualTo("/shared-pool")).withHeader("tenant", equalTo("tenant-2")));
+        softly.assertAll();
+    }
+
+    @Test
+    void testConnectionPoolsAreNotSharedByDefault()
+    {
+        sut.createHttpClient(DefaultHttpDestination.builder(WIRE_MOCK_SERVER.baseUrl()).build());
+
+        assertThat(sut.getSharedConnectionPoolStats()).isEmpty();
+    }
+
     @Test
     @SneakyThrows
     void testProxyConfigurationIsConsidered()
@@ -2,9 +2,12 @@ package com.sap.cloud.sdk.cloudplatform.connectivity;
 
 import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceV1Response.DestinationAuthToken;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -22,11 +25,36 @@ import lombok.extern.slf4j.Slf4j;
  * Helper class to handle the complex conversions of destination properties.
  */
 @Slf4j
-class AuthTokenHeaderProvider implements DestinationHeaderProvider
+class AuthTokenHeaderProvider implements CacheableDestinationHeaderProvider
 {
     private static final String SECURITY_SESSION_HEADER = "x-sap-security-session";
     private static final String CREATE_SESSION_VALUE = "create";
 
+    @Nonnull
+    @Override
+    public Object getCacheScope( @Nonnull final DestinationRequestContext requestContext )
+    {
+        return DESTINATION_SCOPE;
+    }
+
+    @Nonnull
+    @Override
+    public CacheableHeaders getCacheableHeaders( @Nonnull final DestinationRequestContext requestContext )
+    {
+        final List<Header> headers = getHeaders(requestContext);
+
+        // the headers may be reused until the first auth token of the destination expires
+        final Instant expiry =
+            getAuthTokens(requestContext.getDestination())
+                .stream()
+                .map(DestinationAuthToken::getExpiryTimestamp)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .map(timestamp -> timestamp.atZone(ZoneId.systemDefault()).toInstant())
+                .orElse(Instant.MAX);
+        return CacheableHeaders.until(headers, expiry);
+    }
+
     @Nonnull
     @Override
     public List<Header> getHeaders( @Nonnull final DestinationRequestContext requestContext )
@@ -39,14 +67,7 @@ class AuthTokenHeaderProvider implements DestinationHeaderProvider
             result.add(new Header(SECURITY_SESSION_HEADER, CREATE_SESSION_VALUE));
         }
 
-        final List<DestinationAuthToken> tokens =
-            destination
-                .get(DestinationProperty.AUTH_TOKENS)
-                .getOrElse(Collections::emptyList)
-                .stream()
-                .filter(DestinationAuthToken.class::isInstance)
-                .map(DestinationAuthToken.class::cast)
-                .collect(Collectors.toList());
+        final List<DestinationAuthToken> tokens = getAuthTokens(destination);
 
         if( !tokens.isEmpty() ) {
             result.addAll(getDestinationHeaders(tokens));
@@ -67,6 +88,18 @@ class AuthTokenHeaderProvider implements DestinationHeaderProvider
         return result;
     }
 
+    @Nonnull
+    private static List<DestinationAuthToken> getAuthTokens( @Nonnull final HttpDestination destination )
+    {
+        return destination
+            .get(DestinationProperty.AUTH_TOKENS)
+            .getOrElse(Collections::emptyList)
+            .stream()
+            .filter(DestinationAuthToken.class::isInstance)
+            .map(DestinationAuthToken.class::cast)
+            .collect(Collectors.toList());
+    }
+
     @Nonnull
     private static List<Header> getDestinationHeaders( @Nonnull final List<DestinationAuthToken> authTokens )
         throws DestinationAccessException
@@ -0,0 +1,236 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutor;
+
+import io.vavr.control.Try;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes the cached lists of all destinations in the background, before they expire. Every tenant, that recently
+ * retrieved destinations, is considered active. Its list of all destinations is requested again from the Destination
+ * service once the cached list reaches {@link #REFRESH_AHEAD_RATIO} of its expiration duration. The new list is
+ * compared with the individually cached destinations of the tenant, and only the destinations that changed are removed
+ * from the cache. Hence, requests neither wait for the change detection nor for unchanged destinations to be retrieved
+ * again.
+ */
+@Slf4j
+final class DestinationCacheRefresher
+{
+    // share of the expiration duration after which the list of all destinations is refreshed
+    static final double REFRESH_AHEAD_RATIO = 0.75;
+
+    // number of checks for due refreshes per expiration duration
+    private static final int CHECKS_PER_EXPIRATION = 10;
+    private static final Duration MIN_CHECK_INTERVAL = Duration.ofSeconds(1L);
+
+    // duration after which a tenant is considered inactive, if it does not retrieve any destination
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30L);
+
+    @Nonnull
+    private final Duration refreshAfter;
+    @Nonnull
+    private final Duration checkInterval;
+    @Nonnull
+    private final Supplier<Cache<CacheKey, Destination>> destinationCache;
+    @Nonnull
+    private final Supplier<Cache<CacheKey, List<DestinationProperties>>> allDestinationsCache;
+    @Nonnull
+    private final Supplier<Cache<CacheKey, ReentrantLock>> isolationLocks;
+    @Nonnull
+    private final Consumer<CacheKey> changeListener;
+    @Nonnull
+    private final Cache<CacheKey, RefreshTask> activeTenants =
+        Caffeine.newBuilder().expireAfterAccess(IDLE_TIMEOUT).build();
+    @Nullable
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Create a new refresher. The caches are resolved on every refresh, since they may be re-created.
+     *
+     * @param expiration
+     *            The expiration duration of the list of all destinations.
+     * @param destinationCache
+     *            The cache of individual destinations.
+     * @param allDestinationsCache
+     *            The cache of the lists of all destinations.
+     * @param isolationLocks
+     *            The isolation locks of the cache keys.
+     * @param changeListener
+     *            Invoked with the cache key of every destination that changed.
+     */
+    DestinationCacheRefresher(
+        @Nonnull final Duration expiration,
+        @Nonnull final Supplier<Cache<CacheKey, Destination>> destinationCache,
+        @Nonnull final Supplier<Cache<CacheKey, List<DestinationProperties>>> allDestinationsCache,
+        @Nonnull final Supplier<Cache<CacheKey, ReentrantLock>> isolationLocks,
+        @Nonnull final Consumer<CacheKey> changeListener )
+    {
+        refreshAfter = Duration.ofNanos((long) (expiration.toNanos() * REFRESH_AHEAD_RATIO));
+        checkInterval =
+            Duration.ofNanos(Math.max(MIN_CHECK_INTERVAL.toNanos(), expiration.toNanos() / CHECKS_PER_EXPIRATION));
+        this.destinationCache = destinationCache;
+        this.allDestinationsCache = allDestinationsCache;
+        this.isolationLocks = isolationLocks;
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Start checking for due refreshes periodically.
+     */
+    synchronized void start()
+    {
+        if( scheduler != null ) {
+            return;
+        }
+        final long period = checkInterval.toNanos();
+        scheduler =
+            Executors
+                .newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                        .setNameFormat("cloudsdk-destination-refresh-%d")
+                        .setDaemon(true)
+                        .build());
+        scheduler.scheduleWithFixedDelay(this::refreshActiveTenants, period, period, TimeUnit.NANOSECONDS);
+        log.debug("Started background refresh of the destination cache, checking for changes every {}.", checkInterval);
+    }
+
+    /**
+     * Stop the periodic refresh and forget about all active tenants.
+     */
+    synchronized void stop()
+    {
+        if( scheduler != null ) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            log.debug("Stopped background refresh of the destination cache.");
+        }
+        activeTenants.invalidateAll();
+    }
+
+    /**
+     * Mark the list of all destinations with the given cache key as actively used. The current thread context is
+     * captured, so that the list can be requested again in the background on behalf of the same tenant.
+     *
+     * @param cacheKey
+     *            The cache key of the list of all destinations.
+     * @param options
+     *            The options to retrieve the list of all destinations with.
+     * @param destinationRetriever
+     *            The function to request the list of all destinations from the Destination service.
+     */
+    void register(
+        @Nonnull final CacheKey cacheKey,
+        @Nonnull final DestinationOptions options,
+        @Nonnull final Function<DestinationOptions, Try<List<DestinationProperties>>> destinationRetriever )
+    {
+        activeTenants
+            .get(
+                cacheKey,
+                key -> new RefreshTask(
+                    key,
+                    ThreadContextExecutor.fromCurrentOrNewContext(),
+                    () -> destinationRetriever.apply(options)));
+    }
+
+    // internal for testing
+    void refreshActiveTenants()
+    {
+        for( final RefreshTask task : activeTenants.asMap().values() ) {
+            if( isRefreshDue(task.cacheKey) ) {
+                Try.run(task::run).onFailure(e -> log.warn("Failed to refresh destinations in the background.", e));
+            }
+        }
+    }
+
+    private boolean isRefreshDue( @Nonnull final CacheKey cacheKey )
+    {
+        final var expiration = allDestinationsCache.get().policy().expireAfterWrite();
+        if( expiration.isEmpty() ) {
+            return false;
+        }
+        // the list expired or was evicted already, while the tenant is still active
+        return expiration.get().ageOf(cacheKey).map(age -> age.compareTo(refreshAfter) >= 0).orElse(true);
+    }
+
+    private void refresh(
+        @Nonnull final CacheKey cacheKey,
+        @Nonnull final Supplier<Try<List<DestinationProperties>>> destinationSupplier )
+    {
+        final ReentrantLock isolationLock = isolationLocks.get().get(cacheKey, any -> new ReentrantLock());
+        // a request is retrieving the destinations right now, so there is nothing to refresh
+        if( isolationLock == null || !isolationLock.tryLock() ) {
+            return;
+        }
+        try {
+            final Try<List<DestinationProperties>> result = destinationSupplier.get();
+            if( result.isFailure() ) {
+                log
+                    .warn(
+                        "Failed to refresh all destinations of tenant {} in the background. The cached destinations are kept until they expire.",
+                        cacheKey.getTenantId().getOrElse("(none)"));
+                log.debug("Background refresh of destinations failed.", result.getCause());
+                return;
+            }
+            allDestinationsCache.get().put(cacheKey, result.get());
+            invalidateChangedDestinations(cacheKey, result.get());
+        }
+        finally {
+            isolationLock.unlock();
+        }
+    }
+
+    private void invalidateChangedDestinations(
+        @Nonnull final CacheKey allDestinationsKey,
+        @Nonnull final List<DestinationProperties> allDestinations )
+    {
+        final List<Object> options = allDestinationsKey.getComponents();
+        for( final Map.Entry<CacheKey, Destination> entry : destinationCache.get().asMap().entrySet() ) {
+            final CacheKey key = entry.getKey();
+            // the key of an individual destination consists of the destination name and the options
+            final List<Object> components = key.getComponents();
+            if( key.getTenantId().equals(allDestinationsKey.getTenantId())
+                && components.size() == options.size() + 1
+                && components.subList(1, components.size()).equals(options)
+                && GetOrComputeSingleDestinationCommand.destinationIsChanged(allDestinations, entry.getValue()) ) {
+                log.debug("Detected change of destination {} in the background, removing it from the cache.", key);
+                destinationCache.get().asMap().remove(key, entry.getValue());
+                changeListener.accept(key);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class RefreshTask
+    {
+        @Nonnull
+        private final CacheKey cacheKey;
+        @Nonnull
+        private final ThreadContextExecutor executor;
+        @Nonnull
+        private final Supplier<Try<List<DestinationProperties>>> destinationSupplier;
+
+        void run()
+        {
+            executor.execute(() -> refresh(cacheKey, destinationSupplier));
+        }
+    }
+}
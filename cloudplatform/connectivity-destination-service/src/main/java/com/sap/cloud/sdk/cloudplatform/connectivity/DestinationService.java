@@ -19,6 +19,7 @@ import javax.annotation.Nullable;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.Beta;
 import com.google.common.collect.Streams;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
@@ -424,6 +425,16 @@ public class DestinationService implements DestinationLoader
         private static Option<com.github.benmanes.caffeine.cache.Cache<CacheKey, ReentrantLock>> isolationLocks =
             Option.none();
 
+        @Nonnull
+        private static Option<DestinationCacheRefresher> backgroundRefresher = Option.none();
+        @Nonnull
+        private static Option<Duration> staleGracePeriod = Option.none();
+        @Nonnull
+        private static Option<com.github.benmanes.caffeine.cache.Cache<CacheKey, Destination>> staleDestinationsCache =
+            Option.none();
+        @Nonnull
+        private static Option<StaleDestinationCache> staleDestinations = Option.none();
+
         private static boolean cacheEnabled = true;
         private static boolean changeDetectionEnabled = true;
 
@@ -475,10 +486,13 @@ public class DestinationService implements DestinationLoader
         public static void disable()
         {
             log.debug("Disabling the destination cache.");
+            disableBackgroundRefresh();
             cacheEnabled = false;
             destinationsCache = prepareCache(null, destinationsCache);
             allDestinationsCache = prepareCache(null, allDestinationsCache);
             isolationLocks = prepareCache(null, isolationLocks);
+            staleDestinationsCache = prepareCache(null, staleDestinationsCache);
+            staleDestinations = Option.none();
         }
 
         /**
@@ -495,11 +509,13 @@ public class DestinationService implements DestinationLoader
             if( !isEnabled() ) {
                 cacheEnabled = true;
             }
+            disableBackgroundRefresh();
             changeDetectionEnabled = true;
 
             sizeLimit = Option.some(DEFAULT_SIZE_LIMIT);
             expirationDuration = Option.some(DEFAULT_EXPIRATION_DURATION);
             expirationStrategy = DEFAULT_EXPIRATION_STRATEGY;
+            staleGracePeriod = Option.none();
             recreateSingleCache();
             recreateGetAllCache();
             recreateIsolationLockCache();
@@ -587,6 +603,12 @@ public class DestinationService implements DestinationLoader
 
             recreateSingleCache();
             recreateGetAllCache();
+
+            if( backgroundRefresher.isDefined() ) {
+                // the refresh interval depends on the expiration duration
+                disableBackgroundRefresh();
+                enableBackgroundRefresh();
+            }
         }
 
         /**
@@ -685,6 +707,7 @@ public class DestinationService implements DestinationLoader
                 prepareCache(
                     prepareCacheBuilder(sizeLimit, Option.some(Duration.ofDays(1L)), expirationStrategy).build(),
                     destinationsCache);
+            recreateStaleCache();
         }
 
         /**
@@ -703,13 +726,142 @@ public class DestinationService implements DestinationLoader
 
             changeDetectionEnabled = false;
             log.debug("Destination change detection has been disabled.");
+            disableBackgroundRefresh();
 
             recreateSingleCache();
             recreateGetAllCache();
         }
 
+        /**
+         * Enables the background refresh of the <em>"change detection"</em> mode.
+         * <p>
+         * Without the background refresh, the list of all destinations, which is used to detect changes, is requested
+         * again once a destination is retrieved after the list expired. That retrieval then has to wait for the
+         * Destination service. With the background refresh enabled, the list of all destinations of every tenant, that
+         * retrieved destinations within the last 30 minutes, is requested again in a background thread shortly before
+         * it expires. Destinations that changed in the meantime are removed from the cache right away, while all other
+         * destinations stay cached. Hence, retrieving a cached destination does not wait for the Destination service.
+         * <p>
+         * The background refresh requires the <em>change detection</em> mode. It is stopped once the <em>change
+         * detection</em> mode or the cache is disabled.
+         * <p>
+         * <strong>Caution:</strong> This method is not thread-safe.
+         *
+         * @see #setExpiration(Duration, CacheExpirationStrategy)
+         * @since 5.23.0
+         */
+        @Beta
+        public static void enableBackgroundRefresh()
+        {
+            throwIfDisabled();
+            if( !changeDetectionEnabled || !expirationDuration.isDefined() ) {
+                log.warn("""
+                    The background refresh of the destination cache requires the 'change detection' mode. \
+                    Therefore, the background refresh will not be enabled.\
+                    """);
+                return;
+            }
+            if( backgroundRefresher.isDefined() ) {
+                return;
+            }
+            final DestinationCacheRefresher refresher =
+                new DestinationCacheRefresher(
+                    expirationDuration.get(),
+                    Cache::instanceSingle,
+                    Cache::instanceAll,
+                    Cache::isolationLocks,
+                    key -> staleDestinations.forEach(cache -> cache.invalidate(key)));
+            refresher.start();
+            backgroundRefresher = Option.some(refresher);
+        }
+
+        /**
+         * Disables the background refresh of the <em>"change detection"</em> mode.
+         * <p>
+         * <strong>Caution:</strong> This method is not thread-safe.
+         *
+         * @see #enableBackgroundRefresh()
+         * @since 5.23.0
+         */
+        @Beta
+        public static void disableBackgroundRefresh()
+        {
+            backgroundRefresher.forEach(DestinationCacheRefresher::stop);
+            backgroundRefresher = Option.none();
+        }
+
+        /**
+         * Enables the <em>"stale-while-revalidate"</em> mode.
+         * <p>
+         * Without this mode, all retrievals of a destination wait while the destination is retrieved again from the
+         * Destination service, e.g. because its cache entry expired or its authentication token is about to expire.
+         * With this mode enabled, the previously retrieved destination is returned instead, while the destination is
+         * retrieved again once in the background. The previous destination is only returned as long as its
+         * authentication tokens and certificates are still valid, and only within the given grace period after its
+         * cache entry expired. In case retrieving the destination again fails, the previous destination is returned
+         * until the grace period ends.
+         * <p>
+         * Destinations that were changed in the Destination service, as detected by the <em>change detection</em> mode,
+         * are never returned as previous destination.
+         * <p>
+         * <strong>Caution:</strong> This method is not thread-safe.
+         * <p>
+         * <strong>Caution:</strong> Using this operation will lead to a re-creation of the cache of previous
+         * destinations. As a consequence, all previous destinations will be lost.
+         *
+         * @param gracePeriod
+         *            The duration for which a destination may be returned after its cache entry expired.
+         * @since 5.23.0
+         */
+        @Beta
+        public static void enableStaleWhileRevalidate( @Nonnull final Duration gracePeriod )
+        {
+            throwIfDisabled();
+            log.debug("Enabling destination stale-while-revalidate mode with a grace period of {}.", gracePeriod);
+
+            staleGracePeriod = Option.some(gracePeriod);
+            recreateStaleCache();
+        }
+
+        /**
+         * Disables the <em>"stale-while-revalidate"</em> mode.
+         * <p>
+         * <strong>Caution:</strong> This method is not thread-safe.
+         *
+         * @see #enableStaleWhileRevalidate(Duration)
+         * @since 5.23.0
+         */
+        @Beta
+        public static void disableStaleWhileRevalidate()
+        {
+            throwIfDisabled();
+            log.debug("Disabling destination stale-while-revalidate mode.");
+
+            staleGracePeriod = Option.none();
+            recreateStaleCache();
+        }
+
+        private static void recreateStaleCache()
+        {
+            if( staleGracePeriod.isEmpty() ) {
+                staleDestinationsCache = prepareCache(null, staleDestinationsCache);
+                staleDestinations = Option.none();
+                return;
+            }
+            // previous destinations are kept for the grace period beyond the expiration of the regular cache entries
+            final Option<Duration> regularExpiration =
+                changeDetectionEnabled ? Option.some(Duration.ofDays(1L)) : expirationDuration;
+            final Option<Duration> staleExpiration = regularExpiration.map(d -> d.plus(staleGracePeriod.get()));
+            staleDestinationsCache =
+                prepareCache(
+                    prepareCacheBuilder(sizeLimit, staleExpiration, CacheExpirationStrategy.WHEN_CREATED).build(),
+                    staleDestinationsCache);
+            staleDestinations = staleDestinationsCache.map(StaleDestinationCache::new);
+        }
+
         private static void recreateSingleCache()
         {
+            recreateStaleCache();
             if( !changeDetectionEnabled ) {
                 destinationsCache = prepareCache(prepareCacheBuilder().build(), destinationsCache);
                 return;
@@ -854,6 +1006,13 @@ public class DestinationService implements DestinationLoader
                             instanceAll(),
                             isolationLocks(),
                             loader::getAllDestinationsByRetrievalStrategy);
+                backgroundRefresher
+                    .forEach(
+                        refresher -> refresher
+                            .register(
+                                getAllCommand.getCacheKey(),
+                                options,
+                                loader::getAllDestinationsByRetrievalStrategy));
             } else {
                 getAllCommand = null;
             }
@@ -866,7 +1025,8 @@ public class DestinationService implements DestinationLoader
                         instanceSingle(),
                         isolationLocks(),
                         destinationDownloader,
-                        getAllCommand);
+                        getAllCommand,
+                        staleDestinations.getOrNull());
             return command.flatMap(GetOrComputeSingleDestinationCommand::execute);
         }
 
@@ -878,9 +1038,14 @@ public class DestinationService implements DestinationLoader
                 return destinationDownloader.apply(options);
             }
 
-            return GetOrComputeAllDestinationsCommand
-                .prepareCommand(options, instanceAll(), isolationLocks(), destinationDownloader)
-                .execute();
+            final GetOrComputeAllDestinationsCommand command =
+                GetOrComputeAllDestinationsCommand
+                    .prepareCommand(options, instanceAll(), isolationLocks(), destinationDownloader);
+            if( changeDetectionEnabled ) {
+                backgroundRefresher
+                    .forEach(refresher -> refresher.register(command.getCacheKey(), options, destinationDownloader));
+            }
+            return command.execute();
         }
 
         private Cache()
@@ -14,6 +14,7 @@ import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
 
 import io.vavr.control.Try;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 class GetOrComputeAllDestinationsCommand
 {
     @Nonnull
+    @Getter( AccessLevel.PACKAGE )
     private final CacheKey cacheKey;
     @Nonnull
     private final ReentrantLock isolationLock;
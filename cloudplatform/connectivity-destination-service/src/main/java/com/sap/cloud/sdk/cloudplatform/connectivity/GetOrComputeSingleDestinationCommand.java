@@ -4,6 +4,7 @@ import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceTok
 import static com.sap.cloud.sdk.cloudplatform.connectivity.DestinationServiceTokenExchangeStrategy.FORWARD_USER_TOKEN;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
@@ -19,6 +20,7 @@ import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
 import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
 import com.sap.cloud.sdk.cloudplatform.security.principal.exception.PrincipalAccessException;
 import com.sap.cloud.sdk.cloudplatform.tenant.exception.TenantAccessException;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
 
 import io.vavr.control.Option;
 import io.vavr.control.Try;
@@ -52,8 +54,9 @@ class GetOrComputeSingleDestinationCommand
     private final DestinationServiceTokenExchangeStrategy exchangeStrategy;
     @Nullable
     private final GetOrComputeAllDestinationsCommand getAllCommand;
+    @Nullable
+    private final StaleDestinationCache staleDestinationCache;
 
-    @SuppressWarnings( "deprecation" )
     static Try<GetOrComputeSingleDestinationCommand> prepareCommand(
         @Nonnull final String destinationName,
         @Nonnull final DestinationOptions destinationOptions,
@@ -61,6 +64,26 @@ class GetOrComputeSingleDestinationCommand
         @Nonnull final Cache<CacheKey, ReentrantLock> isolationLocks,
         @Nonnull final BiFunction<String, DestinationOptions, Destination> destinationRetriever,
         @Nullable final GetOrComputeAllDestinationsCommand getAllCommand )
+    {
+        return prepareCommand(
+            destinationName,
+            destinationOptions,
+            destinationCache,
+            isolationLocks,
+            destinationRetriever,
+            getAllCommand,
+            null);
+    }
+
+    @SuppressWarnings( "deprecation" )
+    static Try<GetOrComputeSingleDestinationCommand> prepareCommand(
+        @Nonnull final String destinationName,
+        @Nonnull final DestinationOptions destinationOptions,
+        @Nonnull final Cache<CacheKey, Destination> destinationCache,
+        @Nonnull final Cache<CacheKey, ReentrantLock> isolationLocks,
+        @Nonnull final BiFunction<String, DestinationOptions, Destination> destinationRetriever,
+        @Nullable final GetOrComputeAllDestinationsCommand getAllCommand,
+        @Nullable final StaleDestinationCache staleDestinationCache )
     {
         final Supplier<Destination> destinationSupplier =
             () -> destinationRetriever.apply(destinationName, destinationOptions);
@@ -109,7 +132,8 @@ class GetOrComputeSingleDestinationCommand
                     destinationCache,
                     destinationSupplier,
                     exchangeStrategy,
-                    getAllCommand));
+                    getAllCommand,
+                    staleDestinationCache));
     }
 
     /**
@@ -130,17 +154,66 @@ class GetOrComputeSingleDestinationCommand
      * | 8   | Exchange only        | Client Credentials | Tenant + Principal | Tenant + Principal | warning logged             |
      * | 9   | Forward user token   | Client Credentials | Tenant             | Tenant             |                            |
      * </pre>
+     *
+     * In case a {@link StaleDestinationCache} is given, a previously retrieved destination that is still usable is
+     * returned right away, while the destination is retrieved again in the background.
      */
     @Nonnull
     Try<Destination> execute()
     {
         @Nullable
-        Destination result = getCachedDestination();
+        final Destination result = getCachedDestination();
 
         if( result != null ) {
             return Try.success(result);
         }
 
+        if( staleDestinationCache != null ) {
+            for( final CacheKey key : Arrays.asList(cacheKey, additionalKeyWithTenantAndPrincipal) ) {
+                @Nullable
+                final Destination staleDestination = key == null ? null : staleDestinationCache.getIfUsable(key);
+                if( staleDestination != null ) {
+                    revalidateInBackground(staleDestinationCache, key);
+                    return Try.success(staleDestination);
+                }
+            }
+        }
+        return computeDestination();
+    }
+
+    private void revalidateInBackground( @Nonnull final StaleDestinationCache staleCache, @Nonnull final CacheKey key )
+    {
+        if( !staleCache.tryStartRefresh(key) ) {
+            return;
+        }
+        log.debug("Serving the previous destination {} while retrieving it again in the background.", destinationName);
+        try {
+            ThreadContextExecutors.execute(() -> {
+                try {
+                    computeDestination()
+                        .onFailure(
+                            e -> log
+                                .warn(
+                                    "Failed to retrieve destination {} again. The previous destination is served until its grace period ends.",
+                                    destinationName,
+                                    e));
+                }
+                finally {
+                    staleCache.finishRefresh(key);
+                }
+            });
+        }
+        catch( final RuntimeException e ) {
+            staleCache.finishRefresh(key);
+            log.debug("Failed to schedule the retrieval of destination {} in the background.", destinationName, e);
+        }
+    }
+
+    @Nonnull
+    private Try<Destination> computeDestination()
+    {
+        @Nullable
+        Destination result;
         try {
             isolationLock.lock();
 
@@ -160,13 +233,13 @@ class GetOrComputeSingleDestinationCommand
             switch( exchangeStrategy ) {
                 case LOOKUP_ONLY:
                 case EXCHANGE_ONLY:
-                    destinationCache.put(cacheKey, result);
+                    putDestination(cacheKey, result);
                     logErroneousCombinations(result, destinationName, exchangeStrategy);
                     break;
                 case LOOKUP_THEN_EXCHANGE:
                 case FORWARD_USER_TOKEN:
                     if( !requiresPrincipalForDestinationRetrieval(result) ) {
-                        destinationCache.put(cacheKey, result);
+                        putDestination(cacheKey, result);
                     } else {
                         if( additionalKeyWithTenantAndPrincipal.getPrincipalId().isEmpty() ) {
                             final String message =
@@ -176,7 +249,7 @@ class GetOrComputeSingleDestinationCommand
                                     """;
                             return Try.failure(new DestinationAccessException(message.formatted(destinationName)));
                         }
-                        destinationCache.put(additionalKeyWithTenantAndPrincipal, result);
+                        putDestination(additionalKeyWithTenantAndPrincipal, result);
                     }
                     break;
             }
@@ -187,6 +260,14 @@ class GetOrComputeSingleDestinationCommand
         }
     }
 
+    private void putDestination( @Nonnull final CacheKey key, @Nonnull final Destination destination )
+    {
+        destinationCache.put(key, destination);
+        if( staleDestinationCache != null ) {
+            staleDestinationCache.put(key, destination);
+        }
+    }
+
     private static boolean requiresPrincipalForDestinationRetrieval( @Nonnull final DestinationProperties destination )
     {
         return DestinationUtility.requiresUserTokenExchange(destination);
@@ -258,6 +339,13 @@ class GetOrComputeSingleDestinationCommand
             return maybeDestination;
         }
         if( destinationIsChanged(allDestinations.get(), maybeDestination) ) {
+            // a changed destination must not be served as stale destination
+            if( staleDestinationCache != null ) {
+                staleDestinationCache.invalidate(cacheKey);
+                if( additionalKeyWithTenantAndPrincipal != null ) {
+                    staleDestinationCache.invalidate(additionalKeyWithTenantAndPrincipal);
+                }
+            }
             return null;
         }
         return maybeDestination;
@@ -269,6 +357,26 @@ class GetOrComputeSingleDestinationCommand
      * is set
      */
     private static boolean certificateIsExpired( final Destination destination )
+    {
+        return certificateExpiresBefore(destination, LocalDateTime.now().plusSeconds(EXPIRATION_BUFFER_TIME));
+    }
+
+    private static boolean authTokenIsExpired( @Nonnull final Destination destination )
+    {
+        return authTokenExpiresBefore(destination, LocalDateTime.now().plusSeconds(EXPIRATION_BUFFER_TIME));
+    }
+
+    /**
+     * Checks whether the authentication tokens and certificates of the destination are still valid, disregarding the
+     * buffer time before their expiration.
+     */
+    static boolean isUsable( @Nonnull final Destination destination )
+    {
+        final LocalDateTime now = LocalDateTime.now();
+        return !authTokenExpiresBefore(destination, now) && !certificateExpiresBefore(destination, now);
+    }
+
+    private static boolean certificateExpiresBefore( final Destination destination, final LocalDateTime time )
     {
         return destination
             .get(DestinationProperty.CERTIFICATES)
@@ -277,11 +385,11 @@ class GetOrComputeSingleDestinationCommand
             .map(t -> ((DestinationServiceV1Response.DestinationCertificate) t).getExpiryTimestamp())
             .filter(Objects::nonNull)
             .min()
-            .filter(t -> LocalDateTime.now().plusSeconds(EXPIRATION_BUFFER_TIME).isAfter(t))
+            .filter(time::isAfter)
             .isDefined();
     }
 
-    private static boolean authTokenIsExpired( @Nonnull final Destination destination )
+    private static boolean authTokenExpiresBefore( final Destination destination, final LocalDateTime time )
     {
         return destination
             .get(DestinationProperty.AUTH_TOKENS)
@@ -290,11 +398,11 @@ class GetOrComputeSingleDestinationCommand
             .map(t -> ((DestinationServiceV1Response.DestinationAuthToken) t).getExpiryTimestamp())
             .filter(Objects::nonNull)
             .min()
-            .filter(t -> LocalDateTime.now().plusSeconds(EXPIRATION_BUFFER_TIME).isAfter(t))
+            .filter(time::isAfter)
             .isDefined();
     }
 
-    private static boolean destinationIsChanged(
+    static boolean destinationIsChanged(
         @Nonnull final List<DestinationProperties> allDestinations,
         @Nonnull final Destination cachedDestination )
     {
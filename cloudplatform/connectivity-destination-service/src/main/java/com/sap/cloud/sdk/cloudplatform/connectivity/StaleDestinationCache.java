@@ -0,0 +1,71 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the previously retrieved destinations for a grace period beyond their regular cache duration. While a
+ * destination is retrieved again, or while its retrieval fails, the previous destination may be served instead, as long
+ * as its authentication tokens and certificates are still valid.
+ */
+@RequiredArgsConstructor
+class StaleDestinationCache
+{
+    @Nonnull
+    private final Cache<CacheKey, Destination> previousDestinations;
+
+    @Nonnull
+    private final Set<CacheKey> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
+    void put( @Nonnull final CacheKey cacheKey, @Nonnull final Destination destination )
+    {
+        previousDestinations.put(cacheKey, destination);
+    }
+
+    void invalidate( @Nonnull final CacheKey cacheKey )
+    {
+        previousDestinations.invalidate(cacheKey);
+    }
+
+    /**
+     * Get the previous destination, if it can still be used to connect to the target system.
+     *
+     * @param cacheKey
+     *            The cache key of the destination.
+     * @return The previous destination, or {@code null} if there is none or its tokens or certificates are expired.
+     */
+    @Nullable
+    Destination getIfUsable( @Nonnull final CacheKey cacheKey )
+    {
+        final Destination destination = previousDestinations.getIfPresent(cacheKey);
+        if( destination == null || !GetOrComputeSingleDestinationCommand.isUsable(destination) ) {
+            return null;
+        }
+        return destination;
+    }
+
+    /**
+     * Mark the destination as being retrieved again in the background.
+     *
+     * @param cacheKey
+     *            The cache key of the destination.
+     * @return {@code true} if no other retrieval of the destination is pending.
+     */
+    boolean tryStartRefresh( @Nonnull final CacheKey cacheKey )
+    {
+        return pendingRefreshes.add(cacheKey);
+    }
+
+    void finishRefresh( @Nonnull final CacheKey cacheKey )
+    {
+        pendingRefreshes.remove(cacheKey);
+    }
+}
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -119,6 +121,25 @@ class AuthTokenHeaderProviderTest
         assertThatThrownBy(() -> sut.getHeaders(context)).isInstanceOf(DestinationAccessException.class);
     }
 
+    @Test
+    void testHeadersAreCacheableUntilFirstTokenExpires()
+    {
+        final LocalDateTime expiry = LocalDateTime.now().plusMinutes(5);
+        token.setHttpHeaderSuggestion(new Header("foo", "bar"));
+        token.setExpiryTimestamp(expiry.plusMinutes(5));
+        final DestinationAuthToken token2 = new DestinationAuthToken();
+        token2.setHttpHeaderSuggestion(new Header("bar", "baz"));
+        token2.setExpiryTimestamp(expiry);
+
+        prepareDestination(token, token2);
+
+        final CacheableDestinationHeaderProvider.CacheableHeaders result = sut.getCacheableHeaders(context);
+
+        assertThat(sut.getCacheScope(context)).isEqualTo(CacheableDestinationHeaderProvider.DESTINATION_SCOPE);
+        assertThat(result.getHeaders()).containsExactly(new Header("foo", "bar"), new Header("bar", "baz"));
+        assertThat(result.getExpiry()).isEqualTo(expiry.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
     private void prepareDestination( DestinationAuthToken... tokens )
     {
         destination =
@@ -0,0 +1,160 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
+
+import io.vavr.control.Try;
+
+class DestinationCacheRefresherTest
+{
+    private static final Duration EXPIRATION = Duration.ofMinutes(5L);
+    private static final DestinationOptions EMPTY_OPTIONS = DestinationOptions.builder().build();
+    private static final CacheKey T1_KEY = CacheKey.fromIds("tenant-1", null).append(EMPTY_OPTIONS);
+    private static final CacheKey T2_KEY = CacheKey.fromIds("tenant-2", null).append(EMPTY_OPTIONS);
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final AtomicInteger retrievals = new AtomicInteger();
+    private final AtomicReference<Try<List<DestinationProperties>>> allDestinations = new AtomicReference<>();
+    private final List<CacheKey> changedKeys = new ArrayList<>();
+
+    private Cache<CacheKey, Destination> destinationCache;
+    private Cache<CacheKey, List<DestinationProperties>> allDestinationsCache;
+    private DestinationCacheRefresher sut;
+
+    @BeforeEach
+    void setup()
+    {
+        destinationCache = Caffeine.newBuilder().build();
+        allDestinationsCache = Caffeine.newBuilder().expireAfterWrite(EXPIRATION).ticker(ticker::get).build();
+        final Cache<CacheKey, ReentrantLock> isolationLocks = Caffeine.newBuilder().build();
+
+        sut =
+            new DestinationCacheRefresher(
+                EXPIRATION,
+                () -> destinationCache,
+                () -> allDestinationsCache,
+                () -> isolationLocks,
+                changedKeys::add);
+        sut.register(T1_KEY, EMPTY_OPTIONS, options -> {
+            retrievals.incrementAndGet();
+            return allDestinations.get();
+        });
+    }
+
+    @Test
+    void testRefreshOnlyBeforeExpiration()
+    {
+        final List<DestinationProperties> cached = List.of(destination("foo", "https://foo"));
+        allDestinationsCache.put(T1_KEY, cached);
+        allDestinations.set(Try.success(List.of(destination("foo", "https://foo"))));
+
+        sut.refreshActiveTenants();
+        assertThat(retrievals).hasValue(0);
+        assertThat(allDestinationsCache.getIfPresent(T1_KEY)).isSameAs(cached);
+
+        advance(EXPIRATION.multipliedBy(4).dividedBy(5));
+        sut.refreshActiveTenants();
+        assertThat(retrievals).hasValue(1);
+        assertThat(allDestinationsCache.getIfPresent(T1_KEY))
+            .isNotSameAs(cached)
+            .isEqualTo(allDestinations.get().get());
+
+        // the refreshed list does not expire at the original expiration time
+        advance(EXPIRATION.dividedBy(2));
+        assertThat(allDestinationsCache.getIfPresent(T1_KEY)).isNotNull();
+        sut.refreshActiveTenants();
+        assertThat(retrievals).hasValue(1);
+    }
+
+    @Test
+    void testOnlyChangedDestinationsOfTenantAreInvalidated()
+    {
+        final CacheKey unchangedKey = CacheKey.fromIds("tenant-1", null).append("unchanged", EMPTY_OPTIONS);
+        final CacheKey changedKey = CacheKey.fromIds("tenant-1", "user").append("changed", EMPTY_OPTIONS);
+        final CacheKey deletedKey = CacheKey.fromIds("tenant-1", null).append("deleted", EMPTY_OPTIONS);
+        final CacheKey otherTenantKey = CacheKey.fromIds("tenant-2", null).append("changed", EMPTY_OPTIONS);
+        destinationCache.put(unchangedKey, destination("unchanged", "https://unchanged"));
+        destinationCache.put(changedKey, destination("changed", "https://old"));
+        destinationCache.put(deletedKey, destination("deleted", "https://deleted"));
+        destinationCache.put(otherTenantKey, destination("changed", "https://old"));
+        allDestinations
+            .set(
+                Try
+                    .success(
+                        List.of(destination("unchanged", "https://unchanged"), destination("changed", "https://new"))));
+
+        sut.refreshActiveTenants();
+
+        assertThat(retrievals).hasValue(1);
+        assertThat(destinationCache.asMap()).containsOnlyKeys(unchangedKey, otherTenantKey);
+        assertThat(changedKeys).containsExactlyInAnyOrder(changedKey, deletedKey);
+        assertThat(allDestinationsCache.asMap()).containsOnlyKeys(T1_KEY);
+    }
+
+    @Test
+    void testFailedRefreshKeepsCachedDestinations()
+    {
+        final List<DestinationProperties> cached = List.of(destination("foo", "https://foo"));
+        final CacheKey destinationKey = CacheKey.fromIds("tenant-1", null).append("foo", EMPTY_OPTIONS);
+        allDestinationsCache.put(T1_KEY, cached);
+        destinationCache.put(destinationKey, destination("foo", "https://foo"));
+        allDestinations.set(Try.failure(new DestinationAccessException("Destination service unavailable")));
+
+        advance(EXPIRATION.multipliedBy(4).dividedBy(5));
+        sut.refreshActiveTenants();
+
+        assertThat(retrievals).hasValue(1);
+        assertThat(allDestinationsCache.getIfPresent(T1_KEY)).isSameAs(cached);
+        assertThat(destinationCache.asMap()).containsOnlyKeys(destinationKey);
+        assertThat(changedKeys).isEmpty();
+        assertThat(allDestinationsCache.getIfPresent(T2_KEY)).isNull();
+    }
+
+    @Test
+    void testStoppedRefresherForgetsActiveTenants()
+    {
+        allDestinations.set(Try.success(List.of()));
+
+        sut.start();
+        sut.stop();
+        sut.refreshActiveTenants();
+
+        assertThat(retrievals).hasValue(0);
+    }
+
+    private void advance( @Nonnull final Duration duration )
+    {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+    @Nonnull
+    private static Destination destination( @Nonnull final String name, @Nonnull final String url )
+    {
+        final Collection<String> relevantProperties =
+            new ArrayList<>(Arrays.asList(DestinationProperty.NAME.getKeyName(), DestinationProperty.URI.getKeyName()));
+        return DefaultHttpDestination
+            .builder(url)
+            .name(name)
+            .property(DestinationProperty.PROPERTIES_FOR_CHANGE_DETECTION, relevantProperties)
+            .build();
+    }
+}
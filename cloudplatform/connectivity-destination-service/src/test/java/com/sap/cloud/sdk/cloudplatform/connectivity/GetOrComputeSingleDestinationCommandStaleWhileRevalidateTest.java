@@ -0,0 +1,180 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.connectivity.exception.DestinationAccessException;
+
+import io.vavr.control.Try;
+import lombok.SneakyThrows;
+
+@Timeout( value = 30, unit = TimeUnit.SECONDS )
+class GetOrComputeSingleDestinationCommandStaleWhileRevalidateTest
+{
+    private static final String DESTINATION_NAME = "SomeDestinationName";
+    private static final DestinationOptions EMPTY_OPTIONS = DestinationOptions.builder().build();
+    private static final CacheKey CACHE_KEY = CacheKey.ofNoIsolation().append(DESTINATION_NAME, EMPTY_OPTIONS);
+
+    private final AtomicInteger retrievals = new AtomicInteger();
+    private Cache<CacheKey, Destination> destinationCache;
+    private Cache<CacheKey, ReentrantLock> isolationLocks;
+    private StaleDestinationCache staleDestinationCache;
+
+    @BeforeEach
+    void setup()
+    {
+        destinationCache = Caffeine.newBuilder().build();
+        isolationLocks = Caffeine.newBuilder().build();
+        staleDestinationCache = new StaleDestinationCache(Caffeine.newBuilder().build());
+    }
+
+    @Test
+    @SneakyThrows
+    void testPreviousDestinationIsServedWhileRetrievingAgain()
+    {
+        // the auth token is about to expire, but still valid
+        final Destination previous = destination("https://previous", LocalDateTime.now().plusSeconds(5L));
+        final Destination current = destination("https://current", LocalDateTime.now().plusHours(1L));
+        destinationCache.put(CACHE_KEY, previous);
+        staleDestinationCache.put(CACHE_KEY, previous);
+
+        final CountDownLatch retrievalLatch = new CountDownLatch(1);
+        final BiFunction<String, DestinationOptions, Destination> retriever = ( name, options ) -> {
+            retrievals.incrementAndGet();
+            await(retrievalLatch);
+            return current;
+        };
+
+        assertThat(execute(retriever, null).get()).isSameAs(previous);
+        assertThat(execute(retriever, null).get()).isSameAs(previous);
+
+        retrievalLatch.countDown();
+        while( destinationCache.getIfPresent(CACHE_KEY) != current ) {
+            Thread.sleep(10L);
+        }
+        assertThat(execute(retriever, null).get()).isSameAs(current);
+        assertThat(retrievals).hasValue(1);
+    }
+
+    @Test
+    @SneakyThrows
+    void testPreviousDestinationIsServedOnError()
+    {
+        final Destination previous = destination("https://previous", LocalDateTime.now().plusHours(1L));
+        staleDestinationCache.put(CACHE_KEY, previous);
+
+        final BiFunction<String, DestinationOptions, Destination> retriever = ( name, options ) -> {
+            retrievals.incrementAndGet();
+            throw new DestinationAccessException("Destination service unavailable");
+        };
+
+        assertThat(execute(retriever, null).get()).isSameAs(previous);
+        while( retrievals.get() == 0 ) {
+            Thread.sleep(10L);
+        }
+        assertThat(execute(retriever, null).get()).isSameAs(previous);
+
+        // the grace period ended
+        staleDestinationCache.invalidate(CACHE_KEY);
+        assertThat(execute(retriever, null).getCause()).isInstanceOf(DestinationAccessException.class);
+    }
+
+    @Test
+    void testExpiredDestinationIsNotServed()
+    {
+        final Destination previous = destination("https://previous", LocalDateTime.now().minusMinutes(1L));
+        final Destination current = destination("https://current", LocalDateTime.now().plusHours(1L));
+        destinationCache.put(CACHE_KEY, previous);
+        staleDestinationCache.put(CACHE_KEY, previous);
+
+        final BiFunction<String, DestinationOptions, Destination> retriever = ( name, options ) -> {
+            retrievals.incrementAndGet();
+            return current;
+        };
+
+        assertThat(execute(retriever, null).get()).isSameAs(current);
+        assertThat(retrievals).hasValue(1);
+        assertThat(staleDestinationCache.getIfUsable(CACHE_KEY)).isSameAs(current);
+    }
+
+    @Test
+    void testChangedDestinationIsNotServed()
+    {
+        final Destination previous = destination("https://previous", LocalDateTime.now().plusHours(1L));
+        final Destination current = destination("https://current", LocalDateTime.now().plusHours(1L));
+        destinationCache.put(CACHE_KEY, previous);
+        staleDestinationCache.put(CACHE_KEY, previous);
+
+        final GetOrComputeAllDestinationsCommand getAllCommand = mock(GetOrComputeAllDestinationsCommand.class);
+        when(getAllCommand.execute()).thenReturn(Try.success(Collections.singletonList(current)));
+
+        final BiFunction<String, DestinationOptions, Destination> retriever = ( name, options ) -> {
+            retrievals.incrementAndGet();
+            return current;
+        };
+
+        assertThat(execute(retriever, getAllCommand).get()).isSameAs(current);
+        assertThat(retrievals).hasValue(1);
+    }
+
+    @Nonnull
+    private Try<Destination> execute(
+        @Nonnull final BiFunction<String, DestinationOptions, Destination> retriever,
+        final GetOrComputeAllDestinationsCommand getAllCommand )
+    {
+        return GetOrComputeSingleDestinationCommand
+            .prepareCommand(
+                DESTINATION_NAME,
+                EMPTY_OPTIONS,
+                destinationCache,
+                isolationLocks,
+                retriever,
+                getAllCommand,
+                staleDestinationCache)
+            .flatMap(GetOrComputeSingleDestinationCommand::execute);
+    }
+
+    @Nonnull
+    private static Destination destination( @Nonnull final String url, @Nonnull final LocalDateTime tokenExpiry )
+    {
+        final DestinationServiceV1Response.DestinationAuthToken authToken =
+            new DestinationServiceV1Response.DestinationAuthToken();
+        authToken.setExpiryTimestamp(tokenExpiry);
+        final Collection<String> relevantProperties =
+            new ArrayList<>(Arrays.asList(DestinationProperty.NAME.getKeyName(), DestinationProperty.URI.getKeyName()));
+        return DefaultHttpDestination
+            .builder(url)
+            .name(DESTINATION_NAME)
+            .property(DestinationProperty.AUTH_TOKENS, List.of(authToken))
+            .property(DestinationProperty.PROPERTIES_FOR_CHANGE_DETECTION, relevantProperties)
+            .build();
+    }
+
+    @SneakyThrows
+    private static void await( @Nonnull final CountDownLatch latch )
+    {
+        latch.await();
+    }
+}
@@ -2,34 +2,63 @@ package com.sap.cloud.sdk.cloudplatform.connectivity;
 
 import static java.util.Collections.singletonList;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
 import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+import com.sap.cloud.security.xsuaa.client.OAuth2TokenResponse;
 
 import io.vavr.control.Option;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
-class OAuth2HeaderProvider implements DestinationHeaderProvider
+class OAuth2HeaderProvider implements CacheableDestinationHeaderProvider
 {
     @Nonnull
     private final OAuth2Service oauth2service;
     @Nonnull
     private final String authHeaderName;
 
+    @Nullable
+    @Override
+    public Object getCacheScope( @Nonnull final DestinationRequestContext requestContext )
+    {
+        // tokens of named users depend on the token of the current user
+        if( oauth2service.getOnBehalfOf() == OnBehalfOf.NAMED_USER_CURRENT_TENANT ) {
+            return null;
+        }
+        // the tenant is part of the scope in any case, so that the tenant consistency is asserted for every tenant.
+        // the generation of the token cache is part of the scope, so that invalidating the cache takes effect.
+        final String tenantId = TenantAccessor.tryGetCurrentTenant().map(Tenant::getTenantId).getOrElse("");
+        return List.of(tenantId, OAuth2Service.getTokenCacheGeneration());
+    }
+
     @Nonnull
     @Override
-    public List<Header> getHeaders( @Nonnull final DestinationRequestContext requestContext )
+    public CacheableHeaders getCacheableHeaders( @Nonnull final DestinationRequestContext requestContext )
     {
         final DestinationProperties destination = requestContext.getDestination();
         assertTenantRemainedConsistent(destination);
 
-        final String accessToken = oauth2service.retrieveAccessToken();
+        final OAuth2TokenResponse tokenResponse = oauth2service.retrieveAccessTokenResponse();
+        final Header header = new Header(authHeaderName, "Bearer " + tokenResponse.getAccessToken());
 
-        return singletonList(new Header(authHeaderName, "Bearer " + accessToken));
+        // the header is not reused once the token is almost expired, matching the token cache
+        final Duration expirationDelta = oauth2service.getTokenCacheParameters().getTokenExpirationDelta();
+        final Instant expiry = tokenResponse.getExpiredAt().minus(expirationDelta);
+        if( OAuth2TokenRefresher.getInstanceIfEnabled() == null ) {
+            return CacheableHeaders.until(singletonList(header), expiry);
+        }
+        // the refresher renews the token after a share of its remaining lifetime, so the header is not reused beyond it
+        final Instant now = Instant.now();
+        final long remainingMillis = Math.max(0L, Duration.between(now, tokenResponse.getExpiredAt()).toMillis());
+        final Instant refreshAt = now.plusMillis((long) (remainingMillis * OAuth2TokenRefresher.MIN_REFRESH_RATIO));
+        return CacheableHeaders.until(singletonList(header), refreshAt.isBefore(expiry) ? refreshAt : expiry);
     }
 
     private void assertTenantRemainedConsistent( @Nonnull final DestinationProperties destination )
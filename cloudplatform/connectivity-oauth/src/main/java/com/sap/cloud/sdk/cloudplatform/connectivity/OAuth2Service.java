@@ -5,7 +5,9 @@ import static com.sap.cloud.security.xsuaa.util.UriUtil.expandPath;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -15,6 +17,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.sap.cloud.environment.servicebinding.api.ServiceIdentifier;
 import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
 import com.sap.cloud.sdk.cloudplatform.cache.CacheManager;
@@ -73,25 +76,57 @@ class OAuth2Service
      */
     static final Cache<CacheKey, OAuth2TokenService> tokenServiceCache;
 
+    /**
+     * Incremented whenever an {@code OAuth2TokenService}, and with it its response cache, is explicitly invalidated in
+     * the {@link #tokenServiceCache}, for example by the {@link CacheManager}. Headers derived from cached tokens must
+     * not be reused across generations. Token services that expire after one hour without access do not increment the
+     * generation, since the tokens of reused headers are still valid.
+     */
+    private static final AtomicLong tokenCacheGeneration = new AtomicLong();
+
     static {
-        tokenServiceCache = Caffeine.newBuilder().expireAfterAccess(1, TimeUnit.HOURS).build();
+        tokenServiceCache =
+            Caffeine
+                .newBuilder()
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                // notify synchronously, so that the generation is incremented once the invalidation returns
+                .executor(Runnable::run)
+                .<CacheKey, OAuth2TokenService> removalListener(( key, tokenService, cause ) -> {
+                    if( cause == RemovalCause.EXPLICIT ) {
+                        tokenCacheGeneration.incrementAndGet();
+                    }
+                })
+                .build();
         CacheManager.register(tokenServiceCache);
     }
 
+    /**
+     * Get the current generation of the token cache, which changes whenever cached tokens are invalidated.
+     *
+     * @return The current generation.
+     */
+    static long getTokenCacheGeneration()
+    {
+        return tokenCacheGeneration.get();
+    }
+
     @Nonnull
     private final URI tokenUri;
     @Nonnull
     private final ClientIdentity identity;
     @Nonnull
+    @Getter( AccessLevel.PACKAGE )
     private final OnBehalfOf onBehalfOf;
     @Nonnull
     private final TenantPropagationStrategy tenantPropagationStrategy;
     @Nonnull
+    @Getter( AccessLevel.PACKAGE )
     private final Map<String, String> additionalParameters;
     @Nonnull
     @Getter( AccessLevel.PACKAGE )
     private final ResilienceConfiguration resilienceConfiguration;
     @Nonnull
+    @Getter( AccessLevel.PACKAGE )
     private final TokenCacheParameters tokenCacheParameters;
 
     // package-private for testing
@@ -140,6 +175,17 @@ class OAuth2Service
 
     @Nonnull
     String retrieveAccessToken()
+    {
+        return retrieveAccessTokenResponse().getAccessToken();
+    }
+
+    /**
+     * Retrieve a token response that contains an access token.
+     *
+     * @return The token response.
+     */
+    @Nonnull
+    OAuth2TokenResponse retrieveAccessTokenResponse()
     {
         log
             .debug(
@@ -148,6 +194,11 @@ class OAuth2Service
                 onBehalfOf,
                 identity.getId());
 
+        final OAuth2TokenResponse refreshedToken = getRefreshedTokenOrNull();
+        if( refreshedToken != null ) {
+            return refreshedToken;
+        }
+
         final OAuth2TokenResponse tokenResponse = ResilienceDecorator.executeSupplier(() -> {
             switch( onBehalfOf ) {
                 case TECHNICAL_USER_PROVIDER:
@@ -174,7 +225,7 @@ class OAuth2Service
             log.debug(message + ": {}", tokenResponse);
             throw new DestinationOAuthTokenException(null, message);
         }
-        return accessToken;
+        return tokenResponse;
     }
 
     @Nullable
@@ -190,22 +241,71 @@ class OAuth2Service
         final String tenantId = getTenantIdOrNull(tenant);
         final String zidHeaderValue = getTenantHeaderOrNull(tenantId);
 
-        setAppTidInCaseOfIAS(tenantId);
+        final Map<String, String> parameters = getParameters(tenantId);
 
         final String tenantSubdomain = getTenantSubdomainOrNull(tenant);
         final OAuth2TokenService tokenService = getTokenService(tenantId);
 
-        return Try
-            .of(
-                () -> tokenService
-                    .retrieveAccessTokenViaClientCredentialsGrant(
-                        tokenUri,
-                        identity,
-                        zidHeaderValue,
-                        tenantSubdomain,
-                        additionalParameters,
-                        false))
-            .getOrElseThrow(e -> buildException(e, tenant));
+        final OAuth2TokenResponse response =
+            Try
+                .of(
+                    () -> tokenService
+                        .retrieveAccessTokenViaClientCredentialsGrant(
+                            tokenUri,
+                            identity,
+                            zidHeaderValue,
+                            tenantSubdomain,
+                            parameters,
+                            false))
+                .getOrElseThrow(e -> buildException(e, tenant));
+
+        final OAuth2TokenRefresher refresher = OAuth2TokenRefresher.getInstanceIfEnabled();
+        if( refresher != null && response != null && response.getAccessToken() != null ) {
+            // bypass the response cache, which would return the current token until it is (almost) expired
+            final Callable<OAuth2TokenResponse> tokenRetriever =
+                () -> ResilienceDecorator
+                    .executeCallable(
+                        () -> tokenService
+                            .retrieveAccessTokenViaClientCredentialsGrant(
+                                tokenUri,
+                                identity,
+                                zidHeaderValue,
+                                tenantSubdomain,
+                                parameters,
+                                true),
+                        resilienceConfiguration);
+            refresher
+                .register(
+                    getRefreshCacheKey(tenantId, parameters),
+                    response,
+                    tokenCacheParameters.getTokenExpirationDelta(),
+                    tokenRetriever);
+        }
+        return response;
+    }
+
+    @Nullable
+    private OAuth2TokenResponse getRefreshedTokenOrNull()
+    {
+        final OAuth2TokenRefresher refresher = OAuth2TokenRefresher.getInstanceIfEnabled();
+        if( refresher == null || onBehalfOf == OnBehalfOf.NAMED_USER_CURRENT_TENANT ) {
+            return null;
+        }
+        final String tenantId =
+            onBehalfOf == OnBehalfOf.TECHNICAL_USER_PROVIDER
+                ? null
+                : getTenantIdOrNull(TenantAccessor.tryGetCurrentTenant().getOrNull());
+        return refresher.getIfValid(getRefreshCacheKey(tenantId, getParameters(tenantId)));
+    }
+
+    @Nonnull
+    private
+        CacheKey
+        getRefreshCacheKey( @Nullable final String tenantId, @Nonnull final Map<String, String> parameters )
+    {
+        return CacheKey
+            .fromIds(tenantId, null)
+            .append(identity, tokenUri, tenantPropagationStrategy, Map.copyOf(parameters));
     }
 
     private TokenRequestFailedException buildException( @Nonnull final Throwable e, @Nullable final Tenant tenant )
@@ -222,17 +322,22 @@ class OAuth2Service
         return new TokenRequestFailedException(message, e);
     }
 
-    private void setAppTidInCaseOfIAS( @Nullable final String tenantId )
+    @Nonnull
+    private Map<String, String> getParameters( @Nullable final String tenantId )
     {
-        if( tenantPropagationStrategy == TenantPropagationStrategy.TENANT_SUBDOMAIN && tenantId != null ) {
-            // the IAS property supplier will have set this to the provider ID by default
-            // we have to override it here to match the current tenant, if the current tenant is defined
-            additionalParameters.put("app_tid", tenantId);
-            if( onBehalfOf == OnBehalfOf.NAMED_USER_CURRENT_TENANT ) {
-                // workaround until a fix is provided by IAS
-                additionalParameters.put("refresh_token", "0");
-            }
+        if( tenantPropagationStrategy != TenantPropagationStrategy.TENANT_SUBDOMAIN || tenantId == null ) {
+            return additionalParameters;
+        }
+        // the shared parameters are copied, since this service is used concurrently on behalf of different tenants
+        final Map<String, String> parameters = new HashMap<>(additionalParameters);
+        // the IAS property supplier will have set this to the provider ID by default
+        // we have to override it here to match the current tenant, if the current tenant is defined
+        parameters.put("app_tid", tenantId);
+        if( onBehalfOf == OnBehalfOf.NAMED_USER_CURRENT_TENANT ) {
+            // workaround until a fix is provided by IAS
+            parameters.put("refresh_token", "0");
         }
+        return parameters;
     }
 
     @Nullable
@@ -305,7 +410,7 @@ class OAuth2Service
         }
 
         final String tenantId = token.getAppTid();
-        setAppTidInCaseOfIAS(tenantId);
+        final Map<String, String> parameters = getParameters(tenantId);
         final OAuth2TokenService tokenService = getTokenService(tenantId);
         final String tenantSubdomain = getTenantSubdomainOrNull(maybeTenant.getOrNull());
 
@@ -317,7 +422,7 @@ class OAuth2Service
                         tokenUri,
                         identity,
                         token.getTokenValue(),
-                        additionalParameters,
+                        parameters,
                         false,
                         tenantId);
             case TENANT_SUBDOMAIN -> flow =
@@ -327,7 +432,7 @@ class OAuth2Service
                         identity,
                         token.getTokenValue(),
                         tenantSubdomain,
-                        additionalParameters,
+                        parameters,
                         false);
             default -> throw new DestinationAccessException(
                 "Unhandled TenantPropagation Strategy: %s.".formatted(tenantPropagationStrategy));
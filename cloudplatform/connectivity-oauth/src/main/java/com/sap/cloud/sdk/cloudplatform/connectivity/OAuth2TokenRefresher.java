@@ -0,0 +1,391 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheManager;
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantThreadContextListener;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutor;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
+import com.sap.cloud.security.xsuaa.client.OAuth2TokenResponse;
+
+import io.vavr.control.Try;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renews OAuth2 tokens of technical users in the background, before they expire.
+ * <p>
+ * By default, tokens are retrieved on the request path: Once a cached token is (almost) expired, the next request has
+ * to wait for a new token. When the background refresh is enabled, every combination of tenant, client identity and
+ * token URL that recently retrieved a token via the client credentials flow is considered active. Its token is
+ * retrieved again in the background after {@link #MIN_REFRESH_RATIO} to {@link #MAX_REFRESH_RATIO} of its lifetime. The
+ * random jitter spreads the refreshes of many tenants over time. The refreshes run asynchronously on the
+ * {@link ThreadContextExecutors#getExecutor() default executor}, so that a slow token service does not delay the
+ * refreshes of other tenants. Requests are served the current token without any locking, as long as it is valid.
+ * <p>
+ * Headers that a {@link DefaultHttpDestination} reuses for tokens of technical users are reused at most until
+ * {@link #MIN_REFRESH_RATIO} of the remaining token lifetime has passed, so that subsequent requests pick up the
+ * renewed token.
+ * <p>
+ * Tokens retrieved on behalf of a named user are not refreshed, since they depend on the token of the user.
+ *
+ * @since 5.23.0
+ */
+@Beta
+@Slf4j
+public final class OAuth2TokenRefresher
+{
+    // share of the token lifetime after which a token is retrieved again
+    static final double MIN_REFRESH_RATIO = 0.7;
+    static final double MAX_REFRESH_RATIO = 0.8;
+
+    private static final Duration CHECK_INTERVAL = Duration.ofSeconds(1L);
+    private static final Duration RETRY_INTERVAL = Duration.ofSeconds(10L);
+
+    // duration after which a token is considered inactive, if no request uses it
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30L);
+
+    private static final OAuth2TokenRefresher INSTANCE =
+        new OAuth2TokenRefresher(Instant::now, ThreadContextExecutors::execute);
+
+    static {
+        CacheManager.register(INSTANCE.activeTokens);
+    }
+
+    @Nonnull
+    private final Supplier<Instant> clock;
+    @Nonnull
+    private final BiConsumer<Runnable, ThreadContextExecutor> refreshExecutor;
+    @Nonnull
+    private final Cache<CacheKey, RefreshableToken> activeTokens =
+        Caffeine.newBuilder().expireAfterAccess(IDLE_TIMEOUT).build();
+    private final LongAdder successfulRefreshes = new LongAdder();
+    private final LongAdder failedRefreshes = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    @Nullable
+    private ScheduledExecutorService scheduler;
+
+    OAuth2TokenRefresher(
+        @Nonnull final Supplier<Instant> clock,
+        @Nonnull final BiConsumer<Runnable, ThreadContextExecutor> refreshExecutor )
+    {
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Enable the background refresh of OAuth2 tokens retrieved via the client credentials flow.
+     */
+    public static void enable()
+    {
+        INSTANCE.start();
+    }
+
+    /**
+     * Disable the background refresh of OAuth2 tokens. Tokens that were refreshed in the background are discarded.
+     */
+    public static void disable()
+    {
+        INSTANCE.stop();
+    }
+
+    /**
+     * Get the statistics of the background refresh, accumulated since the application started.
+     *
+     * @return The current statistics.
+     */
+    @Nonnull
+    public static Statistics getStatistics()
+    {
+        return INSTANCE.statistics();
+    }
+
+    /**
+     * Get the refresher, if the background refresh is enabled.
+     *
+     * @return The refresher, or {@code null} if the background refresh is disabled.
+     */
+    @Nullable
+    static OAuth2TokenRefresher getInstanceIfEnabled()
+    {
+        return INSTANCE.isStarted() ? INSTANCE : null;
+    }
+
+    synchronized boolean isStarted()
+    {
+        return scheduler != null;
+    }
+
+    synchronized void start()
+    {
+        if( scheduler != null ) {
+            return;
+        }
+        final long period = CHECK_INTERVAL.toMillis();
+        scheduler =
+            Executors
+                .newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("cloudsdk-oauth2-refresh-%d").setDaemon(true).build());
+        scheduler.scheduleWithFixedDelay(this::refreshDueTokens, period, period, TimeUnit.MILLISECONDS);
+        log.debug("Started background refresh of OAuth2 tokens.");
+    }
+
+    synchronized void stop()
+    {
+        if( scheduler != null ) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            log.debug("Stopped background refresh of OAuth2 tokens.");
+        }
+        activeTokens.invalidateAll();
+    }
+
+    /**
+     * Get the current token, if it is still valid.
+     *
+     * @param cacheKey
+     *            The cache key of the token.
+     * @return The current token, or {@code null} if there is none or it is (almost) expired.
+     */
+    @Nullable
+    OAuth2TokenResponse getIfValid( @Nonnull final CacheKey cacheKey )
+    {
+        final RefreshableToken token = activeTokens.getIfPresent(cacheKey);
+        if( token == null ) {
+            return null;
+        }
+        final OAuth2TokenResponse response = token.response;
+        return token.isValid(response, clock.get()) ? response : null;
+    }
+
+    /**
+     * Mark the token with the given cache key as actively used. Only the current tenant is captured, so that the token
+     * can be retrieved again in the background on behalf of the same tenant, without retaining the principal, the auth
+     * token or the headers of the current request.
+     *
+     * @param cacheKey
+     *            The cache key of the token.
+     * @param response
+     *            The token that was just retrieved.
+     * @param expirationDelta
+     *            The duration before the expiration of a token, after which it must no longer be used.
+     * @param tokenRetriever
+     *            Retrieves a new token from the OAuth2 service, bypassing any cache.
+     */
+    void register(
+        @Nonnull final CacheKey cacheKey,
+        @Nonnull final OAuth2TokenResponse response,
+        @Nonnull final Duration expirationDelta,
+        @Nonnull final Callable<OAuth2TokenResponse> tokenRetriever )
+    {
+        activeTokens
+            .get(
+                cacheKey,
+                key -> new RefreshableToken(
+                    key,
+                    newTenantContextExecutor(TenantAccessor.tryGetCurrentTenant().getOrNull()),
+                    tokenRetriever,
+                    expirationDelta))
+            .update(response, clock.get());
+    }
+
+    @Nonnull
+    private static ThreadContextExecutor newTenantContextExecutor( @Nullable final Tenant tenant )
+    {
+        final ThreadContextExecutor executor = ThreadContextExecutor.fromNewContext().withoutDefaultListeners();
+        return tenant == null ? executor : executor.withListeners(new TenantThreadContextListener(tenant));
+    }
+
+    // internal for testing
+    void refreshDueTokens()
+    {
+        // the scheduler only checks which tokens are due, the refreshes themselves run asynchronously
+        for( final RefreshableToken token : activeTokens.asMap().values() ) {
+            if( token.isRefreshDue(clock.get()) && token.refreshing.compareAndSet(false, true) ) {
+                try {
+                    refreshExecutor.accept(() -> refreshAndRelease(token), token.executor);
+                }
+                catch( final RuntimeException e ) {
+                    token.refreshing.set(false);
+                    log.warn("Failed to schedule the background refresh of an OAuth2 token.", e);
+                }
+            }
+        }
+    }
+
+    private void refreshAndRelease( @Nonnull final RefreshableToken token )
+    {
+        try {
+            refresh(token);
+        }
+        finally {
+            token.refreshing.set(false);
+        }
+    }
+
+    private void refresh( @Nonnull final RefreshableToken token )
+    {
+        final Instant scheduledAt = token.refreshAt;
+        final Try<OAuth2TokenResponse> response =
+            Try.of(token.tokenRetriever::call).filter(r -> r.getAccessToken() != null);
+        final Instant now = clock.get();
+
+        if( response.isFailure() ) {
+            retryLater(token, now, "Failed to refresh an OAuth2 token of tenant {} in the background. Retrying in {}.");
+            log.debug("Background refresh of OAuth2 token failed.", response.getCause());
+            return;
+        }
+        if( !token.update(response.get(), now) || !token.isValid(response.get(), now) ) {
+            retryLater(
+                token,
+                now,
+                "The OAuth2 service did not issue a newer, sufficiently long-lived token of tenant {} in the background. Retrying in {}.");
+            return;
+        }
+
+        final long lag = Math.max(0L, Duration.between(scheduledAt, now).toMillis());
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+        successfulRefreshes.increment();
+    }
+
+    private
+        void
+        retryLater( @Nonnull final RefreshableToken token, @Nonnull final Instant now, @Nonnull final String message )
+    {
+        failedRefreshes.increment();
+        token.postponeRefresh(now.plus(RETRY_INTERVAL));
+        log.warn(message, token.cacheKey.getTenantId().getOrElse("(none)"), RETRY_INTERVAL);
+    }
+
+    @Nonnull
+    Statistics statistics()
+    {
+        return new Statistics(
+            successfulRefreshes.sum(),
+            failedRefreshes.sum(),
+            activeTokens.estimatedSize(),
+            Duration.ofMillis(lastLagMillis.get()),
+            Duration.ofMillis(maxLagMillis.get()));
+    }
+
+    /**
+     * Statistics of the background refresh of OAuth2 tokens.
+     *
+     * @since 5.23.0
+     */
+    @Beta
+    @Value
+    public static class Statistics
+    {
+        /**
+         * The number of tokens that were refreshed in the background.
+         */
+        long successfulRefreshes;
+        /**
+         * The number of failed attempts to refresh a token in the background.
+         */
+        long failedRefreshes;
+        /**
+         * The approximate number of tokens that are currently refreshed in the background.
+         */
+        long activeTokens;
+        /**
+         * The delay between the scheduled and the actual completion of the most recent refresh.
+         */
+        @Nonnull
+        Duration lastRefreshLag;
+        /**
+         * The largest delay between the scheduled and the actual completion of a refresh.
+         */
+        @Nonnull
+        Duration maxRefreshLag;
+    }
+
+    @RequiredArgsConstructor( access = AccessLevel.PRIVATE )
+    private static final class RefreshableToken
+    {
+        @Nonnull
+        private final CacheKey cacheKey;
+        @Nonnull
+        private final ThreadContextExecutor executor;
+        @Nonnull
+        private final Callable<OAuth2TokenResponse> tokenRetriever;
+        @Nonnull
+        private final Duration expirationDelta;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        @Nullable
+        private volatile OAuth2TokenResponse response;
+        @Nonnull
+        private volatile Instant refreshAt = Instant.MIN;
+
+        /**
+         * Replace the current token, if the given one expires later.
+         *
+         * @return {@code true} if the token was replaced, {@code false} otherwise.
+         */
+        synchronized boolean update( @Nonnull final OAuth2TokenResponse newResponse, @Nonnull final Instant now )
+        {
+            final OAuth2TokenResponse current = response;
+            if( current != null && !newResponse.getExpiredAt().isAfter(current.getExpiredAt()) ) {
+                return false;
+            }
+            final Duration lifetime = Duration.between(now, newResponse.getExpiredAt());
+            final double ratio = ThreadLocalRandom.current().nextDouble(MIN_REFRESH_RATIO, MAX_REFRESH_RATIO);
+            final Instant jittered = now.plusMillis((long) (Math.max(0L, lifetime.toMillis()) * ratio));
+            final Instant latest = newResponse.getExpiredAt().minus(expirationDelta);
+            // short-lived tokens must not be refreshed on every check
+            final Instant earliest = now.plus(RETRY_INTERVAL);
+
+            response = newResponse;
+            refreshAt = max(earliest, jittered.isBefore(latest) ? jittered : latest);
+            return true;
+        }
+
+        synchronized void postponeRefresh( @Nonnull final Instant earliest )
+        {
+            refreshAt = max(earliest, refreshAt);
+        }
+
+        @Nonnull
+        private static Instant max( @Nonnull final Instant first, @Nonnull final Instant second )
+        {
+            return first.isAfter(second) ? first : second;
+        }
+
+        boolean isValid( @Nullable final OAuth2TokenResponse response, @Nonnull final Instant now )
+        {
+            return response != null && response.getExpiredAt().minus(expirationDelta).isAfter(now);
+        }
+
+        boolean isRefreshDue( @Nonnull final Instant now )
+        {
+            return !refreshAt.isAfter(now);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import com.auth0.jwt.JWT;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheManager;
 import com.sap.cloud.sdk.testutil.TestContext;
 import com.sap.cloud.security.config.ClientCredentials;
 import com.sap.cloud.security.config.Service;
@@ -84,6 +85,28 @@ class OAuth2DestinationBuilderTest
         verify(1, getRequestedFor(urlEqualTo("/technical")).withHeader("Authorization", equalTo("Bearer TECHNICAL")));
     }
 
+    @Test
+    void testInvalidatedCachesDiscardReusedHeaders( @Nonnull final WireMockRuntimeInfo wm )
+    {
+        final HttpDestination destination =
+            OAuth2DestinationBuilder
+                .forTargetUrl(wm.getHttpBaseUrl())
+                .withTokenEndpoint(wm.getHttpBaseUrl())
+                .withClient(new ClientCredentials("invalidated", "clientsecret"), OnBehalfOf.TECHNICAL_USER_PROVIDER)
+                .build();
+
+        assertThat(destination.getHeaders()).containsExactly(new Header("Authorization", "Bearer TECHNICAL"));
+        destination.getHeaders();
+        verify(1, postRequestedFor(urlEqualTo("/oauth/token")));
+
+        stubFor(
+            post(urlEqualTo("/oauth/token")).willReturn(okJson("{\"access_token\":\"RENEWED\",\"expires_in\":3600}")));
+        CacheManager.invalidateAll();
+
+        assertThat(destination.getHeaders()).containsExactly(new Header("Authorization", "Bearer RENEWED"));
+        verify(2, postRequestedFor(urlEqualTo("/oauth/token")));
+    }
+
     @SneakyThrows
     @Test
     void testClientCredentialsNamedUser( @Nonnull final WireMockRuntimeInfo wm )
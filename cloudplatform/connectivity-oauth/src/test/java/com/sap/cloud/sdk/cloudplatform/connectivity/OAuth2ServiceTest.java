@@ -10,6 +10,7 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static com.sap.cloud.sdk.cloudplatform.connectivity.OnBehalfOf.NAMED_USER_CURRENT_TENANT;
 import static com.sap.cloud.sdk.cloudplatform.connectivity.OnBehalfOf.TECHNICAL_USER_PROVIDER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -26,6 +27,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -187,6 +189,8 @@ class OAuth2ServiceTest
                     postRequestedFor(urlEqualTo("/oauth/token")).withRequestBody(containing("app_tid=provider")));
             SERVER_1.verify(1, postRequestedFor(urlEqualTo("/oauth/token")).withRequestBody(containing("app_tid=t1")));
             SERVER_1.verify(1, postRequestedFor(urlEqualTo("/oauth/token")).withRequestBody(containing("app_tid=t2")));
+            // the tenant specific parameters are not written to the parameters shared by all tenants
+            assertThat(service.getAdditionalParameters()).containsExactly(entry("app_tid", "provider"));
         }
         {
             // behalf provider
@@ -392,6 +396,63 @@ class OAuth2ServiceTest
         assertThat(CacheManager.getCacheList()).contains(OAuth2Service.tokenServiceCache);
     }
 
+    @Test
+    void testBackgroundTokenRefresh()
+    {
+        OAuth2TokenRefresher.enable();
+        try {
+            final OAuth2Service service =
+                OAuth2Service
+                    .builder()
+                    .withTokenUri(SERVER_1.baseUrl())
+                    .withIdentity(IDENTITY_1)
+                    .withOnBehalfOf(TECHNICAL_USER_PROVIDER)
+                    .build();
+
+            assertThat(service.retrieveAccessToken()).isEqualTo(TOKEN_1);
+            assertThat(OAuth2TokenRefresher.getStatistics().getActiveTokens()).isEqualTo(1L);
+
+            // the token is served by the refresher, even if the response cache is cleared
+            OAuth2Service.tokenServiceCache.invalidateAll();
+            assertThat(service.retrieveAccessToken()).isEqualTo(TOKEN_1);
+            SERVER_1.verify(1, postRequestedFor(urlEqualTo("/oauth/token")));
+
+        }
+        finally {
+            OAuth2TokenRefresher.disable();
+        }
+        assertThat(OAuth2TokenRefresher.getStatistics().getActiveTokens()).isZero();
+    }
+
+    @Test
+    void testReusedHeadersDoNotOutliveBackgroundRefresh()
+    {
+        final OAuth2Service service =
+            OAuth2Service
+                .builder()
+                .withTokenUri(SERVER_1.baseUrl())
+                .withIdentity(IDENTITY_1)
+                .withOnBehalfOf(TECHNICAL_USER_PROVIDER)
+                .build();
+        final OAuth2HeaderProvider headerProvider = new OAuth2HeaderProvider(service, "Authorization");
+        final DestinationRequestContext requestContext =
+            new DestinationRequestContext(DefaultHttpDestination.builder(SERVER_1.baseUrl()).build(), URI.create("/"));
+
+        // without the refresher, the header is reused until the token is almost expired
+        assertThat(headerProvider.getCacheableHeaders(requestContext).getExpiry())
+            .isAfter(Instant.now().plus(Duration.ofMinutes(55)));
+
+        OAuth2TokenRefresher.enable();
+        try {
+            // with the refresher, the header is reused at most until the token may have been renewed
+            assertThat(headerProvider.getCacheableHeaders(requestContext).getExpiry())
+                .isBefore(Instant.now().plus(Duration.ofMinutes(43)));
+        }
+        finally {
+            OAuth2TokenRefresher.disable();
+        }
+    }
+
     @Test
     void testZeroTrustClientIdentity()
         throws KeyStoreException,
@@ -0,0 +1,245 @@
+package com.sap.cloud.sdk.cloudplatform.connectivity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.security.principal.DefaultPrincipal;
+import com.sap.cloud.sdk.cloudplatform.security.principal.Principal;
+import com.sap.cloud.sdk.cloudplatform.security.principal.PrincipalAccessor;
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+import com.sap.cloud.security.xsuaa.client.OAuth2ServiceException;
+import com.sap.cloud.security.xsuaa.client.OAuth2TokenResponse;
+
+import io.vavr.control.Try;
+
+class OAuth2TokenRefresherTest
+{
+    private static final Duration LIFETIME = Duration.ofHours(1L);
+    private static final Duration EXPIRATION_DELTA = Duration.ofSeconds(30L);
+    private static final CacheKey T1_KEY = CacheKey.fromIds("tenant-1", null).append("client-1");
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-01-01T00:00:00Z"));
+    private final AtomicInteger retrievals = new AtomicInteger();
+    private final AtomicReference<Callable<OAuth2TokenResponse>> retrieval = new AtomicReference<>();
+
+    private OAuth2TokenRefresher sut;
+
+    @BeforeEach
+    void setup()
+    {
+        sut = new OAuth2TokenRefresher(now::get, ( command, executor ) -> command.run());
+        retrieval.set(() -> token("refreshed"));
+    }
+
+    @Test
+    void testTokenIsRefreshedBeforeExpiration()
+    {
+        final OAuth2TokenResponse initial = token("initial");
+        register(initial);
+
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(0);
+        assertThat(sut.getIfValid(T1_KEY)).isSameAs(initial);
+
+        // before the earliest refresh time
+        advance(Duration.ofMinutes(41L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(0);
+
+        // after the latest refresh time
+        advance(Duration.ofMinutes(8L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+        assertThat(sut.getIfValid(T1_KEY))
+            .isNotNull()
+            .extracting(OAuth2TokenResponse::getAccessToken)
+            .isEqualTo("refreshed");
+
+        final OAuth2TokenRefresher.Statistics statistics = sut.statistics();
+        assertThat(statistics.getSuccessfulRefreshes()).isEqualTo(1L);
+        assertThat(statistics.getFailedRefreshes()).isZero();
+        assertThat(statistics.getActiveTokens()).isEqualTo(1L);
+        assertThat(statistics.getLastRefreshLag()).isPositive().isLessThanOrEqualTo(Duration.ofMinutes(7L));
+        assertThat(statistics.getMaxRefreshLag()).isEqualTo(statistics.getLastRefreshLag());
+    }
+
+    @Test
+    void testFailedRefreshKeepsTokenUntilExpiration()
+    {
+        final OAuth2TokenResponse initial = token("initial");
+        register(initial);
+        retrieval.set(() -> {
+            throw new OAuth2ServiceException("OAuth2 service unavailable");
+        });
+
+        advance(Duration.ofMinutes(50L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+        assertThat(sut.getIfValid(T1_KEY)).isSameAs(initial);
+
+        // the refresh is retried later, not on every check
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+        advance(Duration.ofSeconds(10L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(2);
+        assertThat(sut.statistics().getFailedRefreshes()).isEqualTo(2L);
+        assertThat(sut.statistics().getSuccessfulRefreshes()).isZero();
+
+        // the token is not served within the expiration delta
+        advance(Duration.ofMinutes(10L).minus(Duration.ofSeconds(40L)));
+        assertThat(sut.getIfValid(T1_KEY)).isNull();
+    }
+
+    @Test
+    void testRefreshWithoutNewerTokenIsRetriedLater()
+    {
+        final OAuth2TokenResponse initial = token("initial");
+        register(initial);
+        retrieval.set(() -> initial);
+
+        advance(Duration.ofMinutes(50L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+        assertThat(sut.getIfValid(T1_KEY)).isSameAs(initial);
+
+        // the refresh is retried later, not on every check
+        advance(Duration.ofSeconds(9L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+        advance(Duration.ofSeconds(1L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(2);
+        assertThat(sut.statistics().getFailedRefreshes()).isEqualTo(2L);
+        assertThat(sut.statistics().getSuccessfulRefreshes()).isZero();
+    }
+
+    @Test
+    void testShortLivedTokenIsNotRefreshedOnEveryCheck()
+    {
+        // tokens living no longer than the expiration delta are due for a refresh right away
+        register(token("initial", EXPIRATION_DELTA));
+        retrieval.set(() -> token("short-lived", EXPIRATION_DELTA));
+
+        sut.refreshDueTokens();
+        advance(Duration.ofSeconds(9L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(0);
+
+        advance(Duration.ofSeconds(1L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+        assertThat(sut.getIfValid(T1_KEY)).isNull();
+
+        advance(Duration.ofSeconds(9L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(1);
+
+        retrieval.set(() -> token("refreshed"));
+        advance(Duration.ofSeconds(1L));
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(2);
+        assertThat(sut.getIfValid(T1_KEY))
+            .isNotNull()
+            .extracting(OAuth2TokenResponse::getAccessToken)
+            .isEqualTo("refreshed");
+        assertThat(sut.statistics().getFailedRefreshes()).isEqualTo(1L);
+        assertThat(sut.statistics().getSuccessfulRefreshes()).isEqualTo(1L);
+    }
+
+    @Test
+    void testOlderTokenDoesNotReplaceCurrentToken()
+    {
+        final OAuth2TokenResponse initial = token("initial");
+        register(initial);
+
+        advance(Duration.ofMinutes(1L));
+        final OAuth2TokenResponse newer = token("newer");
+        register(newer);
+        register(initial);
+
+        assertThat(sut.getIfValid(T1_KEY)).isSameAs(newer);
+        assertThat(sut.getIfValid(CacheKey.fromIds("tenant-2", null).append("client-1"))).isNull();
+    }
+
+    @Test
+    void testStoppedRefresherForgetsActiveTokens()
+    {
+        register(token("initial"));
+
+        sut.start();
+        assertThat(sut.isStarted()).isTrue();
+        sut.stop();
+        assertThat(sut.isStarted()).isFalse();
+
+        advance(LIFETIME);
+        sut.refreshDueTokens();
+        assertThat(retrievals).hasValue(0);
+        assertThat(sut.getIfValid(T1_KEY)).isNull();
+    }
+
+    @Test
+    void testRefreshCapturesOnlyTheTenant()
+    {
+        sut = new OAuth2TokenRefresher(now::get, ( command, executor ) -> executor.execute(command::run));
+        final AtomicReference<Tenant> tenant = new AtomicReference<>();
+        final AtomicReference<Try<Principal>> principal = new AtomicReference<>();
+        retrieval.set(() -> {
+            tenant.set(TenantAccessor.getCurrentTenant());
+            principal.set(PrincipalAccessor.tryGetCurrentPrincipal());
+            return token("refreshed");
+        });
+
+        TenantAccessor
+            .executeWithTenant(
+                new DefaultTenant("tenant-1"),
+                () -> PrincipalAccessor
+                    .executeWithPrincipal(new DefaultPrincipal("user"), () -> register(token("initial"))));
+
+        advance(LIFETIME.minus(Duration.ofMinutes(5L)));
+        sut.refreshDueTokens();
+
+        assertThat(retrievals).hasValue(1);
+        assertThat(tenant.get()).isEqualTo(new DefaultTenant("tenant-1"));
+        assertThat(principal.get().isFailure()).isTrue();
+    }
+
+    private void register( @Nonnull final OAuth2TokenResponse response )
+    {
+        sut.register(T1_KEY, response, EXPIRATION_DELTA, () -> {
+            retrievals.incrementAndGet();
+            return retrieval.get().call();
+        });
+    }
+
+    private void advance( @Nonnull final Duration duration )
+    {
+        now.updateAndGet(instant -> instant.plus(duration));
+    }
+
+    @Nonnull
+    private OAuth2TokenResponse token( @Nonnull final String accessToken )
+    {
+        return token(accessToken, LIFETIME);
+    }
+
+    @Nonnull
+    private OAuth2TokenResponse token( @Nonnull final String accessToken, @Nonnull final Duration lifetime )
+    {
+        final Duration remaining = Duration.between(Instant.now(), now.get().plus(lifetime));
+        return new OAuth2TokenResponse(accessToken, remaining.getSeconds(), null);
+    }
+}
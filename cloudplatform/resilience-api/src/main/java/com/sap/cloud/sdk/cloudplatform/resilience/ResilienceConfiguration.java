@@ -197,6 +197,15 @@ public class ResilienceConfiguration
         @Nonnull
         private CacheExpirationStrategy expirationStrategy = DEFAULT_EXPIRATION_STRATEGY;
 
+        /**
+         * Duration before expiration at which a cached value is recomputed asynchronously, while the previous value is
+         * still served. A duration of zero disables the refresh-ahead behavior.
+         *
+         * @since 5.23.0
+         */
+        @Nonnull
+        private Duration refreshAheadDuration = Duration.ZERO;
+
         /**
          * Additional parameters added to the cache key.
          */
@@ -248,6 +257,8 @@ public class ResilienceConfiguration
 
             private CacheExpirationStrategy expirationStrategy = DEFAULT_EXPIRATION_STRATEGY;
 
+            private Duration refreshAheadDuration = Duration.ZERO;
+
             /**
              * Setter to set the Expiration Strategy for the cache configuration
              *
@@ -263,6 +274,32 @@ public class ResilienceConfiguration
                 return this;
             }
 
+            /**
+             * Enable refresh-ahead for the cache configuration. Once a cached value is about to expire within the given
+             * duration, the next access triggers an asynchronous recomputation of the value while the previous value is
+             * still returned. Refresh-ahead only applies to the expiration strategies
+             * {@link CacheExpirationStrategy#WHEN_CREATED} and {@link CacheExpirationStrategy#WHEN_LAST_MODIFIED}.
+             *
+             * @param refreshAheadDuration
+             *            The duration before expiration at which a cached value should be refreshed. Must be shorter
+             *            than the expiration duration.
+             * @return The cache configuration builder instance
+             * @throws IllegalArgumentException
+             *             If the given duration is negative or not shorter than the expiration duration.
+             * @since 5.23.0
+             */
+            @Nonnull
+            public CacheConfigurationBuilder withRefreshAhead( @Nonnull final Duration refreshAheadDuration )
+            {
+                if( refreshAheadDuration.isNegative() || refreshAheadDuration.compareTo(expirationDuration) >= 0 ) {
+                    throw new IllegalArgumentException(
+                        "Refresh-ahead duration must not be negative and must be shorter than the expiration "
+                            + "duration.");
+                }
+                this.refreshAheadDuration = refreshAheadDuration;
+                return this;
+            }
+
             /**
              * Instantiate the cache configuration with additional serializable parameters for the cache key.
              *
@@ -279,7 +316,13 @@ public class ResilienceConfiguration
             {
                 final List<Object> components = Lists.newArrayList(component);
                 Collections.addAll(components, otherComponents);
-                return new CacheConfiguration(true, true, expirationDuration, expirationStrategy, components);
+                return new CacheConfiguration(
+                    true,
+                    true,
+                    expirationDuration,
+                    expirationStrategy,
+                    refreshAheadDuration,
+                    components);
             }
 
             /**
@@ -298,7 +341,13 @@ public class ResilienceConfiguration
             {
                 final List<Object> components = Lists.newArrayList(component);
                 Collections.addAll(components, otherComponents);
-                return new CacheConfiguration(true, false, expirationDuration, expirationStrategy, components);
+                return new CacheConfiguration(
+                    true,
+                    false,
+                    expirationDuration,
+                    expirationStrategy,
+                    refreshAheadDuration,
+                    components);
             }
 
             /**
@@ -314,6 +363,7 @@ public class ResilienceConfiguration
                     true,
                     expirationDuration,
                     expirationStrategy,
+                    refreshAheadDuration,
                     Collections.emptyList());
             }
         }
@@ -2,6 +2,7 @@ package com.sap.cloud.sdk.cloudplatform.resilience;
 
 import static com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.CacheConfiguration;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 
@@ -66,4 +67,21 @@ class ResilienceConfigurationTest
         assertThat(ResilienceConfiguration.RetryConfiguration.of(5))
             .hasSameHashCodeAs(ResilienceConfiguration.RetryConfiguration.of(5));
     }
+
+    @Test
+    void testCacheConfigurationRefreshAhead()
+    {
+        final CacheConfiguration defaultConfig = CacheConfiguration.of(Duration.ofHours(1)).withoutParameters();
+        assertThat(defaultConfig.refreshAheadDuration()).isZero();
+
+        final CacheConfiguration refreshAheadConfig =
+            CacheConfiguration.of(Duration.ofHours(1)).withRefreshAhead(Duration.ofMinutes(5)).withoutParameters();
+        assertThat(refreshAheadConfig.refreshAheadDuration()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(refreshAheadConfig).isNotEqualTo(defaultConfig);
+
+        assertThatThrownBy(() -> CacheConfiguration.of(Duration.ofHours(1)).withRefreshAhead(Duration.ofHours(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheConfiguration.of(Duration.ofHours(1)).withRefreshAhead(Duration.ofMinutes(-1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
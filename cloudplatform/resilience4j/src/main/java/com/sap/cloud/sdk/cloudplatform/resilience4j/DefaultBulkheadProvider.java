@@ -1,8 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.resilience4j;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
 
@@ -20,12 +19,58 @@ public class DefaultBulkheadProvider implements BulkheadProvider, GenericDecorat
 {
     private static final BulkheadConfig DEFAULT_BULK_HEAD_CONFIG = BulkheadConfig.custom().build();
 
-    private final ConcurrentMap<ResilienceIsolationKey, BulkheadRegistry> bulkheadRegistries =
-        new ConcurrentHashMap<>();
+    @Nonnull
+    private final ResilienceRegistryCache<BulkheadRegistry> bulkheadRegistries;
+
+    /**
+     * Creates a new provider that keeps up to 10,000 bulkhead registries, one per isolation key. Registries are evicted
+     * after one hour without access.
+     */
+    public DefaultBulkheadProvider()
+    {
+        this(ResilienceRegistryCache.DEFAULT_MAXIMUM_REGISTRIES, ResilienceRegistryCache.DEFAULT_REGISTRY_EXPIRATION);
+    }
+
+    /**
+     * Creates a new provider with a bounded number of bulkhead registries, one per isolation key.
+     * <p>
+     * <strong>Note:</strong> Evicting a registry discards the state of all bulkheads it contains. This includes
+     * invalidating the caches of a tenant or principal via the {@code CacheManager}. All providers with the same limits
+     * share their registries.
+     *
+     * @param maximumRegistries
+     *            The maximum number of registries kept at the same time. Least recently used registries are evicted
+     *            once this number is exceeded.
+     * @param registryExpiration
+     *            The duration after which a registry that has not been accessed is evicted.
+     * @throws IllegalArgumentException
+     *             If the maximum number of registries or the expiration is not positive.
+     * @since 5.23.0
+     */
+    public DefaultBulkheadProvider( final long maximumRegistries, @Nonnull final Duration registryExpiration )
+    {
+        bulkheadRegistries =
+            new ResilienceRegistryCache<>(
+                BulkheadRegistry.class,
+                maximumRegistries,
+                registryExpiration,
+                () -> BulkheadRegistry.of(DEFAULT_BULK_HEAD_CONFIG));
+    }
+
+    /**
+     * Returns the number of bulkhead registries currently kept by all providers with the same limits.
+     *
+     * @return The number of live registries.
+     * @since 5.23.0
+     */
+    public long getRegistryCount()
+    {
+        return bulkheadRegistries.getRegistryCount();
+    }
 
     private BulkheadRegistry getBulkheadRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
     {
-        return bulkheadRegistries.computeIfAbsent(isolationKey, ( k ) -> BulkheadRegistry.of(DEFAULT_BULK_HEAD_CONFIG));
+        return bulkheadRegistries.getRegistry(isolationKey);
     }
 
     @Nonnull
@@ -48,13 +93,19 @@ public class DefaultBulkheadProvider implements BulkheadProvider, GenericDecorat
         final ResilienceIsolationKey isolationKey = ResilienceIsolationKey.of(configuration.isolationMode());
         final BulkheadRegistry bulkheadRegistry = getBulkheadRegistry(isolationKey);
 
-        final BulkheadConfig customBulkheadConfig =
-            BulkheadConfig
-                .custom()
-                .maxConcurrentCalls(configuration.bulkheadConfiguration().maxConcurrentCalls())
-                .maxWaitDuration(configuration.bulkheadConfiguration().maxWaitDuration())
-                .build();
+        // the configuration is only required to create a new bulkhead, skip building it for existing ones
+        return bulkheadRegistry
+            .find(identifier)
+            .orElseGet(() -> bulkheadRegistry.bulkhead(identifier, newBulkheadConfig(configuration)));
+    }
 
-        return bulkheadRegistry.bulkhead(identifier, customBulkheadConfig);
+    @Nonnull
+    private static BulkheadConfig newBulkheadConfig( @Nonnull final ResilienceConfiguration configuration )
+    {
+        return BulkheadConfig
+            .custom()
+            .maxConcurrentCalls(configuration.bulkheadConfiguration().maxConcurrentCalls())
+            .maxWaitDuration(configuration.bulkheadConfiguration().maxWaitDuration())
+            .build();
     }
 }
@@ -1,11 +1,14 @@
 package com.sap.cloud.sdk.cloudplatform.resilience4j;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -42,6 +45,7 @@ import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationKey;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceRuntimeException;
 import com.sap.cloud.sdk.cloudplatform.security.principal.Principal;
 import com.sap.cloud.sdk.cloudplatform.tenant.Tenant;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -65,6 +69,14 @@ public class DefaultCachingDecorator implements GenericDecorator
     static final Cache<GenericCacheKey<?, ?>, Lock> lockCache =
         Caffeine.newBuilder().expireAfterAccess(java.time.Duration.ofMinutes(30)).build();
 
+    // Cache holding the point in time at which a cached value is due for an asynchronous refresh-ahead
+    // Visibility set to package-private to allow for testing
+    static final Cache<GenericCacheKey<?, ?>, Instant> refreshDueCache =
+        Caffeine.newBuilder().expireAfterAccess(java.time.Duration.ofMinutes(30)).build();
+
+    // Keys of cache entries that are currently being refreshed ahead of their expiration
+    private static final Set<GenericCacheKey<?, ?>> pendingRefreshes = ConcurrentHashMap.newKeySet();
+
     @Nonnull
     @Override
     public <T> Callable<T> decorateCallable(
@@ -134,28 +146,96 @@ public class DefaultCachingDecorator implements GenericDecorator
                 return callable.call();
             }
 
-            final GenericCacheKey<?, ?> lockCacheKey = determineLockCacheKey(configuration);
             final GenericCacheKey<?, ?> dataCacheKey = determineDataCacheKey(configuration);
-            final Lock lock = lockCache.get(lockCacheKey, mapKey -> new ReentrantLock());
             try {
-                lock.lock();
+                // optimistic read: cache hits are served without acquiring the lock
                 final T value = cache.get(dataCacheKey);
-                if( !isCachedValueValid(value) ) {
-                    final T actualValue = callable.call();
-                    cache.put(dataCacheKey, actualValue);
-                    return actualValue;
+                if( isCachedValueValid(value) ) {
+                    if( isRefreshAheadEnabled(cacheConfig) ) {
+                        final GenericCacheKey<?, ?> lockCacheKey = determineLockCacheKey(configuration);
+                        refreshAheadIfDue(callable, cacheConfig, cache, lockCacheKey, dataCacheKey);
+                    }
+                    return value;
                 }
-                return value;
+                final GenericCacheKey<?, ?> lockCacheKey = determineLockCacheKey(configuration);
+                return computeWithLock(callable, cacheConfig, cache, lockCacheKey, dataCacheKey, false);
             }
             catch( final Exception e ) {
                 throw new ResilienceRuntimeException(e);
             }
-            finally {
-                lock.unlock();
-            }
         };
     }
 
+    private <T> T computeWithLock(
+        @Nonnull final Callable<T> callable,
+        @Nonnull final ResilienceConfiguration.CacheConfiguration cacheConfig,
+        @Nonnull final javax.cache.Cache<GenericCacheKey<?, ?>, T> cache,
+        @Nonnull final GenericCacheKey<?, ?> lockCacheKey,
+        @Nonnull final GenericCacheKey<?, ?> dataCacheKey,
+        final boolean forceRefresh )
+        throws Exception
+    {
+        final Lock lock = lockCache.get(lockCacheKey, mapKey -> new ReentrantLock());
+        try {
+            lock.lock();
+            // re-check, the value might have been computed by another thread while waiting for the lock
+            final T value = forceRefresh ? null : cache.get(dataCacheKey);
+            if( !isCachedValueValid(value) ) {
+                final T actualValue = callable.call();
+                cache.put(dataCacheKey, actualValue);
+                if( isRefreshAheadEnabled(cacheConfig) ) {
+                    final Instant refreshDue =
+                        Instant.now().plus(cacheConfig.expirationDuration()).minus(cacheConfig.refreshAheadDuration());
+                    refreshDueCache.put(lockCacheKey, refreshDue);
+                }
+                return actualValue;
+            }
+            return value;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> void refreshAheadIfDue(
+        @Nonnull final Callable<T> callable,
+        @Nonnull final ResilienceConfiguration.CacheConfiguration cacheConfig,
+        @Nonnull final javax.cache.Cache<GenericCacheKey<?, ?>, T> cache,
+        @Nonnull final GenericCacheKey<?, ?> lockCacheKey,
+        @Nonnull final GenericCacheKey<?, ?> dataCacheKey )
+    {
+        final Instant refreshDue = refreshDueCache.getIfPresent(lockCacheKey);
+        if( refreshDue == null || Instant.now().isBefore(refreshDue) || !pendingRefreshes.add(lockCacheKey) ) {
+            return;
+        }
+        log.debug("Refreshing cache entry {} ahead of its expiration.", dataCacheKey);
+        try {
+            ThreadContextExecutors.execute(() -> {
+                try {
+                    computeWithLock(callable, cacheConfig, cache, lockCacheKey, dataCacheKey, true);
+                }
+                catch( final Exception e ) {
+                    log.debug("Failed to refresh cache entry {} ahead of its expiration.", dataCacheKey, e);
+                }
+                finally {
+                    pendingRefreshes.remove(lockCacheKey);
+                }
+            });
+        }
+        catch( final RuntimeException e ) {
+            pendingRefreshes.remove(lockCacheKey);
+            log.debug("Failed to schedule refresh of cache entry {} ahead of its expiration.", dataCacheKey, e);
+        }
+    }
+
+    private static boolean isRefreshAheadEnabled( @Nonnull final ResilienceConfiguration.CacheConfiguration config )
+    {
+        final CacheExpirationStrategy strategy = config.expirationStrategy();
+        return !config.refreshAheadDuration().isZero()
+            && (strategy == CacheExpirationStrategy.WHEN_CREATED
+                || strategy == CacheExpirationStrategy.WHEN_LAST_MODIFIED);
+    }
+
     private static GenericCacheKey<?, ?> determineLockCacheKey( final ResilienceConfiguration configuration )
     {
         return determineBaseCacheKey(configuration, true);
@@ -1,8 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.resilience4j;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
 
@@ -20,13 +19,58 @@ public class DefaultCircuitBreakerProvider implements CircuitBreakerProvider, Ge
 {
     private static final CircuitBreakerConfig DEFAULT_CIRCUIT_BREAKER_CONFIG = CircuitBreakerConfig.custom().build();
 
-    private final ConcurrentMap<ResilienceIsolationKey, CircuitBreakerRegistry> circuitBreakerRegistries =
-        new ConcurrentHashMap<>();
+    @Nonnull
+    private final ResilienceRegistryCache<CircuitBreakerRegistry> circuitBreakerRegistries;
+
+    /**
+     * Creates a new provider that keeps up to 10,000 circuit breaker registries, one per isolation key. Registries are
+     * evicted after one hour without access.
+     */
+    public DefaultCircuitBreakerProvider()
+    {
+        this(ResilienceRegistryCache.DEFAULT_MAXIMUM_REGISTRIES, ResilienceRegistryCache.DEFAULT_REGISTRY_EXPIRATION);
+    }
+
+    /**
+     * Creates a new provider with a bounded number of circuit breaker registries, one per isolation key.
+     * <p>
+     * <strong>Note:</strong> Evicting a registry discards the state of all circuit breakers it contains. This includes
+     * invalidating the caches of a tenant or principal via the {@code CacheManager}. All providers with the same limits
+     * share their registries.
+     *
+     * @param maximumRegistries
+     *            The maximum number of registries kept at the same time. Least recently used registries are evicted
+     *            once this number is exceeded.
+     * @param registryExpiration
+     *            The duration after which a registry that has not been accessed is evicted.
+     * @throws IllegalArgumentException
+     *             If the maximum number of registries or the expiration is not positive.
+     * @since 5.23.0
+     */
+    public DefaultCircuitBreakerProvider( final long maximumRegistries, @Nonnull final Duration registryExpiration )
+    {
+        circuitBreakerRegistries =
+            new ResilienceRegistryCache<>(
+                CircuitBreakerRegistry.class,
+                maximumRegistries,
+                registryExpiration,
+                () -> CircuitBreakerRegistry.of(DEFAULT_CIRCUIT_BREAKER_CONFIG));
+    }
+
+    /**
+     * Returns the number of circuit breaker registries currently kept by all providers with the same limits.
+     *
+     * @return The number of live registries.
+     * @since 5.23.0
+     */
+    public long getRegistryCount()
+    {
+        return circuitBreakerRegistries.getRegistryCount();
+    }
 
     private CircuitBreakerRegistry getCircuitBreakerRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
     {
-        return circuitBreakerRegistries
-            .computeIfAbsent(isolationKey, ( k ) -> CircuitBreakerRegistry.of(DEFAULT_CIRCUIT_BREAKER_CONFIG));
+        return circuitBreakerRegistries.getRegistry(isolationKey);
     }
 
     @Nonnull
@@ -37,18 +81,10 @@ public class DefaultCircuitBreakerProvider implements CircuitBreakerProvider, Ge
         final ResilienceIsolationKey isolationKey = ResilienceIsolationKey.of(configuration.isolationMode());
         final CircuitBreakerRegistry circuitBreakerRegistry = getCircuitBreakerRegistry(isolationKey);
 
-        final CircuitBreakerConfig customCircuitBreakerConfig =
-            CircuitBreakerConfig
-                .custom()
-                .failureRateThreshold(configuration.circuitBreakerConfiguration().failureRateThreshold())
-                .waitDurationInOpenState(configuration.circuitBreakerConfiguration().waitDuration())
-                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
-                .slidingWindowSize(configuration.circuitBreakerConfiguration().closedBufferSize())
-                .minimumNumberOfCalls(configuration.circuitBreakerConfiguration().closedBufferSize())
-                .permittedNumberOfCallsInHalfOpenState(configuration.circuitBreakerConfiguration().halfOpenBufferSize())
-                .build();
-
-        return circuitBreakerRegistry.circuitBreaker(identifier, customCircuitBreakerConfig);
+        // the configuration is only required to create a new circuit breaker, skip building it for existing ones
+        return circuitBreakerRegistry
+            .find(identifier)
+            .orElseGet(() -> circuitBreakerRegistry.circuitBreaker(identifier, newCircuitBreakerConfig(configuration)));
     }
 
     @Nonnull
@@ -62,4 +98,18 @@ public class DefaultCircuitBreakerProvider implements CircuitBreakerProvider, Ge
         }
         return CircuitBreaker.decorateCallable(getCircuitBreaker(configuration), callable);
     }
+
+    @Nonnull
+    private static CircuitBreakerConfig newCircuitBreakerConfig( @Nonnull final ResilienceConfiguration configuration )
+    {
+        return CircuitBreakerConfig
+            .custom()
+            .failureRateThreshold(configuration.circuitBreakerConfiguration().failureRateThreshold())
+            .waitDurationInOpenState(configuration.circuitBreakerConfiguration().waitDuration())
+            .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+            .slidingWindowSize(configuration.circuitBreakerConfiguration().closedBufferSize())
+            .minimumNumberOfCalls(configuration.circuitBreakerConfiguration().closedBufferSize())
+            .permittedNumberOfCallsInHalfOpenState(configuration.circuitBreakerConfiguration().halfOpenBufferSize())
+            .build();
+    }
 }
@@ -1,7 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.resilience4j;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -20,13 +20,57 @@ public class DefaultRateLimiterProvider implements RateLimiterProvider, GenericD
     private static final RateLimiterConfig DEFAULT_RATE_LIMITER_CONFIG = RateLimiterConfig.custom().build();
 
     @Nonnull
-    private final ConcurrentHashMap<ResilienceIsolationKey, RateLimiterRegistry> rateLimiterRegistries =
-        new ConcurrentHashMap<>();
+    private final ResilienceRegistryCache<RateLimiterRegistry> rateLimiterRegistries;
+
+    /**
+     * Creates a new provider that keeps up to 10,000 rate limiter registries, one per isolation key. Registries are
+     * evicted after one hour without access.
+     */
+    public DefaultRateLimiterProvider()
+    {
+        this(ResilienceRegistryCache.DEFAULT_MAXIMUM_REGISTRIES, ResilienceRegistryCache.DEFAULT_REGISTRY_EXPIRATION);
+    }
+
+    /**
+     * Creates a new provider with a bounded number of rate limiter registries, one per isolation key.
+     * <p>
+     * <strong>Note:</strong> Evicting a registry discards the state of all rate limiters it contains. This includes
+     * invalidating the caches of a tenant or principal via the {@code CacheManager}. All providers with the same limits
+     * share their registries.
+     *
+     * @param maximumRegistries
+     *            The maximum number of registries kept at the same time. Least recently used registries are evicted
+     *            once this number is exceeded.
+     * @param registryExpiration
+     *            The duration after which a registry that has not been accessed is evicted.
+     * @throws IllegalArgumentException
+     *             If the maximum number of registries or the expiration is not positive.
+     * @since 5.23.0
+     */
+    public DefaultRateLimiterProvider( final long maximumRegistries, @Nonnull final Duration registryExpiration )
+    {
+        rateLimiterRegistries =
+            new ResilienceRegistryCache<>(
+                RateLimiterRegistry.class,
+                maximumRegistries,
+                registryExpiration,
+                () -> RateLimiterRegistry.of(DEFAULT_RATE_LIMITER_CONFIG));
+    }
+
+    /**
+     * Returns the number of rate limiter registries currently kept by all providers with the same limits.
+     *
+     * @return The number of live registries.
+     * @since 5.23.0
+     */
+    public long getRegistryCount()
+    {
+        return rateLimiterRegistries.getRegistryCount();
+    }
 
     private RateLimiterRegistry getRateLimiterRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
     {
-        return rateLimiterRegistries
-            .computeIfAbsent(isolationKey, k -> RateLimiterRegistry.of(DEFAULT_RATE_LIMITER_CONFIG));
+        return rateLimiterRegistries.getRegistry(isolationKey);
     }
 
     @Nonnull
@@ -54,14 +98,20 @@ public class DefaultRateLimiterProvider implements RateLimiterProvider, GenericD
         final ResilienceIsolationKey isolationKey = ResilienceIsolationKey.of(configuration.isolationMode());
         final RateLimiterRegistry rateLimiterRegistry = getRateLimiterRegistry(isolationKey);
 
-        final RateLimiterConfig rateLimiterConfig =
-            RateLimiterConfig
-                .custom()
-                .limitRefreshPeriod(configuration.rateLimiterConfiguration().limitRefreshPeriod())
-                .limitForPeriod(configuration.rateLimiterConfiguration().limitForPeriod())
-                .timeoutDuration(configuration.rateLimiterConfiguration().timeoutDuration())
-                .build();
+        // the configuration is only required to create a new rate limiter, skip building it for existing ones
+        return rateLimiterRegistry
+            .find(identifier)
+            .orElseGet(() -> rateLimiterRegistry.rateLimiter(identifier, newRateLimiterConfig(configuration)));
+    }
 
-        return rateLimiterRegistry.rateLimiter(identifier, rateLimiterConfig);
+    @Nonnull
+    private static RateLimiterConfig newRateLimiterConfig( @Nonnull final ResilienceConfiguration configuration )
+    {
+        return RateLimiterConfig
+            .custom()
+            .limitRefreshPeriod(configuration.rateLimiterConfiguration().limitRefreshPeriod())
+            .limitForPeriod(configuration.rateLimiterConfiguration().limitForPeriod())
+            .timeoutDuration(configuration.rateLimiterConfiguration().timeoutDuration())
+            .build();
     }
 }
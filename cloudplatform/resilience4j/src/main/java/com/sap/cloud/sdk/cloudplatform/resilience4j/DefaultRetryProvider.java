@@ -1,8 +1,7 @@
 package com.sap.cloud.sdk.cloudplatform.resilience4j;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nonnull;
 
@@ -21,11 +20,58 @@ public class DefaultRetryProvider implements RetryProvider, GenericDecorator
 
     private static final RetryConfig DEFAULT_RETRY_CONFIG = RetryConfig.custom().build();
 
-    private final ConcurrentMap<ResilienceIsolationKey, RetryRegistry> retryRegistries = new ConcurrentHashMap<>();
+    @Nonnull
+    private final ResilienceRegistryCache<RetryRegistry> retryRegistries;
+
+    /**
+     * Creates a new provider that keeps up to 10,000 retry registries, one per isolation key. Registries are evicted
+     * after one hour without access.
+     */
+    public DefaultRetryProvider()
+    {
+        this(ResilienceRegistryCache.DEFAULT_MAXIMUM_REGISTRIES, ResilienceRegistryCache.DEFAULT_REGISTRY_EXPIRATION);
+    }
+
+    /**
+     * Creates a new provider with a bounded number of retry registries, one per isolation key.
+     * <p>
+     * <strong>Note:</strong> Evicting a registry discards the state of all retries it contains. This includes
+     * invalidating the caches of a tenant or principal via the {@code CacheManager}. All providers with the same limits
+     * share their registries.
+     *
+     * @param maximumRegistries
+     *            The maximum number of registries kept at the same time. Least recently used registries are evicted
+     *            once this number is exceeded.
+     * @param registryExpiration
+     *            The duration after which a registry that has not been accessed is evicted.
+     * @throws IllegalArgumentException
+     *             If the maximum number of registries or the expiration is not positive.
+     * @since 5.23.0
+     */
+    public DefaultRetryProvider( final long maximumRegistries, @Nonnull final Duration registryExpiration )
+    {
+        retryRegistries =
+            new ResilienceRegistryCache<>(
+                RetryRegistry.class,
+                maximumRegistries,
+                registryExpiration,
+                () -> RetryRegistry.of(DEFAULT_RETRY_CONFIG));
+    }
+
+    /**
+     * Returns the number of retry registries currently kept by all providers with the same limits.
+     *
+     * @return The number of live registries.
+     * @since 5.23.0
+     */
+    public long getRegistryCount()
+    {
+        return retryRegistries.getRegistryCount();
+    }
 
     private RetryRegistry getRetryRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
     {
-        return retryRegistries.computeIfAbsent(isolationKey, ( k ) -> RetryRegistry.of(DEFAULT_RETRY_CONFIG));
+        return retryRegistries.getRegistry(isolationKey);
     }
 
     @Nonnull
@@ -36,15 +82,10 @@ public class DefaultRetryProvider implements RetryProvider, GenericDecorator
         final ResilienceIsolationKey isolationKey = ResilienceIsolationKey.of(configuration.isolationMode());
         final RetryRegistry retryRegistry = getRetryRegistry(isolationKey);
 
-        final RetryConfig customRetryConfig =
-            RetryConfig
-                .custom()
-                .maxAttempts(configuration.retryConfiguration().maxAttempts())
-                .waitDuration(configuration.retryConfiguration().waitDuration())
-                .retryOnException(configuration.retryConfiguration().retryOnExceptionPredicate())
-                .build();
-
-        return retryRegistry.retry(identifier, customRetryConfig);
+        // the configuration is only required to create a new retry, skip building it for existing ones
+        return retryRegistry
+            .find(identifier)
+            .orElseGet(() -> retryRegistry.retry(identifier, newRetryConfig(configuration)));
     }
 
     @Nonnull
@@ -59,4 +100,15 @@ public class DefaultRetryProvider implements RetryProvider, GenericDecorator
         final Retry retry = getRetry(configuration);
         return Retry.decorateCallable(retry, callable);
     }
+
+    @Nonnull
+    private static RetryConfig newRetryConfig( @Nonnull final ResilienceConfiguration configuration )
+    {
+        return RetryConfig
+            .custom()
+            .maxAttempts(configuration.retryConfiguration().maxAttempts())
+            .waitDuration(configuration.retryConfiguration().waitDuration())
+            .retryOnException(configuration.retryConfiguration().retryOnExceptionPredicate())
+            .build();
+    }
 }
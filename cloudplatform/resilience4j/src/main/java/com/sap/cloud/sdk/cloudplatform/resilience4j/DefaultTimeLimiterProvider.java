@@ -1,11 +1,14 @@
 package com.sap.cloud.sdk.cloudplatform.resilience4j;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutor;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
@@ -18,6 +21,9 @@ import io.github.resilience4j.timelimiter.TimeLimiterConfig;
  */
 public class DefaultTimeLimiterProvider implements TimeLimiterProvider, GenericDecorator
 {
+    // Time limiters are stateless, so instances are shared between calls with equal time limiter settings
+    private final Cache<TimeLimiterKey, TimeLimiter> timeLimiters =
+        Caffeine.newBuilder().expireAfterAccess(Duration.ofMinutes(30)).build();
 
     @Nonnull
     @Override
@@ -42,13 +48,26 @@ public class DefaultTimeLimiterProvider implements TimeLimiterProvider, GenericD
         if( !configuration.timeLimiterConfiguration().isEnabled() ) {
             throw new IllegalArgumentException("The provided resilience configuration does not set a timeout.");
         }
-        return TimeLimiter
-            .of(
+        final TimeLimiterKey key =
+            new TimeLimiterKey(
                 configuration.identifier(),
-                TimeLimiterConfig
-                    .custom()
-                    .timeoutDuration(configuration.timeLimiterConfiguration().timeoutDuration())
-                    .cancelRunningFuture(configuration.timeLimiterConfiguration().shouldCancelRunningFuture())
-                    .build());
+                configuration.timeLimiterConfiguration().timeoutDuration(),
+                configuration.timeLimiterConfiguration().shouldCancelRunningFuture());
+
+        return timeLimiters
+            .get(
+                key,
+                k -> TimeLimiter
+                    .of(
+                        k.identifier(),
+                        TimeLimiterConfig
+                            .custom()
+                            .timeoutDuration(k.timeoutDuration())
+                            .cancelRunningFuture(k.cancelRunningFuture())
+                            .build()));
+    }
+
+    private record TimeLimiterKey( String identifier, Duration timeoutDuration, boolean cancelRunningFuture )
+    {
     }
 }
@@ -0,0 +1,83 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheKey;
+import com.sap.cloud.sdk.cloudplatform.cache.CacheManager;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationKey;
+
+/**
+ * Bounded cache of Resilience4j registries per {@link ResilienceIsolationKey}. Registries that have not been accessed
+ * for the configured duration are evicted, as well as the least recently used registries once the maximum number of
+ * registries is exceeded. The cache is registered with the {@link CacheManager}, so tenant and principal specific
+ * registries can be invalidated together with all other caches. Invalidating the caches via the {@link CacheManager}
+ * therefore also resets the state of the contained circuit breakers, bulkheads, rate limiters and retries.
+ * <p>
+ * The underlying cache is shared by all instances with the same registry type and limits, so that creating providers
+ * repeatedly does not register additional caches with the {@link CacheManager}.
+ *
+ * @param <T>
+ *            The type of the Resilience4j registry.
+ */
+class ResilienceRegistryCache<T>
+{
+    static final long DEFAULT_MAXIMUM_REGISTRIES = 10_000L;
+    static final Duration DEFAULT_REGISTRY_EXPIRATION = Duration.ofHours(1L);
+
+    // registered caches by registry type, maximum number of registries and expiration
+    private static final Map<List<Object>, Cache<CacheKey, ?>> SHARED_REGISTRIES = new ConcurrentHashMap<>();
+
+    @Nonnull
+    private final Cache<CacheKey, T> registries;
+
+    @Nonnull
+    private final Supplier<T> registryFactory;
+
+    @SuppressWarnings( "unchecked" ) // the registry type is part of the key of the shared cache
+    ResilienceRegistryCache(
+        @Nonnull final Class<T> registryType,
+        final long maximumRegistries,
+        @Nonnull final Duration registryExpiration,
+        @Nonnull final Supplier<T> registryFactory )
+    {
+        if( maximumRegistries <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of registries must be positive.");
+        }
+        if( registryExpiration.isNegative() || registryExpiration.isZero() ) {
+            throw new IllegalArgumentException("The registry expiration must be positive.");
+        }
+        this.registryFactory = registryFactory;
+        registries =
+            (Cache<CacheKey, T>) SHARED_REGISTRIES
+                .computeIfAbsent(
+                    List.of(registryType, maximumRegistries, registryExpiration),
+                    key -> CacheManager
+                        .register(
+                            Caffeine
+                                .newBuilder()
+                                .maximumSize(maximumRegistries)
+                                .expireAfterAccess(registryExpiration)
+                                .build()));
+    }
+
+    @Nonnull
+    T getRegistry( @Nonnull final ResilienceIsolationKey isolationKey )
+    {
+        final CacheKey cacheKey = CacheKey.of(isolationKey.getTenant(), isolationKey.getPrincipal());
+        return registries.get(cacheKey, k -> registryFactory.get());
+    }
+
+    long getRegistryCount()
+    {
+        registries.cleanUp();
+        return registries.estimatedSize();
+    }
+}
@@ -0,0 +1,110 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import static com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.CacheConfiguration;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.cache.Cache;
+import javax.cache.Caching;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sap.cloud.sdk.cloudplatform.cache.GenericCacheKey;
+import com.sap.cloud.sdk.cloudplatform.cache.SerializableCacheKey;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationKey;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationMode;
+
+/**
+ * JMH benchmark comparing the throughput of contended cache hits of the {@link DefaultCachingDecorator} against the
+ * previous behavior, where every cache hit acquired the per-key lock.
+ * <p>
+ * The benchmark is not executed as part of the test suite. Run it from the test classpath with
+ * {@code java -cp <test-classpath> org.openjdk.jmh.Main DefaultCachingDecoratorBenchmark}.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+@Threads( 16 )
+public class DefaultCachingDecoratorBenchmark
+{
+    private static final String IDENTIFIER = "benchmark.caching.contended.hit";
+
+    private Callable<String> decoratedCallable;
+    private Cache<GenericCacheKey<?, ?>, String> cache;
+
+    @Setup
+    public void setup()
+        throws Exception
+    {
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of(IDENTIFIER)
+                .isolationMode(ResilienceIsolationMode.NO_ISOLATION)
+                .cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withoutParameters());
+
+        decoratedCallable = new DefaultCachingDecorator().decorateCallable(() -> "value", configuration);
+        decoratedCallable.call();
+
+        cache = Caching.getCachingProvider().getCacheManager().getCache(IDENTIFIER);
+    }
+
+    /**
+     * Cache hit served by the {@link DefaultCachingDecorator} without acquiring the per-key lock.
+     *
+     * @return The cached value.
+     * @throws Exception
+     *             If the decorated callable fails.
+     */
+    @Benchmark
+    public String cacheHit()
+        throws Exception
+    {
+        return decoratedCallable.call();
+    }
+
+    /**
+     * Cache hit served while holding the per-key lock, as done before the optimistic read path was introduced.
+     *
+     * @return The cached value.
+     */
+    @Benchmark
+    public String cacheHitWithLock()
+    {
+        final GenericCacheKey<?, ?> lockCacheKey =
+            newCacheKey().append(Collections.emptyList()).append(Collections.singleton(IDENTIFIER));
+        final GenericCacheKey<?, ?> dataCacheKey = newCacheKey().append(Collections.emptyList());
+        final Lock lock = DefaultCachingDecorator.lockCache.get(lockCacheKey, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            return cache.get(dataCacheKey);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private static SerializableCacheKey newCacheKey()
+    {
+        final ResilienceIsolationKey isolation = ResilienceIsolationKey.of(ResilienceIsolationMode.NO_ISOLATION);
+        return SerializableCacheKey.of(isolation.getTenant(), isolation.getPrincipal());
+    }
+}
@@ -7,10 +7,13 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayDeque;
 import java.util.Arrays;
@@ -44,6 +47,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
+import com.sap.cloud.sdk.cloudplatform.cache.GenericCacheKey;
 import com.sap.cloud.sdk.cloudplatform.cache.SerializableCacheKey;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceDecorator;
@@ -72,6 +76,7 @@ class Resilience4jCachingDefaultProviderTest
         context.clearTenant();
         context.clearPrincipal();
         DefaultCachingDecorator.lockCache.invalidateAll();
+        DefaultCachingDecorator.refreshDueCache.invalidateAll();
     }
 
     @Test
@@ -464,6 +469,74 @@ class Resilience4jCachingDefaultProviderTest
         assertThat(DefaultCachingDecorator.lockCache.asMap()).hasSize(2);
     }
 
+    @Test
+    @SneakyThrows
+    void testCacheHitDoesNotAcquireLock()
+    {
+        final String identifier = "test.check.cache.hit.lock.free";
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of(identifier)
+                .cacheConfiguration(CacheConfiguration.of(Duration.ofHours(1)).withoutParameters());
+
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> decoratedCallable =
+            new DefaultCachingDecorator().decorateCallable(counter::incrementAndGet, configuration);
+
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+
+        final Lock customLock = mock(Lock.class);
+        DefaultCachingDecorator.lockCache
+            .put(SerializableCacheKey.of((Tenant) null, null).append(Collections.singleton(identifier)), customLock);
+
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+        verify(customLock, never()).lock();
+    }
+
+    @Test
+    @SneakyThrows
+    void testCacheRefreshAheadServesPreviousValue()
+    {
+        final String identifier = "test.check.cache.refresh.ahead";
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of(identifier)
+                .cacheConfiguration(
+                    CacheConfiguration
+                        .of(Duration.ofHours(1))
+                        .withRefreshAhead(Duration.ofMinutes(5))
+                        .withoutParameters());
+
+        final AtomicInteger counter = new AtomicInteger(0);
+        final Callable<Integer> decoratedCallable =
+            new DefaultCachingDecorator().decorateCallable(counter::incrementAndGet, configuration);
+
+        // entry is not yet due for a refresh
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+        assertThat(counter).hasValue(1);
+
+        final GenericCacheKey<?, ?> lockCacheKey =
+            SerializableCacheKey.of((Tenant) null, null).append(Collections.singleton(identifier));
+        assertThat(DefaultCachingDecorator.refreshDueCache.getIfPresent(lockCacheKey))
+            .isBetween(Instant.now().plus(Duration.ofMinutes(54)), Instant.now().plus(Duration.ofMinutes(55)));
+
+        // entry is due for a refresh, the previous value is still served
+        DefaultCachingDecorator.refreshDueCache.put(lockCacheKey, Instant.now().minusSeconds(1));
+        assertThat(decoratedCallable.call()).isEqualTo(1);
+
+        // the refreshed value eventually replaces the previous value
+        final Instant timeout = Instant.now().plusSeconds(5);
+        Integer value = decoratedCallable.call();
+        while( value == 1 && Instant.now().isBefore(timeout) ) {
+            Thread.sleep(10);
+            value = decoratedCallable.call();
+        }
+        assertThat(value).isEqualTo(2);
+        assertThat(counter).hasValue(2);
+    }
+
     @Test
     @Disabled( "Flaky test to provoke race potential conditions. For manual testing only" )
     void loadTestConcurrentCaching()
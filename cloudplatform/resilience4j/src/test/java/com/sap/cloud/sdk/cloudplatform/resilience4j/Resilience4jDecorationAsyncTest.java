@@ -8,10 +8,15 @@ import static com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration
 import static com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.TimeLimiterConfiguration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -164,6 +169,53 @@ class Resilience4jDecorationAsyncTest
         executor.shutdownNow();
     }
 
+    @Test
+    void testManyConcurrentTimeLimitedRequestsOnVirtualThreads()
+        throws ExecutionException,
+            InterruptedException
+    {
+        // virtual threads are only available from Java 21 on
+        assumeTrue(Runtime.version().feature() >= 21);
+
+        final int numCalls = 10_000;
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("test-virtual-thread-requests")
+                .timeLimiterConfiguration(TimeLimiterConfiguration.of(Duration.ofSeconds(30)))
+                .bulkheadConfiguration(BulkheadConfiguration.disabled());
+
+        ThreadContextExecutors.setExecutor(DefaultThreadContextExecutorService.ofVirtualThreads());
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        final int platformThreadsBefore = threadMXBean.getThreadCount();
+
+        // every call blocks until all calls are running, so they have to be executed concurrently
+        final CountDownLatch callsRunning = new CountDownLatch(numCalls);
+        final Supplier<String> blockingFunction = () -> {
+            callsRunning.countDown();
+            try {
+                return callsRunning.await(30, TimeUnit.SECONDS) ? SUCCESS : ERROR;
+            }
+            catch( final InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                return ERROR;
+            }
+        };
+
+        final long start = System.nanoTime();
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[numCalls];
+        for( int i = 0; i < numCalls; i++ ) {
+            futures[i] = ResilienceDecorator.queueSupplier(blockingFunction, configuration);
+        }
+        final CompletableFuture<List<String>> combined = joinFutures(CompletableFuture::allOf, String.class, futures);
+        assertThat(combined.get()).hasSize(numCalls).containsOnly(SUCCESS);
+        final Duration latency = Duration.ofNanos(System.nanoTime() - start);
+
+        // each call occupies two tasks (the call itself and the time limited execution), none of them a platform thread
+        assertThat(threadMXBean.getPeakThreadCount() - platformThreadsBefore).isLessThan(1_000);
+        assertThat(latency).isLessThan(Duration.ofSeconds(30));
+    }
+
     @Test
     void testBulkheadFullForConcurrentlyRunningRequests()
     {
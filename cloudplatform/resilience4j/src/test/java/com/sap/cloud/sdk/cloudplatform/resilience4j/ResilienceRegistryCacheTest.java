@@ -0,0 +1,125 @@
+package com.sap.cloud.sdk.cloudplatform.resilience4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.cloudplatform.cache.CacheManager;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.BulkheadConfiguration;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationKey;
+import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceIsolationMode;
+import com.sap.cloud.sdk.cloudplatform.tenant.DefaultTenant;
+import com.sap.cloud.sdk.cloudplatform.tenant.TenantAccessor;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+
+class ResilienceRegistryCacheTest
+{
+    @Test
+    void testRegistryIsReusedPerIsolationKey()
+    {
+        final ResilienceRegistryCache<BulkheadRegistry> registries =
+            new ResilienceRegistryCache<>(
+                BulkheadRegistry.class,
+                10,
+                Duration.ofMinutes(10),
+                BulkheadRegistry::ofDefaults);
+
+        final BulkheadRegistry first = registries.getRegistry(tenantIsolationKey("tenant-1"));
+        final BulkheadRegistry second = registries.getRegistry(tenantIsolationKey("tenant-1"));
+        final BulkheadRegistry other = registries.getRegistry(tenantIsolationKey("tenant-2"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(other).isNotSameAs(first);
+        assertThat(registries.getRegistryCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testRegistryCountIsBounded()
+    {
+        final ResilienceRegistryCache<BulkheadRegistry> registries =
+            new ResilienceRegistryCache<>(
+                BulkheadRegistry.class,
+                5,
+                Duration.ofMinutes(5),
+                BulkheadRegistry::ofDefaults);
+
+        for( int i = 0; i < 50; i++ ) {
+            registries.getRegistry(tenantIsolationKey("tenant-" + i));
+        }
+
+        assertThat(registries.getRegistryCount()).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void testRegistriesAreInvalidatedWithTenantCaches()
+    {
+        final DefaultBulkheadProvider provider = new DefaultBulkheadProvider(10, Duration.ofHours(1));
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("registry.cache.test")
+                .isolationMode(ResilienceIsolationMode.TENANT_REQUIRED)
+                .bulkheadConfiguration(BulkheadConfiguration.of());
+
+        final Bulkhead bulkhead =
+            TenantAccessor.executeWithTenant(new DefaultTenant("tenant-1"), () -> provider.getBulkhead(configuration));
+        TenantAccessor.executeWithTenant(new DefaultTenant("tenant-2"), () -> provider.getBulkhead(configuration));
+        assertThat(provider.getRegistryCount()).isEqualTo(2);
+
+        CacheManager.invalidateTenantCaches("tenant-1");
+
+        assertThat(provider.getRegistryCount()).isEqualTo(1);
+        assertThat(
+            TenantAccessor.executeWithTenant(new DefaultTenant("tenant-1"), () -> provider.getBulkhead(configuration)))
+            .isNotSameAs(bulkhead);
+    }
+
+    @Test
+    void testProvidersShareRegisteredCaches()
+    {
+        new Resilience4jDecorationStrategy(new DefaultBulkheadProvider(), new DefaultRetryProvider());
+        final int cacheCount = CacheManager.getCacheList().size();
+
+        for( int i = 0; i < 10; i++ ) {
+            new Resilience4jDecorationStrategy(
+                new DefaultBulkheadProvider(),
+                new DefaultCircuitBreakerProvider(),
+                new DefaultRateLimiterProvider(),
+                new DefaultRetryProvider());
+        }
+        assertThat(CacheManager.getCacheList()).hasSize(cacheCount);
+
+        final DefaultBulkheadProvider first = new DefaultBulkheadProvider(3, Duration.ofMinutes(3));
+        final DefaultBulkheadProvider second = new DefaultBulkheadProvider(3, Duration.ofMinutes(3));
+        final ResilienceConfiguration configuration =
+            ResilienceConfiguration
+                .of("registry.cache.shared")
+                .isolationMode(ResilienceIsolationMode.TENANT_REQUIRED)
+                .bulkheadConfiguration(BulkheadConfiguration.of());
+
+        TenantAccessor.executeWithTenant(new DefaultTenant("tenant-1"), () -> first.getBulkhead(configuration));
+        assertThat(second.getRegistryCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testInvalidLimits()
+    {
+        assertThatThrownBy(() -> new DefaultCircuitBreakerProvider(0, Duration.ofHours(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DefaultRateLimiterProvider(10, Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ResilienceIsolationKey tenantIsolationKey( final String tenantId )
+    {
+        return TenantAccessor
+            .executeWithTenant(
+                new DefaultTenant(tenantId),
+                () -> ResilienceIsolationKey.of(ResilienceIsolationMode.TENANT_REQUIRED));
+    }
+}
@@ -23,6 +23,8 @@ import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceConfiguration.TimeLi
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceDecorator;
 import com.sap.cloud.sdk.cloudplatform.resilience.ResilienceRuntimeException;
 
+import io.github.resilience4j.timelimiter.TimeLimiter;
+
 class TimeLimiterTest
 {
     private static final TimeLimiterConfiguration timeLimiterConfig =
@@ -69,6 +71,36 @@ class TimeLimiterTest
         verify(callable).call();
     }
 
+    @Test
+    void testTimeLimiterIsReusedForEqualConfiguration()
+    {
+        final DefaultTimeLimiterProvider provider = new DefaultTimeLimiterProvider();
+        final String identifier = UUID.randomUUID().toString();
+
+        final TimeLimiter first =
+            provider
+                .getTimeLimiter(
+                    ResilienceConfiguration
+                        .of(identifier)
+                        .timeLimiterConfiguration(TimeLimiterConfiguration.of(Duration.ofSeconds(5))));
+        final TimeLimiter second =
+            provider
+                .getTimeLimiter(
+                    ResilienceConfiguration
+                        .of(identifier)
+                        .timeLimiterConfiguration(TimeLimiterConfiguration.of(Duration.ofSeconds(5))));
+        final TimeLimiter changed =
+            provider
+                .getTimeLimiter(
+                    ResilienceConfiguration
+                        .of(identifier)
+                        .timeLimiterConfiguration(TimeLimiterConfiguration.of(Duration.ofSeconds(10))));
+
+        assertThat(second).isSameAs(first);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(changed.getTimeLimiterConfig().getTimeoutDuration()).isEqualTo(Duration.ofSeconds(10));
+    }
+
     private static class TestCallable implements Callable<Integer>
     {
         @Override
@@ -14,9 +14,9 @@ import javax.annotation.Nonnull;
 import com.sap.cloud.sdk.cloudplatform.exception.ShouldNotHappenException;
 import com.sap.cloud.sdk.cloudplatform.requestheader.DefaultRequestHeaderContainer;
 import com.sap.cloud.sdk.cloudplatform.requestheader.RequestHeaderContainer;
-import com.sap.cloud.sdk.cloudplatform.thread.DefaultThreadContext;
 import com.sap.cloud.sdk.cloudplatform.thread.Property;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContext;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextAccessor;
 import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutor;
 
 import io.vavr.control.Option;
@@ -50,7 +50,7 @@ public class RequestAccessorFilter implements Filter
         if( request instanceof HttpServletRequest ) {
             try {
                 final HttpServletRequest httpRequest = (HttpServletRequest) request;
-                final ThreadContext threadContext = new DefaultThreadContext();
+                final ThreadContext threadContext = ThreadContextAccessor.newThreadContext();
                 storeServletProperties(httpRequest, threadContext);
 
                 ThreadContextExecutor.using(threadContext).execute(() -> filterChain.doFilter(request, response));
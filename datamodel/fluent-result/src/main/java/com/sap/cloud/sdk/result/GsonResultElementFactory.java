@@ -6,10 +6,14 @@ import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
 /**
  * Factory implementation that creates a {@code ResultElement}, based on a given {@code JsonElement}.
@@ -23,6 +27,17 @@ public class GsonResultElementFactory implements ResultElementFactory<JsonElemen
     @Nonnull
     protected final GsonBuilder gsonBuilder;
 
+    /**
+     * The {@link Gson} instance created from {@link #gsonBuilder} on first access. It is reused for all
+     * deserializations of this factory, such that type adapters are only resolved once per target type.
+     *
+     * @since 5.23.0
+     */
+    @Getter( lazy = true )
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final Gson gson = gsonBuilder.create();
+
     /**
      * Returns a {@link ResultPrimitive} from the given {@code resultElement}.
      *
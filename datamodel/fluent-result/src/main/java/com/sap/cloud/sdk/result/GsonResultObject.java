@@ -201,7 +201,7 @@ public class GsonResultObject implements ResultObject
         throws UnsupportedOperationException
     {
         try {
-            return resultElementFactory.getGsonBuilder().create().fromJson(jsonObject, objectType);
+            return resultElementFactory.getGson().fromJson(jsonObject, objectType);
         }
         catch( final Exception e ) {
             throw new UnsupportedOperationException(
@@ -216,7 +216,7 @@ public class GsonResultObject implements ResultObject
         throws UnsupportedOperationException
     {
         try {
-            return resultElementFactory.getGsonBuilder().create().fromJson(jsonObject, objectType);
+            return resultElementFactory.getGson().fromJson(jsonObject, objectType);
         }
         catch( final Exception e ) {
             throw new UnsupportedOperationException(
@@ -1,11 +1,13 @@
 package com.sap.cloud.sdk.datamodel.odata.client;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.google.common.annotations.Beta;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -38,12 +40,39 @@ public class ODataResponseDeserializer
      */
     public void positionReaderToResultSet( @Nonnull final JsonReader reader )
         throws IOException
+    {
+        positionReaderToResultSet(reader, path -> JsonParser.parseReader(reader));
+    }
+
+    /**
+     * Position the {@see JsonReader} to the response result set. Every value next to the path to the result set, e.g.
+     * the next link, is passed to the given consumer, which has to read or skip it.
+     *
+     * @param reader
+     *            The internal JsonReader instance.
+     * @param siblingConsumer
+     *            The consumer of the values next to the path to the result set.
+     * @throws IOException
+     *             If response cannot be read.
+     * @since 5.23.0
+     */
+    @Beta
+    public
+        void
+        positionReaderToResultSet( @Nonnull final JsonReader reader, @Nonnull final SiblingConsumer siblingConsumer )
+            throws IOException
     {
         final List<String> nodes = protocol.getPathToResultSet().getPaths().get(0).getNodes();
         reader.beginObject();
         for( int i = 0; i < nodes.size(); i++ ) {
-            while( reader.peek() == JsonToken.NAME && !nodes.get(i).equals(reader.nextName()) ) {
-                JsonParser.parseReader(reader);
+            while( reader.peek() == JsonToken.NAME ) {
+                final String name = reader.nextName();
+                if( nodes.get(i).equals(name) ) {
+                    break;
+                }
+                final List<String> path = new ArrayList<>(nodes.subList(0, i));
+                path.add(name);
+                siblingConsumer.accept(path);
             }
             if( i < nodes.size() - 1 ) {
                 reader.beginObject();
@@ -120,6 +149,27 @@ public class ODataResponseDeserializer
         return null;
     }
 
+    /**
+     * Consumer of a value next to the path to the result set.
+     *
+     * @since 5.23.0
+     */
+    @Beta
+    @FunctionalInterface
+    public interface SiblingConsumer
+    {
+        /**
+         * Read or skip the value at the current position of the {@link JsonReader}.
+         *
+         * @param path
+         *            The path to the value, e.g. {@code [d, __next]} for the next link of OData V2.
+         * @throws IOException
+         *             If the value cannot be read.
+         */
+        void accept( @Nonnull List<String> path )
+            throws IOException;
+    }
+
     @Nullable
     private JsonElement getResultJsonElement( @Nonnull final JsonElement element, @Nonnull final JsonPath path )
     {
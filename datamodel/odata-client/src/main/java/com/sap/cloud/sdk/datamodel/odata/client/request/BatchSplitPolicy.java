@@ -0,0 +1,138 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import javax.annotation.Nonnull;
+
+import com.google.common.annotations.Beta;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Policy to split a large OData batch request into multiple smaller batch requests, which are executed concurrently.
+ * The operations of the batch request are distributed in their original order, and a new batch request is started
+ * whenever adding the next operation would exceed the maximum number of operations or bytes. Changesets are never
+ * split, so a changeset which exceeds a limit on its own is sent as a batch request of its own.
+ * <p>
+ * The results of the batch requests are merged again, so the batch items can be looked up with their original request
+ * reference.
+ *
+ * @see ODataRequestBatch#withSplitPolicy(BatchSplitPolicy)
+ * @since 5.23.0
+ */
+@Beta
+@Value
+@AllArgsConstructor( access = AccessLevel.PRIVATE )
+public class BatchSplitPolicy
+{
+    /**
+     * The number of batch requests which are executed at the same time, unless specified otherwise.
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * The maximum number of operations per batch request. Each operation of a changeset counts as one operation.
+     */
+    int maxOperations;
+
+    /**
+     * The maximum size of the body of a batch request in bytes.
+     */
+    long maxBytes;
+
+    /**
+     * The maximum number of batch requests which are executed at the same time.
+     */
+    int parallelism;
+
+    /**
+     * Create a policy which limits the number of operations per batch request.
+     *
+     * @param maxOperations
+     *            The maximum number of operations per batch request.
+     * @return A new policy.
+     * @throws IllegalArgumentException
+     *             If the maximum number of operations is not positive.
+     */
+    @Nonnull
+    public static BatchSplitPolicy ofMaxOperations( final int maxOperations )
+    {
+        return new BatchSplitPolicy(Integer.MAX_VALUE, Long.MAX_VALUE, DEFAULT_PARALLELISM)
+            .withMaxOperations(maxOperations);
+    }
+
+    /**
+     * Create a policy which limits the size of the body of a batch request.
+     *
+     * @param maxBytes
+     *            The maximum size of the body of a batch request in bytes.
+     * @return A new policy.
+     * @throws IllegalArgumentException
+     *             If the maximum number of bytes is not positive.
+     */
+    @Nonnull
+    public static BatchSplitPolicy ofMaxBytes( final long maxBytes )
+    {
+        return new BatchSplitPolicy(Integer.MAX_VALUE, Long.MAX_VALUE, DEFAULT_PARALLELISM).withMaxBytes(maxBytes);
+    }
+
+    /**
+     * Create a copy of this policy, which additionally limits the number of operations per batch request.
+     *
+     * @param maxOperations
+     *            The maximum number of operations per batch request.
+     * @return A new policy.
+     * @throws IllegalArgumentException
+     *             If the maximum number of operations is not positive.
+     */
+    @Nonnull
+    public BatchSplitPolicy withMaxOperations( final int maxOperations )
+    {
+        if( maxOperations <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of operations must be positive.");
+        }
+        return new BatchSplitPolicy(maxOperations, maxBytes, parallelism);
+    }
+
+    /**
+     * Create a copy of this policy, which additionally limits the size of the body of a batch request.
+     *
+     * @param maxBytes
+     *            The maximum size of the body of a batch request in bytes.
+     * @return A new policy.
+     * @throws IllegalArgumentException
+     *             If the maximum number of bytes is not positive.
+     */
+    @Nonnull
+    public BatchSplitPolicy withMaxBytes( final long maxBytes )
+    {
+        if( maxBytes <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of bytes must be positive.");
+        }
+        return new BatchSplitPolicy(maxOperations, maxBytes, parallelism);
+    }
+
+    /**
+     * Create a copy of this policy with the given number of batch requests to execute at the same time. By default,
+     * {@value #DEFAULT_PARALLELISM} batch requests are executed at the same time.
+     *
+     * @param parallelism
+     *            The maximum number of batch requests which are executed at the same time.
+     * @return A new policy.
+     * @throws IllegalArgumentException
+     *             If the parallelism is not positive.
+     */
+    @Nonnull
+    public BatchSplitPolicy withParallelism( final int parallelism )
+    {
+        if( parallelism <= 0 ) {
+            throw new IllegalArgumentException("The parallelism must be positive.");
+        }
+        return new BatchSplitPolicy(maxOperations, maxBytes, parallelism);
+    }
+
+    boolean isLimitingBytes()
+    {
+        return maxBytes < Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import javax.annotation.Nonnull;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Delegate;
+
+/**
+ * Wrapper for an HttpEntity instance. Enable {@code Object#equals} and {@code Object#hashCode} on original data.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor
+class ComparableHttpEntity implements HttpEntity
+{
+    @Nonnull
+    private final Object data;
+
+    @EqualsAndHashCode.Exclude
+    @Delegate
+    @Nonnull
+    private final HttpEntity delegate;
+
+    /**
+     * Custom constructor for application/json will drop the charset information until CLOUDECOSYSTEM-9450 is done.
+     *
+     * @param json
+     *            The serialized entity json representation.
+     */
+    ComparableHttpEntity( final String json )
+    {
+        this(json, new StringEntity(json, ContentType.APPLICATION_JSON));
+        ((StringEntity) delegate).setContentType(ContentType.APPLICATION_JSON.getMimeType());
+    }
+}
@@ -0,0 +1,282 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.Beta;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.sap.cloud.sdk.datamodel.odata.client.ODataResponseDeserializer;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
+
+import io.vavr.control.Try;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Unmodifiable list of the entities of an OData result-set, which are stored in a temporary file and deserialized on
+ * access. Only the positions of the entities within the file are kept in memory. Every access to an element reads and
+ * deserializes it again, so consumers should keep a reference to an element if they access it repeatedly.
+ * <p>
+ * <b>Note:</b> This class implements {@link AutoCloseable} and should be closed after use to delete the temporary file.
+ * Otherwise, the file is deleted once the list is garbage collected.
+ *
+ * @param <T>
+ *            The generic item type.
+ * @see ODataRequestResultGeneric#asList(Class, long)
+ * @since 5.23.0
+ */
+@Slf4j
+@Beta
+public final class FileBackedResultList<T> extends AbstractList<T> implements RandomAccess, AutoCloseable
+{
+    @Nonnull
+    private final TypeAdapter<? extends T> typeAdapter;
+
+    @Nonnull
+    private final TemporaryFile file;
+
+    @Nonnull
+    private final Cleaner.Cleanable cleanable;
+
+    // the positions of the elements in the file, followed by the length of the file
+    @Nonnull
+    private final long[] offsets;
+
+    private FileBackedResultList(
+        @Nonnull final TypeAdapter<? extends T> typeAdapter,
+        @Nonnull final TemporaryFile file,
+        @Nonnull final long[] offsets )
+    {
+        this.typeAdapter = typeAdapter;
+        this.file = file;
+        this.offsets = offsets;
+        cleanable = SpillingHttpEntity.TEMPORARY_FILE_CLEANER.register(this, file);
+    }
+
+    /**
+     * Copy the entities of the result-set of the given response to a temporary file.
+     *
+     * @param result
+     *            The OData response to read the result-set from.
+     * @param typeAdapter
+     *            The type adapter to deserialize the entities with.
+     * @param <T>
+     *            The generic item type.
+     * @return A new list.
+     * @throws ODataDeserializationException
+     *             When the response does not contain a result-set or the temporary file cannot be written.
+     */
+    @Nonnull
+    static <T> FileBackedResultList<T> of(
+        @Nonnull final ODataRequestResultGeneric result,
+        @Nonnull final TypeAdapter<? extends T> typeAdapter )
+    {
+        final Path path =
+            Try
+                .of(() -> Files.createTempFile("odata-result-", ".json"))
+                .getOrElseThrow(
+                    e -> new ODataDeserializationException(
+                        result.getODataRequest(),
+                        result.getHttpResponse(),
+                        "Failed to create a temporary file for the result-set.",
+                        e));
+        final TemporaryFile file = new TemporaryFile(path);
+
+        final long[] offsets;
+        try {
+            offsets = HttpEntityReader.stream(result, reader -> {
+                new ODataResponseDeserializer(result.getODataRequest().getProtocol()).positionReaderToResultSet(reader);
+                try( OutputStream out = new BufferedOutputStream(Files.newOutputStream(path)) ) {
+                    return copyElements(reader, out);
+                }
+            });
+        }
+        catch( final RuntimeException e ) {
+            file.run();
+            throw e;
+        }
+
+        final FileBackedResultList<T> list = new FileBackedResultList<>(typeAdapter, file, offsets);
+        log.debug("Stored {} elements of the result-set in temporary file {}.", list.size(), path);
+        return list;
+    }
+
+    @Nonnull
+    private static long[] copyElements( @Nonnull final JsonReader reader, @Nonnull final OutputStream out )
+        throws IOException
+    {
+        long[] offsets = new long[64];
+        int size = 0;
+        long position = 0;
+        while( reader.hasNext() ) {
+            final StringWriter element = new StringWriter();
+            copyValue(reader, new JsonWriter(element));
+            final byte[] bytes = element.toString().getBytes(StandardCharsets.UTF_8);
+            out.write(bytes);
+
+            if( size + 1 == offsets.length ) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[size++] = position;
+            position += bytes.length;
+        }
+        offsets[size] = position;
+        return Arrays.copyOf(offsets, size + 1);
+    }
+
+    private static void copyValue( @Nonnull final JsonReader reader, @Nonnull final JsonWriter writer )
+        throws IOException
+    {
+        int depth = 0;
+        do {
+            final JsonToken token = reader.peek();
+            switch( token ) {
+                case BEGIN_ARRAY:
+                    reader.beginArray();
+                    writer.beginArray();
+                    depth++;
+                    break;
+                case END_ARRAY:
+                    reader.endArray();
+                    writer.endArray();
+                    depth--;
+                    break;
+                case BEGIN_OBJECT:
+                    reader.beginObject();
+                    writer.beginObject();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    reader.endObject();
+                    writer.endObject();
+                    depth--;
+                    break;
+                case NAME:
+                    writer.name(reader.nextName());
+                    break;
+                case STRING:
+                    writer.value(reader.nextString());
+                    break;
+                case NUMBER:
+                    // keep the literal, so the precision is not changed
+                    writer.jsonValue(reader.nextString());
+                    break;
+                case BOOLEAN:
+                    writer.value(reader.nextBoolean());
+                    break;
+                case NULL:
+                    reader.nextNull();
+                    writer.nullValue();
+                    break;
+                default:
+                    throw new IOException("Unexpected end of the result-set.");
+            }
+        } while( depth > 0 );
+        writer.flush();
+    }
+
+    @Override
+    @Nullable
+    public T get( final int index )
+    {
+        Objects.checkIndex(index, size());
+        final FileChannel channel = file.getChannel();
+        final int length = (int) (offsets[index + 1] - offsets[index]);
+        final ByteBuffer bytes = ByteBuffer.allocate(length);
+        try {
+            while( bytes.hasRemaining() ) {
+                if( channel.read(bytes, offsets[index] + bytes.position()) < 0 ) {
+                    throw new EOFException("Unexpected end of temporary file.");
+                }
+            }
+            final JsonReader reader =
+                new JsonReader(new InputStreamReader(new ByteArrayInputStream(bytes.array()), StandardCharsets.UTF_8));
+            return typeAdapter.read(reader);
+        }
+        catch( final IOException e ) {
+            throw new UncheckedIOException("Failed to read element " + index + " of the result-set.", e);
+        }
+    }
+
+    @Override
+    public int size()
+    {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Delete the temporary file. The elements of the list cannot be accessed afterwards.
+     */
+    @Override
+    public void close()
+    {
+        cleanable.clean();
+    }
+
+    /**
+     * Cleanup action of the temporary file. It must not reference the list itself.
+     */
+    @RequiredArgsConstructor
+    private static final class TemporaryFile implements Runnable
+    {
+        @Nonnull
+        private final Path path;
+
+        @Nullable
+        private FileChannel channel;
+
+        private boolean deleted;
+
+        @Nonnull
+        synchronized FileChannel getChannel()
+        {
+            if( deleted ) {
+                throw new IllegalStateException("The list was closed, its temporary file is deleted.");
+            }
+            if( channel == null ) {
+                try {
+                    channel = FileChannel.open(path, StandardOpenOption.READ);
+                }
+                catch( final IOException e ) {
+                    throw new UncheckedIOException("Failed to open temporary file " + path + ".", e);
+                }
+            }
+            return channel;
+        }
+
+        @Override
+        public synchronized void run()
+        {
+            deleted = true;
+            if( channel != null ) {
+                Try.run(channel::close).onFailure(e -> log.debug("Failed to close temporary file {}.", path, e));
+            }
+            Try
+                .run(() -> Files.deleteIfExists(path))
+                .onFailure(e -> log.warn("Failed to delete temporary file {}.", path, e));
+        }
+    }
+}
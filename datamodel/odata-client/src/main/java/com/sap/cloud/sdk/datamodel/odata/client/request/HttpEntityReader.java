@@ -1,7 +1,6 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -12,6 +11,7 @@ import javax.annotation.Nullable;
 
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
+import org.apache.http.entity.ContentType;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonIOException;
@@ -21,6 +21,7 @@ import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
 
 import io.vavr.CheckedFunction1;
+import io.vavr.control.Option;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -44,34 +45,67 @@ final class HttpEntityReader
     private final ODataProtocol protocol;
 
     @Nullable
-    private <T> T read( @Nonnull final CheckedFunction1<InputStream, T> streamConsumer )
+    private <T> T read( @Nonnull final CheckedFunction1<JsonReader, T> readerConsumer )
+    {
+        final HttpEntity httpEntity = getEntity();
+        try( JsonReader reader = newJsonReader(httpEntity) ) {
+            return readerConsumer.apply(reader);
+        }
+        // CHECKSTYLE:OFF
+        catch( final Throwable e ) {
+            throw toException(httpEntity, e);
+        }
+        // CHECKSTYLE:ON
+    }
+
+    @Nonnull
+    private JsonReader open()
+    {
+        final HttpEntity httpEntity = getEntity();
+        try {
+            return newJsonReader(httpEntity);
+        }
+        catch( final IOException | RuntimeException e ) {
+            throw toException(httpEntity, e);
+        }
+    }
+
+    @Nonnull
+    private HttpEntity getEntity()
     {
         if( entity == null ) {
             final String msg = protocol + " response does not contain an HTTP entity.";
             log.warn(msg);
             throw errorHandler.apply(msg, null);
         }
+        return entity;
+    }
 
-        try( InputStream content = entity.getContent() ) {
-            return streamConsumer.apply(content);
-        }
-        catch( final IOException | JsonIOException e ) {
+    @Nonnull
+    private static JsonReader newJsonReader( @Nonnull final HttpEntity httpEntity )
+        throws IOException
+    {
+        final Charset charset = Option.of(ContentType.getLenient(httpEntity)).map(ContentType::getCharset).getOrNull();
+        return new JsonReader(
+            new InputStreamReader(httpEntity.getContent(), charset == null ? DEFAULT_CHARSET : charset));
+    }
+
+    @Nonnull
+    private RuntimeException toException( @Nonnull final HttpEntity httpEntity, @Nonnull final Throwable e )
+    {
+        if( e instanceof IOException || e instanceof JsonIOException ) {
             final String msg = protocol + " response stream cannot be read for HTTP entity: ";
-            log.debug(msg + entity, e);
-            throw errorHandler.apply(msg + entity.getClass().getName(), e);
+            log.debug(msg + httpEntity, e);
+            return errorHandler.apply(msg + httpEntity.getClass().getName(), e);
         }
-        catch( final UnsupportedOperationException e ) {
+        if( e instanceof UnsupportedOperationException ) {
             final String msg = protocol + " response entity content cannot be represented as stream object.";
             log.debug(msg, e);
-            throw errorHandler.apply(msg, e);
-        }
-        // CHECKSTYLE:OFF
-        catch( final Throwable e ) {
-            final String msg = "A problem occurred while streaming the " + protocol + " response.";
-            log.debug(msg, e);
-            throw errorHandler.apply(msg, e);
+            return errorHandler.apply(msg, e);
         }
-        // CHECKSTYLE:ON
+        final String msg = "A problem occurred while streaming the " + protocol + " response.";
+        log.debug(msg, e);
+        return errorHandler.apply(msg, e);
     }
 
     /**
@@ -115,15 +149,33 @@ final class HttpEntityReader
     static <T> T stream(
         @Nonnull final ODataRequestResult result,
         @Nonnull final CheckedFunction1<JsonReader, T> readerConsumer )
+    {
+        return of(result).read(readerConsumer);
+    }
+
+    /**
+     * Protocol dependent method to open a JsonReader on the InputStream of the HTTP response entity, for consuming the
+     * JSON tree beyond the scope of a single method call. The caller is responsible for closing the reader.
+     *
+     * @param result
+     *            The result object to read from.
+     * @return The reader of the response.
+     * @throws ODataDeserializationException
+     *             When the response cannot be read.
+     */
+    @Nonnull
+    static JsonReader open( @Nonnull final ODataRequestResult result )
+    {
+        return of(result).open();
+    }
+
+    @Nonnull
+    private static HttpEntityReader of( @Nonnull final ODataRequestResult result )
     {
         final HttpResponse httpResponse = result.getHttpResponse();
         final ODataRequestGeneric request = result.getODataRequest();
         final BiFunction<String, Throwable, RuntimeException> errorHandler =
             ( msg, e ) -> new ODataDeserializationException(request, httpResponse, msg, e);
-
-        return new HttpEntityReader(httpResponse.getEntity(), errorHandler, request.getProtocol()).read(inputStream -> {
-            final JsonReader reader = new JsonReader(new InputStreamReader(inputStream, DEFAULT_CHARSET));
-            return readerConsumer.apply(reader);
-        });
+        return new HttpEntityReader(httpResponse.getEntity(), errorHandler, request.getProtocol());
     }
 }
@@ -0,0 +1,298 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Helper class to split a multi-part body into its parts on byte level. The delimiter lines are located with the
+ * Boyer-Moore-Horspool algorithm within a reusable buffer, and every part is exposed as {@link InputStream} view, which
+ * ends before the line break preceding the next delimiter line. Hence, the content of a part is neither decoded nor
+ * copied into intermediate strings.
+ * <p>
+ * The content before the first delimiter line and after the closing delimiter line is ignored. Parts of nested
+ * multi-part bodies, e.g. changesets, can be read with another scanner on top of the {@link InputStream} of a part.
+ */
+class MultipartBoundaryScanner
+{
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    // maximum length of the remainder of a delimiter line, i.e. the optional "--" and transport padding
+    private static final int MAX_DELIMITER_LINE_TAIL = 256;
+
+    private static final int NOT_A_DELIMITER = -1;
+    private static final int INCOMPLETE_DELIMITER = -2;
+
+    @Nonnull
+    private final InputStream inputStream;
+
+    // the delimiter preceded by a line break, since delimiters only match at the beginning of a line
+    @Nonnull
+    private final byte[] pattern;
+
+    // the Boyer-Moore-Horspool shift per byte value
+    @Nonnull
+    private final int[] shifts = new int[256];
+
+    @Nonnull
+    private final byte[] buffer;
+
+    // position of the first unread byte in the buffer
+    private int start = 0;
+
+    // position after the last valid byte in the buffer
+    private int limit = 0;
+
+    // number of bytes from the start, which are known to belong to the current part
+    private int partBytes = 0;
+
+    private boolean endOfInput = false;
+    private boolean finished = false;
+    private boolean started = false;
+
+    @Nullable
+    private PartInputStream currentPart = null;
+
+    /**
+     * Create a new scanner.
+     *
+     * @param inputStream
+     *            The multi-part body to read from.
+     * @param delimiter
+     *            The delimiter of the parts, i.e. the boundary with a leading {@code "--"}.
+     */
+    MultipartBoundaryScanner( @Nonnull final InputStream inputStream, @Nonnull final String delimiter )
+    {
+        this.inputStream = inputStream;
+        pattern = ("\n" + delimiter).getBytes(ISO_8859_1);
+        buffer = new byte[Math.max(DEFAULT_BUFFER_SIZE, 2 * (pattern.length + MAX_DELIMITER_LINE_TAIL))];
+
+        // the first delimiter line does not need to be preceded by a line break
+        buffer[limit++] = '\n';
+
+        Arrays.fill(shifts, pattern.length);
+        for( int i = 0; i < pattern.length - 1; i++ ) {
+            shifts[pattern[i] & 0xff] = pattern.length - 1 - i;
+        }
+    }
+
+    /**
+     * Get the next part of the multi-part body. The remaining content of the previous part is skipped.
+     *
+     * @return The content of the next part, or {@code null} if there are no more parts.
+     * @throws IOException
+     *             If reading from the multi-part body failed.
+     */
+    @Nullable
+    InputStream nextPart()
+        throws IOException
+    {
+        if( !started ) {
+            started = true;
+            // skip the preamble
+            new PartInputStream().skipRemaining();
+        } else if( currentPart != null ) {
+            currentPart.skipRemaining();
+        }
+        if( finished ) {
+            currentPart = null;
+            return null;
+        }
+        currentPart = new PartInputStream();
+        return currentPart;
+    }
+
+    /**
+     * Determine the number of bytes from the start of the buffer, which belong to the current part.
+     *
+     * @return The number of bytes, or -1 if the current part ended and the following delimiter line was consumed.
+     */
+    private int scanPart()
+        throws IOException
+    {
+        if( partBytes > 0 ) {
+            return partBytes;
+        }
+        while( true ) {
+            int from = start;
+            int match;
+            int lineEnd = NOT_A_DELIMITER;
+            while( (match = indexOfPattern(from)) >= 0 ) {
+                lineEnd = getDelimiterLineEnd(match);
+                if( lineEnd != NOT_A_DELIMITER ) {
+                    break;
+                }
+                from = match + 1;
+            }
+
+            if( match < 0 ) {
+                // a delimiter, which starts after the safe end, may still be incomplete
+                final int safeEnd = endOfInput ? limit : limit - pattern.length;
+                if( safeEnd > start ) {
+                    partBytes = safeEnd - start;
+                    return partBytes;
+                }
+                if( endOfInput ) {
+                    start = limit;
+                    finished = true;
+                    return -1;
+                }
+                fillBuffer();
+                continue;
+            }
+
+            // the line break preceding the delimiter line belongs to the delimiter
+            final int partEnd = match > start && buffer[match - 1] == '\r' ? match - 1 : match;
+            if( partEnd > start ) {
+                partBytes = partEnd - start;
+                return partBytes;
+            }
+            if( lineEnd == INCOMPLETE_DELIMITER ) {
+                fillBuffer();
+                continue;
+            }
+            start = lineEnd;
+            return -1;
+        }
+    }
+
+    /**
+     * Find the next occurrence of the pattern in the buffer.
+     */
+    private int indexOfPattern( final int from )
+    {
+        final int last = pattern.length - 1;
+        int i = from;
+        while( i + last < limit ) {
+            int j = last;
+            while( buffer[i + j] == pattern[j] ) {
+                if( j == 0 ) {
+                    return i;
+                }
+                j--;
+            }
+            i += shifts[buffer[i + last] & 0xff];
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether the pattern found at the given position is followed by the remainder of a delimiter line, i.e. an
+     * optional {@code "--"} marking the closing delimiter and optional transport padding.
+     *
+     * @return The position after the delimiter line, {@link #NOT_A_DELIMITER} or {@link #INCOMPLETE_DELIMITER} if the
+     *         buffer does not yet contain the whole delimiter line.
+     */
+    private int getDelimiterLineEnd( final int match )
+    {
+        final int tailStart = match + pattern.length;
+        int lineEnd = tailStart;
+        while( lineEnd < limit && buffer[lineEnd] != '\n' ) {
+            if( lineEnd - tailStart >= MAX_DELIMITER_LINE_TAIL ) {
+                return NOT_A_DELIMITER;
+            }
+            lineEnd++;
+        }
+        if( lineEnd == limit && !endOfInput ) {
+            return INCOMPLETE_DELIMITER;
+        }
+
+        int tailEnd = lineEnd;
+        if( tailEnd > tailStart && buffer[tailEnd - 1] == '\r' ) {
+            tailEnd--;
+        }
+        int i = tailStart;
+        final boolean closing = i + 1 < tailEnd && buffer[i] == '-' && buffer[i + 1] == '-';
+        if( closing ) {
+            i += 2;
+        }
+        while( i < tailEnd && (buffer[i] == ' ' || buffer[i] == '\t') ) {
+            i++;
+        }
+        if( i < tailEnd ) {
+            return NOT_A_DELIMITER;
+        }
+        if( closing || lineEnd == limit ) {
+            finished = true;
+        }
+        return lineEnd == limit ? limit : lineEnd + 1;
+    }
+
+    private void fillBuffer()
+        throws IOException
+    {
+        if( start > 0 ) {
+            System.arraycopy(buffer, start, buffer, 0, limit - start);
+            limit -= start;
+            start = 0;
+        }
+        final int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if( read < 0 ) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    /**
+     * View on the content of the current part.
+     */
+    private final class PartInputStream extends InputStream
+    {
+        private boolean ended = false;
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            if( ended || scanPart() < 0 ) {
+                ended = true;
+                return -1;
+            }
+            partBytes--;
+            return buffer[start++] & 0xff;
+        }
+
+        @Override
+        public int read( @Nonnull final byte[] bytes, final int offset, final int length )
+            throws IOException
+        {
+            if( length == 0 ) {
+                return 0;
+            }
+            if( ended || scanPart() < 0 ) {
+                ended = true;
+                return -1;
+            }
+            final int read = Math.min(partBytes, length);
+            System.arraycopy(buffer, start, bytes, offset, read);
+            start += read;
+            partBytes -= read;
+            return read;
+        }
+
+        @Override
+        public int available()
+        {
+            return ended ? 0 : partBytes;
+        }
+
+        void skipRemaining()
+            throws IOException
+        {
+            while( !ended ) {
+                if( scanPart() < 0 ) {
+                    ended = true;
+                } else {
+                    start += partBytes;
+                    partBytes = 0;
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -18,8 +17,8 @@ import org.apache.http.HttpHeaders;
 import org.apache.http.HttpVersion;
 import org.apache.http.NameValuePair;
 import org.apache.http.StatusLine;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicNameValuePair;
@@ -35,7 +34,6 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 class MultipartHttpResponse extends BasicHttpResponse
 {
-    private static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
     private static final Pattern PATTERN_STATUS_LINE = Pattern.compile("^HTTP/(\\d).(\\d) (\\d+) (.*)");
     private static final Pattern PATTERN_NEW_LINE = Pattern.compile("\\R");
 
@@ -58,6 +56,10 @@ class MultipartHttpResponse extends BasicHttpResponse
     /**
      * Factory method to construct an {@link MultipartHttpResponse} on behalf of serialized HTTP protocol content: First
      * line is the status line, the following lines are headers, the optional body is introduced with an empty line.
+     * <p>
+     * Only the status line and headers are decoded. The HTTP entity is a view on the remaining bytes of the entry, so
+     * the body is neither decoded nor copied. If the body does not declare a charset, the charset of the multi-part
+     * response is assumed.
      *
      * @param entry
      *            The HTTP protocol content, consisting of status line, headers, (emptyline) and payload.
@@ -71,33 +73,50 @@ class MultipartHttpResponse extends BasicHttpResponse
                 .compile("^Content-ID:\\s*(\\d+)\\s*$", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE)
                 .matcher(entry.getMeta());
         final Integer contentId = contentIdMatcher.find() ? Integer.parseInt(contentIdMatcher.group(1)) : null;
-        final String[] lines = PATTERN_NEW_LINE.split(entry.getPayload());
+        final byte[] bytes = entry.getPayloadBytes();
+        final int length = entry.getPayloadLength();
 
-        final StatusLine statusLine = getStatusLine(lines[0]);
+        int position = indexOfLineEnd(bytes, 0, length);
+        final StatusLine statusLine = getStatusLine(decodeLine(bytes, 0, position, entry.getCharset()));
 
-        final StringBuilder payload = new StringBuilder();
         final StringBuilder header = new StringBuilder();
-
-        boolean isHeaders = true;
-        for( int i = 1; i < lines.length; i++ ) {
-            if( isHeaders ) {
-                if( lines[i].isEmpty() ) {
-                    isHeaders = false;
-                } else {
-                    header.append(lines[i]).append('\n');
-                }
-            } else {
-                payload.append(lines[i]).append('\n');
+        while( position < length ) {
+            final int lineStart = position + 1;
+            position = indexOfLineEnd(bytes, lineStart, length);
+            final String line = decodeLine(bytes, lineStart, position, entry.getCharset());
+            if( line.isEmpty() ) {
+                break;
             }
+            header.append(line).append('\n');
         }
+        final int bodyStart = Math.min(position + 1, length);
 
         final List<Header> headers = getHeadersFromString(header.toString());
         final ContentType contentType = getContentType(headers).orElse(ContentType.APPLICATION_JSON);
-        final ContentType contentTypeCharset = withFallbackCharset(contentType, DEFAULT_CHARSET);
-        final StringEntity httpEntity = new StringEntity(payload.toString(), contentTypeCharset);
+        final ContentType contentTypeCharset = withFallbackCharset(contentType, entry.getCharset());
+        final ByteArrayEntity httpEntity =
+            new ByteArrayEntity(bytes, bodyStart, length - bodyStart, contentTypeCharset);
         return new MultipartHttpResponse(statusLine, headers, httpEntity, contentId);
     }
 
+    private static int indexOfLineEnd( @Nonnull final byte[] bytes, final int from, final int length )
+    {
+        int i = from;
+        while( i < length && bytes[i] != '\n' ) {
+            i++;
+        }
+        return i;
+    }
+
+    @Nonnull
+    private static
+        String
+        decodeLine( @Nonnull final byte[] bytes, final int from, final int lineEnd, @Nonnull final Charset charset )
+    {
+        final int end = lineEnd > from && bytes[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+        return new String(bytes, from, end - from, charset);
+    }
+
     @Nonnull
     static List<Header> getHeadersFromString( @Nonnull final String headerString )
     {
@@ -1,8 +1,9 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -19,6 +20,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -34,6 +36,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Helper class to parse an {@link InputStream} to an {@link Iterable} multi-part response. One part can have multiple
  * segments (e.g. changeset). For that reason the API exposes {@code Iterable<Iterable<T>>}.
+ * <p>
+ * The multi-part response is split on byte level by a {@link MultipartBoundaryScanner}. Only the headers of a segment
+ * are decoded, the payload of every segment is read once into a byte array.
  */
 @Slf4j
 @RequiredArgsConstructor( access = AccessLevel.PACKAGE )
@@ -43,8 +48,13 @@ class MultipartParser implements AutoCloseable
     private static final String MULTIPART_MIXED_MIME_TYPE = "multipart/mixed";
     private static final String MULTIPART_MIXED_BOUNDARY = "boundary";
 
+    private static final int INITIAL_PAYLOAD_BUFFER_SIZE = 1024;
+
+    @Nonnull
+    private final InputStream inputStream;
+
     @Nonnull
-    private final BufferedReader reader;
+    private final Charset charset;
 
     @Nonnull
     private final String delimiter;
@@ -103,13 +113,7 @@ class MultipartParser implements AutoCloseable
         @Nonnull final Charset contentCharset,
         @Nonnull final String delimiter )
     {
-        final BufferedReader reader =
-            Try
-                .of(() -> new InputStreamReader(contentStream, contentCharset))
-                .map(BufferedReader::new)
-                .getOrElseThrow(e -> new IllegalStateException("Unable to initialize multi-part parsing.", e));
-
-        return new MultipartParser(reader, delimiter);
+        return new MultipartParser(contentStream, contentCharset, delimiter);
     }
 
     /**
@@ -146,8 +150,8 @@ class MultipartParser implements AutoCloseable
 
     /**
      * Get the iterable, raw multi-part response. This method only works as long as the underlying {@link InputStream}
-     * of {@link MultipartParserReader} is not depleted. Hence for proper results, this method can usually only be
-     * invoked once. The resulting {@link Iterable} objects are lazily evaluated and remain uncached.
+     * is not depleted. Hence for proper results, this method can usually only be invoked once. The resulting
+     * {@link Iterable} objects are lazily evaluated and remain uncached.
      *
      * @return An iterable multi-part response.
      */
@@ -172,24 +176,21 @@ class MultipartParser implements AutoCloseable
 
     private Spliterator<Spliterator<Entry>> createSpliterator()
     {
-        final MultipartParserReader batchRead = new MultipartParserReader(reader, delimiter);
-
-        // position reader after first batch delimiter
-        batchRead.untilDelimiter();
+        final MultipartBoundaryScanner batchScanner = new MultipartBoundaryScanner(inputStream, delimiter);
 
         return new MultipartSpliterator<>(() -> {
-            if( batchRead.isFinished() ) {
-                Try.run(reader::close).onFailure(e -> log.debug("Failed to close reader.", e));
+            final InputStream segment = nextPart(batchScanner);
+            if( segment == null ) {
+                Try.run(inputStream::close).onFailure(e -> log.debug("Failed to close input stream.", e));
                 return null;
             }
-            final String segmentHead = batchRead.untilPayload();
+            final String segmentHead = readHead(segment);
             final Optional<String> maybeChangesetBoundary = getDelimiterFromString(segmentHead);
 
             if( maybeChangesetBoundary.isPresent() ) { // multiple responses in changeset
-                return getChangeset(maybeChangesetBoundary.get(), batchRead);
+                return getChangeset(maybeChangesetBoundary.get(), segment);
             } else { // single response
-                final String content = batchRead.untilDelimiter();
-                return Collections.singleton(new Entry(segmentHead, content)).spliterator();
+                return Collections.singleton(readEntry(segmentHead, segment)).spliterator();
             }
         });
     }
@@ -197,28 +198,94 @@ class MultipartParser implements AutoCloseable
     @Nonnull
     private
         Spliterator<Entry>
-        getChangeset( @Nonnull final String changesetDelimiter, final MultipartParserReader batchRead )
+        getChangeset( @Nonnull final String changesetDelimiter, @Nonnull final InputStream segment )
     {
-        final MultipartParserReader changesetRead = new MultipartParserReader(reader, changesetDelimiter);
-
-        // position reader after first sub-segment delimiter
-        changesetRead.untilDelimiter();
+        final MultipartBoundaryScanner changesetScanner = new MultipartBoundaryScanner(segment, changesetDelimiter);
 
         return new MultipartSpliterator<>(() -> {
-            if( changesetRead.isFinished() ) {
+            final InputStream subSegment = nextPart(changesetScanner);
+            if( subSegment == null ) {
                 return null;
             }
-            final String subSegmentHead = changesetRead.untilPayload();
+            final String subSegmentHead = readHead(subSegment);
             log.trace("Iterating Batch changeset segment with header {}", subSegmentHead);
 
-            final String content = changesetRead.untilDelimiter();
-            if( changesetRead.isFinished() ) {
-                batchRead.untilDelimiter(); // position reader to next batch delimiter
-            }
-            return new Entry(subSegmentHead, content);
+            return readEntry(subSegmentHead, subSegment);
         });
     }
 
+    @Nullable
+    private static InputStream nextPart( @Nonnull final MultipartBoundaryScanner scanner )
+    {
+        try {
+            return scanner.nextPart();
+        }
+        catch( final IOException e ) {
+            throw new UncheckedIOException("Unable to parse multi-part content.", e);
+        }
+    }
+
+    /**
+     * Read the header lines of a segment until (excluding) the next empty line, which signals the start of the payload.
+     */
+    @Nonnull
+    private String readHead( @Nonnull final InputStream segment )
+    {
+        final StringBuilder head = new StringBuilder();
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try {
+            int b;
+            while( (b = segment.read()) >= 0 ) {
+                if( b != '\n' ) {
+                    line.write(b);
+                    continue;
+                }
+                final String headerLine = toLine(line);
+                if( headerLine.isEmpty() ) {
+                    return head.toString();
+                }
+                head.append(headerLine).append('\n');
+                line.reset();
+            }
+        }
+        catch( final IOException e ) {
+            throw new UncheckedIOException("Unable to parse multi-part content.", e);
+        }
+        final String lastLine = toLine(line);
+        if( !lastLine.isEmpty() ) {
+            head.append(lastLine).append('\n');
+        }
+        return head.toString();
+    }
+
+    @Nonnull
+    private String toLine( @Nonnull final ByteArrayOutputStream line )
+    {
+        final byte[] bytes = line.toByteArray();
+        final int length = bytes.length > 0 && bytes[bytes.length - 1] == '\r' ? bytes.length - 1 : bytes.length;
+        return new String(bytes, 0, length, charset);
+    }
+
+    @Nonnull
+    private Entry readEntry( @Nonnull final String head, @Nonnull final InputStream segment )
+    {
+        byte[] payload = new byte[INITIAL_PAYLOAD_BUFFER_SIZE];
+        int length = 0;
+        try {
+            int read;
+            while( (read = segment.read(payload, length, payload.length - length)) >= 0 ) {
+                length += read;
+                if( length == payload.length ) {
+                    payload = Arrays.copyOf(payload, payload.length * 2);
+                }
+            }
+        }
+        catch( final IOException e ) {
+            throw new UncheckedIOException("Unable to parse multi-part content.", e);
+        }
+        return new Entry(head, payload, length, charset);
+    }
+
     @Nonnull
     private static Optional<String> getDelimiterFromString( @Nonnull final String segmentHead )
     {
@@ -251,13 +318,30 @@ class MultipartParser implements AutoCloseable
     @Override
     public void close()
     {
-        Try.run(reader::close).onFailure(e -> log.warn("Failed to close HTTP entity multi-part parser.", e));
+        Try.run(inputStream::close).onFailure(e -> log.warn("Failed to close HTTP entity multi-part parser.", e));
     }
 
+    /**
+     * A single segment of the multi-part response. The payload is a view on the first {@code payloadLength} bytes of
+     * the {@code payloadBytes} array.
+     */
     @Value
     static class Entry
     {
         String meta;
-        String payload;
+        byte[] payloadBytes;
+        int payloadLength;
+        Charset charset;
+
+        /**
+         * Get the payload decoded as string.
+         *
+         * @return The payload.
+         */
+        @Nonnull
+        public String getPayload()
+        {
+            return new String(payloadBytes, 0, payloadLength, charset);
+        }
     }
 }
@@ -4,6 +4,8 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.annotation.Nonnull;
@@ -18,12 +20,22 @@ import com.sap.cloud.sdk.datamodel.odata.client.adapter.UuidTypeAdapter;
 import com.sap.cloud.sdk.result.AnnotatedFieldGsonExclusionStrategy;
 import com.sap.cloud.sdk.result.ElementName;
 import com.sap.cloud.sdk.result.ElementNameGsonFieldNamingStrategy;
+import com.sap.cloud.sdk.result.GsonResultElementFactory;
 
 /**
  * Factory class to manage GSON references.
  */
 public final class ODataGsonBuilder
 {
+    private static final Map<NumberDeserializationStrategy, GsonResultElementFactory> RESULT_ELEMENT_FACTORIES =
+        new EnumMap<>(NumberDeserializationStrategy.class);
+
+    static {
+        for( final NumberDeserializationStrategy strategy : NumberDeserializationStrategy.values() ) {
+            RESULT_ELEMENT_FACTORIES.put(strategy, new GsonResultElementFactory(newGsonBuilder(strategy)));
+        }
+    }
+
     /**
      * Construct a new GsonBuilder for serialization and deserialization of OData values.
      *
@@ -61,4 +73,20 @@ public final class ODataGsonBuilder
 
         return gsonBuilder;
     }
+
+    /**
+     * Get the shared result element factory for the given number deserialization strategy. The factory and its
+     * {@link com.google.gson.Gson} instance are created once per strategy and reused across requests, such that type
+     * adapters of target types are only resolved once.
+     *
+     * @param numberStrategy
+     *            The default number deserialization strategy to be used for untyped numbers.
+     * @return The shared result element factory.
+     */
+    @Nonnull
+    static GsonResultElementFactory getResultElementFactory(
+        @Nonnull final NumberDeserializationStrategy numberStrategy )
+    {
+        return RESULT_ELEMENT_FACTORIES.get(numberStrategy);
+    }
 }
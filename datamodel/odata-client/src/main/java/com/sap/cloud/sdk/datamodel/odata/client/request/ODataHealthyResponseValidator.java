@@ -98,7 +98,8 @@ class ODataHealthyResponseValidator
     private static ODataServiceError loadErrorFromResponse( final ODataRequestResult result )
         throws ODataDeserializationException
     {
-        final GsonResultElementFactory elementFactory = new GsonResultElementFactory(ODataGsonBuilder.newGsonBuilder());
+        final GsonResultElementFactory elementFactory =
+            ODataGsonBuilder.getResultElementFactory(NumberDeserializationStrategy.DOUBLE);
 
         return HttpEntityReader.read(result, root -> {
             final JsonObject error = root.getAsJsonObject().get("error").getAsJsonObject();
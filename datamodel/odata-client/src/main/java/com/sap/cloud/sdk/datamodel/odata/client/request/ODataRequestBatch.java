@@ -1,8 +1,17 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import static lombok.AccessLevel.PRIVATE;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -10,6 +19,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
@@ -17,13 +29,21 @@ import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.HttpClient;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CountingOutputStream;
 import com.sap.cloud.sdk.cloudplatform.connectivity.CsrfToken;
 import com.sap.cloud.sdk.cloudplatform.connectivity.CsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultCsrfTokenRetriever;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
@@ -45,7 +65,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ODataRequestBatch extends ODataRequestGeneric
 {
-    private static final String DEFAULT_ODATA_BATCH_FORMAT_NEWLINE = "\r\n";
+    private static final byte[] DEFAULT_ODATA_BATCH_FORMAT_NEWLINE = "\r\n".getBytes(UTF_8);
 
     @Nonnull
     private final List<BatchItem> requests = new ArrayList<>();
@@ -56,6 +76,11 @@ public class ODataRequestBatch extends ODataRequestGeneric
 
     private final Supplier<UUID> uuidProvider;
 
+    private boolean streamingPayload = false;
+
+    @Nullable
+    private BatchSplitPolicy splitPolicy = null;
+
     /**
      * Default constructor for OData Batch request.
      *
@@ -147,6 +172,45 @@ public class ODataRequestBatch extends ODataRequestGeneric
         return this;
     }
 
+    /**
+     * Writes the batch request body directly to the HTTP connection while the request is sent, instead of assembling it
+     * in memory upfront. Boundaries, headers and the payloads of the single requests are written one after the other,
+     * which keeps the memory consumption of large batch requests low. The body is identical to the one sent otherwise,
+     * but it is sent with chunked transfer encoding.
+     *
+     * @return The same batch request which will write the request body while sending the request.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public ODataRequestBatch withStreamingPayload()
+    {
+        streamingPayload = true;
+        return this;
+    }
+
+    /**
+     * Splits this batch request into multiple smaller batch requests according to the given policy, if needed. The
+     * batch requests are executed concurrently, and their results are merged in their original order. Changesets are
+     * never split.
+     * <p>
+     * The batch requests are executed independently, so the operations of successful batch requests are processed even
+     * if another batch request fails. In that case, looking up the result of an operation of the failed batch request
+     * throws the original exception. Only if all batch requests fail, the execution itself fails.
+     *
+     * @param splitPolicy
+     *            The policy to split the batch request by.
+     * @return The same batch request which will be split upon execution.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public ODataRequestBatch withSplitPolicy( @Nonnull final BatchSplitPolicy splitPolicy )
+    {
+        this.splitPolicy = splitPolicy;
+        return this;
+    }
+
     /**
      * Instantiate a new changeset to the current OData Batch request. As per specification if any data modifying
      * operation fails within one changeset, then the incomplete changes will be reverted.
@@ -163,6 +227,13 @@ public class ODataRequestBatch extends ODataRequestGeneric
     @Nonnull
     public ODataRequestResultMultipartGeneric execute( @Nonnull final HttpClient httpClient )
     {
+        if( splitPolicy != null ) {
+            final List<ODataRequestBatch> batchRequests = split(splitPolicy);
+            if( batchRequests.size() > 1 ) {
+                return executeSplit(httpClient, batchRequests, splitPolicy.getParallelism());
+            }
+        }
+
         final CsrfTokenRetriever csrfTokenRetriever =
             Option.of(this.csrfTokenRetriever).getOrElse(DefaultCsrfTokenRetriever::new);
 
@@ -172,10 +243,25 @@ public class ODataRequestBatch extends ODataRequestGeneric
             return tryExecute(httpClient).get();
         }
 
+        final Map<String, Collection<String>> csrfTokenRequestHeaders = getHeaders();
         final Try<CsrfToken> csrfToken = tryGetCsrfToken(httpClient, csrfTokenRetriever);
         csrfToken.onSuccess(token -> addHeader(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY, token.getToken()));
 
-        final Try<ODataRequestResultMultipartGeneric> batchRequest = tryExecute(httpClient);
+        Try<ODataRequestResultMultipartGeneric> batchRequest = tryExecute(httpClient);
+
+        if( csrfToken.isSuccess()
+            && isCsrfTokenRejected(batchRequest)
+            && csrfTokenRetriever.invalidateCsrfToken(httpClient, getServicePath(), csrfTokenRequestHeaders) ) {
+            log.debug("The CSRF token was rejected, retrying the batch request once with a new CSRF token.");
+            headers.remove(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY);
+            final Try<CsrfToken> retriedCsrfToken = tryGetCsrfToken(httpClient, csrfTokenRetriever);
+            if( retriedCsrfToken.isFailure() ) {
+                batchRequest.getCause().addSuppressed(retriedCsrfToken.getCause());
+                return batchRequest.get();
+            }
+            setHeader(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY, retriedCsrfToken.get().getToken());
+            batchRequest = tryExecute(httpClient);
+        }
 
         if( batchRequest.isFailure() && csrfToken.isFailure() ) {
             batchRequest.getCause().addSuppressed(csrfToken.getCause());
@@ -183,10 +269,122 @@ public class ODataRequestBatch extends ODataRequestGeneric
         return batchRequest.get();
     }
 
+    @Nonnull
+    private ODataRequestResultMultipartGeneric executeSplit(
+        @Nonnull final HttpClient httpClient,
+        @Nonnull final List<ODataRequestBatch> batchRequests,
+        final int parallelism )
+    {
+        log.debug("Executing batch request as {} batch requests, {} at a time.", batchRequests.size(), parallelism);
+
+        final Semaphore permits = new Semaphore(parallelism);
+        final List<CompletableFuture<ODataRequestResultMultipartGeneric>> futures = new ArrayList<>();
+        for( final ODataRequestBatch batchRequest : batchRequests ) {
+            permits.acquireUninterruptibly();
+            final Supplier<ODataRequestResultMultipartGeneric> execution = () -> {
+                try {
+                    return batchRequest.execute(httpClient);
+                }
+                finally {
+                    permits.release();
+                }
+            };
+            try {
+                futures.add(CompletableFuture.supplyAsync(execution, ThreadContextExecutors::execute));
+            }
+            catch( final RuntimeException e ) {
+                // the execution was rejected and never runs, so its permit has to be released here
+                permits.release();
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        final List<Try<ODataRequestResultMultipartGeneric>> results = new ArrayList<>(futures.size());
+        for( final CompletableFuture<ODataRequestResultMultipartGeneric> future : futures ) {
+            results.add(Try.of(future::join).recoverWith(CompletionException.class, e -> Try.failure(e.getCause())));
+        }
+
+        if( results.stream().allMatch(Try::isFailure) ) {
+            final Throwable cause = results.get(0).getCause();
+            results.stream().skip(1).forEach(result -> cause.addSuppressed(result.getCause()));
+            if( cause instanceof RuntimeException runtimeException ) {
+                throw runtimeException;
+            }
+            throw new ODataRequestException(this, "Failed to execute batch request.", cause);
+        }
+        results
+            .stream()
+            .filter(Try::isFailure)
+            .forEach(result -> log.debug("One of the split batch requests failed.", result.getCause()));
+        return new ODataRequestResultMultipartSplit(this, batchRequests, results);
+    }
+
+    /**
+     * Splits the items of this batch request into multiple batch requests, which do not exceed the limits of the given
+     * policy. Single items, e.g. changesets, that exceed a limit on their own are put into a batch request of their
+     * own.
+     *
+     * @param policy
+     *            The policy to split the batch request by.
+     * @return The batch requests holding the items of this batch request in their original order.
+     */
+    @Nonnull
+    List<ODataRequestBatch> split( @Nonnull final BatchSplitPolicy policy )
+    {
+        final List<ODataRequestBatch> batchRequests = new ArrayList<>();
+        ODataRequestBatch batchRequest = null;
+        int operations = 0;
+        long bytes = 0;
+
+        for( final BatchItem item : requests ) {
+            final int itemOperations =
+                item instanceof BatchItemChangeset ? Math.max(1, ((BatchItemChangeset) item).getRequests().size()) : 1;
+            final long itemBytes = policy.isLimitingBytes() ? getBatchItemSize(item) : 0;
+
+            if( batchRequest == null
+                || operations + itemOperations > policy.getMaxOperations()
+                || bytes + itemBytes > policy.getMaxBytes() ) {
+                batchRequest = copyWithoutItems();
+                batchRequests.add(batchRequest);
+                operations = 0;
+                bytes = 0;
+            }
+            batchRequest.requests.add(item);
+            operations += itemOperations;
+            bytes += itemBytes;
+        }
+        return batchRequests;
+    }
+
+    private long getBatchItemSize( @Nonnull final BatchItem item )
+    {
+        final CountingOutputStream outputStream = new CountingOutputStream(OutputStream.nullOutputStream());
+        Try.run(() -> {
+            writeLine(outputStream, "--batch_" + batchUuid);
+            item.writeTo(outputStream);
+        }).getOrElseThrow(e -> new ODataRequestException(this, "Unable to serialize batch request payload.", e));
+        return outputStream.getCount();
+    }
+
+    @Nonnull
+    private ODataRequestBatch copyWithoutItems()
+    {
+        final ODataRequestBatch batchRequest = new ODataRequestBatch(servicePath, getProtocol(), uuidProvider);
+        headers.forEach(( key, values ) -> batchRequest.headers.put(key, new ArrayList<>(values)));
+        getQueryParameters().forEach(batchRequest::addQueryParameter);
+        getListeners().forEach(batchRequest::addListener);
+        batchRequest.setCsrfTokenRetriever(csrfTokenRetriever);
+        batchRequest.streamingPayload = streamingPayload;
+        return batchRequest;
+    }
+
     private Try<ODataRequestResultMultipartGeneric> tryExecute( @Nonnull final HttpClient httpClient )
     {
-        final String requestBody = getBatchRequestBody();
-        final ODataHttpRequest request = ODataHttpRequest.forBodyText(this, httpClient, requestBody);
+        final HttpEntity requestBody =
+            streamingPayload
+                ? new StreamingBatchEntity()
+                : new ByteArrayEntity(getBatchRequestBodyBytes(), ContentType.create("text/plain", UTF_8));
+        final ODataHttpRequest request = ODataHttpRequest.forHttpEntity(this, httpClient, requestBody);
 
         return Try
             .of(request::requestPost)
@@ -221,20 +419,81 @@ public class ODataRequestBatch extends ODataRequestGeneric
 
     @Nonnull
     String getBatchRequestBody()
+    {
+        return new String(getBatchRequestBodyBytes(), UTF_8);
+    }
+
+    @Nonnull
+    private byte[] getBatchRequestBodyBytes()
+    {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Try
+            .run(() -> writeBatchRequestBody(outputStream))
+            .getOrElseThrow(e -> new ODataRequestException(this, "Unable to serialize batch request payload.", e));
+        return outputStream.toByteArray();
+    }
+
+    private void writeBatchRequestBody( @Nonnull final OutputStream outputStream )
+        throws IOException
     {
         final String batchDelimiter = "--batch_" + batchUuid;
         final String batchDelimiterEnd = batchDelimiter + "--";
 
-        final List<String> resultLines = new ArrayList<>();
         for( final BatchItem item : requests ) {
-            resultLines.add(batchDelimiter);
-            resultLines.addAll(item.getLines());
+            writeLine(outputStream, batchDelimiter);
+            item.writeTo(outputStream);
         }
 
         // closing delimiter
-        resultLines.add(batchDelimiterEnd);
-        resultLines.add("");
-        return String.join(DEFAULT_ODATA_BATCH_FORMAT_NEWLINE, resultLines);
+        writeLine(outputStream, batchDelimiterEnd);
+    }
+
+    private static void writeLine( @Nonnull final OutputStream outputStream, @Nonnull final String line )
+        throws IOException
+    {
+        outputStream.write(line.getBytes(UTF_8));
+        outputStream.write(DEFAULT_ODATA_BATCH_FORMAT_NEWLINE);
+    }
+
+    /**
+     * Repeatable HTTP entity, which writes the batch request body directly to the output stream of the HTTP request.
+     */
+    private final class StreamingBatchEntity extends AbstractHttpEntity
+    {
+        @Override
+        public boolean isRepeatable()
+        {
+            return true;
+        }
+
+        @Override
+        public long getContentLength()
+        {
+            // unknown, the body is sent chunked
+            return -1;
+        }
+
+        @Override
+        @Nonnull
+        public InputStream getContent()
+        {
+            return new ByteArrayInputStream(getBatchRequestBodyBytes());
+        }
+
+        @Override
+        public void writeTo( @Nonnull final OutputStream outputStream )
+            throws IOException
+        {
+            final OutputStream bufferedStream = new BufferedOutputStream(outputStream);
+            writeBatchRequestBody(bufferedStream);
+            bufferedStream.flush();
+        }
+
+        @Override
+        public boolean isStreaming()
+        {
+            return false;
+        }
     }
 
     /**
@@ -257,7 +516,7 @@ public class ODataRequestBatch extends ODataRequestGeneric
         public Changeset addCreate( @Nonnull final ODataRequestCreate request )
         {
             final BatchItemSingle item =
-                new BatchItemSingle(originalRequest, request, "POST", request::getSerializedEntity);
+                new BatchItemSingle(originalRequest, request, "POST", entityPayload(request.getRequestHttpEntity()));
             queries.add(item);
             return this;
         }
@@ -288,7 +547,11 @@ public class ODataRequestBatch extends ODataRequestGeneric
             }
 
             final BatchItemSingle item =
-                new BatchItemSingle(originalRequest, request, httpMethod, request::getSerializedEntity);
+                new BatchItemSingle(
+                    originalRequest,
+                    request,
+                    httpMethod,
+                    entityPayload(request.getRequestHttpEntity()));
             queries.add(item);
             return this;
         }
@@ -321,7 +584,7 @@ public class ODataRequestBatch extends ODataRequestGeneric
         public Changeset addAction( @Nonnull final ODataRequestAction request )
         {
             final BatchItemSingle item =
-                new BatchItemSingle(originalRequest, request, "POST", request::getActionParameters);
+                new BatchItemSingle(originalRequest, request, "POST", textPayload(request.getActionParameters()));
             queries.add(item);
             return this;
         }
@@ -353,13 +616,13 @@ public class ODataRequestBatch extends ODataRequestGeneric
         @Nonnull
         private final String httpMethod;
         @Nullable
-        private final Supplier<String> payload;
+        private final BatchItemPayload payload;
 
         private BatchItemSingle(
             @Nonnull final ODataRequestBatch requestBatch,
             @Nonnull final ODataRequestGeneric requestSingle,
             @Nonnull final String httpMethod,
-            @Nullable final Supplier<String> payload )
+            @Nullable final BatchItemPayload payload )
         {
             final String encodedRelativeUriSingleRequest =
                 requestSingle.getRelativeUri(UriEncodingStrategy.BATCH).toString();
@@ -407,25 +670,28 @@ public class ODataRequestBatch extends ODataRequestGeneric
             }
         }
 
-        @Nonnull
         @Override
-        public List<String> getLines()
+        public void writeTo( @Nonnull final OutputStream outputStream )
+            throws IOException
         {
-            final List<String> lines = new ArrayList<>();
-            lines.add("Content-Type: application/http");
-            lines.add("Content-Transfer-Encoding: binary");
-            lines.add("Content-ID: " + contentId);
-
-            lines.add("");
-            lines.add(String.format("%s %s HTTP/1.1", httpMethod, resourcePath));
-            request.getHeaders().forEach(( k, values ) -> values.forEach(v -> lines.add(k + ": " + v)));
-            lines.add("");
+            writeLine(outputStream, "Content-Type: application/http");
+            writeLine(outputStream, "Content-Transfer-Encoding: binary");
+            writeLine(outputStream, "Content-ID: " + contentId);
+
+            writeLine(outputStream, "");
+            writeLine(outputStream, httpMethod + " " + resourcePath + " HTTP/1.1");
+            for( final Map.Entry<String, Collection<String>> header : request.getHeaders().entrySet() ) {
+                for( final String value : header.getValue() ) {
+                    writeLine(outputStream, header.getKey() + ": " + value);
+                }
+            }
+            writeLine(outputStream, "");
 
             if( payload != null ) {
-                lines.add(payload.get());
+                payload.writeTo(outputStream);
+                writeLine(outputStream, "");
             }
-            lines.add("");
-            return lines;
+            writeLine(outputStream, "");
         }
     }
 
@@ -438,31 +704,72 @@ public class ODataRequestBatch extends ODataRequestGeneric
         @Nonnull
         final List<BatchItemSingle> requests;
 
-        @Nonnull
         @Override
-        public List<String> getLines()
+        public void writeTo( @Nonnull final OutputStream outputStream )
+            throws IOException
         {
             final String changesetDelimiter = "--changeset_" + changeSetId;
             final String changesetDelimiterEnd = changesetDelimiter + "--";
 
-            final List<String> lines = new ArrayList<>();
-            lines.add("Content-Type: multipart/mixed;boundary=changeset_" + changeSetId);
-            lines.add("");
+            writeLine(outputStream, "Content-Type: multipart/mixed;boundary=changeset_" + changeSetId);
+            writeLine(outputStream, "");
 
             for( final BatchItem request : requests ) {
-                lines.add(changesetDelimiter);
-                lines.addAll(request.getLines());
+                writeLine(outputStream, changesetDelimiter);
+                request.writeTo(outputStream);
             }
-            lines.add(changesetDelimiterEnd);
-            lines.add("");
-            return lines;
+            writeLine(outputStream, changesetDelimiterEnd);
+            writeLine(outputStream, "");
         }
     }
 
     interface BatchItem
     {
-        @Nonnull
-        List<String> getLines();
+        /**
+         * Writes the lines of this item to the batch request body, each terminated by a line break.
+         *
+         * @param outputStream
+         *            The output stream of the batch request body.
+         * @throws IOException
+         *             If writing to the output stream failed.
+         */
+        void writeTo( @Nonnull final OutputStream outputStream )
+            throws IOException;
+    }
+
+    /**
+     * The payload of a single request inside a batch request.
+     */
+    @FunctionalInterface
+    interface BatchItemPayload
+    {
+        /**
+         * Writes the payload in UTF-8 to the batch request body.
+         *
+         * @param outputStream
+         *            The output stream of the batch request body.
+         * @throws IOException
+         *             If writing to the output stream failed.
+         */
+        void writeTo( @Nonnull final OutputStream outputStream )
+            throws IOException;
+    }
+
+    @Nullable
+    private static BatchItemPayload textPayload( @Nullable final String payload )
+    {
+        return payload == null ? null : outputStream -> outputStream.write(payload.getBytes(UTF_8));
+    }
+
+    @Nonnull
+    private static BatchItemPayload entityPayload( @Nonnull final HttpEntity entity )
+    {
+        final Charset charset = Option.of(ContentType.getLenient(entity)).map(ContentType::getCharset).getOrNull();
+        if( charset == null || UTF_8.equals(charset) ) {
+            // the payload is written as is, without holding it in memory
+            return entity::writeTo;
+        }
+        return outputStream -> outputStream.write(EntityUtils.toString(entity, UTF_8).getBytes(UTF_8));
     }
 
     /**
@@ -1,16 +1,25 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.net.URI;
 
 import javax.annotation.Nonnull;
 
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.client.HttpClient;
+import org.apache.http.util.EntityUtils;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.Lists;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
 
+import io.vavr.control.Try;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -22,7 +31,8 @@ import lombok.Getter;
 public class ODataRequestCreate extends ODataRequestGeneric
 {
     @Nonnull
-    private final String serializedEntity;
+    @Getter( AccessLevel.PACKAGE )
+    private final HttpEntity requestHttpEntity;
 
     /**
      * Convenience constructor for OData delete requests on entity collections directly. For operations on nested
@@ -63,10 +73,38 @@ public class ODataRequestCreate extends ODataRequestGeneric
         @Nonnull final ODataResourcePath entityPath,
         @Nonnull final String serializedEntity,
         @Nonnull final ODataProtocol protocol )
+    {
+        this(servicePath, entityPath, new ComparableHttpEntity(serializedEntity), protocol);
+    }
+
+    /**
+     * Constructor for OData Create requests with a custom HTTP entity as payload, e.g. an entity that writes the
+     * serialized OData entity directly to the HTTP connection. The HTTP entity should be repeatable, so that the
+     * request can be repeated, e.g. with a new CSRF token.
+     *
+     * @param servicePath
+     *            The OData service path.
+     * @param entityPath
+     *            The {@link ODataResourcePath path} to the OData entity.
+     * @param httpEntity
+     *            The HTTP entity holding the payload.
+     * @param protocol
+     *            The OData protocol to use.
+     * @since 5.23.0
+     */
+    @Beta
+    public ODataRequestCreate(
+        @Nonnull final String servicePath,
+        @Nonnull final ODataResourcePath entityPath,
+        @Nonnull final HttpEntity httpEntity,
+        @Nonnull final ODataProtocol protocol )
     {
         super(servicePath, entityPath, protocol);
-        this.serializedEntity = serializedEntity;
-        headers.putIfAbsent(HttpHeaders.CONTENT_TYPE, Lists.newArrayList("application/json"));
+        requestHttpEntity = httpEntity;
+
+        final Header contentType = httpEntity.getContentType();
+        final String contentTypeValue = contentType != null ? contentType.getValue() : "application/json";
+        headers.putIfAbsent(HttpHeaders.CONTENT_TYPE, Lists.newArrayList(contentTypeValue));
     }
 
     @Nonnull
@@ -80,8 +118,21 @@ public class ODataRequestCreate extends ODataRequestGeneric
     @Override
     public ODataRequestResultGeneric execute( @Nonnull final HttpClient httpClient )
     {
-        final ODataHttpRequest request = ODataHttpRequest.forBodyJson(this, httpClient, serializedEntity);
+        final ODataHttpRequest request = ODataHttpRequest.forHttpEntity(this, httpClient, requestHttpEntity);
 
         return tryExecuteWithCsrfToken(httpClient, request::requestPost).get();
     }
+
+    /**
+     * Get the String representation of the create payload.
+     *
+     * @return The serialized entity.
+     */
+    @Nonnull
+    public String getSerializedEntity()
+    {
+        return Try
+            .of(() -> EntityUtils.toString(requestHttpEntity, UTF_8))
+            .getOrElseThrow(e -> new ODataRequestException(this, "Unable to serialize request payload.", e));
+    }
 }
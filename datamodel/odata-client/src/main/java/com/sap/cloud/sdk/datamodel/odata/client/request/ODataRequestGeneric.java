@@ -13,6 +13,7 @@ import javax.annotation.Nullable;
 
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 
 import com.google.common.base.Joiner;
@@ -22,6 +23,7 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.CsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultCsrfTokenRetriever;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataResponseException;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
 
 import io.vavr.control.Option;
@@ -244,7 +246,9 @@ public abstract class ODataRequestGeneric implements ODataRequestExecutable
      * {@link ODataRequestGeneric#tryExecute(Supplier, HttpClient)}.
      * <p>
      * CSRF token retrieval is skipped, if a token is already present. The actual request is performed regardless
-     * whether or not a CSRF token was retrieved.
+     * whether or not a CSRF token was retrieved. If the remote system rejects a token that the
+     * {@link CsrfTokenRetriever} could invalidate, e.g. an expired token served from a cache, a new token is retrieved
+     * and the request is retried once.
      *
      * @param httpClient
      *            An {@link HttpClient} to execute the CSRF token retrieval.
@@ -267,10 +271,25 @@ public abstract class ODataRequestGeneric implements ODataRequestExecutable
             return tryExecute(httpOperation, httpClient);
         }
 
+        final Map<String, Collection<String>> csrfTokenRequestHeaders = getHeaders();
         final Try<CsrfToken> csrfToken = tryGetCsrfToken(httpClient, csrfTokenRetriever);
         csrfToken.onSuccess(token -> addHeader(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY, token.getToken()));
 
-        final Try<ODataRequestResultGeneric> oDataRequest = tryExecute(httpOperation, httpClient);
+        Try<ODataRequestResultGeneric> oDataRequest = tryExecute(httpOperation, httpClient);
+
+        if( csrfToken.isSuccess()
+            && isCsrfTokenRejected(oDataRequest)
+            && csrfTokenRetriever.invalidateCsrfToken(httpClient, servicePath, csrfTokenRequestHeaders) ) {
+            log.debug("The CSRF token was rejected, retrying the request once with a newly retrieved CSRF token.");
+            headers.remove(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY);
+            final Try<CsrfToken> retriedCsrfToken = tryGetCsrfToken(httpClient, csrfTokenRetriever);
+            if( retriedCsrfToken.isFailure() ) {
+                oDataRequest.getCause().addSuppressed(retriedCsrfToken.getCause());
+                return oDataRequest;
+            }
+            setHeader(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY, retriedCsrfToken.get().getToken());
+            oDataRequest = tryExecute(httpOperation, httpClient);
+        }
 
         if( oDataRequest.isFailure() && csrfToken.isFailure() ) {
             oDataRequest.getCause().addSuppressed(csrfToken.getCause());
@@ -278,6 +297,24 @@ public abstract class ODataRequestGeneric implements ODataRequestExecutable
         return oDataRequest;
     }
 
+    /**
+     * Checks whether the request failed, because the remote system rejected the CSRF token. In that case the system
+     * responds with status code 403 and the header {@code x-csrf-token: Required}.
+     */
+    static boolean isCsrfTokenRejected( @Nonnull final Try<?> request )
+    {
+        if( request.isSuccess() || !(request.getCause() instanceof ODataResponseException responseException) ) {
+            return false;
+        }
+        return responseException.getHttpCode() == HttpStatus.SC_FORBIDDEN
+            && responseException
+                .getHttpHeaders()
+                .stream()
+                .anyMatch(
+                    header -> DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY.equalsIgnoreCase(header.getName())
+                        && "Required".equalsIgnoreCase(header.getValue()));
+    }
+
     /**
      * Get the list of headers that will be sent with this request. To add headers, please use
      * {@link #addHeader(String, String) addHeader} and {@link #addHeaderIfAbsent(String, String) addHeaderIfAbsent}
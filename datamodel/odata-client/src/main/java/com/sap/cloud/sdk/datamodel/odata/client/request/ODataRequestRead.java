@@ -1,6 +1,12 @@
 package com.sap.cloud.sdk.datamodel.odata.client.request;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -14,19 +20,32 @@ import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
 import com.sap.cloud.sdk.datamodel.odata.client.query.StructuredQuery;
 
 import io.vavr.control.Try;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * The result type of the OData Read request.
  */
 @Getter
 @EqualsAndHashCode( callSuper = true )
+@Slf4j
 public class ODataRequestRead extends ODataRequestGeneric
 {
+    private static final Set<String> COUNT_QUERY_OPTIONS = Set.of("$filter", "$search");
+
     @Nonnull
     private final String queryString;
 
+    /**
+     * The pool of values shared by all pages of this request, if values are interned.
+     */
+    @Getter( AccessLevel.NONE )
+    @EqualsAndHashCode.Exclude
+    @Nullable
+    ValueInterner valueInterner;
+
     /**
      * Convenience constructor for OData read requests on entity collections directly. For operations on nested entity
      * collections use {@link #ODataRequestRead(String, ODataResourcePath, String, ODataProtocol)}.
@@ -136,6 +155,155 @@ public class ODataRequestRead extends ODataRequestGeneric
         return result.get();
     }
 
+    /**
+     * Iterate over the result-set in pages of the given size, which are requested concurrently. The number of matching
+     * entities is determined with a {@code $count} request first. Then the result-set is split into ranges, which are
+     * read via {@code $skip} and {@code $top}. The pages are returned in their original order. An existing
+     * {@code $skip} or {@code $top} query option of this request restricts the ranges that are read.
+     * <p>
+     * <strong>Note:</strong> This is only applicable for services that support {@code $count} and {@code $skip}. The
+     * request should define a stable sort order, e.g. via {@code $orderby}, so that the ranges of concurrent requests
+     * neither overlap nor leave gaps. Server-driven pagination within a range is followed automatically.
+     *
+     * @param httpClient
+     *            The {@link HttpClient} to execute the requests with.
+     * @param type
+     *            The expected class reference to be used for deserializing the resulting items.
+     * @param pageSize
+     *            The number of entities to request per page.
+     * @param parallelism
+     *            The maximum number of pages to request at the same time.
+     * @param <T>
+     *            The generic item type.
+     * @return An instance of {@link Iterable} that allows iteration through the OData result pages.
+     * @throws IllegalArgumentException
+     *             If the page size or the parallelism is not positive.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public <T> Iterable<List<T>> iteratePagesInParallel(
+        @Nonnull final HttpClient httpClient,
+        @Nonnull final Class<? extends T> type,
+        final int pageSize,
+        final int parallelism )
+    {
+        if( pageSize <= 0 || parallelism <= 0 ) {
+            throw new IllegalArgumentException("The page size and the parallelism must be positive.");
+        }
+        final Map<String, String> queryOptions = new LinkedHashMap<>();
+        for( final String queryOption : getRequestQuery().split("&") ) {
+            if( !queryOption.isEmpty() ) {
+                final int separator = queryOption.indexOf('=');
+                final String key = separator < 0 ? queryOption : queryOption.substring(0, separator);
+                queryOptions.put(key, separator < 0 ? "" : queryOption.substring(separator + 1));
+            }
+        }
+        final long skip = Long.parseLong(queryOptions.getOrDefault("$skip", "0"));
+        final String top = queryOptions.remove("$top");
+        queryOptions.remove("$skip");
+
+        final long count = countEntities(httpClient, queryOptions);
+        final long end = top == null ? count : Math.min(count, skip + Long.parseLong(top));
+        final int pageCount = (int) Math.max(0, (end - skip + pageSize - 1) / pageSize);
+        log.debug("Reading {} entities of {} service in {} pages.", end - skip, getProtocol(), pageCount);
+
+        final IntFunction<List<T>> pageLoader = pageIndex -> {
+            final long pageSkip = skip + (long) pageIndex * pageSize;
+            final long pageTop = Math.min(pageSize, end - pageSkip);
+            final Map<String, String> pageOptions = new LinkedHashMap<>(queryOptions);
+            pageOptions.put("$skip", String.valueOf(pageSkip));
+            pageOptions.put("$top", String.valueOf(pageTop));
+            final ODataRequestRead pageRequest =
+                copy(new ODataRequestRead(servicePath, resourcePath, toQueryString(pageOptions), getProtocol()));
+            final List<T> items = new ArrayList<>();
+            pageRequest.execute(httpClient).iteratePages(type).forEach(items::addAll);
+            return items;
+        };
+        return () -> new ODataRequestReadRangeIterator<>(pageCount, parallelism, pageLoader);
+    }
+
+    private long countEntities( @Nonnull final HttpClient httpClient, @Nonnull final Map<String, String> queryOptions )
+    {
+        // the $count segment only supports filtering query options
+        final Map<String, String> countOptions = new LinkedHashMap<>(queryOptions);
+        countOptions.keySet().removeIf(key -> key.startsWith("$") && !COUNT_QUERY_OPTIONS.contains(key));
+        // the count request appends a segment to the resource path, so it must not modify the path of this request
+        final ODataResourcePath countPath = new ODataResourcePath();
+        resourcePath.getSegments().forEach(segment -> countPath.addSegment(segment._1(), segment._2()));
+        final ODataRequestCount countRequest =
+            copy(new ODataRequestCount(servicePath, countPath, toQueryString(countOptions), getProtocol()));
+        final Long count = countRequest.execute(httpClient).as(Long.class);
+        return count == null ? 0 : count;
+    }
+
+    @Nonnull
+    private <RequestT extends ODataRequestRead> RequestT copy( @Nonnull final RequestT request )
+    {
+        getHeaders().forEach(request::setHeader);
+        request.setCsrfTokenRetriever(csrfTokenRetriever);
+        request.valueInterner = valueInterner;
+        return request;
+    }
+
+    @Nonnull
+    private static String toQueryString( @Nonnull final Map<String, String> queryOptions )
+    {
+        final List<String> queryString = new ArrayList<>(queryOptions.size());
+        queryOptions.forEach(( key, value ) -> queryString.add(value.isEmpty() ? key : key + "=" + value));
+        return String.join("&", queryString);
+    }
+
+    /**
+     * Buffer the HTTP response in a temporary file instead of memory, if it is larger than the given threshold. The
+     * response can still be read repeatedly. The temporary file is deleted once the response is garbage collected. The
+     * following pages of the result-set are buffered the same way.
+     *
+     * @param thresholdBytes
+     *            The maximum number of bytes to buffer in memory.
+     * @return This request object.
+     * @throws IllegalArgumentException
+     *             If the threshold is negative.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public ODataRequestRead withResponseSpilling( final long thresholdBytes )
+    {
+        if( thresholdBytes < 0 ) {
+            throw new IllegalArgumentException(
+                "The threshold for buffering a response in memory must not be negative.");
+        }
+        requestResultFactory = ODataRequestResultFactory.withSpilling(thresholdBytes);
+        return this;
+    }
+
+    /**
+     * Replace equal values by a single canonical instance, while the entities of this request are deserialized. This
+     * reduces the memory footprint of large result-sets that repeat a few distinct values many times, e.g. currency
+     * codes, units or status flags. Strings, decimals, dates and times are interned. The pool holds up to the given
+     * number of distinct values and is shared by all pages of the result-set. It is discarded together with the
+     * request.
+     * <p>
+     * <strong>Note:</strong> Only use this for result-sets that are kept in memory, e.g. as cached master data.
+     * Interning adds a lookup for every deserialized value.
+     *
+     * @param maximumSize
+     *            The maximum number of distinct values to hold in the pool, e.g.
+     *            {@link ValueInterner#DEFAULT_MAXIMUM_SIZE}.
+     * @return This request object.
+     * @throws IllegalArgumentException
+     *             If the maximum size is not positive.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public ODataRequestRead withValueInterning( final int maximumSize )
+    {
+        valueInterner = new ValueInterner(maximumSize);
+        return this;
+    }
+
     /**
      * Disable pre-buffering of http response entity.
      */
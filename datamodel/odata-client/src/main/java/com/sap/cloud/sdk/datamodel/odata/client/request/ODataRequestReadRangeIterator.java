@@ -0,0 +1,92 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nonnull;
+
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterator over a fixed number of pages, which are loaded concurrently. At most the configured number of pages is
+ * loaded at the same time, and the pages are returned in their original order.
+ *
+ * @param <T>
+ *            The type of the page items.
+ */
+@Slf4j
+class ODataRequestReadRangeIterator<T> implements Iterator<List<T>>
+{
+    private final int pageCount;
+    private final int parallelism;
+
+    @Nonnull
+    private final IntFunction<List<T>> pageLoader;
+
+    @Nonnull
+    private final Deque<CompletableFuture<List<T>>> loadingPages = new ArrayDeque<>();
+
+    private int requestedPages = 0;
+    private int returnedPages = 0;
+
+    ODataRequestReadRangeIterator(
+        final int pageCount,
+        final int parallelism,
+        @Nonnull final IntFunction<List<T>> pageLoader )
+    {
+        this.pageCount = pageCount;
+        this.parallelism = parallelism;
+        this.pageLoader = pageLoader;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return returnedPages < pageCount;
+    }
+
+    @Override
+    @Nonnull
+    public List<T> next()
+    {
+        if( !hasNext() ) {
+            throw new NoSuchElementException("No next page of OData result-set defined.");
+        }
+        requestPages();
+        final CompletableFuture<List<T>> nextPage = Objects.requireNonNull(loadingPages.poll());
+        requestPages();
+        try {
+            final List<T> page = nextPage.join();
+            returnedPages++;
+            return page;
+        }
+        catch( final CompletionException e ) {
+            // stop iterating, pages that are still loading are discarded
+            loadingPages.clear();
+            returnedPages = pageCount;
+            if( e.getCause() instanceof RuntimeException cause ) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void requestPages()
+    {
+        while( requestedPages < pageCount && loadingPages.size() < parallelism ) {
+            final int pageIndex = requestedPages++;
+            log.debug("Requesting page {} of {} of OData result-set.", pageIndex + 1, pageCount);
+            loadingPages
+                .add(CompletableFuture.supplyAsync(() -> pageLoader.apply(pageIndex), ThreadContextExecutors::execute));
+        }
+    }
+}
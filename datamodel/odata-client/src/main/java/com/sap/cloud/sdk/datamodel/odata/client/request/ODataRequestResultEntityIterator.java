@@ -0,0 +1,238 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.sap.cloud.sdk.datamodel.odata.client.JsonPath;
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.ODataResponseDeserializer;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
+
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterator over the entities of an OData result-set. The entities are read one by one from the HTTP response and
+ * deserialized directly with the {@link TypeAdapter} of the target type, without creating an intermediate JSON tree.
+ * The next page link of server-driven pagination is picked up while reading a page, and the next page is requested once
+ * all entities of the current page are consumed.
+ *
+ * @param <T>
+ *            The generic entity type.
+ */
+@Slf4j
+class ODataRequestResultEntityIterator<T> implements Iterator<T>, Closeable
+{
+    @Nonnull
+    private final TypeAdapter<? extends T> typeAdapter;
+
+    @Nonnull
+    private final List<String> pathToResultSet;
+
+    @Nonnull
+    private final List<List<String>> pathsToNextLink = new ArrayList<>();
+
+    @Nonnull
+    private ODataRequestResultGeneric page;
+
+    @Nullable
+    private JsonReader reader;
+
+    @Nullable
+    private String nextLink;
+
+    /**
+     * Default constructor.
+     *
+     * @param firstPage
+     *            First page of the result-set.
+     * @param typeAdapter
+     *            The type adapter to deserialize the entities with.
+     */
+    ODataRequestResultEntityIterator(
+        @Nonnull final ODataRequestResultGeneric firstPage,
+        @Nonnull final TypeAdapter<? extends T> typeAdapter )
+    {
+        this.typeAdapter = typeAdapter;
+        page = firstPage;
+
+        final ODataProtocol protocol = firstPage.getODataRequest().getProtocol();
+        pathToResultSet = protocol.getPathToResultSet().getPaths().get(0).getNodes();
+
+        // the next link is relative to the single result, e.g. "d" in case of OData V2
+        final List<String> pathToResultSingle = protocol.getPathToResultSingle().getPaths().get(0).getNodes();
+        for( final JsonPath path : protocol.getPathToNextLink().getPaths() ) {
+            final List<String> pathToNextLink = new ArrayList<>(pathToResultSingle);
+            pathToNextLink.addAll(path.getNodes());
+            pathsToNextLink.add(pathToNextLink);
+        }
+
+        openPage();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while( reader != null ) {
+            if( tryRead(reader::hasNext) ) {
+                return true;
+            }
+            tryRead(this::finishPage);
+            if( nextLink != null ) {
+                page = requestPage(nextLink);
+                openPage();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @Nonnull
+    public T next()
+        throws NoSuchElementException,
+            ODataException
+    {
+        if( !hasNext() ) {
+            throw new NoSuchElementException("No more entities in OData result-set.");
+        }
+        final JsonReader currentReader = reader;
+        final T entity = tryRead(() -> typeAdapter.read(currentReader));
+        if( entity == null ) {
+            throw newDeserializationException("The " + getProtocol() + " result-set contains a null value.", null);
+        }
+        return entity;
+    }
+
+    @Override
+    public void close()
+    {
+        nextLink = null;
+        closeReader();
+    }
+
+    private void openPage()
+    {
+        // the response is read with the same charset and positioned in the same way as for the other result types
+        reader = HttpEntityReader.open(page);
+        nextLink = null;
+        final JsonReader jsonReader = reader;
+        tryRead(() -> {
+            new ODataResponseDeserializer(getProtocol()).positionReaderToResultSet(jsonReader, this::readSibling);
+            return null;
+        });
+    }
+
+    @Nullable
+    private Void finishPage()
+        throws IOException
+    {
+        final JsonReader jsonReader = getReader();
+        jsonReader.endArray();
+        for( int i = pathToResultSet.size() - 1; i >= 0; i-- ) {
+            while( jsonReader.hasNext() ) {
+                final List<String> path = new ArrayList<>(pathToResultSet.subList(0, i));
+                path.add(jsonReader.nextName());
+                readSibling(path);
+            }
+            jsonReader.endObject();
+        }
+        closeReader();
+        log.debug("Iterated all entities of current page, next link: {}", nextLink);
+        return null;
+    }
+
+    /**
+     * Read a value next to the path of the result-set, which may be the next link.
+     */
+    private void readSibling( @Nonnull final List<String> path )
+        throws IOException
+    {
+        final JsonReader jsonReader = getReader();
+        if( pathsToNextLink.contains(path) && jsonReader.peek() == JsonToken.STRING ) {
+            nextLink = page.removeDuplicateQueryParameters(jsonReader.nextString());
+        } else {
+            jsonReader.skipValue();
+        }
+    }
+
+    @Nonnull
+    private ODataRequestResultGeneric requestPage( @Nonnull final String link )
+    {
+        log.debug("Requesting next page of OData result-set.");
+        final ODataRequestResultGeneric currentPage = page;
+        return currentPage
+            .tryGetPage(Option.of(link))
+            .andThenTry(ODataHealthyResponseValidator::requireHealthyResponse)
+            .getOrElseThrow(
+                e -> new ODataRequestException(currentPage.getODataRequest(), "Failed to handle next page.", e));
+    }
+
+    @Nonnull
+    private JsonReader getReader()
+    {
+        if( reader == null ) {
+            throw new IllegalStateException("The current page of the OData result-set is already consumed.");
+        }
+        return reader;
+    }
+
+    private void closeReader()
+    {
+        final JsonReader currentReader = reader;
+        reader = null;
+        if( currentReader != null ) {
+            Try.run(currentReader::close).onFailure(e -> log.debug("Failed to close the HTTP response content.", e));
+        }
+    }
+
+    @Nonnull
+    private ODataProtocol getProtocol()
+    {
+        return page.getODataRequest().getProtocol();
+    }
+
+    @Nonnull
+    private
+        ODataDeserializationException
+        newDeserializationException( @Nonnull final String message, @Nullable final Throwable cause )
+    {
+        close();
+        return new ODataDeserializationException(page.getODataRequest(), page.getHttpResponse(), message, cause);
+    }
+
+    private <R> R tryRead( @Nonnull final ReaderOperation<R> operation )
+    {
+        try {
+            return operation.apply();
+        }
+        catch( final ODataException e ) {
+            close();
+            throw e;
+        }
+        catch( final IOException | RuntimeException e ) {
+            final String message = "A problem occurred while streaming the " + getProtocol() + " response.";
+            log.debug(message, e);
+            throw newDeserializationException(message, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReaderOperation<R>
+    {
+        R apply()
+            throws IOException;
+    }
+}
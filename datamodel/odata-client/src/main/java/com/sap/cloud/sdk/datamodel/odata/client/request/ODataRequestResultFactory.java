@@ -5,6 +5,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
 import org.apache.http.client.HttpClient;
@@ -12,6 +13,7 @@ import org.apache.http.entity.BufferedHttpEntity;
 import org.apache.http.message.BasicHttpResponse;
 import org.slf4j.Logger;
 
+import io.vavr.CheckedFunction1;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 
@@ -29,22 +31,43 @@ interface ODataRequestResultFactory
     /**
      * Strategy that buffers the response by creating a copy of it.
      */
-    ODataRequestResultFactory WITH_BUFFER = ( oDataRequest, httpResponse, httpClient ) -> {
-        final StatusLine status = httpResponse.getStatusLine();
-        final BasicHttpResponse copy = new BasicHttpResponse(status);
-        Option.of(httpResponse.getLocale()).peek(copy::setLocale);
-        Option.of(httpResponse.getAllHeaders()).peek(copy::setHeaders);
-
-        final Logger log = getLogger(ODataRequestResultFactory.class);
-        Option
-            .of(httpResponse.getEntity())
-            .onEmpty(() -> log.debug("HTTP response entity is empty: {}", status))
-            .map(entity -> Try.run(() -> copy.setEntity(new BufferedHttpEntity(entity))))
-            .peek(b -> b.onSuccess(v -> log.debug("Successfully buffered the HTTP response entity.")))
-            .peek(b -> b.onFailure(e -> log.warn("Failed to buffer HTTP response entity: {}", status, e)));
-
-        return new ODataRequestResultGeneric(oDataRequest, copy, httpClient);
-    };
+    ODataRequestResultFactory WITH_BUFFER = withEntityBuffer(BufferedHttpEntity::new);
+
+    /**
+     * Strategy that buffers the response by creating a copy of it. Response entities larger than the given threshold
+     * are buffered in a temporary file instead of memory.
+     *
+     * @param threshold
+     *            The maximum number of bytes to buffer in memory.
+     * @return The strategy.
+     */
+    @Nonnull
+    static ODataRequestResultFactory withSpilling( final long threshold )
+    {
+        return withEntityBuffer(entity -> new SpillingHttpEntity(entity, threshold));
+    }
+
+    @Nonnull
+    private static ODataRequestResultFactory withEntityBuffer(
+        @Nonnull final CheckedFunction1<HttpEntity, HttpEntity> entityBuffer )
+    {
+        return ( oDataRequest, httpResponse, httpClient ) -> {
+            final StatusLine status = httpResponse.getStatusLine();
+            final BasicHttpResponse copy = new BasicHttpResponse(status);
+            Option.of(httpResponse.getLocale()).peek(copy::setLocale);
+            Option.of(httpResponse.getAllHeaders()).peek(copy::setHeaders);
+
+            final Logger log = getLogger(ODataRequestResultFactory.class);
+            Option
+                .of(httpResponse.getEntity())
+                .onEmpty(() -> log.debug("HTTP response entity is empty: {}", status))
+                .map(entity -> Try.run(() -> copy.setEntity(entityBuffer.apply(entity))))
+                .peek(b -> b.onSuccess(v -> log.debug("Successfully buffered the HTTP response entity.")))
+                .peek(b -> b.onFailure(e -> log.warn("Failed to buffer HTTP response entity: {}", status, e)));
+
+            return new ODataRequestResultGeneric(oDataRequest, copy, httpClient);
+        };
+    }
 
     ODataRequestResultGeneric create(
         @Nonnull final ODataRequestGeneric oDataRequest,
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -28,12 +29,13 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.entity.ContentType;
 import org.apache.http.util.EntityUtils;
 
+import com.google.common.annotations.Beta;
 import com.google.common.base.Strings;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonToken;
 import com.sap.cloud.sdk.cloudplatform.connectivity.UriQueryMerger;
 import com.sap.cloud.sdk.datamodel.odata.client.JsonPath;
@@ -85,6 +87,10 @@ public class ODataRequestResultGeneric
     @Nullable
     private final transient HttpClient httpClient;
 
+    @EqualsAndHashCode.Exclude
+    @Nullable
+    private final ValueInterner valueInterner;
+
     /**
      * Default constructor.
      *
@@ -120,6 +126,7 @@ public class ODataRequestResultGeneric
         this.httpResponse = httpResponse;
         this.httpClient = httpClient;
         this.protocol = oDataRequest.getProtocol();
+        this.valueInterner = oDataRequest instanceof ODataRequestRead read ? read.valueInterner : null;
 
         deserializer = new ODataResponseDeserializer(protocol);
     }
@@ -180,10 +187,45 @@ public class ODataRequestResultGeneric
         log.debug("Iterated {} elements.", numConsumedElements);
     }
 
+    /**
+     * Stream the entities of the result-set, including the entities of all following pages of server-driven pagination.
+     * Every entity is read from the HTTP response and deserialized directly with the type adapter of the given type,
+     * without creating an intermediate JSON tree. The following pages are requested lazily, once all entities of the
+     * current page are consumed.
+     * <p>
+     * <strong>Note:</strong> The HTTP response is read while the stream is consumed. Close the stream to release the
+     * HTTP response, if it is not consumed completely.
+     *
+     * @param type
+     *            The expected class reference to be used for deserializing the resulting items.
+     * @param <T>
+     *            The generic item type.
+     * @return A lazy stream of the entities of the result-set.
+     * @throws ODataDeserializationException
+     *             When the response does not contain a result-set or the entities cannot be deserialized.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public <T> Stream<T> streamEntities( @Nonnull final Class<? extends T> type )
+    {
+        assertResultTypeIsNotVoid(type);
+        final TypeAdapter<? extends T> typeAdapter = getTypeAdapter(type);
+        final ODataRequestResultEntityIterator<T> iterator = new ODataRequestResultEntityIterator<>(this, typeAdapter);
+        return stream(iterator).onClose(iterator::close);
+    }
+
     private GsonResultElementFactory getResultElementFactory()
     {
-        final GsonBuilder gsonBuilder = ODataGsonBuilder.newGsonBuilder(numberStrategy);
-        return new GsonResultElementFactory(gsonBuilder);
+        final GsonResultElementFactory factory = ODataGsonBuilder.getResultElementFactory(numberStrategy);
+        return valueInterner == null ? factory : valueInterner.scope(factory);
+    }
+
+    @Nonnull
+    private <T> TypeAdapter<T> getTypeAdapter( @Nonnull final Class<T> type )
+    {
+        final TypeAdapter<T> typeAdapter = getResultElementFactory().getGson().getAdapter(type);
+        return valueInterner == null ? typeAdapter : valueInterner.scope(typeAdapter);
     }
 
     /**
@@ -472,6 +514,40 @@ public class ODataRequestResultGeneric
                     e));
     }
 
+    /**
+     * Get the result-set as list, without keeping all of its elements in memory if the response is large. If the size
+     * of the response is unknown or exceeds the given number of bytes, the elements are copied to a temporary file and
+     * a {@link FileBackedResultList} is returned, which deserializes an element whenever it is accessed. Otherwise,
+     * this behaves like {@link #asList(Class)}. Collections of primitive values are always read into memory.
+     * <p>
+     * <strong>Note:</strong> Close the returned list, if it is a {@link FileBackedResultList}, to delete the temporary
+     * file once the list is no longer needed. Use {@link ODataRequestRead#withResponseSpilling(long)} to avoid
+     * buffering the response itself in memory.
+     *
+     * @param objectType
+     *            The expected class reference to be used for deserializing the resulting items.
+     * @param maxBytesInMemory
+     *            The maximum size of the response in bytes, up to which the list is kept in memory.
+     * @param <T>
+     *            The generic item type.
+     * @return The list of result items.
+     * @throws ODataDeserializationException
+     *             When the response does not contain a result-set or the result-set cannot be read.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public <T> List<T> asList( @Nonnull final Class<T> objectType, final long maxBytesInMemory )
+    {
+        assertNonEmptyPayload();
+        assertResultTypeIsNotVoid(objectType);
+        final long contentLength = getHttpResponse().getEntity().getContentLength();
+        if( isPrimitiveOrWrapperOrString(objectType) || contentLength >= 0 && contentLength <= maxBytesInMemory ) {
+            return asList(objectType);
+        }
+        return FileBackedResultList.of(this, getTypeAdapter(objectType));
+    }
+
     @Nonnull
     @SuppressWarnings( "unchecked" )
     private <T> List<T> asList( @Nonnull final Type objectType )
@@ -628,6 +704,19 @@ public class ODataRequestResultGeneric
     @Override
     @Nonnull
     public Try<ODataRequestResultGeneric> tryGetNextPage()
+    {
+        return tryGetPage(getNextLink());
+    }
+
+    /**
+     * Request the page of the result-set, which is referenced by the given next link.
+     *
+     * @param nextLink
+     *            The next link of this page.
+     * @return The next page.
+     */
+    @Nonnull
+    Try<ODataRequestResultGeneric> tryGetPage( @Nonnull final Option<String> nextLink )
     {
         final ODataRequestGeneric rawRequest = getODataRequest();
         if( !(rawRequest instanceof ODataRequestRead) ) {
@@ -643,7 +732,7 @@ public class ODataRequestResultGeneric
         }
 
         final Try<String> nextQuery =
-            getNextLink()
+            nextLink
                 .toTry(() -> new IllegalStateException("Current page of result-set does not reference a next page."))
                 .map(URI::create)
                 .map(URI::getRawQuery);
@@ -666,6 +755,14 @@ public class ODataRequestResultGeneric
         // populate headers
         request.getHeaders().forEach(nextReadRequest::setHeader);
 
+        // keep the buffering strategy, a next page without buffer could not be read repeatedly
+        if( request.requestResultFactory != ODataRequestResultFactory.WITHOUT_BUFFER ) {
+            nextReadRequest.requestResultFactory = request.requestResultFactory;
+        }
+
+        // intern the values of all pages in the same pool
+        nextReadRequest.valueInterner = request.valueInterner;
+
         // execute request
         return Try.of(() -> nextReadRequest.execute(httpClient));
     }
@@ -708,7 +805,7 @@ public class ODataRequestResultGeneric
     }
 
     @Nonnull
-    private String removeDuplicateQueryParameters( @Nonnull final String nextLink )
+    String removeDuplicateQueryParameters( @Nonnull final String nextLink )
     {
         if( !(httpClient instanceof UriQueryMerger) ) {
             return nextLink;
@@ -0,0 +1,106 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.apache.http.HttpResponse;
+
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataResponseException;
+
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OData request result of a batch request, which was split into multiple batch requests. The results of the single
+ * batch requests are merged in their original order.
+ * <p>
+ * If one of the batch requests failed, the results of its batch items throw the original exception. The HTTP response
+ * of this result is the one of the first successful batch request.
+ */
+@Slf4j
+final class ODataRequestResultMultipartSplit extends ODataRequestResultMultipartGeneric
+{
+    @Nonnull
+    private final List<ODataRequestBatch> batchRequests;
+
+    @Nonnull
+    private final List<Try<ODataRequestResultMultipartGeneric>> batchResults;
+
+    /**
+     * Create an instance of a merged OData request result.
+     *
+     * @param oDataRequest
+     *            The original OData batch request, which was split.
+     * @param batchRequests
+     *            The batch requests, which were executed instead.
+     * @param batchResults
+     *            The results of the batch requests, in the same order. At least one of them must be successful.
+     */
+    ODataRequestResultMultipartSplit(
+        @Nonnull final ODataRequestBatch oDataRequest,
+        @Nonnull final List<ODataRequestBatch> batchRequests,
+        @Nonnull final List<Try<ODataRequestResultMultipartGeneric>> batchResults )
+    {
+        super(oDataRequest, getFirstHttpResponse(batchResults));
+        this.batchRequests = batchRequests;
+        this.batchResults = batchResults;
+    }
+
+    @Nonnull
+    private static HttpResponse getFirstHttpResponse(
+        @Nonnull final List<Try<ODataRequestResultMultipartGeneric>> batchResults )
+    {
+        return batchResults
+            .stream()
+            .filter(Try::isSuccess)
+            .map(result -> result.get().getHttpResponse())
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("At least one batch request must be successful."));
+    }
+
+    @Nonnull
+    @Override
+    public ODataRequestResultGeneric getResult( @Nonnull final ODataRequestGeneric request )
+        throws ODataResponseException,
+            IllegalArgumentException
+    {
+        for( int i = 0; i < batchRequests.size(); i++ ) {
+            if( ODataRequestBatch.getBatchItemPosition(batchRequests.get(i), request) != null ) {
+                log.debug("Looking for request {} in response of batch request {}.", request, i + 1);
+                return batchResults.get(i).get().getResult(request);
+            }
+        }
+        throw new IllegalArgumentException(
+            "Incorrect API usage. Please pass the original OData request reference that was handled as batch request item.");
+    }
+
+    /**
+     * Get the multi-part segments of all batch requests as raw HTTP response object. Response objects of same
+     * changesets are grouped.
+     *
+     * @return The virtual HTTP response objects.
+     * @throws ODataException
+     *             The original exception of a failed batch request, e.g. an {@link ODataRequestException}, or an
+     *             {@link ODataResponseException} if the response of a batch request cannot be parsed.
+     */
+    @Nonnull
+    @Override
+    public List<List<HttpResponse>> getBatchedResponses()
+    {
+        final List<List<HttpResponse>> batchedResponses = new ArrayList<>();
+        for( final Try<ODataRequestResultMultipartGeneric> batchResult : batchResults ) {
+            batchedResponses.addAll(batchResult.get().getBatchedResponses());
+        }
+        return batchedResponses;
+    }
+
+    @Override
+    public void close()
+    {
+        batchResults.forEach(result -> result.forEach(ODataRequestResultMultipartGeneric::close));
+    }
+}
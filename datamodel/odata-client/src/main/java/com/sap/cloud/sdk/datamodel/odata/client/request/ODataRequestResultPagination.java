@@ -4,6 +4,7 @@ import java.util.List;
 
 import javax.annotation.Nonnull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.sap.cloud.sdk.result.ResultElement;
@@ -64,4 +65,38 @@ public interface ODataRequestResultPagination extends Iterable<ResultElement>
         // cast items in lists of lazy-iterable
         return Iterables.transform(pages, list -> Lists.transform(list, item -> item.getAsObject().as(type)));
     }
+
+    /**
+     * Iterate over result-set pages, while the following pages are requested in the background. As soon as the next
+     * link of a page is known, the next page is requested, until the given number of pages is fetched ahead of the page
+     * that was returned last. This way, network latency and response parsing overlap with the consumption of pages.
+     * <p>
+     * <strong>Note:</strong> Up to the given number of pages may be requested, even if the iteration is stopped early.
+     *
+     * @param type
+     *            The expected class reference to be used for deserializing the resulting items.
+     * @param prefetchPages
+     *            The number of pages to request ahead of the page that was returned last.
+     * @param <T>
+     *            The generic item type.
+     * @return An instance of {@link Iterable} that allows iteration through OData result pages.
+     * @throws IllegalArgumentException
+     *             If the number of pages to prefetch is not positive.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    @SuppressWarnings( { "StaticPseudoFunctionalStyleMethod", "ConstantConditions" } )
+    default <T> Iterable<List<T>> iteratePages( @Nonnull final Class<? extends T> type, final int prefetchPages )
+    {
+        if( prefetchPages <= 0 ) {
+            throw new IllegalArgumentException("The number of pages to prefetch must be positive.");
+        }
+        final Iterable<ODataRequestResultPagination> iterable =
+            () -> new ODataRequestResultPrefetchingIterator(this, prefetchPages);
+
+        final Iterable<List<ResultElement>> pages = Iterables.transform(iterable, Lists::newArrayList);
+
+        return Iterables.transform(pages, list -> Lists.transform(list, item -> item.getAsObject().as(type)));
+    }
 }
@@ -67,7 +67,7 @@ class ODataRequestResultPaginationIterator implements Iterator<ODataRequestResul
      * @return The next page.
      */
     @Nonnull
-    protected ODataRequestResultPagination requestNextPage( @Nonnull final ODataRequestResultPagination page )
+    static ODataRequestResultPagination requestNextPage( @Nonnull final ODataRequestResultPagination page )
     {
         return page
             .tryGetNextPage()
@@ -0,0 +1,129 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
+import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The implementation for the pagination based iterator of OData result-set, which requests the following pages in the
+ * background. As soon as the next link of a page is available, the request for the next page is issued, until the
+ * configured number of pages is fetched ahead of the page that was returned last.
+ */
+@Slf4j
+class ODataRequestResultPrefetchingIterator implements Iterator<ODataRequestResultPagination>
+{
+    private final int prefetchPages;
+
+    @Nonnull
+    private final Executor executor = ThreadContextExecutors::execute;
+
+    // pages following the current page, each future completes with null if there is no such page
+    @Nonnull
+    private final Deque<CompletableFuture<ODataRequestResultPagination>> nextPages = new ArrayDeque<>();
+
+    // if null: the first page was not returned yet
+    @Nullable
+    private ODataRequestResultPagination currentPage;
+
+    @Nonnull
+    private final ODataRequestResultPagination firstPage;
+
+    /**
+     * Default constructor.
+     *
+     * @param firstPage
+     *            First page of the result-set.
+     * @param prefetchPages
+     *            The number of pages to request ahead of the page that was returned last.
+     * @throws IllegalArgumentException
+     *             If the number of pages to prefetch is not positive.
+     */
+    ODataRequestResultPrefetchingIterator(
+        @Nonnull final ODataRequestResultPagination firstPage,
+        final int prefetchPages )
+    {
+        if( prefetchPages <= 0 ) {
+            throw new IllegalArgumentException("The number of pages to prefetch must be positive.");
+        }
+        this.firstPage = firstPage;
+        this.prefetchPages = prefetchPages;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return currentPage == null || currentPage.getNextLink().isDefined();
+    }
+
+    @Override
+    @Nonnull
+    public ODataRequestResultPagination next()
+        throws NoSuchElementException,
+            ODataException
+    {
+        log.debug("Getting next page of OData request.");
+        if( !hasNext() ) {
+            throw new NoSuchElementException("No next page of OData result-set defined.");
+        }
+
+        final ODataRequestResultPagination page = currentPage == null ? firstPage : awaitNextPage();
+        currentPage = page;
+
+        if( page.getNextLink().isDefined() ) {
+            prefetchNextPages(page);
+        }
+        return page;
+    }
+
+    @Nonnull
+    private ODataRequestResultPagination awaitNextPage()
+    {
+        try {
+            final ODataRequestResultPagination page = Objects.requireNonNull(nextPages.poll()).join();
+            log.debug("Retrieved new page from OData service.");
+            return Objects.requireNonNull(page);
+        }
+        catch( final CompletionException e ) {
+            nextPages.clear();
+            if( e.getCause() instanceof RuntimeException cause ) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void prefetchNextPages( @Nonnull final ODataRequestResultPagination page )
+    {
+        CompletableFuture<ODataRequestResultPagination> lastPage =
+            nextPages.isEmpty() ? CompletableFuture.completedFuture(page) : nextPages.getLast();
+
+        while( nextPages.size() < prefetchPages ) {
+            lastPage =
+                lastPage.thenApplyAsync(ODataRequestResultPrefetchingIterator::requestNextPageIfPresent, executor);
+            nextPages.add(lastPage);
+        }
+    }
+
+    @Nullable
+    private static ODataRequestResultPagination requestNextPageIfPresent(
+        @Nullable final ODataRequestResultPagination page )
+    {
+        if( page == null || page.getNextLink().isEmpty() ) {
+            return null;
+        }
+        return ODataRequestResultPaginationIterator.requestNextPage(page);
+    }
+}
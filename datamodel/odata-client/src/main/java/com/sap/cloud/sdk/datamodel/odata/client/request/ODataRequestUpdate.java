@@ -12,8 +12,6 @@ import javax.annotation.Nullable;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.HttpClient;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
 import org.apache.http.util.EntityUtils;
 
 import com.google.common.collect.Lists;
@@ -25,9 +23,7 @@ import io.vavr.control.Try;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Setter;
-import lombok.experimental.Delegate;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -39,7 +35,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ODataRequestUpdate extends ODataRequestGeneric
 {
     @Nonnull
-    @Getter( AccessLevel.NONE )
+    @Getter( AccessLevel.PACKAGE )
     private final HttpEntity requestHttpEntity;
 
     /**
@@ -194,32 +190,4 @@ public class ODataRequestUpdate extends ODataRequestGeneric
             .of(() -> EntityUtils.toString(requestHttpEntity, UTF_8))
             .getOrElseThrow(e -> new ODataRequestException(this, "Unable to serialize request payload.", e));
     }
-
-    /**
-     * Wrapper for an HttpEntity instance. Enable {@code Object#equals} and {@code Object#hashCode} on original data.
-     */
-    @EqualsAndHashCode
-    @RequiredArgsConstructor
-    private static class ComparableHttpEntity implements HttpEntity
-    {
-        @Nonnull
-        private final Object data;
-
-        @EqualsAndHashCode.Exclude
-        @Delegate
-        @Nonnull
-        private final HttpEntity delegate;
-
-        /**
-         * Custom constructor for application/json will drop the charset information until CLOUDECOSYSTEM-9450 is done.
-         *
-         * @param json
-         *            The serialized entity json representation.
-         */
-        private ComparableHttpEntity( final String json )
-        {
-            this(json, new StringEntity(json, ContentType.APPLICATION_JSON));
-            ((StringEntity) delegate).setContentType(ContentType.APPLICATION_JSON.getMimeType());
-        }
-    }
 }
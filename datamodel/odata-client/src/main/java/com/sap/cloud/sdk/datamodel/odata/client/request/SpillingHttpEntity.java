@@ -0,0 +1,162 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.Cleaner;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import io.vavr.control.Try;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Repeatable HTTP entity, which buffers the content of another entity. Content up to the given threshold is kept in
+ * memory, larger content is written to a temporary file instead. The temporary file is deleted once this entity is
+ * garbage collected.
+ */
+@Slf4j
+final class SpillingHttpEntity extends HttpEntityWrapper
+{
+    // shared by all temporary files of responses, to delete them once they are no longer referenced
+    static final Cleaner TEMPORARY_FILE_CLEANER = Cleaner.create();
+    private static final int CHUNK_SIZE = 8192;
+    private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    @Nullable
+    private final byte[] buffer;
+
+    @Nullable
+    private final Path file;
+
+    private final long length;
+
+    /**
+     * Buffer the content of the given entity.
+     *
+     * @param entity
+     *            The entity to buffer. Its content is consumed.
+     * @param threshold
+     *            The maximum number of bytes to keep in memory.
+     * @throws IOException
+     *             If the content cannot be read or the temporary file cannot be written.
+     */
+    SpillingHttpEntity( @Nonnull final HttpEntity entity, final long threshold ) throws IOException
+    {
+        super(entity);
+
+        // content beyond the maximum array size is always spilled, regardless of the threshold
+        final long memoryThreshold = Math.min(threshold, MAX_BUFFER_SIZE);
+        final long contentLength = entity.getContentLength();
+        final boolean exceedsThreshold = contentLength > memoryThreshold;
+
+        // read one byte more than the threshold, to detect whether the content exceeds it
+        final long limit = exceedsThreshold ? 0 : memoryThreshold + 1;
+        final ByteArrayOutputStream memory =
+            new ByteArrayOutputStream(contentLength >= 0 && !exceedsThreshold ? (int) contentLength : CHUNK_SIZE);
+
+        Path spilledFile = null;
+        long read = 0;
+        try( InputStream content = entity.getContent() ) {
+            if( content != null ) {
+                read = readUpTo(content, memory, limit);
+                if( read >= limit ) {
+                    spilledFile = Files.createTempFile("odata-response-", ".tmp");
+                    final Path fileToDelete = spilledFile;
+                    TEMPORARY_FILE_CLEANER.register(this, () -> deleteFile(fileToDelete));
+                    try( OutputStream out = Files.newOutputStream(spilledFile) ) {
+                        memory.writeTo(out);
+                        read += content.transferTo(out);
+                    }
+                    log.debug("Buffered HTTP response entity of {} bytes in temporary file {}.", read, spilledFile);
+                }
+            }
+        }
+        file = spilledFile;
+        buffer = spilledFile == null ? memory.toByteArray() : null;
+        length = read;
+    }
+
+    private static
+        long
+        readUpTo( @Nonnull final InputStream content, @Nonnull final OutputStream out, final long limit )
+            throws IOException
+    {
+        final byte[] chunk = new byte[CHUNK_SIZE];
+        long read = 0;
+        int n;
+        while( read < limit && (n = content.read(chunk, 0, (int) Math.min(chunk.length, limit - read))) >= 0 ) {
+            out.write(chunk, 0, n);
+            read += n;
+        }
+        return read;
+    }
+
+    private static void deleteFile( @Nonnull final Path file )
+    {
+        Try
+            .run(() -> Files.deleteIfExists(file))
+            .onFailure(e -> log.warn("Failed to delete temporary file {} of HTTP response entity.", file, e));
+    }
+
+    /**
+     * Check whether the content was written to a temporary file.
+     *
+     * @return True, if the content exceeded the threshold.
+     */
+    boolean isSpilled()
+    {
+        return file != null;
+    }
+
+    @Override
+    public long getContentLength()
+    {
+        return length;
+    }
+
+    @Override
+    public boolean isRepeatable()
+    {
+        return true;
+    }
+
+    @Override
+    public boolean isChunked()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean isStreaming()
+    {
+        return false;
+    }
+
+    @Nonnull
+    @Override
+    public InputStream getContent()
+        throws IOException
+    {
+        return file != null ? Files.newInputStream(file) : new ByteArrayInputStream(buffer);
+    }
+
+    @Override
+    public void writeTo( @Nonnull final OutputStream outStream )
+        throws IOException
+    {
+        if( file != null ) {
+            Files.copy(file, outStream);
+        } else {
+            outStream.write(buffer);
+        }
+    }
+}
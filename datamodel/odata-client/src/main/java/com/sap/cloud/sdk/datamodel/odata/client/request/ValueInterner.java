@@ -0,0 +1,259 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.Beta;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.sap.cloud.sdk.result.GsonResultElementFactory;
+import com.sap.cloud.sdk.result.GsonResultObject;
+import com.sap.cloud.sdk.result.ResultObject;
+
+/**
+ * A bounded pool of values, which replaces equal values deserialized within one read request by a single canonical
+ * instance.
+ * <p>
+ * Large result-sets often repeat a few distinct values many times, e.g. currency codes, units or status flags. Without
+ * interning, every occurrence is deserialized into a separate {@link String}, {@link BigDecimal} or {@link LocalDate}
+ * instance. The pool only holds up to a maximum number of distinct values. Once it is full, further values are returned
+ * as they are.
+ * <p>
+ * Type adapters call {@link #intern(Object)} for every deserialized value. This has no effect, unless an entity of a
+ * read request with {@link ODataRequestRead#withValueInterning(int) value interning} is deserialized on the current
+ * thread.
+ *
+ * @since 5.23.0
+ */
+@Beta
+public final class ValueInterner
+{
+    /**
+     * The default maximum number of distinct values held per read request.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    // immutable value types, whose equal instances are interchangeable
+    private static final Set<Class<?>> INTERNABLE_TYPES =
+        Set.of(String.class, BigDecimal.class, LocalDate.class, LocalDateTime.class, LocalTime.class);
+
+    private static final ThreadLocal<ValueInterner> ACTIVE = new ThreadLocal<>();
+
+    private final int maximumSize;
+    private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+    ValueInterner( final int maximumSize )
+    {
+        if( maximumSize <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of interned values must be positive.");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get the canonical instance of the given value, if values are interned on the current thread.
+     *
+     * @param value
+     *            The deserialized value.
+     * @param <T>
+     *            The type of the value.
+     * @return The canonical instance of an equal value, or the given value itself.
+     */
+    @Nullable
+    public static <T> T intern( @Nullable final T value )
+    {
+        if( value == null || !INTERNABLE_TYPES.contains(value.getClass()) ) {
+            return value;
+        }
+        final ValueInterner interner = ACTIVE.get();
+        return interner == null ? value : interner.internValue(value);
+    }
+
+    /**
+     * Decorate the type adapter of a field, such that the values it reads are {@link #intern(Object) interned}.
+     *
+     * @param valueType
+     *            The type of the field.
+     * @param adapter
+     *            The type adapter of the field.
+     * @param <T>
+     *            The type of the values.
+     * @return The decorated type adapter, or the given type adapter if values of the given type are not interned.
+     */
+    @Nonnull
+    public static <
+        T> TypeAdapter<T> interning( @Nonnull final Class<?> valueType, @Nonnull final TypeAdapter<T> adapter )
+    {
+        if( !INTERNABLE_TYPES.contains(valueType) || adapter instanceof InterningTypeAdapter ) {
+            return adapter;
+        }
+        return new InterningTypeAdapter<>(adapter);
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Nonnull
+    private <T> T internValue( @Nonnull final T value )
+    {
+        // equal values of the internable types are always of the same class
+        final Object canonical = values.get(value);
+        if( canonical != null ) {
+            return (T) canonical;
+        }
+        if( values.size() >= maximumSize ) {
+            return value;
+        }
+        final Object previous = values.putIfAbsent(value, value);
+        return previous != null ? (T) previous : value;
+    }
+
+    int size()
+    {
+        return values.size();
+    }
+
+    /**
+     * Deserialize with this pool on the current thread.
+     */
+    <T> T apply( @Nonnull final Supplier<T> deserialization )
+    {
+        final ValueInterner previous = ACTIVE.get();
+        ACTIVE.set(this);
+        try {
+            return deserialization.get();
+        }
+        finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore( @Nullable final ValueInterner previous )
+    {
+        if( previous == null ) {
+            ACTIVE.remove();
+        } else {
+            ACTIVE.set(previous);
+        }
+    }
+
+    /**
+     * Decorate the given factory, such that objects created by it are deserialized with this pool.
+     */
+    @Nonnull
+    GsonResultElementFactory scope( @Nonnull final GsonResultElementFactory factory )
+    {
+        return new ScopedResultElementFactory(factory, this);
+    }
+
+    /**
+     * Decorate the given type adapter, such that it deserializes with this pool.
+     */
+    @Nonnull
+    <T> TypeAdapter<T> scope( @Nonnull final TypeAdapter<T> adapter )
+    {
+        return new TypeAdapter<>()
+        {
+            @Override
+            public void write( final JsonWriter out, final T value )
+                throws IOException
+            {
+                adapter.write(out, value);
+            }
+
+            @Override
+            public T read( final JsonReader in )
+                throws IOException
+            {
+                final ValueInterner previous = ACTIVE.get();
+                ACTIVE.set(ValueInterner.this);
+                try {
+                    return adapter.read(in);
+                }
+                finally {
+                    restore(previous);
+                }
+            }
+        };
+    }
+
+    private static final class InterningTypeAdapter<T> extends TypeAdapter<T>
+    {
+        private final TypeAdapter<T> delegate;
+
+        private InterningTypeAdapter( @Nonnull final TypeAdapter<T> delegate )
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write( final JsonWriter out, final T value )
+            throws IOException
+        {
+            delegate.write(out, value);
+        }
+
+        @Override
+        public T read( final JsonReader in )
+            throws IOException
+        {
+            return intern(delegate.read(in));
+        }
+    }
+
+    private static final class ScopedResultElementFactory extends GsonResultElementFactory
+    {
+        private final GsonResultElementFactory delegate;
+        private final ValueInterner interner;
+
+        private ScopedResultElementFactory(
+            @Nonnull final GsonResultElementFactory delegate,
+            @Nonnull final ValueInterner interner )
+        {
+            super(delegate.getGsonBuilder());
+            this.delegate = delegate;
+            this.interner = interner;
+        }
+
+        @Override
+        public Gson getGson()
+        {
+            // reuse the type adapters already resolved by the shared factory
+            return delegate.getGson();
+        }
+
+        @Nonnull
+        @Override
+        protected ResultObject newObject( @Nonnull final JsonElement resultElement )
+        {
+            return new GsonResultObject(resultElement.getAsJsonObject(), this)
+            {
+                @Nonnull
+                @Override
+                public <T> T as( @Nonnull final Class<T> objectType )
+                {
+                    return interner.apply(() -> super.as(objectType));
+                }
+
+                @Nonnull
+                @Override
+                public <T> T as( @Nonnull final Type objectType )
+                {
+                    return interner.apply(() -> super.as(objectType));
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.result.ElementName;
+
+import lombok.Data;
+
+class FileBackedResultListTest
+{
+    private static final String RESPONSE_V4 =
+        "{\"@odata.count\":3,\"value\":[{\"Name\":\"foo\",\"Amount\":1.10},{\"Name\":\"bär\",\"Tags\":[\"a\",null],\"Nested\":{\"Amount\":2}},{\"Name\":null}],\"@odata.nextLink\":\"Items?$skiptoken=3\"}";
+    private static final String RESPONSE_V2 =
+        "{\"d\":{\"__count\":\"2\",\"results\":[{\"Name\":\"foo\"},{\"Name\":\"bar\"}],\"__next\":\"Items?$skiptoken=2\"}}";
+
+    @Test
+    void testLargeResponseIsFileBacked()
+    {
+        final ODataRequestResultGeneric result = createResult(ODataProtocol.V4, RESPONSE_V4);
+
+        final List<Item> items = result.asList(Item.class, 10);
+
+        assertThat(items).isInstanceOf(FileBackedResultList.class).hasSize(3);
+        assertThat(items).isEqualTo(result.asList(Item.class));
+        assertThat(items.get(1).getName()).isEqualTo("bär");
+        assertThat(items.get(0).getAmount()).isEqualTo("1.10");
+
+        ((FileBackedResultList<Item>) items).close();
+        assertThatIllegalStateException().isThrownBy(() -> items.get(0));
+    }
+
+    @Test
+    void testLargeResponseIsFileBackedV2()
+    {
+        final ODataRequestResultGeneric result = createResult(ODataProtocol.V2, RESPONSE_V2);
+
+        final List<Item> items = result.asList(Item.class, 10);
+
+        assertThat(items)
+            .isInstanceOf(FileBackedResultList.class)
+            .extracting(Item::getName)
+            .containsExactly("foo", "bar");
+    }
+
+    @Test
+    void testSmallResponseIsKeptInMemory()
+    {
+        final ODataRequestResultGeneric result = createResult(ODataProtocol.V4, RESPONSE_V4);
+
+        final List<Item> items = result.asList(Item.class, 1024);
+
+        assertThat(items).isNotInstanceOf(FileBackedResultList.class).hasSize(3);
+    }
+
+    private static ODataRequestResultGeneric createResult( final ODataProtocol protocol, final String content )
+    {
+        final ODataRequestRead request = new ODataRequestRead("/service", "Items", "", protocol);
+        final BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new StringEntity(content, ContentType.APPLICATION_JSON));
+        return new ODataRequestResultGeneric(request, response);
+    }
+
+    @Data
+    private static class Item
+    {
+        @ElementName( "Name" )
+        private String name;
+
+        @ElementName( "Amount" )
+        private String amount;
+    }
+}
@@ -0,0 +1,105 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.common.base.Strings;
+
+import lombok.SneakyThrows;
+
+class MultipartBoundaryScannerTest
+{
+    private static final String DELIMITER = "--batch_123";
+
+    @ParameterizedTest
+    @ValueSource( strings = { "\r\n", "\n" } )
+    void testParts( @Nonnull final String newLine )
+    {
+        final String body =
+            ("preamble" + newLine)
+                + (DELIMITER + newLine)
+                + ("first" + newLine)
+                + (DELIMITER + "  " + newLine)
+                + ("second" + newLine + newLine)
+                + (DELIMITER + "--" + newLine)
+                + ("epilogue" + newLine);
+
+        assertThat(readParts(new ByteArrayInputStream(body.getBytes(UTF_8))))
+            .containsExactly("first", "second" + newLine);
+    }
+
+    @Test
+    void testDelimiterPrefixInContent()
+    {
+        final String body =
+            (DELIMITER + "\r\n")
+                + ("a\r\n" + DELIMITER + "_suffix\r\n")
+                + ("b" + DELIMITER + "\r\n")
+                + (DELIMITER + "--");
+
+        assertThat(readParts(new ByteArrayInputStream(body.getBytes(UTF_8))))
+            .containsExactly("a\r\n" + DELIMITER + "_suffix\r\nb" + DELIMITER);
+    }
+
+    @Test
+    void testNoDelimiter()
+    {
+        assertThat(readParts(new ByteArrayInputStream("foo\nbar".getBytes(UTF_8)))).isEmpty();
+        assertThat(readParts(new ByteArrayInputStream(new byte[0]))).isEmpty();
+    }
+
+    @Test
+    void testMissingClosingDelimiter()
+    {
+        final String body = DELIMITER + "\nfirst\n" + DELIMITER + "\nsecond";
+
+        assertThat(readParts(new ByteArrayInputStream(body.getBytes(UTF_8)))).containsExactly("first", "second");
+    }
+
+    @Test
+    void testLargePartsReadInSmallChunks()
+    {
+        final String first = Strings.repeat("0123456789", 2000);
+        final String second = Strings.repeat("x", 8191) + "\r";
+        final String body =
+            DELIMITER + "\r\n" + first + "\r\n" + DELIMITER + "\r\n" + second + "\r\n" + DELIMITER + "--";
+
+        // deliver the input in chunks of a few bytes, so delimiters are split across reads
+        final InputStream input = new FilterInputStream(new ByteArrayInputStream(body.getBytes(UTF_8)))
+        {
+            @Override
+            @SneakyThrows
+            public int read( @Nonnull final byte[] bytes, final int offset, final int length )
+            {
+                return super.read(bytes, offset, Math.min(length, 7));
+            }
+        };
+
+        assertThat(readParts(input)).containsExactly(first, second);
+    }
+
+    @SneakyThrows
+    private static List<String> readParts( @Nonnull final InputStream input )
+    {
+        final MultipartBoundaryScanner scanner = new MultipartBoundaryScanner(input, DELIMITER);
+        final List<String> parts = new ArrayList<>();
+        InputStream part;
+        while( (part = scanner.nextPart()) != null ) {
+            parts.add(new String(part.readAllBytes(), UTF_8));
+        }
+        return parts;
+    }
+}
@@ -5,6 +5,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.head;
 import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.noContent;
+import static com.github.tomakehurst.wiremock.client.WireMock.okForContentType;
 import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
@@ -13,12 +14,19 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMoc
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -36,6 +44,8 @@ import com.google.common.io.Resources;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
+import com.sap.cloud.sdk.cloudplatform.thread.DefaultThreadContextExecutorService;
+import com.sap.cloud.sdk.cloudplatform.thread.ThreadContextExecutors;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataConnectionException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
@@ -260,6 +270,157 @@ class ODataClientQueryBatchUnitTest
                     .withHeader("OData-Version", equalTo("4.0")));
     }
 
+    @Test
+    void testCombinedBatchWithStreamingPayload()
+    {
+        final String requestBody = readResourceFileClrf(ODataClientQueryBatchUnitTest.class, "BatchAllRequestBody.txt");
+
+        // create batch request
+        final ODataRequestBatch request =
+            new ODataRequestBatch(SERVICE_PATH, ODataProtocol.V4, uuidProvider)
+                .addRead(SAMPLE_REQUEST_READ_MULTIPLE)
+                .beginChangeset()
+                .addCreate(SAMPLE_REQUEST_CREATE)
+                .addUpdate(SAMPLE_REQUEST_UPDATE)
+                .addDelete(SAMPLE_REQUEST_DELETE)
+                .endChangeset()
+                .addReadByKey(SAMPLE_REQUEST_READ_BY_KEY)
+                .withStreamingPayload();
+
+        assertThat(request.getBatchRequestBody()).isEqualTo(requestBody);
+
+        // check request execution
+        final HttpClient client = HttpClientAccessor.getHttpClient(destination);
+        wireMockServer.stubFor(post(urlPathEqualTo(SERVICE_PATH_BATCH)).willReturn(okJson("{}")));
+
+        final ODataRequestResult result = request.execute(client);
+        assertThat(result).isNotNull();
+
+        wireMockServer
+            .verify(
+                postRequestedFor(urlPathEqualTo(SERVICE_PATH_BATCH))
+                    .withRequestBody(equalTo(requestBody))
+                    .withHeader("Transfer-Encoding", equalTo("chunked"))
+                    .withHeader("Content-Type", containing("multipart/mixed;boundary=batch_")));
+    }
+
+    @Test
+    void testSplitBatch()
+    {
+        final ODataRequestBatch request =
+            new ODataRequestBatch(SERVICE_PATH, ODataProtocol.V4, uuidProvider)
+                .addRead(SAMPLE_REQUEST_READ_MULTIPLE)
+                .beginChangeset()
+                .addCreate(SAMPLE_REQUEST_CREATE)
+                .addUpdate(SAMPLE_REQUEST_UPDATE)
+                .addDelete(SAMPLE_REQUEST_DELETE)
+                .endChangeset()
+                .addReadByKey(SAMPLE_REQUEST_READ_BY_KEY);
+        request.addHeader("foo", "bar");
+
+        assertThat(request.split(BatchSplitPolicy.ofMaxOperations(5))).hasSize(1);
+        assertThat(request.split(BatchSplitPolicy.ofMaxOperations(4)))
+            .satisfiesExactly(
+                batch -> assertThat(batch.getRequests()).hasSize(2),
+                batch -> assertThat(batch.getRequests()).containsExactly(request.getRequests().get(2)));
+
+        // the changeset exceeds the limit on its own, but is not split
+        final List<ODataRequestBatch> batches = request.split(BatchSplitPolicy.ofMaxOperations(2));
+        assertThat(batches).hasSize(3);
+        for( int i = 0; i < batches.size(); i++ ) {
+            assertThat(batches.get(i).getRequests()).containsExactly(request.getRequests().get(i));
+            assertThat(batches.get(i).getHeaders()).containsEntry("foo", List.of("bar"));
+            assertThat(batches.get(i).getBatchUuid()).isNotEqualTo(request.getBatchUuid());
+        }
+
+        final int batchRequestBodySize = request.getBatchRequestBody().getBytes(StandardCharsets.UTF_8).length;
+        assertThat(request.split(BatchSplitPolicy.ofMaxBytes(batchRequestBodySize))).hasSize(1);
+        assertThat(request.split(BatchSplitPolicy.ofMaxBytes(1))).hasSize(3);
+    }
+
+    @Test
+    void testSplitBatchExecution()
+    {
+        final String responseBody =
+            "--batchresponse\r\n"
+                + "Content-Type: application/http\r\n"
+                + "Content-Transfer-Encoding: binary\r\n"
+                + "\r\n"
+                + "HTTP/1.1 200 OK\r\n"
+                + "Content-Type: application/json\r\n"
+                + "\r\n"
+                + "{\"value\":[]}\r\n"
+                + "--batchresponse--\r\n";
+        wireMockServer.resetRequests();
+        wireMockServer
+            .stubFor(
+                post(urlPathEqualTo(SERVICE_PATH_BATCH))
+                    .willReturn(okForContentType("multipart/mixed; boundary=batchresponse", responseBody)));
+
+        final ODataRequestBatch request =
+            new ODataRequestBatch(SERVICE_PATH, ODataProtocol.V4, uuidProvider)
+                .addRead(SAMPLE_REQUEST_READ_MULTIPLE)
+                .addReadByKey(SAMPLE_REQUEST_READ_BY_KEY)
+                .withSplitPolicy(BatchSplitPolicy.ofMaxOperations(1).withParallelism(2));
+
+        final HttpClient client = HttpClientAccessor.getHttpClient(destination);
+        try( ODataRequestResultMultipartGeneric result = request.execute(client) ) {
+            assertThat(result.getODataRequest()).isSameAs(request);
+            assertThat(result.getBatchedResponses()).hasSize(2);
+            assertThat(result.getResult(SAMPLE_REQUEST_READ_MULTIPLE).getHttpResponse().getStatusLine().getStatusCode())
+                .isEqualTo(200);
+            assertThat(result.getResult(SAMPLE_REQUEST_READ_BY_KEY).getHttpResponse().getStatusLine().getStatusCode())
+                .isEqualTo(200);
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> result.getResult(SAMPLE_REQUEST_DELETE));
+        }
+
+        wireMockServer.verify(2, postRequestedFor(urlPathEqualTo(SERVICE_PATH_BATCH)));
+    }
+
+    @Test
+    void testSplitBatchExecutionWithRejectedExecution()
+    {
+        wireMockServer
+            .stubFor(
+                post(urlPathEqualTo(SERVICE_PATH_BATCH))
+                    .willReturn(
+                        okForContentType(
+                            "multipart/mixed; boundary=batchresponse",
+                            "--batchresponse\r\n"
+                                + "Content-Type: application/http\r\n"
+                                + "Content-Transfer-Encoding: binary\r\n"
+                                + "\r\n"
+                                + "HTTP/1.1 200 OK\r\n"
+                                + "Content-Type: application/json\r\n"
+                                + "\r\n"
+                                + "{\"value\":[]}\r\n"
+                                + "--batchresponse--\r\n")));
+
+        final ExecutorService executor = spy(Executors.newSingleThreadExecutor());
+        doThrow(new RejectedExecutionException("rejected")).doCallRealMethod().when(executor).execute(any());
+        ThreadContextExecutors.setExecutor(DefaultThreadContextExecutorService.of(executor));
+
+        final ODataRequestBatch request =
+            new ODataRequestBatch(SERVICE_PATH, ODataProtocol.V4, uuidProvider)
+                .addRead(SAMPLE_REQUEST_READ_MULTIPLE)
+                .addReadByKey(SAMPLE_REQUEST_READ_BY_KEY)
+                .withSplitPolicy(BatchSplitPolicy.ofMaxOperations(1).withParallelism(1));
+
+        // the permit of the rejected batch request is released, so the other one is still executed
+        final HttpClient client = HttpClientAccessor.getHttpClient(destination);
+        try( ODataRequestResultMultipartGeneric result = request.execute(client) ) {
+            assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> result.getResult(SAMPLE_REQUEST_READ_MULTIPLE));
+            assertThat(result.getResult(SAMPLE_REQUEST_READ_BY_KEY).getHttpResponse().getStatusLine().getStatusCode())
+                .isEqualTo(200);
+        }
+        finally {
+            ThreadContextExecutors.setExecutor(null);
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testBatchErrorWithDifferentServicePath()
     {
@@ -11,13 +11,21 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.http.HttpResponse;
 import org.apache.http.HttpVersion;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicStatusLine;
@@ -28,7 +36,9 @@ import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataRequestException;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataResponseException;
+import com.sap.cloud.sdk.result.ElementName;
 
+import lombok.Data;
 import lombok.SneakyThrows;
 
 class ODataPaginationUnitTest
@@ -84,6 +94,87 @@ class ODataPaginationUnitTest
         assertThat(countItems).isEqualTo(overallCount);
     }
 
+    @Test
+    void testStreamEntitiesOverPages()
+        throws IOException
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        doReturn(
+            createHttpResponse(page1),
+            createHttpResponse(page2),
+            createHttpResponse(page3),
+            createHttpResponse(page4),
+            createHttpResponse(page5)).when(httpClient).execute(any(HttpUriRequest.class));
+
+        final ODataRequestRead request =
+            new ODataRequestRead("V4/Northwind/Northwind.svc", "Customers", "$count=true", ODataProtocol.V4);
+        request.addHeader("foo", "bar");
+        final ArgumentMatcher<HttpUriRequest> headerMatcher = q -> "bar".equals(q.getHeaders("foo")[0].getValue());
+
+        final ODataRequestResultGeneric result = request.execute(httpClient);
+        final Iterator<Customer> customers = result.streamEntities(Customer.class).iterator();
+
+        // the next page is only requested once the current page is consumed
+        for( int i = 0; i < 20; i++ ) {
+            assertThat(customers.next().getCustomerId()).isNotEmpty();
+        }
+        verify(httpClient, times(1)).execute(argThat(headerMatcher));
+
+        final List<Customer> remainingCustomers = new ArrayList<>();
+        customers.forEachRemaining(remainingCustomers::add);
+        verify(httpClient, times(5)).execute(argThat(headerMatcher));
+
+        assertThat(remainingCustomers).hasSize(71);
+        assertThat(remainingCustomers.get(0).getCustomerId()).isEqualTo("FAMIA");
+        assertThat(remainingCustomers.get(70).getCustomerId()).isEqualTo("WOLZA");
+    }
+
+    @Test
+    void testStreamEntitiesWithResponseCharset()
+        throws IOException
+    {
+        // the next link precedes the result-set and the payload is not encoded with UTF-8
+        final ContentType contentType = ContentType.APPLICATION_JSON.withCharset(StandardCharsets.UTF_16);
+        final BasicHttpResponse firstPage = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        firstPage
+            .setEntity(
+                new StringEntity(
+                    "{\"@odata.nextLink\":\"Customers?$skiptoken='M'\",\"value\":[{\"CustomerID\":\"Müller\"}]}",
+                    contentType));
+        final BasicHttpResponse secondPage = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        secondPage.setEntity(new StringEntity("{\"value\":[{\"CustomerID\":\"Ørsted\"}]}", contentType));
+
+        final HttpClient httpClient = mock(HttpClient.class);
+        doReturn(firstPage, secondPage).when(httpClient).execute(any(HttpUriRequest.class));
+
+        final ODataRequestRead request = new ODataRequestRead("service", "Customers", null, ODataProtocol.V4);
+        final ODataRequestResultGeneric result = request.execute(httpClient);
+
+        assertThat(result.asList(Customer.class)).extracting(Customer::getCustomerId).containsExactly("Müller");
+        assertThat(result.streamEntities(Customer.class))
+            .extracting(Customer::getCustomerId)
+            .containsExactly("Müller", "Ørsted");
+    }
+
+    @Test
+    void testStreamEntitiesWithErrorForResponse()
+        throws IOException
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        doReturn(createHttpResponse(page1), createHttpResponseError("Something went wrong!"))
+            .when(httpClient)
+            .execute(any(HttpUriRequest.class));
+
+        final ODataRequestRead request =
+            new ODataRequestRead("V4/Northwind/Northwind.svc", "Customers", "$count=true", ODataProtocol.V4);
+
+        final ODataRequestResultGeneric result = request.execute(httpClient);
+
+        assertThatExceptionOfType(ODataException.class)
+            .isThrownBy(() -> result.streamEntities(Customer.class).count())
+            .withCauseInstanceOf(ODataResponseException.class);
+    }
+
     @Test
     void testErrorForResponse()
         throws IOException
@@ -127,6 +218,114 @@ class ODataPaginationUnitTest
         }).withCauseInstanceOf(ODataRequestException.class);
     }
 
+    @Test
+    void testCountOverPrefetchedPages()
+        throws IOException
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        doReturn(
+            createHttpResponse(page1),
+            createHttpResponse(page2),
+            createHttpResponse(page3),
+            createHttpResponse(page4),
+            createHttpResponse(page5)).when(httpClient).execute(any(HttpUriRequest.class));
+
+        final ODataRequestRead request =
+            new ODataRequestRead("V4/Northwind/Northwind.svc", "Customers", "$count=true", ODataProtocol.V4);
+
+        final ODataRequestResultGeneric result = request.execute(httpClient);
+
+        final List<String> customerIds = new ArrayList<>();
+        for( final List<Object> nextPage : result.iteratePages(Object.class, 2) ) {
+            nextPage.forEach(customer -> customerIds.add((String) ((Map<?, ?>) customer).get("CustomerID")));
+        }
+
+        assertThat(customerIds).hasSize(91).startsWith("ALFKI", "ANATR").endsWith("WILMK", "WOLZA");
+        verify(httpClient, times(5)).execute(any(HttpUriRequest.class));
+    }
+
+    @Test
+    void testErrorForPrefetchedPage()
+        throws IOException
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        doReturn(createHttpResponse(page1), createHttpResponse(page2), createHttpResponseError("Something went wrong!"))
+            .when(httpClient)
+            .execute(any(HttpUriRequest.class));
+
+        final ODataRequestRead request =
+            new ODataRequestRead("V4/Northwind/Northwind.svc", "Customers", "$count=true", ODataProtocol.V4);
+
+        final ODataRequestResultGeneric result = request.execute(httpClient);
+
+        assertThatExceptionOfType(ODataException.class).isThrownBy(() -> {
+            for( final List<Object> next : result.iteratePages(Object.class, 3) ) {
+                // iterate
+            }
+        }).withCauseInstanceOf(ODataResponseException.class);
+    }
+
+    @Test
+    void testInvalidPrefetchPages()
+        throws IOException
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        doReturn(createHttpResponse(page1)).when(httpClient).execute(any(HttpUriRequest.class));
+
+        final ODataRequestRead request =
+            new ODataRequestRead("V4/Northwind/Northwind.svc", "Customers", "$count=true", ODataProtocol.V4);
+        final ODataRequestResultGeneric result = request.execute(httpClient);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> result.iteratePages(Object.class, 0));
+    }
+
+    @Test
+    void testPagesInParallel()
+        throws IOException
+    {
+        final HttpClient httpClient = mock(HttpClient.class);
+        final Queue<String> requestedQueries = new ConcurrentLinkedQueue<>();
+        when(httpClient.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            final URI uri = invocation.<HttpUriRequest> getArgument(0).getURI();
+            requestedQueries.add(uri.getPath() + "?" + uri.getQuery());
+            if( uri.getPath().endsWith("/$count") ) {
+                return createHttpResponse("7");
+            }
+            final int skip = Integer.parseInt(uri.getQuery().replaceAll(".*\\$skip=(\\d+).*", "$1"));
+            final int top = Integer.parseInt(uri.getQuery().replaceAll(".*\\$top=(\\d+).*", "$1"));
+            final List<String> items = new ArrayList<>();
+            for( int i = skip; i < skip + top; i++ ) {
+                items.add("{\"Id\":" + i + "}");
+            }
+            return createHttpResponse("{\"value\":[" + String.join(",", items) + "]}");
+        });
+
+        final ODataRequestRead request =
+            new ODataRequestRead("service", "Entities", "$orderby=Id&$filter=Id%20lt%2010&$skip=1", ODataProtocol.V4);
+
+        final List<List<Object>> pages = new ArrayList<>();
+        request.iteratePagesInParallel(httpClient, Object.class, 2, 2).forEach(pages::add);
+
+        assertThat(pages).hasSize(3);
+        assertThat(pages.get(0))
+            .extracting(item -> ((Number) ((Map<?, ?>) item).get("Id")).intValue())
+            .containsExactly(1, 2);
+        assertThat(pages.get(1))
+            .extracting(item -> ((Number) ((Map<?, ?>) item).get("Id")).intValue())
+            .containsExactly(3, 4);
+        assertThat(pages.get(2))
+            .extracting(item -> ((Number) ((Map<?, ?>) item).get("Id")).intValue())
+            .containsExactly(5, 6);
+
+        assertThat(requestedQueries)
+            .containsExactlyInAnyOrder(
+                "/service/Entities/$count?$filter=Id lt 10",
+                "/service/Entities?$orderby=Id&$filter=Id lt 10&$skip=1&$top=2",
+                "/service/Entities?$orderby=Id&$filter=Id lt 10&$skip=3&$top=2",
+                "/service/Entities?$orderby=Id&$filter=Id lt 10&$skip=5&$top=2");
+    }
+
     @SneakyThrows
     private HttpResponse createHttpResponse( final String message )
     {
@@ -143,4 +342,11 @@ class ODataPaginationUnitTest
         page.setEntity(new StringEntity(message));
         return page;
     }
+
+    @Data
+    private static class Customer
+    {
+        @ElementName( "CustomerID" )
+        private String customerId;
+    }
 }
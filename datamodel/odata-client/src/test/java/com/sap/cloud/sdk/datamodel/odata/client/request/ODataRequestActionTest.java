@@ -3,12 +3,16 @@ package com.sap.cloud.sdk.datamodel.odata.client.request;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToIgnoreCase;
+import static com.github.tomakehurst.wiremock.client.WireMock.forbidden;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
 import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.noContent;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.LinkedHashMap;
@@ -22,6 +26,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.google.gson.GsonBuilder;
+import com.sap.cloud.sdk.cloudplatform.connectivity.CachingCsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.CsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultCsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
@@ -135,4 +140,49 @@ class ODataRequestActionTest
                 headRequestedFor(anyUrl())
                     .withHeader(DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY, equalToIgnoreCase("fetch")));
     }
+
+    @Test
+    void testActionWithCachedCsrfTokenIsRetriedOnceIfTokenIsRejected()
+    {
+        final String actionPath = ODATA_SERVICE_PATH + ODATA_ACTION;
+        final String csrfHeader = DefaultCsrfTokenRetriever.X_CSRF_TOKEN_HEADER_KEY;
+        wireMockServer
+            .stubFor(
+                head(urlPathEqualTo(ODATA_SERVICE_PATH))
+                    .inScenario("csrf")
+                    .whenScenarioStateIs(STARTED)
+                    .willReturn(ok().withHeader(csrfHeader, "expired-token"))
+                    .willSetStateTo("renewed"));
+        wireMockServer
+            .stubFor(
+                head(urlPathEqualTo(ODATA_SERVICE_PATH))
+                    .inScenario("csrf")
+                    .whenScenarioStateIs("renewed")
+                    .willReturn(ok().withHeader(csrfHeader, "renewed-token")));
+        wireMockServer.stubFor(post(urlPathEqualTo(actionPath)).willReturn(noContent()));
+
+        final CsrfTokenRetriever retriever = new CachingCsrfTokenRetriever();
+        final ODataRequestAction firstRequest =
+            new ODataRequestAction(ODATA_SERVICE_PATH, ODATA_ACTION, null, ODataProtocol.V4);
+        firstRequest.setCsrfTokenRetriever(retriever);
+        assertThat(firstRequest.execute(client)).isNotNull();
+
+        // the cached token expires on the server side
+        wireMockServer
+            .stubFor(
+                post(urlPathEqualTo(actionPath))
+                    .withHeader(csrfHeader, equalTo("expired-token"))
+                    .willReturn(forbidden().withHeader(csrfHeader, "Required")));
+
+        final ODataRequestAction secondRequest =
+            new ODataRequestAction(ODATA_SERVICE_PATH, ODATA_ACTION, null, ODataProtocol.V4);
+        secondRequest.setCsrfTokenRetriever(retriever);
+        assertThat(secondRequest.execute(client)).isNotNull();
+
+        wireMockServer.verify(2, headRequestedFor(urlPathEqualTo(ODATA_SERVICE_PATH)));
+        wireMockServer
+            .verify(2, postRequestedFor(urlPathEqualTo(actionPath)).withHeader(csrfHeader, equalTo("expired-token")));
+        wireMockServer
+            .verify(1, postRequestedFor(urlPathEqualTo(actionPath)).withHeader(csrfHeader, equalTo("renewed-token")));
+    }
 }
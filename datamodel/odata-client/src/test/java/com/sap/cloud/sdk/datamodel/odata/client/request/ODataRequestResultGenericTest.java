@@ -31,6 +31,9 @@ import org.junit.jupiter.api.Test;
 
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataDeserializationException;
+import com.sap.cloud.sdk.result.GsonResultElementFactory;
+import com.sap.cloud.sdk.result.GsonResultObject;
+import com.sap.cloud.sdk.result.ResultElement;
 
 import lombok.SneakyThrows;
 
@@ -198,4 +201,29 @@ class ODataRequestResultGenericTest
                 .hasMessageContaining("Unable to read OData 4.0 response.");
         }
     }
+
+    @Test
+    @SneakyThrows
+    void testResultElementFactoryIsSharedAcrossResults()
+    {
+        final ODataRequestGeneric oDataRequest =
+            new ODataRequestRead("generic/service/path", "entity", null, ODataProtocol.V4);
+
+        final BasicHttpResponse firstResponse = new BasicHttpResponse(HTTP_1_1, 200, "OK");
+        firstResponse.setEntity(new StringEntity("{\"value\":[{\"Name\":\"first\"}]}"));
+        final BasicHttpResponse secondResponse = new BasicHttpResponse(HTTP_1_1, 200, "OK");
+        secondResponse.setEntity(new StringEntity("{\"value\":[{\"Name\":\"second\"}]}"));
+
+        final ResultElement firstElement = new ODataRequestResultGeneric(oDataRequest, firstResponse).iterator().next();
+        final ResultElement secondElement =
+            new ODataRequestResultGeneric(oDataRequest, secondResponse).iterator().next();
+
+        final GsonResultElementFactory firstFactory = ((GsonResultObject) firstElement).getResultElementFactory();
+        final GsonResultElementFactory secondFactory = ((GsonResultObject) secondElement).getResultElementFactory();
+        assertThat(firstFactory).isSameAs(secondFactory);
+        assertThat(firstFactory.getGson()).isSameAs(secondFactory.getGson());
+
+        assertThat(ODataGsonBuilder.getResultElementFactory(NumberDeserializationStrategy.BIG_DECIMAL))
+            .isNotSameAs(firstFactory);
+    }
 }
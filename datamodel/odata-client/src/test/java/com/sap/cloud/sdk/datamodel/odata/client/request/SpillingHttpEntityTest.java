@@ -0,0 +1,85 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.entity.StringEntity;
+import org.junit.jupiter.api.Test;
+
+class SpillingHttpEntityTest
+{
+    private static final String CONTENT = "{\"value\":[{\"Name\":\"foo\"},{\"Name\":\"bär\"}]}";
+
+    @Test
+    void testContentBelowThresholdIsKeptInMemory()
+        throws IOException
+    {
+        final SpillingHttpEntity entity =
+            new SpillingHttpEntity(new StringEntity(CONTENT, ContentType.APPLICATION_JSON), 1024);
+
+        assertThat(entity.isSpilled()).isFalse();
+        assertRepeatableContent(entity);
+    }
+
+    @Test
+    void testContentAboveThresholdIsSpilled()
+        throws IOException
+    {
+        final SpillingHttpEntity entity =
+            new SpillingHttpEntity(new StringEntity(CONTENT, ContentType.APPLICATION_JSON), 10);
+
+        assertThat(entity.isSpilled()).isTrue();
+        assertRepeatableContent(entity);
+    }
+
+    @Test
+    void testContentOfUnknownLengthAboveThresholdIsSpilled()
+        throws IOException
+    {
+        final InputStream content = new ByteArrayInputStream(CONTENT.getBytes(UTF_8));
+        final SpillingHttpEntity entity =
+            new SpillingHttpEntity(new InputStreamEntity(content, -1, ContentType.APPLICATION_JSON), 10);
+
+        assertThat(entity.isSpilled()).isTrue();
+        assertThat(entity.getContentType().getValue()).isEqualTo(ContentType.APPLICATION_JSON.toString());
+        assertRepeatableContent(entity);
+    }
+
+    @Test
+    void testContentLengthBeyondMaximumArraySizeIsSpilled()
+        throws IOException
+    {
+        final InputStream content = new ByteArrayInputStream(CONTENT.getBytes(UTF_8));
+        final long contentLength = 3L * Integer.MAX_VALUE;
+        final SpillingHttpEntity entity =
+            new SpillingHttpEntity(
+                new InputStreamEntity(content, contentLength, ContentType.APPLICATION_JSON),
+                Long.MAX_VALUE);
+
+        assertThat(entity.isSpilled()).isTrue();
+        assertRepeatableContent(entity);
+    }
+
+    private static void assertRepeatableContent( final SpillingHttpEntity entity )
+        throws IOException
+    {
+        assertThat(entity.isRepeatable()).isTrue();
+        assertThat(entity.getContentLength()).isEqualTo(CONTENT.getBytes(UTF_8).length);
+        for( int i = 0; i < 2; i++ ) {
+            try( InputStream content = entity.getContent() ) {
+                assertThat(new String(content.readAllBytes(), UTF_8)).isEqualTo(CONTENT);
+            }
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        assertThat(out.toString(UTF_8)).isEqualTo(CONTENT);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sap.cloud.sdk.datamodel.odata.client.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+
+class ValueInternerTest
+{
+    @Test
+    void testEqualValuesAreInterned()
+    {
+        final ValueInterner interner = new ValueInterner(ValueInterner.DEFAULT_MAXIMUM_SIZE);
+
+        final List<Object> first = interner.apply(() -> internAll("EUR", "1.50", "2024-01-01"));
+        final List<Object> second = interner.apply(() -> internAll("EUR", "1.50", "2024-01-01"));
+
+        assertThat(second).isEqualTo(first);
+        for( int i = 0; i < first.size(); i++ ) {
+            assertThat(second.get(i)).isSameAs(first.get(i));
+        }
+        assertThat(interner.size()).isEqualTo(3);
+    }
+
+    @Test
+    void testValuesAreNotInternedOutsideOfScope()
+    {
+        final String value = new String("EUR");
+        new ValueInterner(1).apply(() -> ValueInterner.intern(new String("EUR")));
+
+        assertThat(ValueInterner.intern(value)).isSameAs(value);
+        assertThat(ValueInterner.intern((String) null)).isNull();
+    }
+
+    @Test
+    void testOtherTypesAreNotInterned()
+    {
+        final ValueInterner interner = new ValueInterner(1);
+        final Integer value = 1000;
+
+        assertThat(interner.apply(() -> ValueInterner.intern(value))).isSameAs(value);
+        assertThat(interner.size()).isZero();
+    }
+
+    @Test
+    void testPoolIsBounded()
+    {
+        final ValueInterner interner = new ValueInterner(1);
+
+        final String eur = interner.apply(() -> ValueInterner.intern(new String("EUR")));
+        final String usd = new String("USD");
+
+        assertThat(interner.apply(() -> ValueInterner.intern(usd))).isSameAs(usd);
+        assertThat(interner.apply(() -> ValueInterner.intern(new String("EUR")))).isSameAs(eur);
+        assertThat(interner.size()).isEqualTo(1);
+    }
+
+    @Test
+    void testNestedScopesAreRestored()
+    {
+        final ValueInterner outer = new ValueInterner(1);
+        final ValueInterner inner = new ValueInterner(1);
+
+        outer.apply(() -> {
+            inner.apply(() -> ValueInterner.intern(new String("inner")));
+            return ValueInterner.intern(new String("outer"));
+        });
+
+        assertThat(inner.size()).isEqualTo(1);
+        assertThat(outer.size()).isEqualTo(1);
+        assertThat(ValueInterner.intern(new String("outer"))).isNotSameAs(ValueInterner.intern(new String("outer")));
+    }
+
+    @Test
+    void testScopedTypeAdapter()
+        throws IOException
+    {
+        final ValueInterner interner = new ValueInterner(ValueInterner.DEFAULT_MAXIMUM_SIZE);
+        final TypeAdapter<String> adapter =
+            interner.scope(ValueInterner.interning(String.class, new Gson().getAdapter(String.class)));
+
+        final String first = adapter.read(new JsonReader(new StringReader("\"EUR\"")));
+        final String second = adapter.read(new JsonReader(new StringReader("\"EUR\"")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(ValueInterner.intern(new String("EUR"))).isNotSameAs(first);
+    }
+
+    @Test
+    void testInvalidMaximumSize()
+    {
+        assertThatIllegalArgumentException().isThrownBy(() -> new ValueInterner(0));
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> new ODataRequestRead("service", "Entities", "", ODataProtocol.V4).withValueInterning(-1));
+    }
+
+    private static List<Object> internAll( final String string, final String decimal, final String date )
+    {
+        return List
+            .of(
+                ValueInterner.intern(new String(string)),
+                ValueInterner.intern(new BigDecimal(decimal)),
+                ValueInterner.intern(LocalDate.parse(date)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.sap.cloud.sdk.datamodel.odatav4.sample;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odatav4.sample.namespaces.sdkgrocerystore.Product;
+
+/**
+ * JMH benchmark measuring the memory footprint of reading a collection of 100,000 grocery store products.
+ * <p>
+ * The benchmark is not executed as part of the test suite. Run it from the test classpath with the GC profiler to
+ * report the allocated bytes per read, e.g.
+ * {@code java -cp <test-classpath> org.openjdk.jmh.Main EntityCollectionMemoryBenchmark -prof gc}.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.SingleShotTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+@Fork( 1 )
+public class EntityCollectionMemoryBenchmark
+{
+    private static final int ENTITY_COUNT = 100_000;
+
+    private String productsJson;
+    private TypeAdapter<Product> productAdapter;
+
+    @Setup
+    public void setup()
+    {
+        final StringBuilder products = new StringBuilder("[");
+        for( int i = 0; i < ENTITY_COUNT; i++ ) {
+            products
+                .append(i == 0 ? "" : ",")
+                .append("{\"@odata.etag\":\"W/\\\"")
+                .append(i)
+                .append("\\\"\",\"Id\":")
+                .append(i)
+                .append(",\"Name\":\"Product ")
+                .append(i)
+                .append("\",\"ShelfId\":3,\"VendorId\":4,\"Price\":12.5}");
+        }
+        productsJson = products.append(']').toString();
+        productAdapter = new Gson().getAdapter(Product.class);
+    }
+
+    @Benchmark
+    public List<Product> readProducts()
+        throws IOException
+    {
+        final List<Product> result = new ArrayList<>(ENTITY_COUNT);
+        try( JsonReader reader = new JsonReader(new StringReader(productsJson)) ) {
+            reader.beginArray();
+            while( reader.hasNext() ) {
+                result.add(productAdapter.read(reader));
+            }
+            reader.endArray();
+        }
+        return result;
+    }
+}
@@ -23,6 +23,7 @@ import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ValueInterner;
 import com.sap.cloud.sdk.datamodel.odatav4.core.VdmEntity;
 import com.sap.cloud.sdk.datamodel.odatav4.core.VdmObject;
 import com.sap.cloud.sdk.result.ElementName;
@@ -195,7 +196,7 @@ public class GsonVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
                             }
 
                             if( fieldAdapter != null ) {
-                                final Object attributeValue = fieldAdapter.read(jsonReader);
+                                final Object attributeValue = ValueInterner.intern(fieldAdapter.read(jsonReader));
 
                                 // To be safe/secure, since fields are declared private in the VDM.
                                 final boolean oldAccessibleValue = entityField.canAccess(entity);
@@ -275,14 +276,13 @@ public class GsonVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
     {
         if( value != null ) {
             final JsonObject entityAsJson = getEntityAsJsonObject(value);
-            final JsonObject customFieldsAsJson = gson.toJsonTree(value.getCustomFields()).getAsJsonObject();
-
             for( final Map.Entry<String, String> annotationProperty : value.getAnnotationProperties().entrySet() ) {
                 entityAsJson.add(annotationProperty.getKey(), gson.toJsonTree(annotationProperty.getValue()));
             }
 
-            for( final Map.Entry<String, JsonElement> customField : customFieldsAsJson.entrySet() ) {
-                entityAsJson.add(customField.getKey(), customField.getValue());
+            // the custom fields are read by name, so that no map is allocated for objects without custom fields
+            for( final String customFieldName : value.getCustomFieldNames() ) {
+                entityAsJson.add(customFieldName, gson.toJsonTree(value.getCustomField(customFieldName)));
             }
 
             gson.toJson(entityAsJson, out);
@@ -9,12 +9,14 @@ import javax.annotation.Nonnull;
 
 import org.apache.http.client.HttpClient;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.CsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultCsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
+import com.sap.cloud.sdk.datamodel.odata.client.request.BatchSplitPolicy;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestAction;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestBatch;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestCreate;
@@ -135,6 +137,42 @@ public class BatchRequestBuilder extends AbstractRequestBuilder<BatchRequestBuil
         return this;
     }
 
+    /**
+     * Writes the batch request body directly to the HTTP connection while the request is sent, instead of assembling it
+     * in memory upfront. This reduces the memory consumption of batch requests with many operations. The body is sent
+     * with chunked transfer encoding.
+     *
+     * @return The current reference of batch request builder.
+     * @see ODataRequestBatch#withStreamingPayload()
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public BatchRequestBuilder withStreamingPayload()
+    {
+        delegate.withStreamingPayload();
+        return this;
+    }
+
+    /**
+     * Splits this batch request into multiple smaller batch requests according to the given policy, if needed. The
+     * batch requests are executed concurrently, and their responses are merged, so the results of all operations can be
+     * looked up in the {@link BatchResponse} as usual. Changesets are never split.
+     *
+     * @param splitPolicy
+     *            The policy to split the batch request by.
+     * @return The current reference of batch request builder.
+     * @see ODataRequestBatch#withSplitPolicy(BatchSplitPolicy)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public BatchRequestBuilder withSplitPolicy( @Nonnull final BatchSplitPolicy splitPolicy )
+    {
+        delegate.withSplitPolicy(splitPolicy);
+        return this;
+    }
+
     @Override
     @Nonnull
     public ODataRequestBatch toRequest()
@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.http.client.HttpClient;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
@@ -16,6 +18,8 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestRead;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultGeneric;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ValueInterner;
 import com.sap.cloud.sdk.datamodel.odatav4.expression.FieldOrdering;
 import com.sap.cloud.sdk.datamodel.odatav4.expression.FilterableBoolean;
 
@@ -41,6 +45,14 @@ public class GetAllRequestBuilder<EntityT extends VdmEntity<?>>
 {
     private final NavigationPropertyCollectionQuery<EntityT, EntityT> delegateQuery;
 
+    private int prefetchPages = 0;
+
+    @Nullable
+    private Long responseSpillingThreshold = null;
+
+    @Nullable
+    private Integer valueInterningMaximumSize = null;
+
     @Getter( AccessLevel.PROTECTED )
     @Nonnull
     private final Class<EntityT> entityClass;
@@ -110,6 +122,12 @@ public class GetAllRequestBuilder<EntityT extends VdmEntity<?>>
                 getResourcePath(),
                 delegateQuery.getEncodedQueryString(),
                 ODataProtocol.V4);
+        if( responseSpillingThreshold != null ) {
+            request.withResponseSpilling(responseSpillingThreshold);
+        }
+        if( valueInterningMaximumSize != null ) {
+            request.withValueInterning(valueInterningMaximumSize);
+        }
 
         return super.toRequest(request);
     }
@@ -160,6 +178,9 @@ public class GetAllRequestBuilder<EntityT extends VdmEntity<?>>
     /**
      * Stream through all entities from the result-set. The individual pages of the result-set are queried lazily. The
      * returning object allows for memory-efficient consumption of all data through server-driven pagination.
+     * <p>
+     * The entities are deserialized one by one while the HTTP response is read, unless pages are prefetched. Close the
+     * stream to release the HTTP response, if it is not consumed completely.
      *
      * @return An instance of {@link RequestBuilderExecutable} with a response object to lazily iterate through the
      *         entities.
@@ -167,8 +188,117 @@ public class GetAllRequestBuilder<EntityT extends VdmEntity<?>>
     @Nonnull
     public RequestBuilderExecutable<Stream<EntityT>> streamingEntities()
     {
-        // concat applies lazy evaluation so individual pages will still be loaded lazily
-        return destination -> Streams.stream(Iterables.concat(executeInternal(destination)));
+        return destination -> {
+            if( prefetchPages > 0 ) {
+                // concat applies lazy evaluation so individual pages will still be loaded lazily
+                return Streams.stream(Iterables.concat(executeInternal(destination)));
+            }
+            final HttpClient httpClient = HttpClientAccessor.getHttpClient(destination);
+            return toRequest().execute(httpClient).streamEntities(getEntityClass());
+        };
+    }
+
+    /**
+     * Iterate through the pages of the result-set, which are requested concurrently in ranges of the given page size.
+     * The number of entities is determined with a {@code $count} request first, then the individual pages are read via
+     * {@code $skip} and {@code $top}. The pages are returned in their original order.
+     * <p>
+     * <strong>Note:</strong> This is only applicable for services that support {@code $count} and {@code $skip}. Use
+     * {@link #orderBy(FieldOrdering[])} to define a stable sort order, so that the concurrently requested pages neither
+     * overlap nor leave gaps.
+     *
+     * @param pageSize
+     *            The number of entities to request per page.
+     * @param parallelism
+     *            The maximum number of pages to request at the same time.
+     * @return An instance of {@link RequestBuilderExecutable} with a response object to iterate through the pages of
+     *         entities.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public
+        RequestBuilderExecutable<Iterable<List<EntityT>>>
+        iteratingPagesInParallel( final int pageSize, final int parallelism )
+    {
+        return destination -> {
+            final HttpClient httpClient = HttpClientAccessor.getHttpClient(destination);
+            return toRequest().iteratePagesInParallel(httpClient, getEntityClass(), pageSize, parallelism);
+        };
+    }
+
+    /**
+     * Buffer HTTP responses in a temporary file instead of memory, if they are larger than the given threshold. This
+     * avoids large byte arrays on the heap when reading large result-sets, e.g. in combination with
+     * {@link #streamingEntities()}.
+     *
+     * @param thresholdBytes
+     *            The maximum number of bytes to buffer in memory per response.
+     * @return This request object with the buffering strategy applied.
+     * @throws IllegalArgumentException
+     *             If the threshold is negative.
+     * @see ODataRequestRead#withResponseSpilling(long)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public GetAllRequestBuilder<EntityT> withResponseSpilling( final long thresholdBytes )
+    {
+        if( thresholdBytes < 0 ) {
+            throw new IllegalArgumentException(
+                "The threshold for buffering a response in memory must not be negative.");
+        }
+        responseSpillingThreshold = thresholdBytes;
+        return this;
+    }
+
+    /**
+     * Replace equal values by a single canonical instance, while the entities of the result-set are deserialized. This
+     * reduces the memory footprint of large result-sets that repeat a few distinct values many times, e.g. currency
+     * codes or units, which are kept in memory afterwards.
+     *
+     * @param maximumSize
+     *            The maximum number of distinct values to hold in the pool, e.g.
+     *            {@link ValueInterner#DEFAULT_MAXIMUM_SIZE}.
+     * @return This request object with value interning enabled.
+     * @throws IllegalArgumentException
+     *             If the maximum size is not positive.
+     * @see ODataRequestRead#withValueInterning(int)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public GetAllRequestBuilder<EntityT> withValueInterning( final int maximumSize )
+    {
+        if( maximumSize <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of interned values must be positive.");
+        }
+        valueInterningMaximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Request the following pages of a result-set in the background, while the current page is consumed. As soon as the
+     * next link of a page is known, the next page is requested, until the given number of pages is fetched ahead. This
+     * applies to {@link #execute(Destination)} and all lazy loading modifiers, e.g. {@link #iteratingPages()}.
+     *
+     * @param prefetchPages
+     *            The number of pages to request ahead of the page that is currently consumed. The value {@code 0}
+     *            disables prefetching, which is the default.
+     * @return This request object with the prefetching applied.
+     * @throws IllegalArgumentException
+     *             If the number of pages is negative.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public GetAllRequestBuilder<EntityT> withPagePrefetching( final int prefetchPages )
+    {
+        if( prefetchPages < 0 ) {
+            throw new IllegalArgumentException("The number of pages to prefetch must not be negative.");
+        }
+        this.prefetchPages = prefetchPages;
+        return this;
     }
 
     /**
@@ -254,7 +384,10 @@ public class GetAllRequestBuilder<EntityT extends VdmEntity<?>>
     private Iterable<List<EntityT>> executeInternal( @Nonnull final Destination destination )
     {
         final HttpClient httpClient = HttpClientAccessor.getHttpClient(destination);
-        return toRequest().execute(httpClient).iteratePages(getEntityClass());
+        final ODataRequestResultGeneric result = toRequest().execute(httpClient);
+        return prefetchPages > 0
+            ? result.iteratePages(getEntityClass(), prefetchPages)
+            : result.iteratePages(getEntityClass());
     }
 
     @Nonnull
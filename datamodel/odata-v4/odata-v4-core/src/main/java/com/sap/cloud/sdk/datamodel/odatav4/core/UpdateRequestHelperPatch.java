@@ -128,7 +128,7 @@ class UpdateRequestHelperPatch
                     final Map<String, Object> changedFields;
                     if( input instanceof VdmComplex ) {
                         changedFields = ((VdmObject<?>) input).toMapOfFields();
-                        changedFields.putAll(((VdmObject<?>) input).getCustomFields());
+                        changedFields.putAll(((VdmObject<?>) input).customFields);
                     } else {
                         changedFields = ((VdmObject<?>) input).getChangedFields();
                     }
@@ -1,5 +1,6 @@
 package com.sap.cloud.sdk.datamodel.odatav4.core;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -52,18 +53,27 @@ public abstract class VdmObject<ObjectT>
      */
     public static final String[] ODATA_VERSION_ANNOTATIONS = { "@odata.etag", "@etag" };
 
+    // both maps are empty for most objects, so they share an immutable empty map until the first value is put
+    private static final Map<String, Object> NO_FIELDS = Collections.emptyMap();
+
+    // package visible for read access without allocating a map, it must only be modified via getCustomFields()
     @JsonIgnore
     @Nonnull
-    private final transient Map<String, Object> customFields = new LinkedHashMap<>();
+    transient Map<String, Object> customFields = NO_FIELDS;
 
     /**
      * A mapping of the OData field name to the original value.
      * <p>
-     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property.
+     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property. The map
+     * is immutable and empty until the first field is changed.
+     *
+     * @deprecated The map must not be modified directly, since it is immutable until the first field is changed. Use
+     *             {@link #rememberChangedField(String, Object)} and {@link #resetChangedFields()} instead.
      */
+    @Deprecated
     @JsonIgnore
     @Nonnull
-    protected final transient Map<String, Object> changedOriginalFields = new HashMap<>();
+    protected transient Map<String, Object> changedOriginalFields = NO_FIELDS;
 
     /**
      * Returns the names of the custom fields of this object.
@@ -85,6 +95,10 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     public Map<String, Object> getCustomFields()
     {
+        // the returned map may be modified by the caller
+        if( customFields == NO_FIELDS ) {
+            customFields = new LinkedHashMap<>();
+        }
         return customFields;
     }
 
@@ -100,7 +114,7 @@ public abstract class VdmObject<ObjectT>
     public void setCustomField( @Nonnull final String customFieldName, @Nullable final Object value )
     {
         rememberChangedField(customFieldName, customFields.get(customFieldName));
-        customFields.put(customFieldName, value);
+        getCustomFields().put(customFieldName, value);
     }
 
     /**
@@ -259,7 +273,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Map<String, Object> toMapOfCustomFields()
     {
-        return new HashMap<>(getCustomFields());
+        return new HashMap<>(customFields);
     }
 
     /**
@@ -270,7 +284,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Set<String> getSetOfCustomFields()
     {
-        return new HashSet<>(getCustomFields().keySet());
+        return new HashSet<>(customFields.keySet());
     }
 
     /**
@@ -344,7 +358,7 @@ public abstract class VdmObject<ObjectT>
     {
         final Map<String, Object> currentFields = new HashMap<>();
         currentFields.putAll(toMapOfFields());
-        currentFields.putAll(getCustomFields());
+        currentFields.putAll(customFields);
 
         return Maps.filterEntries(currentFields, f -> f != null && isFieldChanged(f.getKey(), f.getValue()));
     }
@@ -385,9 +399,13 @@ public abstract class VdmObject<ObjectT>
      */
     protected void rememberChangedField( @Nonnull final String fieldName, @Nullable final Object valueBeforeChange )
     {
-        if( !changedOriginalFields.containsKey(fieldName) ) {
-            changedOriginalFields.put(fieldName, valueBeforeChange);
+        if( changedOriginalFields.containsKey(fieldName) ) {
+            return;
+        }
+        if( changedOriginalFields == NO_FIELDS ) {
+            changedOriginalFields = new HashMap<>();
         }
+        changedOriginalFields.put(fieldName, valueBeforeChange);
     }
 
     /**
@@ -398,6 +416,6 @@ public abstract class VdmObject<ObjectT>
      */
     public void resetChangedFields()
     {
-        changedOriginalFields.clear();
+        changedOriginalFields = NO_FIELDS;
     }
 }
@@ -6,6 +6,8 @@ import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.Gson;
+
 import io.vavr.control.Option;
 
 class VdmEntityTest
@@ -66,4 +68,34 @@ class VdmEntityTest
         entity.setCustomField("foo", "baz");
         assertThat(entity.getChangedFields()).containsOnlyKeys("foo");
     }
+
+    @Test
+    @SuppressWarnings( "deprecation" )
+    void testFieldMapsAreAllocatedLazily()
+    {
+        final Gson gson = new Gson();
+        final TestEntity entity = gson.fromJson(gson.toJson(TestEntity.builder().id("old").build()), TestEntity.class);
+        final TestEntity other = new TestEntity();
+
+        // neither reading nor writing an object allocates maps for its custom and changed fields
+        assertThat(entity.getId()).isEqualTo("old");
+        assertThat(entity.getChangedFields()).isEmpty();
+        assertThat(entity.customFields).isSameAs(other.customFields).isEmpty();
+        assertThat(entity.changedOriginalFields).isSameAs(other.changedOriginalFields).isEmpty();
+
+        // the map returned by getCustomFields is modifiable and backs the custom fields
+        entity.getCustomFields().put("foo", "bar");
+        assertThat(entity.getCustomFieldNames()).containsExactly("foo");
+        assertThat(entity.customFields).isNotSameAs(other.customFields);
+        assertThat(other.customFields).isEmpty();
+
+        entity.setId("new");
+        assertThat(entity.getChangedFields()).containsOnlyKeys("id");
+
+        entity.resetChangedFields();
+        assertThat(entity.getChangedFields()).isEmpty();
+
+        entity.setId("newer");
+        assertThat(entity.getChangedFields()).containsOnlyKeys("id");
+    }
 }
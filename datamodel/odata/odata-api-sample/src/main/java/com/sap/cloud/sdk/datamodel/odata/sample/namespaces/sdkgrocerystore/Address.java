@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -11,13 +12,18 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.field.AddressField;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.AddressSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -480,4 +486,91 @@ public class Address extends VdmEntity<Address>
         return (com.sap.cloud.sdk.datamodel.odata.sample.services.SdkGroceryStoreService.DEFAULT_SERVICE_PATH);
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link Address}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<Address>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> streetAdapter;
+        private final TypeAdapter<String> cityAdapter;
+        private final TypeAdapter<String> stateAdapter;
+        private final TypeAdapter<String> countryAdapter;
+        private final TypeAdapter<String> postalCodeAdapter;
+        private final TypeAdapter<Double> latitudeAdapter;
+        private final TypeAdapter<Double> longitudeAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<Address> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Address.class, "id"));
+            streetAdapter = ((TypeAdapter<String>) getFieldAdapter(Address.class, "street"));
+            cityAdapter = ((TypeAdapter<String>) getFieldAdapter(Address.class, "city"));
+            stateAdapter = ((TypeAdapter<String>) getFieldAdapter(Address.class, "state"));
+            countryAdapter = ((TypeAdapter<String>) getFieldAdapter(Address.class, "country"));
+            postalCodeAdapter = ((TypeAdapter<String>) getFieldAdapter(Address.class, "postalCode"));
+            latitudeAdapter = ((TypeAdapter<Double>) getFieldAdapter(Address.class, "latitude"));
+            longitudeAdapter = ((TypeAdapter<Double>) getFieldAdapter(Address.class, "longitude"));
+        }
+
+        @Nonnull
+        @Override
+        protected Address newInstance()
+        {
+            return new Address();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final Address object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Street":
+                    object.street = streetAdapter.read(jsonReader);
+                    return true;
+                case "City":
+                    object.city = cityAdapter.read(jsonReader);
+                    return true;
+                case "State":
+                    object.state = stateAdapter.read(jsonReader);
+                    return true;
+                case "Country":
+                    object.country = countryAdapter.read(jsonReader);
+                    return true;
+                case "PostalCode":
+                    object.postalCode = postalCodeAdapter.read(jsonReader);
+                    return true;
+                case "Latitude":
+                    object.latitude = latitudeAdapter.read(jsonReader);
+                    return true;
+                case "Longitude":
+                    object.longitude = longitudeAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
 }
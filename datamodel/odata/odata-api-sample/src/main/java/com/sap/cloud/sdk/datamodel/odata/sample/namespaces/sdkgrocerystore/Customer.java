@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -11,8 +12,11 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
@@ -20,6 +24,8 @@ import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.field
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.CustomerOneToOneLink;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.CustomerSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -495,4 +501,76 @@ public class Customer extends VdmEntity<Customer>
 
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link Customer}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<Customer>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> nameAdapter;
+        private final TypeAdapter<String> emailAdapter;
+        private final TypeAdapter<Integer> addressIdAdapter;
+        private final TypeAdapter<Address> toAddressAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<Customer> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Customer.class, "id"));
+            nameAdapter = ((TypeAdapter<String>) getFieldAdapter(Customer.class, "name"));
+            emailAdapter = ((TypeAdapter<String>) getFieldAdapter(Customer.class, "email"));
+            addressIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Customer.class, "addressId"));
+            toAddressAdapter = ((TypeAdapter<Address>) getFieldAdapter(Customer.class, "toAddress"));
+        }
+
+        @Nonnull
+        @Override
+        protected Customer newInstance()
+        {
+            return new Customer();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final Customer object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Name":
+                    object.name = nameAdapter.read(jsonReader);
+                    return true;
+                case "Email":
+                    object.email = emailAdapter.read(jsonReader);
+                    return true;
+                case "AddressId":
+                    object.addressId = addressIdAdapter.read(jsonReader);
+                    return true;
+                case "Address":
+                    object.toAddress = toAddressAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
 }
@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -11,13 +12,18 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.field.FloorPlanField;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.FloorPlanSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -240,4 +246,61 @@ public class FloorPlan extends VdmEntity<FloorPlan>
         return (com.sap.cloud.sdk.datamodel.odata.sample.services.SdkGroceryStoreService.DEFAULT_SERVICE_PATH);
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link FloorPlan}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<FloorPlan>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> imageUriAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<FloorPlan> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(FloorPlan.class, "id"));
+            imageUriAdapter = ((TypeAdapter<String>) getFieldAdapter(FloorPlan.class, "imageUri"));
+        }
+
+        @Nonnull
+        @Override
+        protected FloorPlan newInstance()
+        {
+            return new FloorPlan();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final FloorPlan object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "ImageUri":
+                    object.imageUri = imageUriAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
 }
@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.time.LocalTime;
 import java.util.Map;
 
@@ -14,13 +15,18 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.field.OpeningHoursField;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.OpeningHoursSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -333,4 +339,71 @@ public class OpeningHours extends VdmEntity<OpeningHours>
         return (com.sap.cloud.sdk.datamodel.odata.sample.services.SdkGroceryStoreService.DEFAULT_SERVICE_PATH);
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link OpeningHours}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<OpeningHours>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<Integer> dayOfWeekAdapter;
+        private final TypeAdapter<LocalTime> openTimeAdapter;
+        private final TypeAdapter<LocalTime> closeTimeAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<OpeningHours> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(OpeningHours.class, "id"));
+            dayOfWeekAdapter = ((TypeAdapter<Integer>) getFieldAdapter(OpeningHours.class, "dayOfWeek"));
+            openTimeAdapter = ((TypeAdapter<LocalTime>) getFieldAdapter(OpeningHours.class, "openTime"));
+            closeTimeAdapter = ((TypeAdapter<LocalTime>) getFieldAdapter(OpeningHours.class, "closeTime"));
+        }
+
+        @Nonnull
+        @Override
+        protected OpeningHours newInstance()
+        {
+            return new OpeningHours();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final OpeningHours object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "DayOfWeek":
+                    object.dayOfWeek = dayOfWeekAdapter.read(jsonReader);
+                    return true;
+                case "OpenTime":
+                    object.openTime = openTimeAdapter.read(jsonReader);
+                    return true;
+                case "CloseTime":
+                    object.closeTime = closeTimeAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
 }
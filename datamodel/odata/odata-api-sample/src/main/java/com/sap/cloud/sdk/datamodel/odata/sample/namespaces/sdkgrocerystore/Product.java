@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -14,8 +15,11 @@ import javax.annotation.Nullable;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmMediaEntity;
@@ -24,6 +28,8 @@ import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.ProductOneToOneLink;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.ProductSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -678,6 +684,93 @@ public class Product extends VdmMediaEntity<Product>
         toShelf.addAll(Lists.newArrayList(entity));
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link Product}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<Product>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> nameAdapter;
+        private final TypeAdapter<Integer> shelfIdAdapter;
+        private final TypeAdapter<Integer> vendorIdAdapter;
+        private final TypeAdapter<BigDecimal> priceAdapter;
+        private final TypeAdapter<byte[]> imageAdapter;
+        private final TypeAdapter<Vendor> toVendorAdapter;
+        private final TypeAdapter<List<Shelf>> toShelfAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<Product> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Product.class, "id"));
+            nameAdapter = ((TypeAdapter<String>) getFieldAdapter(Product.class, "name"));
+            shelfIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Product.class, "shelfId"));
+            vendorIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Product.class, "vendorId"));
+            priceAdapter = ((TypeAdapter<BigDecimal>) getFieldAdapter(Product.class, "price"));
+            imageAdapter = ((TypeAdapter<byte[]>) getFieldAdapter(Product.class, "image"));
+            toVendorAdapter = ((TypeAdapter<Vendor>) getFieldAdapter(Product.class, "toVendor"));
+            toShelfAdapter = ((TypeAdapter<List<Shelf>>) getFieldAdapter(Product.class, "toShelf"));
+        }
+
+        @Nonnull
+        @Override
+        protected Product newInstance()
+        {
+            return new Product();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final Product object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Name":
+                    object.name = nameAdapter.read(jsonReader);
+                    return true;
+                case "ShelfId":
+                    object.shelfId = shelfIdAdapter.read(jsonReader);
+                    return true;
+                case "VendorId":
+                    object.vendorId = vendorIdAdapter.read(jsonReader);
+                    return true;
+                case "Price":
+                    object.price = priceAdapter.read(jsonReader);
+                    return true;
+                case "Image":
+                    object.image = imageAdapter.read(jsonReader);
+                    return true;
+                case "Vendor":
+                    object.toVendor = toVendorAdapter.read(jsonReader);
+                    return true;
+                case "Shelf":
+                    object.toShelf = toShelfAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
     /**
      * Helper class to allow for fluent creation of Product instances.
      *
@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -11,10 +12,15 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmComplex;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -151,4 +157,61 @@ public class ProductCount extends VdmComplex<ProductCount>
         this.quantity = quantity;
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link ProductCount}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<ProductCount>
+    {
+
+        private final TypeAdapter<Integer> productIdAdapter;
+        private final TypeAdapter<Integer> quantityAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<ProductCount> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            productIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(ProductCount.class, "productId"));
+            quantityAdapter = ((TypeAdapter<Integer>) getFieldAdapter(ProductCount.class, "quantity"));
+        }
+
+        @Nonnull
+        @Override
+        protected ProductCount newInstance()
+        {
+            return new ProductCount();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final ProductCount object )
+            throws IOException
+        {
+            switch( name ) {
+                case "ProductId":
+                    object.productId = productIdAdapter.read(jsonReader);
+                    return true;
+                case "Quantity":
+                    object.quantity = quantityAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
 }
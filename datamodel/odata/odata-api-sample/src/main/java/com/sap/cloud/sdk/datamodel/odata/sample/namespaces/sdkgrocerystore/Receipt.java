@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Map;
 
@@ -12,8 +13,11 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
@@ -21,6 +25,8 @@ import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.field
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.ReceiptOneToOneLink;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.ReceiptSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -829,6 +835,123 @@ public class Receipt extends VdmEntity<Receipt>
         toCustomer = cloudSdkValue;
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link Receipt}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<Receipt>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<Integer> customerIdAdapter;
+        private final TypeAdapter<BigDecimal> totalAmountAdapter;
+        private final TypeAdapter<ProductCount> productCount1Adapter;
+        private final TypeAdapter<ProductCount> productCount2Adapter;
+        private final TypeAdapter<ProductCount> productCount3Adapter;
+        private final TypeAdapter<ProductCount> productCount4Adapter;
+        private final TypeAdapter<ProductCount> productCount5Adapter;
+        private final TypeAdapter<ProductCount> productCount6Adapter;
+        private final TypeAdapter<ProductCount> productCount7Adapter;
+        private final TypeAdapter<ProductCount> productCount8Adapter;
+        private final TypeAdapter<ProductCount> productCount9Adapter;
+        private final TypeAdapter<ProductCount> productCount10Adapter;
+        private final TypeAdapter<Customer> toCustomerAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter(
+            @Nonnull final Gson gson,
+            @Nonnull final ODataVdmEntityAdapter<Receipt> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Receipt.class, "id"));
+            customerIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Receipt.class, "customerId"));
+            totalAmountAdapter = ((TypeAdapter<BigDecimal>) getFieldAdapter(Receipt.class, "totalAmount"));
+            productCount1Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount1"));
+            productCount2Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount2"));
+            productCount3Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount3"));
+            productCount4Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount4"));
+            productCount5Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount5"));
+            productCount6Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount6"));
+            productCount7Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount7"));
+            productCount8Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount8"));
+            productCount9Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount9"));
+            productCount10Adapter = ((TypeAdapter<ProductCount>) getFieldAdapter(Receipt.class, "productCount10"));
+            toCustomerAdapter = ((TypeAdapter<Customer>) getFieldAdapter(Receipt.class, "toCustomer"));
+        }
+
+        @Nonnull
+        @Override
+        protected Receipt newInstance()
+        {
+            return new Receipt();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final Receipt object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "CustomerId":
+                    object.customerId = customerIdAdapter.read(jsonReader);
+                    return true;
+                case "TotalAmount":
+                    object.totalAmount = totalAmountAdapter.read(jsonReader);
+                    return true;
+                case "ProductCount1":
+                    object.productCount1 = productCount1Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount2":
+                    object.productCount2 = productCount2Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount3":
+                    object.productCount3 = productCount3Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount4":
+                    object.productCount4 = productCount4Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount5":
+                    object.productCount5 = productCount5Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount6":
+                    object.productCount6 = productCount6Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount7":
+                    object.productCount7 = productCount7Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount8":
+                    object.productCount8 = productCount8Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount9":
+                    object.productCount9 = productCount9Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount10":
+                    object.productCount10 = productCount10Adapter.read(jsonReader);
+                    return true;
+                case "Customer":
+                    object.toCustomer = toCustomerAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
     /**
      * Helper class to allow for fluent creation of Receipt instances.
      *
@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -13,8 +14,11 @@ import javax.annotation.Nullable;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
@@ -23,6 +27,8 @@ import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.ShelfOneToOneLink;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.ShelfSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -517,6 +523,71 @@ public class Shelf extends VdmEntity<Shelf>
         toProducts.addAll(Lists.newArrayList(entity));
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link Shelf}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<Shelf>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<Integer> floorPlanIdAdapter;
+        private final TypeAdapter<FloorPlan> toFloorPlanAdapter;
+        private final TypeAdapter<List<Product>> toProductsAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter( @Nonnull final Gson gson, @Nonnull final ODataVdmEntityAdapter<Shelf> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Shelf.class, "id"));
+            floorPlanIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Shelf.class, "floorPlanId"));
+            toFloorPlanAdapter = ((TypeAdapter<FloorPlan>) getFieldAdapter(Shelf.class, "toFloorPlan"));
+            toProductsAdapter = ((TypeAdapter<List<Product>>) getFieldAdapter(Shelf.class, "toProducts"));
+        }
+
+        @Nonnull
+        @Override
+        protected Shelf newInstance()
+        {
+            return new Shelf();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final Shelf object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "FloorPlanId":
+                    object.floorPlanId = floorPlanIdAdapter.read(jsonReader);
+                    return true;
+                case "FloorPlan":
+                    object.toFloorPlan = toFloorPlanAdapter.read(jsonReader);
+                    return true;
+                case "Products":
+                    object.toProducts = toProductsAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
     /**
      * Helper class to allow for fluent creation of Shelf instances.
      *
@@ -4,6 +4,7 @@
 
 package com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore;
 
+import java.io.IOException;
 import java.util.Map;
 
 import javax.annotation.Nonnull;
@@ -11,8 +12,11 @@ import javax.annotation.Nullable;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
@@ -20,6 +24,8 @@ import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.field
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.link.VendorOneToOneLink;
 import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.selectable.VendorSelectable;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
 import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
 import com.sap.cloud.sdk.typeconverter.TypeConverter;
 
@@ -398,6 +404,71 @@ public class Vendor extends VdmEntity<Vendor>
         toAddress = cloudSdkValue;
     }
 
+    /**
+     * Reflection-free Gson type adapter of {@link Vendor}, preferred by the
+     * {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     *
+     */
+    public final static class GsonTypeAdapter extends ODataVdmGeneratedAdapter<Vendor>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> nameAdapter;
+        private final TypeAdapter<Integer> addressIdAdapter;
+        private final TypeAdapter<Address> toAddressAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         *
+         * @param fallbackAdapter
+         *            The reflection based adapter of the data model class.
+         * @param gson
+         *            The GSON reference.
+         */
+        @SuppressWarnings( "unchecked" )
+        public GsonTypeAdapter( @Nonnull final Gson gson, @Nonnull final ODataVdmEntityAdapter<Vendor> fallbackAdapter )
+        {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Vendor.class, "id"));
+            nameAdapter = ((TypeAdapter<String>) getFieldAdapter(Vendor.class, "name"));
+            addressIdAdapter = ((TypeAdapter<Integer>) getFieldAdapter(Vendor.class, "addressId"));
+            toAddressAdapter = ((TypeAdapter<Address>) getFieldAdapter(Vendor.class, "toAddress"));
+        }
+
+        @Nonnull
+        @Override
+        protected Vendor newInstance()
+        {
+            return new Vendor();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull final JsonReader jsonReader,
+            @Nonnull final String name,
+            @Nonnull final Vendor object )
+            throws IOException
+        {
+            switch( name ) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Name":
+                    object.name = nameAdapter.read(jsonReader);
+                    return true;
+                case "AddressId":
+                    object.addressId = addressIdAdapter.read(jsonReader);
+                    return true;
+                case "Address":
+                    object.toAddress = toAddressAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
     /**
      * Helper class to allow for fluent creation of Vendor instances.
      *
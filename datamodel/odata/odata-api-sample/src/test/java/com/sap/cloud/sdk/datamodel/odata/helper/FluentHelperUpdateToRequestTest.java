@@ -140,6 +140,28 @@ class FluentHelperUpdateToRequestTest
         assertThat(updateQuery.getVersionIdentifier()).isEqualTo(versionIdentifier);
     }
 
+    @Test
+    void testUpdateWithStreamingPayload()
+    {
+        product.setVersionIdentifier(versionIdentifier);
+        product.setName("ChangedName");
+
+        final ODataRequestUpdate putQuery = service.updateProduct(product).replacingEntity().toRequest();
+        final ODataRequestUpdate streamingPutQuery =
+            service.updateProduct(product).replacingEntity().withStreamingPayload().toRequest();
+        assertThat(streamingPutQuery.getSerializedEntity()).isEqualTo(putQuery.getSerializedEntity());
+        assertThat(streamingPutQuery.getUpdateStrategy()).isEqualTo(UpdateStrategy.REPLACE_WITH_PUT);
+        assertThat(streamingPutQuery.getVersionIdentifier()).isEqualTo(versionIdentifier);
+        assertThat(streamingPutQuery.getRelativeUri()).isEqualTo(putQuery.getRelativeUri());
+        assertThat(streamingPutQuery.getHeaders()).isEqualTo(putQuery.getHeaders());
+
+        final ODataRequestUpdate patchQuery = service.updateProduct(product).includingFields(Product.IMAGE).toRequest();
+        final ODataRequestUpdate streamingPatchQuery =
+            service.updateProduct(product).includingFields(Product.IMAGE).withStreamingPayload().toRequest();
+        assertThat(streamingPatchQuery.getSerializedEntity()).isEqualTo(patchQuery.getSerializedEntity());
+        assertThat(streamingPatchQuery.getUpdateStrategy()).isEqualTo(UpdateStrategy.MODIFY_WITH_PATCH);
+    }
+
     @Test
     void testUpdatePatch()
     {
@@ -137,4 +137,33 @@ class FluentHelperCreateODataClientTest
 
         verify(postRequestedFor(urlEqualTo(ODATA_QUERY_URL)).withRequestBody(WireMock.equalToJson(request)));
     }
+
+    @Test
+    void testEntitySerializationWithStreamingPayload()
+    {
+        final String request = """
+            {
+              "Name": "Product",
+              "Price": "19.99",
+              "Vendor": { "Name": "SAP" },
+              "Image": "AQID"
+            }
+            """;
+
+        stubFor(head(anyUrl()).willReturn(serverError()));
+        stubFor(post(urlEqualTo(ODATA_QUERY_URL)).willReturn(WireMock.noContent()));
+
+        final ODataRequestCreate createRequest =
+            service.createProduct(productToCreate).withStreamingPayload().toRequest();
+        assertThat(createRequest.getSerializedEntity())
+            .isEqualTo(service.createProduct(productToCreate).toRequest().getSerializedEntity());
+
+        createRequest.execute(httpClient);
+
+        verify(
+            postRequestedFor(urlEqualTo(ODATA_QUERY_URL))
+                .withHeader("Content-Type", WireMock.equalTo("application/json"))
+                .withHeader("Transfer-Encoding", WireMock.equalTo("chunked"))
+                .withRequestBody(equalToJson(request)));
+    }
 }
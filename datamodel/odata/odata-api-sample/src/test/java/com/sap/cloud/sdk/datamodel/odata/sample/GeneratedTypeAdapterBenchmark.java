@@ -0,0 +1,145 @@
+package com.sap.cloud.sdk.datamodel.odata.sample;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.Customer;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.Product;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory;
+
+/**
+ * JMH benchmark comparing the deserialization of the grocery store entities with the generated type adapters against
+ * the reflection based {@link ODataVdmEntityAdapter}.
+ * <p>
+ * The benchmark is not executed as part of the test suite. Run it from the test classpath with
+ * {@code java -cp <test-classpath> org.openjdk.jmh.Main GeneratedTypeAdapterBenchmark}.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class GeneratedTypeAdapterBenchmark
+{
+    private static final int ENTITY_COUNT = 1_000;
+
+    private String productsJson;
+    private String customersJson;
+
+    private TypeAdapter<?> reflectiveProductAdapter;
+    private TypeAdapter<?> generatedProductAdapter;
+    private TypeAdapter<?> reflectiveCustomerAdapter;
+    private TypeAdapter<?> generatedCustomerAdapter;
+
+    @Setup
+    public void setup()
+    {
+        final StringBuilder products = new StringBuilder("[");
+        final StringBuilder customers = new StringBuilder("[");
+        for( int i = 0; i < ENTITY_COUNT; i++ ) {
+            final String separator = i == 0 ? "" : ",";
+            products
+                .append(separator)
+                .append("{\"__metadata\":{\"uri\":\"Products(")
+                .append(i)
+                .append(")\",\"type\":\"SdkGroceryStore.Product\",\"etag\":\"W/\\\"")
+                .append(i)
+                .append("\\\"\"},\"Id\":")
+                .append(i)
+                .append(",\"Name\":\"Product ")
+                .append(i)
+                .append("\",\"ShelfId\":3,\"VendorId\":4,\"Price\":12.5,\"Image\":null")
+                .append(",\"Vendor\":{\"__deferred\":{\"uri\":\"Products(")
+                .append(i)
+                .append(")/Vendor\"}},\"Shelf\":{\"__deferred\":{\"uri\":\"Products(")
+                .append(i)
+                .append(")/Shelf\"}}}");
+            customers
+                .append(separator)
+                .append("{\"Id\":")
+                .append(i)
+                .append(",\"Name\":\"Customer ")
+                .append(i)
+                .append("\",\"Email\":\"customer@example.com\",\"AddressId\":")
+                .append(i)
+                .append(",\"Address\":{\"Id\":")
+                .append(i)
+                .append(",\"Street\":\"Main Street\",\"City\":\"Springfield\",\"State\":\"IL\"")
+                .append(",\"Country\":\"US\",\"PostalCode\":\"62701\",\"Latitude\":39.8,\"Longitude\":-89.6}}");
+        }
+        productsJson = products.append(']').toString();
+        customersJson = customers.append(']').toString();
+
+        final Gson gson = new Gson();
+        final ODataVdmEntityAdapterFactory factory = new ODataVdmEntityAdapterFactory();
+        final ODataVdmEntityAdapter<Product> productAdapter = new ODataVdmEntityAdapter<>(factory, gson, Product.class);
+        final ODataVdmEntityAdapter<Customer> customerAdapter =
+            new ODataVdmEntityAdapter<>(factory, gson, Customer.class);
+
+        reflectiveProductAdapter = productAdapter;
+        generatedProductAdapter = new Product.GsonTypeAdapter(gson, productAdapter);
+        reflectiveCustomerAdapter = customerAdapter;
+        generatedCustomerAdapter = new Customer.GsonTypeAdapter(gson, customerAdapter);
+    }
+
+    @Benchmark
+    public List<Object> readProductsReflective()
+        throws IOException
+    {
+        return readAll(productsJson, reflectiveProductAdapter);
+    }
+
+    @Benchmark
+    public List<Object> readProductsGenerated()
+        throws IOException
+    {
+        return readAll(productsJson, generatedProductAdapter);
+    }
+
+    @Benchmark
+    public List<Object> readCustomersReflective()
+        throws IOException
+    {
+        return readAll(customersJson, reflectiveCustomerAdapter);
+    }
+
+    @Benchmark
+    public List<Object> readCustomersGenerated()
+        throws IOException
+    {
+        return readAll(customersJson, generatedCustomerAdapter);
+    }
+
+    private static List<Object> readAll( final String json, final TypeAdapter<?> adapter )
+        throws IOException
+    {
+        final List<Object> result = new ArrayList<>(ENTITY_COUNT);
+        try( JsonReader reader = new JsonReader(new StringReader(json)) ) {
+            reader.beginArray();
+            while( reader.hasNext() ) {
+                result.add(adapter.read(reader));
+            }
+            reader.endArray();
+        }
+        return result;
+    }
+}
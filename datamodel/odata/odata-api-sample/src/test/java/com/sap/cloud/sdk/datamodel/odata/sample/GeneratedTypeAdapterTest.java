@@ -0,0 +1,133 @@
+package com.sap.cloud.sdk.datamodel.odata.sample;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmObject;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.Address;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.Customer;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.OpeningHours;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.Product;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.ProductCount;
+import com.sap.cloud.sdk.datamodel.odata.sample.namespaces.sdkgrocerystore.Shelf;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory;
+
+class GeneratedTypeAdapterTest
+{
+    private static final String PRODUCT_JSON = """
+        {
+          "__metadata": {"uri": "Products(1)", "type": "SdkGroceryStore.Product", "etag": "W/\\"1\\""},
+          "Id": 1,
+          "Name": "Cloud SDK",
+          "Price": 12.5,
+          "Image": "AQID",
+          "CustomField": "custom",
+          "Vendor": {"__deferred": {"uri": "Products(1)/Vendor"}},
+          "Shelf": {"results": [{"Id": 500, "FloorPlanId": 200, "Products": {"results": []}}]}
+        }
+        """;
+
+    private static final String CUSTOMER_JSON = """
+        {
+          "Id": 1,
+          "Name": "Jane",
+          "versionIdentifier": "etag",
+          "Address": {"Id": 2, "Street": "Main Street", "City": "Springfield"}
+        }
+        """;
+
+    private final Gson gson = new Gson();
+
+    @Test
+    void testGeneratedAdapterIsPreferred()
+    {
+        final ODataVdmEntityAdapterFactory factory = new ODataVdmEntityAdapterFactory();
+
+        assertThat(factory.create(gson, TypeToken.get(Product.class))).isInstanceOf(Product.GsonTypeAdapter.class);
+        assertThat(factory.create(gson, TypeToken.get(Customer.class))).isInstanceOf(Customer.GsonTypeAdapter.class);
+        assertThat(factory.create(gson, TypeToken.get(ProductCount.class)))
+            .isInstanceOf(ProductCount.GsonTypeAdapter.class);
+    }
+
+    @Test
+    void testGeneratedAdapterReadsLikeReflectiveAdapter()
+        throws IOException
+    {
+        final Product generated = gson.fromJson(PRODUCT_JSON, Product.class);
+        final Product reflective = readReflective(Product.class, PRODUCT_JSON);
+
+        assertThat(generated).isEqualTo(reflective);
+        assertThat(generated.getId()).isEqualTo(1);
+        assertThat(generated.getPrice()).isEqualByComparingTo(new BigDecimal("12.5"));
+        assertThat(generated.getImage()).containsExactly(1, 2, 3);
+        assertThat(generated.getVersionIdentifier()).containsExactly("W/\"1\"");
+        assertThat(generated.getCustomFields()).isEqualTo(reflective.getCustomFields()).containsKey("CustomField");
+        assertThat(generated.getVendorIfPresent()).isEmpty();
+        assertThat(generated.getShelfIfPresent().get()).singleElement().extracting(Shelf::getId).isEqualTo(500);
+        assertThat(generated.getChangedFields()).isEmpty();
+    }
+
+    @Test
+    void testGeneratedAdapterReadsInheritedProperties()
+        throws IOException
+    {
+        final Customer generated = gson.fromJson(CUSTOMER_JSON, Customer.class);
+        final Customer reflective = readReflective(Customer.class, CUSTOMER_JSON);
+
+        assertThat(generated).isEqualTo(reflective);
+        assertThat(generated.getVersionIdentifier()).containsExactly("etag");
+        assertThat(generated.getAddressIfPresent().map(Address::getCity)).containsExactly("Springfield");
+        assertThat(generated.getCustomFields()).isEmpty();
+    }
+
+    @Test
+    void testGeneratedAdapterUsesFieldAdaptersAndComplexTypes()
+        throws IOException
+    {
+        final String openingHoursJson = "{\"Id\": 1, \"DayOfWeek\": 2, \"OpenTime\": \"PT08H30M00S\"}";
+        final String productCountJson = "{\"ProductId\": 1, \"Quantity\": 3}";
+
+        final OpeningHours openingHours = gson.fromJson(openingHoursJson, OpeningHours.class);
+        assertThat(openingHours).isEqualTo(readReflective(OpeningHours.class, openingHoursJson));
+        assertThat(openingHours.getOpenTime()).isEqualTo(LocalTime.of(8, 30));
+
+        final ProductCount productCount = gson.fromJson(productCountJson, ProductCount.class);
+        assertThat(productCount).isEqualTo(readReflective(ProductCount.class, productCountJson));
+        assertThat(productCount.getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void testGeneratedAdapterWritesLikeReflectiveAdapter()
+    {
+        final Product product = gson.fromJson(PRODUCT_JSON, Product.class);
+
+        final TypeAdapter<VdmObject<Product>> reflectiveAdapter =
+            new ODataVdmEntityAdapter<>(new ODataVdmEntityAdapterFactory(), gson, Product.class);
+
+        assertThat(gson.toJson(product)).isEqualTo(reflectiveAdapter.toJson(product));
+    }
+
+    @Test
+    void testNullAndDeferredValues()
+    {
+        assertThat(gson.fromJson("null", Product.class)).isNull();
+        assertThat(gson.fromJson("{\"__deferred\": {\"uri\": \"Products(1)\"}}", Product.class)).isNull();
+    }
+
+    private <T extends VdmObject<T>> T readReflective( final Class<T> type, final String json )
+        throws IOException
+    {
+        final TypeAdapter<VdmObject<T>> reflectiveAdapter =
+            new ODataVdmEntityAdapter<>(new ODataVdmEntityAdapterFactory(), gson, type);
+        return type.cast(reflectiveAdapter.fromJson(json));
+    }
+}
@@ -0,0 +1,486 @@
+package com.sap.cloud.sdk.datamodel.odata.helper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * JSON writer that filters the members of the written entity on the fly and forwards everything else to a delegate
+ * writer. This allows to serialize an entity for a create or update request in a single pass, without creating a JSON
+ * tree of the entity first.
+ * <p>
+ * Members with a {@code null} value are omitted, unless {@link #getSerializeNulls()} is enabled. This setting is taken
+ * over from the delegate, which then writes all {@code null} values it receives.
+ */
+final class FilteringJsonWriter extends JsonWriter
+{
+    private static final Writer UNWRITABLE_WRITER = new Writer()
+    {
+        @Override
+        public void write( @Nonnull final char[] buffer, final int offset, final int counter )
+        {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void flush()
+        {
+            throw new AssertionError();
+        }
+
+        @Override
+        public void close()
+        {
+            throw new AssertionError();
+        }
+    };
+
+    private enum ValueKind
+    {
+        NULL,
+        STRING,
+        OTHER
+    }
+
+    @Nonnull
+    private final JsonWriter delegate;
+
+    private boolean removeEmptyArrays = false;
+    private boolean removeVersionIdentifiers = false;
+
+    @Nonnull
+    private Collection<String> excludedRootMembers = Collections.emptySet();
+
+    // names of the root members to write, in the given order; if null: all root members are written in their order
+    @Nullable
+    private Collection<String> includedRootMembers = null;
+
+    @Nonnull
+    private final Map<String, String> bufferedRootMembers = new HashMap<>();
+
+    // target of the current root member while its value is buffered, otherwise the delegate
+    @Nonnull
+    private JsonWriter target;
+
+    @Nullable
+    private StringWriter rootMemberBuffer = null;
+
+    @Nullable
+    private String rootMemberName = null;
+
+    // name of the member the next value belongs to, not yet forwarded
+    @Nullable
+    private String pendingName = null;
+
+    // name of the member to forward with the current value, if any
+    @Nullable
+    private String forwardedName = null;
+
+    // an array value of a member, which is still empty and hence not yet forwarded
+    private boolean pendingArray = false;
+
+    @Nullable
+    private String pendingArrayName = null;
+
+    // nesting of objects and arrays written so far
+    private int depth = 0;
+
+    // nesting of the skipped value, if greater than 0 nothing is forwarded
+    private int skipDepth = 0;
+
+    FilteringJsonWriter( @Nonnull final JsonWriter delegate )
+    {
+        super(UNWRITABLE_WRITER);
+        this.delegate = delegate;
+        target = delegate;
+        setSerializeNulls(delegate.getSerializeNulls());
+        // null values are filtered by this writer
+        delegate.setSerializeNulls(true);
+    }
+
+    /**
+     * Omits all object members with an empty array as value.
+     *
+     * @return This writer.
+     */
+    @Nonnull
+    FilteringJsonWriter removingEmptyArrays()
+    {
+        removeEmptyArrays = true;
+        return this;
+    }
+
+    /**
+     * Omits all object members named "versionIdentifier" with a string or {@code null} value.
+     *
+     * @return This writer.
+     */
+    @Nonnull
+    FilteringJsonWriter removingVersionIdentifiers()
+    {
+        removeVersionIdentifiers = true;
+        return this;
+    }
+
+    /**
+     * Omits the given members of the root object.
+     *
+     * @param memberNames
+     *            The names of the root members to omit.
+     * @return This writer.
+     */
+    @Nonnull
+    FilteringJsonWriter excludingRootMembers( @Nonnull final Collection<String> memberNames )
+    {
+        excludedRootMembers = memberNames;
+        return this;
+    }
+
+    /**
+     * Writes only the given members of the root object, in the given order. Members that are not part of the root
+     * object are written with a {@code null} value.
+     *
+     * @param memberNames
+     *            The names of the root members to write.
+     * @return This writer.
+     */
+    @Nonnull
+    FilteringJsonWriter includingRootMembers( @Nonnull final Collection<String> memberNames )
+    {
+        includedRootMembers = memberNames;
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter beginArray()
+        throws IOException
+    {
+        if( skipDepth > 0 ) {
+            skipDepth++;
+            return this;
+        }
+        flushPendingArray();
+        final boolean isMember = pendingName != null;
+        if( !beginValue(ValueKind.OTHER) ) {
+            skipDepth = 1;
+            return this;
+        }
+        if( isMember && removeEmptyArrays ) {
+            pendingArray = true;
+            pendingArrayName = forwardedName;
+        } else {
+            forwardName();
+            target.beginArray();
+        }
+        depth++;
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter endArray()
+        throws IOException
+    {
+        if( skipDepth > 0 ) {
+            skipDepth--;
+            return this;
+        }
+        depth--;
+        if( pendingArray ) {
+            pendingArray = false;
+            pendingArrayName = null;
+        } else {
+            target.endArray();
+        }
+        endValue();
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter beginObject()
+        throws IOException
+    {
+        if( skipDepth > 0 ) {
+            skipDepth++;
+            return this;
+        }
+        flushPendingArray();
+        if( !beginValue(ValueKind.OTHER) ) {
+            skipDepth = 1;
+            return this;
+        }
+        forwardName();
+        target.beginObject();
+        depth++;
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter endObject()
+        throws IOException
+    {
+        if( skipDepth > 0 ) {
+            skipDepth--;
+            return this;
+        }
+        if( depth == 1 && includedRootMembers != null ) {
+            writeIncludedRootMembers(includedRootMembers);
+        }
+        depth--;
+        target.endObject();
+        endValue();
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter name( @Nonnull final String name )
+    {
+        if( skipDepth == 0 ) {
+            pendingName = name;
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( @Nullable final String value )
+        throws IOException
+    {
+        if( value == null ) {
+            return nullValue();
+        }
+        if( writeScalar(ValueKind.STRING) ) {
+            target.value(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( final boolean value )
+        throws IOException
+    {
+        if( writeScalar(ValueKind.OTHER) ) {
+            target.value(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( @Nullable final Boolean value )
+        throws IOException
+    {
+        if( value == null ) {
+            return nullValue();
+        }
+        return value(value.booleanValue());
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( final float value )
+        throws IOException
+    {
+        if( writeScalar(ValueKind.OTHER) ) {
+            target.value(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( final double value )
+        throws IOException
+    {
+        if( writeScalar(ValueKind.OTHER) ) {
+            target.value(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( final long value )
+        throws IOException
+    {
+        if( writeScalar(ValueKind.OTHER) ) {
+            target.value(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter value( @Nullable final Number value )
+        throws IOException
+    {
+        if( value == null ) {
+            return nullValue();
+        }
+        if( writeScalar(ValueKind.OTHER) ) {
+            target.value(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter jsonValue( @Nullable final String value )
+        throws IOException
+    {
+        if( value == null ) {
+            return nullValue();
+        }
+        if( writeScalar(ValueKind.OTHER) ) {
+            target.jsonValue(value);
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    @Nonnull
+    public JsonWriter nullValue()
+        throws IOException
+    {
+        if( writeScalar(ValueKind.NULL) ) {
+            target.nullValue();
+            endValue();
+        }
+        return this;
+    }
+
+    @Override
+    public void flush()
+        throws IOException
+    {
+        delegate.flush();
+    }
+
+    @Override
+    public void close()
+        throws IOException
+    {
+        delegate.close();
+    }
+
+    private boolean writeScalar( @Nonnull final ValueKind kind )
+        throws IOException
+    {
+        if( skipDepth > 0 ) {
+            return false;
+        }
+        flushPendingArray();
+        if( !beginValue(kind) ) {
+            return false;
+        }
+        forwardName();
+        return true;
+    }
+
+    /**
+     * Decides whether the value of the pending member is written, and which member name is to be forwarded with it.
+     */
+    private boolean beginValue( @Nonnull final ValueKind kind )
+    {
+        final String name = pendingName;
+        forwardedName = name;
+        if( name == null ) {
+            return true;
+        }
+        pendingName = null;
+
+        if( removeVersionIdentifiers && "versionIdentifier".equals(name) && kind != ValueKind.OTHER ) {
+            return false;
+        }
+        if( kind == ValueKind.NULL && !getSerializeNulls() ) {
+            return false;
+        }
+        if( depth == 1 && excludedRootMembers.contains(name) ) {
+            return false;
+        }
+        if( depth == 1 && includedRootMembers != null ) {
+            if( !includedRootMembers.contains(name) ) {
+                return false;
+            }
+            // the value is buffered, so that the root members can be written in the given order
+            forwardedName = null;
+            rootMemberName = name;
+            rootMemberBuffer = new StringWriter();
+            final JsonWriter bufferWriter = new JsonWriter(rootMemberBuffer);
+            bufferWriter.setHtmlSafe(delegate.isHtmlSafe());
+            bufferWriter.setStrictness(delegate.getStrictness());
+            bufferWriter.setSerializeNulls(true);
+            target = bufferWriter;
+        }
+        return true;
+    }
+
+    private void endValue()
+    {
+        if( depth == 1 && rootMemberName != null && rootMemberBuffer != null ) {
+            final String bufferedValue = rootMemberBuffer.toString();
+            if( !bufferedValue.isEmpty() ) {
+                bufferedRootMembers.put(rootMemberName, bufferedValue);
+            }
+            rootMemberName = null;
+            rootMemberBuffer = null;
+            target = delegate;
+        }
+    }
+
+    private void forwardName()
+        throws IOException
+    {
+        if( forwardedName != null ) {
+            target.name(forwardedName);
+            forwardedName = null;
+        }
+    }
+
+    private void flushPendingArray()
+        throws IOException
+    {
+        if( pendingArray ) {
+            forwardedName = pendingArrayName;
+            forwardName();
+            target.beginArray();
+            pendingArray = false;
+            pendingArrayName = null;
+        }
+    }
+
+    private void writeIncludedRootMembers( @Nonnull final Collection<String> memberNames )
+        throws IOException
+    {
+        for( final String memberName : memberNames ) {
+            final String bufferedValue = bufferedRootMembers.get(memberName);
+            if( bufferedValue != null ) {
+                delegate.name(memberName).jsonValue(bufferedValue);
+            } else if( getSerializeNulls() ) {
+                delegate.name(memberName).nullValue();
+            }
+        }
+        bufferedRootMembers.clear();
+    }
+}
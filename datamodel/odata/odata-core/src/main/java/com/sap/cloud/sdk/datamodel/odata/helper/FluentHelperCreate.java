@@ -5,6 +5,7 @@ import javax.annotation.Nullable;
 
 import org.apache.http.client.HttpClient;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
@@ -34,6 +35,7 @@ public abstract class FluentHelperCreate<FluentHelperT, EntityT extends VdmEntit
 {
     private EntityLink<? extends EntityLink<?, ?, EntityT>, ?, EntityT> linkFromParentEntity;
     private VdmEntity<?> parentEntity;
+    private boolean streamingPayload = false;
 
     /**
      * Instantiates this fluent helper using the given service path and entity collection to send the requests.
@@ -92,6 +94,17 @@ public abstract class FluentHelperCreate<FluentHelperT, EntityT extends VdmEntit
             resourcePath = ODataResourcePath.of(getEntityCollection());
         }
 
+        if( streamingPayload ) {
+            final ODataRequestCreate request =
+                new ODataRequestCreate(
+                    getServicePath(),
+                    resourcePath,
+                    new StreamingJsonEntity(writer -> ODataEntitySerializer.writeEntityForCreate(entity, writer)),
+                    ODataProtocol.V2);
+
+            return super.addHeadersAndCustomParameters(request);
+        }
+
         final String serializedEntity =
             Try
                 .of(() -> ODataEntitySerializer.serializeEntityForCreate(entity))
@@ -108,6 +121,25 @@ public abstract class FluentHelperCreate<FluentHelperT, EntityT extends VdmEntit
         return super.addHeadersAndCustomParameters(request);
     }
 
+    /**
+     * Writes the payload of the create request directly to the HTTP connection while the request is sent, instead of
+     * serializing the entity into a string upfront. This reduces the memory consumption of creating large entities,
+     * e.g. with deep inserts.
+     * <p>
+     * The entity must not be modified until the request was executed, and serialization errors only occur when
+     * executing the request. The payload is sent with chunked transfer encoding.
+     *
+     * @return The same fluent helper which will write the payload while sending the request.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperT withStreamingPayload()
+    {
+        streamingPayload = true;
+        return getThis();
+    }
+
     /**
      * This function allows to create a new entity via an existing parent entity. Parent means that the existing entity
      * has to be related to the entity to be created via a navigation property. Thus, the function requires the caller
@@ -11,6 +11,7 @@ import javax.annotation.Nullable;
 
 import org.apache.http.client.HttpClient;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
@@ -21,6 +22,8 @@ import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.query.StructuredQuery;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestCount;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestRead;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultGeneric;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ValueInterner;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +46,14 @@ public abstract class FluentHelperRead<FluentHelperT, EntityT extends VdmEntity<
 
     private final StructuredQuery delegateQuery;
 
+    private int prefetchPages = 0;
+
+    @Nullable
+    private Long responseSpillingThreshold = null;
+
+    @Nullable
+    private Integer valueInterningMaximumSize = null;
+
     /**
      * Instantiates this fluent helper using the given service path and entity collection to send the requests.
      *
@@ -66,6 +77,12 @@ public abstract class FluentHelperRead<FluentHelperT, EntityT extends VdmEntity<
         final String queryString = delegateQuery.getEncodedQueryString();
         final ODataRequestRead request =
             new ODataRequestRead(getServicePath(), entityCollection, queryString, ODataProtocol.V2);
+        if( responseSpillingThreshold != null ) {
+            request.withResponseSpilling(responseSpillingThreshold);
+        }
+        if( valueInterningMaximumSize != null ) {
+            request.withValueInterning(valueInterningMaximumSize);
+        }
         return super.addHeadersAndCustomParameters(request);
     }
 
@@ -189,14 +206,131 @@ public abstract class FluentHelperRead<FluentHelperT, EntityT extends VdmEntity<
      * Manually explore the individual entities from the lazy-loading entity result-set. The returning Stream allows for
      * performant consumption of all data through server-driven pagination.
      *
+     * <p>
+     * The entities are deserialized one by one while the HTTP response is read, unless pages are prefetched. Close the
+     * stream to release the HTTP response, if it is not consumed completely.
+     *
      * @return An instance of {@link FluentHelperExecutable} that allows for lazy iteration through the result-set
      *         pages.
      */
     @Nonnull
     public FluentHelperExecutable<Stream<EntityT>> streamingEntities()
     {
-        // concat applies lazy evaluation so individual pages will still be loaded lazily
-        return destination -> Streams.stream(Iterables.concat(executeInternal(destination)));
+        return destination -> {
+            if( prefetchPages > 0 ) {
+                // concat applies lazy evaluation so individual pages will still be loaded lazily
+                return Streams.stream(Iterables.concat(executeInternal(destination)));
+            }
+            final HttpClient httpClient = HttpClientAccessor.getHttpClient(destination);
+            return toRequest()
+                .execute(httpClient)
+                .<EntityT> streamEntities(getEntityClass())
+                .peek(entity -> entity.attachToService(getServicePath(), destination)); // enable lazy loading for navigation properties on entity
+        };
+    }
+
+    /**
+     * Manually explore the individual pages of the result-set, which are requested concurrently in ranges of the given
+     * page size. The number of entities is determined with a {@code $count} request first, then the individual pages
+     * are read via {@code $skip} and {@code $top}. The pages are returned in their original order.
+     * <p>
+     * <strong>Note:</strong> This is only applicable for services that support {@code $count} and {@code $skip}. Use
+     * {@link #orderBy(EntityField, Order)} to define a stable sort order, so that the concurrently requested pages
+     * neither overlap nor leave gaps.
+     *
+     * @param pageSize
+     *            The number of entities to request per page.
+     * @param parallelism
+     *            The maximum number of pages to request at the same time.
+     * @return An instance of {@link FluentHelperExecutable} that allows for iteration through the result-set pages.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public
+        FluentHelperExecutable<Iterable<List<EntityT>>>
+        iteratingPagesInParallel( final int pageSize, final int parallelism )
+    {
+        return destination -> {
+            final HttpClient httpClient = HttpClientAccessor.getHttpClient(destination);
+            final Iterable<List<EntityT>> result =
+                toRequest().iteratePagesInParallel(httpClient, getEntityClass(), pageSize, parallelism);
+            return attachToService(result, destination);
+        };
+    }
+
+    /**
+     * Buffer HTTP responses in a temporary file instead of memory, if they are larger than the given threshold. This
+     * avoids large byte arrays on the heap when reading large result-sets, e.g. in combination with
+     * {@link #streamingEntities()}.
+     *
+     * @param thresholdBytes
+     *            The maximum number of bytes to buffer in memory per response.
+     * @return This request object with the buffering strategy applied.
+     * @throws IllegalArgumentException
+     *             If the threshold is negative.
+     * @see ODataRequestRead#withResponseSpilling(long)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperT withResponseSpilling( final long thresholdBytes )
+    {
+        if( thresholdBytes < 0 ) {
+            throw new IllegalArgumentException(
+                "The threshold for buffering a response in memory must not be negative.");
+        }
+        responseSpillingThreshold = thresholdBytes;
+        return getThis();
+    }
+
+    /**
+     * Replace equal values by a single canonical instance, while the entities of the result-set are deserialized. This
+     * reduces the memory footprint of large result-sets that repeat a few distinct values many times, e.g. currency
+     * codes or units, which are kept in memory afterwards.
+     *
+     * @param maximumSize
+     *            The maximum number of distinct values to hold in the pool, e.g.
+     *            {@link ValueInterner#DEFAULT_MAXIMUM_SIZE}.
+     * @return This request object with value interning enabled.
+     * @throws IllegalArgumentException
+     *             If the maximum size is not positive.
+     * @see ODataRequestRead#withValueInterning(int)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperT withValueInterning( final int maximumSize )
+    {
+        if( maximumSize <= 0 ) {
+            throw new IllegalArgumentException("The maximum number of interned values must be positive.");
+        }
+        valueInterningMaximumSize = maximumSize;
+        return getThis();
+    }
+
+    /**
+     * Request the following pages of a result-set in the background, while the current page is consumed. As soon as the
+     * next link of a page is known, the next page is requested, until the given number of pages is fetched ahead. This
+     * applies to {@link #executeRequest(Destination)} and all lazy loading modifiers, e.g. {@link #iteratingPages()}.
+     *
+     * @param prefetchPages
+     *            The number of pages to request ahead of the page that is currently consumed. The value {@code 0}
+     *            disables prefetching, which is the default.
+     * @return The same fluent helper with the prefetching applied.
+     * @throws IllegalArgumentException
+     *             If the number of pages is negative.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperT withPagePrefetching( final int prefetchPages )
+    {
+        if( prefetchPages < 0 ) {
+            throw new IllegalArgumentException("The number of pages to prefetch must not be negative.");
+        }
+        this.prefetchPages = prefetchPages;
+        return getThis();
     }
 
     @Nonnull
@@ -204,8 +338,19 @@ public abstract class FluentHelperRead<FluentHelperT, EntityT extends VdmEntity<
         throws com.sap.cloud.sdk.datamodel.odata.client.exception.ODataException
     {
         final HttpClient httpClient = HttpClientAccessor.getHttpClient(destination);
-        final Iterable<List<EntityT>> result = toRequest().execute(httpClient).iteratePages(getEntityClass());
+        final ODataRequestResultGeneric response = toRequest().execute(httpClient);
+        final Iterable<List<EntityT>> result =
+            prefetchPages > 0
+                ? response.iteratePages(getEntityClass(), prefetchPages)
+                : response.iteratePages(getEntityClass());
+        return attachToService(result, destination);
+    }
 
+    @Nonnull
+    private
+        Iterable<List<EntityT>>
+        attachToService( @Nonnull final Iterable<List<EntityT>> result, @Nonnull final Destination destination )
+    {
         // Refine lazy iterable to attach destination properties to individual entities in the page lists.
         //noinspection StaticPseudoFunctionalStyleMethod,ConstantConditions
         return Iterables
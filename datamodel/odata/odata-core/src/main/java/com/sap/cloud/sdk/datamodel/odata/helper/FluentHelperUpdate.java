@@ -7,7 +7,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import org.apache.http.HttpEntity;
 import org.apache.http.client.HttpClient;
 
 import com.google.common.annotations.Beta;
@@ -16,6 +18,7 @@ import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
 import com.sap.cloud.sdk.datamodel.odata.client.exception.ODataSerializationException;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.FieldReference;
+import com.sap.cloud.sdk.datamodel.odata.client.expression.ODataResourcePath;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ETagSubmissionStrategy;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataEntityKey;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestResultGeneric;
@@ -43,6 +46,7 @@ public abstract class FluentHelperUpdate<FluentHelperT, EntityT extends VdmEntit
     private final Collection<EntitySelectable<EntityT>> excludedFields = new HashSet<>();
     private UpdateStrategy updateStrategy = UpdateStrategy.MODIFY_WITH_PATCH;
     private ETagSubmissionStrategy eTagSubmissionStrategy = ETagSubmissionStrategy.SUBMIT_ETAG_FROM_ENTITY;
+    private boolean streamingPayload = false;
 
     /**
      * Instantiates this fluent helper using the given service path to send the requests.
@@ -115,46 +119,95 @@ public abstract class FluentHelperUpdate<FluentHelperT, EntityT extends VdmEntit
         return ModificationResponse.of(result, getEntity(), destination);
     }
 
+    /**
+     * Writes the payload of the update request directly to the HTTP connection while the request is sent, instead of
+     * serializing the entity into a string upfront. This reduces the memory consumption of updates with large entities.
+     * <p>
+     * This option applies to updates with {@link #replacingEntity()} and {@link #modifyingEntity()}. The entity must
+     * not be modified until the request was executed, and serialization errors only occur when executing the request.
+     * The payload is sent with chunked transfer encoding.
+     *
+     * @return The same fluent helper which will write the payload while sending the request.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperT withStreamingPayload()
+    {
+        streamingPayload = true;
+        return getThis();
+    }
+
     @Override
     @Nonnull
     public ODataRequestUpdate toRequest()
     {
         final EntityT entity = getEntity();
-        final String serializedEntity = getSerializedEntity();
+        final ODataEntityKey entityKey = ODataEntityKey.of(entity.getKey(), ODataProtocol.V2);
         final String versionIdentifier =
             eTagSubmissionStrategy.getHeaderFromVersionIdentifier(entity.getVersionIdentifier());
 
-        final ODataRequestUpdate request =
-            new ODataRequestUpdate(
-                getServicePath(),
-                getEntityCollection(),
-                ODataEntityKey.of(entity.getKey(), ODataProtocol.V2),
-                serializedEntity,
-                updateStrategy,
-                versionIdentifier,
-                ODataProtocol.V2);
+        final HttpEntity streamingEntity = streamingPayload ? getStreamingEntity() : null;
+        final ODataRequestUpdate request;
+        if( streamingEntity != null ) {
+            request =
+                new ODataRequestUpdate(
+                    getServicePath(),
+                    ODataResourcePath.of(getEntityCollection(), entityKey),
+                    streamingEntity,
+                    updateStrategy,
+                    versionIdentifier,
+                    ODataProtocol.V2);
+        } else {
+            request =
+                new ODataRequestUpdate(
+                    getServicePath(),
+                    getEntityCollection(),
+                    entityKey,
+                    getSerializedEntity(),
+                    updateStrategy,
+                    versionIdentifier,
+                    ODataProtocol.V2);
+        }
 
         return super.addHeadersAndCustomParameters(request);
     }
 
+    @Nullable
+    private HttpEntity getStreamingEntity()
+    {
+        final EntityT entity = getEntity();
+        final List<FieldReference> fieldsToExcludeUpdate = getFieldReferences(excludedFields);
+        final List<FieldReference> fieldsToIncludeInUpdate = getFieldReferences(includedFields);
+
+        switch( updateStrategy ) {
+            case REPLACE_WITH_PUT:
+                return new StreamingJsonEntity(
+                    writer -> ODataEntitySerializer.writeEntityForUpdatePut(entity, fieldsToExcludeUpdate, writer));
+            case MODIFY_WITH_PATCH:
+                return new StreamingJsonEntity(
+                    writer -> ODataEntitySerializer
+                        .writeEntityForUpdatePatchShallow(entity, fieldsToIncludeInUpdate, writer));
+            default:
+                // the payloads of the recursive strategies are serialized upfront
+                return null;
+        }
+    }
+
+    @Nonnull
+    private static List<FieldReference> getFieldReferences(
+        @Nonnull final Collection<? extends EntitySelectable<?>> fields )
+    {
+        return fields.stream().map(EntitySelectable::getFieldName).map(FieldReference::of).collect(Collectors.toList());
+    }
+
     @Nonnull
     private String getSerializedEntity()
     {
         final EntityT entity = getEntity();
         try {
-            final List<FieldReference> fieldsToExcludeUpdate =
-                excludedFields
-                    .stream()
-                    .map(EntitySelectable::getFieldName)
-                    .map(FieldReference::of)
-                    .collect(Collectors.toList());
-
-            final List<FieldReference> fieldsToIncludeInUpdate =
-                includedFields
-                    .stream()
-                    .map(EntitySelectable::getFieldName)
-                    .map(FieldReference::of)
-                    .collect(Collectors.toList());
+            final List<FieldReference> fieldsToExcludeUpdate = getFieldReferences(excludedFields);
+            final List<FieldReference> fieldsToIncludeInUpdate = getFieldReferences(includedFields);
 
             switch( updateStrategy ) {
                 case REPLACE_WITH_PUT:
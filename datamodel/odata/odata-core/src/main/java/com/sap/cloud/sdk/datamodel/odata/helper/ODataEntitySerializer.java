@@ -1,24 +1,20 @@
 package com.sap.cloud.sdk.datamodel.odata.helper;
 
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.function.BiConsumer;
-import java.util.function.BiPredicate;
-import java.util.function.Predicate;
-import java.util.stream.StreamSupport;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import com.sap.cloud.sdk.datamodel.odata.adapter.ODataNumberSerializer;
 import com.sap.cloud.sdk.datamodel.odata.client.expression.FieldReference;
 
@@ -60,16 +56,38 @@ final class ODataEntitySerializer
         @Nonnull final VdmEntity<?> entity,
         @Nullable final Collection<FieldReference> excludedFields )
     {
-        final JsonObject jsonObject = GSON_SERIALIZING_NULLS.toJsonTree(entity).getAsJsonObject();
+        final StringWriter writer = new StringWriter();
+        writeEntityForUpdatePut(entity, excludedFields, writer);
+        return writer.toString();
+    }
 
-        removeVersionIdentifier(jsonObject);
+    /**
+     * Writes an entity for update request (PUT) in a single pass, without creating a JSON tree of the entity. Allowing
+     * null values. Removing potential "versionIdentifier" fields.
+     *
+     * @param entity
+     *            The OData V2 entity reference.
+     * @param excludedFields
+     *            Collection of fields to be excluded in the update (PUT) request.
+     * @param writer
+     *            The writer to write the JSON payload to.
+     */
+    static void writeEntityForUpdatePut(
+        @Nonnull final VdmEntity<?> entity,
+        @Nullable final Collection<FieldReference> excludedFields,
+        @Nonnull final Writer writer )
+    {
+        final FilteringJsonWriter jsonWriter =
+            new FilteringJsonWriter(newJsonWriter(GSON_SERIALIZING_NULLS, writer)).removingVersionIdentifiers();
 
         // find field names to be removed from PUT request
         if( excludedFields != null ) {
-            excludedFields.stream().map(FieldReference::getFieldName).forEach(jsonObject::remove);
+            jsonWriter
+                .excludingRootMembers(
+                    excludedFields.stream().map(FieldReference::getFieldName).collect(Collectors.toSet()));
         }
 
-        return GSON_SERIALIZING_NULLS.toJson(jsonObject);
+        GSON_SERIALIZING_NULLS.toJson(entity, entity.getClass(), jsonWriter);
     }
 
     /**
@@ -82,12 +100,26 @@ final class ODataEntitySerializer
     @Nonnull
     static String serializeEntityForCreate( @Nonnull final VdmEntity<?> entity )
     {
-        // When using builder pattern, all 1:n navigation properties will be initialized with `new ArrayList()` instead of expected `null`
-        final JsonObject jsonObject = GSON.toJsonTree(entity).getAsJsonObject();
+        final StringWriter writer = new StringWriter();
+        writeEntityForCreate(entity, writer);
+        return writer.toString();
+    }
 
-        removeEmptyArrays(jsonObject);
+    /**
+     * Writes an entity for create request in a single pass, without creating a JSON tree of the entity. Ignoring empty
+     * collections and null values.
+     *
+     * @param entity
+     *            The OData V2 entity reference.
+     * @param writer
+     *            The writer to write the JSON payload to.
+     */
+    static void writeEntityForCreate( @Nonnull final VdmEntity<?> entity, @Nonnull final Writer writer )
+    {
+        // When using builder pattern, all 1:n navigation properties will be initialized with `new ArrayList()` instead of expected `null`
+        final JsonWriter jsonWriter = new FilteringJsonWriter(newJsonWriter(GSON, writer)).removingEmptyArrays();
 
-        return GSON.toJson(jsonObject);
+        GSON.toJson(entity, entity.getClass(), jsonWriter);
     }
 
     /**
@@ -104,18 +136,46 @@ final class ODataEntitySerializer
         @Nonnull final VdmEntity<?> entity,
         @Nonnull final Collection<FieldReference> includedFields )
     {
-        final JsonObject fullEntity = GSON_SERIALIZING_NULLS.toJsonTree(entity).getAsJsonObject();
+        final StringWriter writer = new StringWriter();
+        writeEntityForUpdatePatchShallow(entity, includedFields, writer);
+        return writer.toString();
+    }
 
+    /**
+     * Writes an entity for update request (PATCH) in a single pass, without creating a JSON tree of the entity.
+     * Allowing null values.
+     *
+     * @param entity
+     *            The OData V2 entity reference.
+     * @param includedFields
+     *            Collection of fields to be included in the update (PATCH) request.
+     * @param writer
+     *            The writer to write the JSON payload to.
+     */
+    static void writeEntityForUpdatePatchShallow(
+        @Nonnull final VdmEntity<?> entity,
+        @Nonnull final Collection<FieldReference> includedFields,
+        @Nonnull final Writer writer )
+    {
         // find field names to be patched
         final Set<String> fieldNamesToPatch = new HashSet<>(entity.getChangedFields().keySet());
         includedFields.stream().map(FieldReference::getFieldName).forEach(fieldNamesToPatch::add);
         log.debug("The following fields are marked for updates: {}.", fieldNamesToPatch);
 
-        final JsonObject partialEntity = new JsonObject();
+        final JsonWriter jsonWriter =
+            new FilteringJsonWriter(newJsonWriter(GSON_SERIALIZING_NULLS, writer))
+                .includingRootMembers(fieldNamesToPatch);
 
-        fieldNamesToPatch.forEach(key -> partialEntity.add(key, fullEntity.get(key)));
+        GSON_SERIALIZING_NULLS.toJson(entity, entity.getClass(), jsonWriter);
+    }
 
-        return GSON_SERIALIZING_NULLS.toJson(partialEntity);
+    @Nonnull
+    private static JsonWriter newJsonWriter( @Nonnull final Gson gson, @Nonnull final Writer writer )
+    {
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setHtmlSafe(gson.htmlSafe());
+        jsonWriter.setSerializeNulls(gson.serializeNulls());
+        return jsonWriter;
     }
 
     /**
@@ -247,75 +307,4 @@ final class ODataEntitySerializer
 
         return patch;
     }
-
-    private static void removeVersionIdentifier( @Nonnull final JsonObject jsonObject )
-    {
-        log.debug("Removing redundant \"versionIdentifier\" recursively from JSON object: {}", jsonObject);
-
-        final Predicate<JsonElement> isNullOrString =
-            obj -> obj.isJsonNull() || obj.isJsonPrimitive() && obj.getAsJsonPrimitive().isString();
-
-        traverseJsonObject(
-            jsonObject,
-            ( element, name ) -> "versionIdentifier".equals(name) && isNullOrString.test(element),
-            JsonObject::remove);
-
-        log.debug("JSON object after removing redundant \"versionIdentifier\": {}", jsonObject);
-    }
-
-    private static void removeEmptyArrays( @Nonnull final JsonObject jsonObject )
-    {
-        log.debug("Removing empty arrays recursively from JSON object: {}", jsonObject);
-
-        traverseJsonObject(
-            jsonObject,
-            ( element, name ) -> element.isJsonArray() && element.getAsJsonArray().size() == 0,
-            JsonObject::remove);
-
-        log.debug("JSON object after removing empty arrays: {}", jsonObject);
-    }
-
-    /**
-     * Traverse the JSON object tree to apply an action on filtered items.
-     *
-     * @param jsonObject
-     *            The current JSON object to check properties for.
-     * @param filter
-     *            The filter as lambda (predicate) for property value and property key.
-     * @param action
-     *            The action as lambda (consumer) for parent object and filtered property key.
-     */
-    private static void traverseJsonObject(
-        @Nonnull final JsonObject jsonObject,
-        @Nonnull final BiPredicate<JsonElement, String> filter,
-        @Nonnull final BiConsumer<JsonObject, String> action )
-    {
-        final List<String> filteredChildKeys = new ArrayList<>();
-
-        jsonObject.entrySet().forEach(entry -> {
-            if( entry.getValue().isJsonObject() ) {
-                // Apply this logic recursively for all nested objects
-                traverseJsonObject(entry.getValue().getAsJsonObject(), filter, action);
-            } else if( filter.test(entry.getValue(), entry.getKey()) ) {
-                // Collect key names for children that tested against the provided filter predicate
-                filteredChildKeys.add(entry.getKey());
-            } else if( entry.getValue().isJsonArray() ) {
-                // Apply this logic recursively for lists of nested objects
-                final JsonArray jsonArray = entry.getValue().getAsJsonArray();
-                StreamSupport
-                    .stream(jsonArray.spliterator(), false)
-                    .filter(JsonElement::isJsonObject)
-                    .map(JsonElement::getAsJsonObject)
-                    .forEach(o -> traverseJsonObject(o, filter, action));
-            }
-        });
-
-        log
-            .trace(
-                "Applying the provided action on parent element {} for the following child items: {}",
-                jsonObject,
-                filteredChildKeys);
-
-        filteredChildKeys.forEach(affectedChildKey -> action.accept(jsonObject, affectedChildKey));
-    }
 }
@@ -0,0 +1,90 @@
+package com.sap.cloud.sdk.datamodel.odata.helper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import com.google.gson.JsonIOException;
+
+/**
+ * Repeatable HTTP entity, which writes a JSON payload directly to the output stream of the HTTP request. The payload is
+ * written anew every time the entity is sent, hence it is only held in memory if its content is read via
+ * {@link #getContent()}, e.g. for batch requests.
+ */
+final class StreamingJsonEntity extends AbstractHttpEntity
+{
+    @Nonnull
+    private final Consumer<Writer> payloadWriter;
+
+    /**
+     * Creates a new JSON entity.
+     *
+     * @param payloadWriter
+     *            Writes the JSON payload to the given writer. Failures to write are expected to be thrown as
+     *            {@link JsonIOException}.
+     */
+    StreamingJsonEntity( @Nonnull final Consumer<Writer> payloadWriter )
+    {
+        this.payloadWriter = payloadWriter;
+        setContentType(ContentType.APPLICATION_JSON.getMimeType());
+    }
+
+    @Override
+    public boolean isRepeatable()
+    {
+        return true;
+    }
+
+    @Override
+    public long getContentLength()
+    {
+        // unknown, the payload is sent chunked
+        return -1;
+    }
+
+    @Override
+    @Nonnull
+    public InputStream getContent()
+        throws IOException
+    {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeTo(outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    @Override
+    public void writeTo( @Nonnull final OutputStream outputStream )
+        throws IOException
+    {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        try {
+            payloadWriter.accept(writer);
+        }
+        catch( final JsonIOException e ) {
+            if( e.getCause() instanceof IOException cause ) {
+                throw cause;
+            }
+            throw e;
+        }
+        writer.flush();
+    }
+
+    @Override
+    public boolean isStreaming()
+    {
+        return false;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sap.cloud.sdk.datamodel.odata.helper;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -36,17 +37,27 @@ import lombok.ToString;
     creatorVisibility = JsonAutoDetect.Visibility.NONE )
 public abstract class VdmObject<ObjectT>
 {
+    // both maps are empty for most objects, so they share an immutable empty map until the first value is put
+    private static final Map<String, Object> NO_FIELDS = Collections.emptyMap();
+
+    // package visible for read access without allocating a map, it must only be modified via getCustomFields()
     @JsonIgnore
-    private final transient Map<String, Object> customFields = new LinkedHashMap<>();
+    @Nonnull
+    transient Map<String, Object> customFields = NO_FIELDS;
 
     /**
      * A mapping of the OData field name to the original value.
      * <p>
-     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property.
+     * This should be updated via {@link #rememberChangedField(String, Object)} on every set call of a property. The map
+     * is immutable and empty until the first field is changed.
+     *
+     * @deprecated The map must not be modified directly, since it is immutable until the first field is changed. Use
+     *             {@link #rememberChangedField(String, Object)} and {@link #resetChangedFields()} instead.
      */
+    @Deprecated
     @JsonIgnore
     @Nonnull
-    protected final transient Map<String, Object> changedOriginalFields = new HashMap<>();
+    protected transient Map<String, Object> changedOriginalFields = NO_FIELDS;
 
     /**
      * Returns the names of all custom fields of this object.
@@ -68,6 +79,10 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     public Map<String, Object> getCustomFields()
     {
+        // the returned map may be modified by the caller
+        if( customFields == NO_FIELDS ) {
+            customFields = new LinkedHashMap<>();
+        }
         return customFields;
     }
 
@@ -83,7 +98,7 @@ public abstract class VdmObject<ObjectT>
     public void setCustomField( @Nonnull final String customFieldName, @Nullable final Object value )
     {
         rememberChangedField(customFieldName, customFields.get(customFieldName));
-        customFields.put(customFieldName, value);
+        getCustomFields().put(customFieldName, value);
     }
 
     /**
@@ -243,7 +258,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Map<String, Object> toMapOfCustomFields()
     {
-        return Maps.newHashMap(getCustomFields());
+        return Maps.newHashMap(customFields);
     }
 
     /**
@@ -254,7 +269,7 @@ public abstract class VdmObject<ObjectT>
     @Nonnull
     protected Set<String> getSetOfCustomFields()
     {
-        return Sets.newHashSet(getCustomFields().keySet());
+        return Sets.newHashSet(customFields.keySet());
     }
 
     /**
@@ -329,7 +344,7 @@ public abstract class VdmObject<ObjectT>
         final Map<String, Object> changedFields = new HashMap<>();
 
         final Map<String, Object> currentFields = toMapOfFields();
-        currentFields.putAll(getCustomFields());
+        currentFields.putAll(customFields);
 
         for( final Map.Entry<String, Object> changedOriginalField : changedOriginalFields.entrySet() ) {
             final Object originalValue = changedOriginalField.getValue();
@@ -355,9 +370,13 @@ public abstract class VdmObject<ObjectT>
      */
     protected void rememberChangedField( @Nonnull final String fieldName, @Nullable final Object valueBeforeChange )
     {
-        if( !changedOriginalFields.containsKey(fieldName) ) {
-            changedOriginalFields.put(fieldName, valueBeforeChange);
+        if( changedOriginalFields.containsKey(fieldName) ) {
+            return;
+        }
+        if( changedOriginalFields == NO_FIELDS ) {
+            changedOriginalFields = new HashMap<>();
         }
+        changedOriginalFields.put(fieldName, valueBeforeChange);
     }
 
     /**
@@ -368,6 +387,6 @@ public abstract class VdmObject<ObjectT>
      */
     public void resetChangedFields()
     {
-        changedOriginalFields.clear();
+        changedOriginalFields = NO_FIELDS;
     }
 }
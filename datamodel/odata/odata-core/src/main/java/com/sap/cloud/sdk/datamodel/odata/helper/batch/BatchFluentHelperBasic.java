@@ -8,13 +8,16 @@ import java.util.UUID;
 import java.util.function.Supplier;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.http.client.HttpClient;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.CsrfTokenRetriever;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpClientAccessor;
 import com.sap.cloud.sdk.datamodel.odata.client.ODataProtocol;
+import com.sap.cloud.sdk.datamodel.odata.client.request.BatchSplitPolicy;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestAction;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestBatch;
 import com.sap.cloud.sdk.datamodel.odata.client.request.ODataRequestFunction;
@@ -57,6 +60,11 @@ public abstract class BatchFluentHelperBasic<FluentHelperBatchT extends FluentHe
 
     private boolean skipCsrfTokenRetrieval = false;
 
+    private boolean streamingPayload = false;
+
+    @Nullable
+    private BatchSplitPolicy splitPolicy = null;
+
     /**
      * Get the OData service endpoint path for the current OData batch request. Usually it can be found as static member
      * <code>DEFAULT_SERVICE_PATH</code> in the service class.
@@ -102,6 +110,14 @@ public abstract class BatchFluentHelperBasic<FluentHelperBatchT extends FluentHe
             requestBatch.setCsrfTokenRetriever(CsrfTokenRetriever.DISABLED_CSRF_TOKEN_RETRIEVER);
         }
 
+        if( streamingPayload ) {
+            requestBatch.withStreamingPayload();
+        }
+
+        if( splitPolicy != null ) {
+            requestBatch.withSplitPolicy(splitPolicy);
+        }
+
         for( final BatchRequestOperation part : requestParts ) {
             part.addToRequestBuilder(requestBatch);
         }
@@ -219,4 +235,40 @@ public abstract class BatchFluentHelperBasic<FluentHelperBatchT extends FluentHe
         skipCsrfTokenRetrieval = true;
         return getThis();
     }
+
+    /**
+     * Writes the batch request body directly to the HTTP connection while the request is sent, instead of assembling it
+     * in memory upfront. This reduces the memory consumption of batch requests with many operations. The body is sent
+     * with chunked transfer encoding.
+     *
+     * @return The same builder
+     * @see ODataRequestBatch#withStreamingPayload()
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperBatchT withStreamingPayload()
+    {
+        streamingPayload = true;
+        return getThis();
+    }
+
+    /**
+     * Splits this batch request into multiple smaller batch requests according to the given policy, if needed. The
+     * batch requests are executed concurrently, and their responses are merged, so the results of all operations can be
+     * looked up in the {@link BatchResponse} as usual. Changesets are never split.
+     *
+     * @param splitPolicy
+     *            The policy to split the batch request by.
+     * @return The same builder
+     * @see ODataRequestBatch#withSplitPolicy(BatchSplitPolicy)
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public FluentHelperBatchT withSplitPolicy( @Nonnull final BatchSplitPolicy splitPolicy )
+    {
+        this.splitPolicy = splitPolicy;
+        return getThis();
+    }
 }
@@ -1,15 +1,14 @@
 package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
 
-import static java.util.function.Predicate.not;
-
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.IdentityHashMap;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -17,7 +16,6 @@ import javax.annotation.Nullable;
 import com.google.common.base.Strings;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.annotations.JsonAdapter;
@@ -26,14 +24,11 @@ import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
+import com.sap.cloud.sdk.datamodel.odata.client.request.ValueInterner;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmObject;
 import com.sap.cloud.sdk.result.ElementName;
 
-import io.vavr.control.Option;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -60,17 +55,18 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
     @Nonnull
     private final TypeAdapter<Object> customFieldAdapter;
 
-    // (1) Field has stateful accessibility flag
-    // (2) Multiple threads may access the Map, therefore state must be isolated with ThreadLocal
-    // (3) ThreadLocal is to be defined statically, therefore the properties must be mapped to a class reference
-    private static final ThreadLocal<Map<Class<?>, Map<String, Field>>> fieldProperties =
-        ThreadLocal.withInitial(IdentityHashMap::new);
-
-    @Nonnull
-    private Map<String, Field> getFieldProperties( @Nonnull final Class<?> type )
+    // Fields are made accessible once, since the VDM declares them private. The mapping is computed once per class.
+    private static final ClassValue<Map<String, Field>> fieldProperties = new ClassValue<>()
     {
-        return fieldProperties.get().computeIfAbsent(type, ODataVdmEntityAdapter::createFieldProperties);
-    }
+        @Override
+        protected Map<String, Field> computeValue( @Nonnull final Class<?> type )
+        {
+            return createFieldProperties(type);
+        }
+    };
+
+    // Adapters are resolved once per field, the adapter instance itself is cached by Gson per type.
+    private final Map<Field, TypeAdapter<?>> fieldAdapters = new ConcurrentHashMap<>();
 
     @Nonnull
     private static Map<String, Field> createFieldProperties( @Nonnull final Class<?> type )
@@ -82,35 +78,21 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
                     field.isAnnotationPresent(ElementName.class)
                         ? field.getAnnotation(ElementName.class).value()
                         : field.getAnnotation(SerializedName.class).value();
+                field.setAccessible(true);
                 result.put(odataName, field);
             }
         }
-        return result;
+        return Collections.unmodifiableMap(result);
     }
 
-    @Data
-    @AllArgsConstructor
-    @NoArgsConstructor
-    private static class ODataV2Metadata
+    @Nonnull
+    static TypeAdapter<?> getAdapterFromField( @Nonnull final Field entityField, @Nonnull final Gson gson )
     {
-        @Nullable
-        @SerializedName( "uri" )
-        @ODataField( odataName = "uri" )
-        private String uri;
-
-        @Nullable
-        @SerializedName( "etag" )
-        @ODataField( odataName = "etag" )
-        private String etag;
-
-        @Nullable
-        @SerializedName( "type" )
-        @ODataField( odataName = "type" )
-        private String type;
+        return ValueInterner.interning(entityField.getType(), resolveAdapterFromField(entityField, gson));
     }
 
     @Nonnull
-    private static TypeAdapter<?> getAdapterFromField( @Nonnull final Field entityField, @Nonnull final Gson gson )
+    private static TypeAdapter<?> resolveAdapterFromField( @Nonnull final Field entityField, @Nonnull final Gson gson )
     {
         if( entityField.isAnnotationPresent(JsonAdapter.class) ) {
             try {
@@ -185,35 +167,13 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
                     final String propertyKey = jsonReader.nextName();
 
                     if( "__metadata".equals(propertyKey) ) {
-                        if( jsonReader.peek() == JsonToken.BEGIN_OBJECT ) {
-                            final ODataV2Metadata metadata = new Gson().fromJson(jsonReader, ODataV2Metadata.class);
-                            final Option<String> maybeEtag =
-                                Option.of(metadata).map(ODataV2Metadata::getEtag).filter(not(Strings::isNullOrEmpty));
-                            if( maybeEtag.isDefined() && entity instanceof VdmEntity ) {
-                                ((VdmEntity<T>) entity).setVersionIdentifier(maybeEtag.get());
-                            }
-                        } else {
-                            log.warn("Expected JSON value \"__metadata\" to be an object.");
-                            jsonReader.skipValue();
-                        }
+                        readMetadata(jsonReader, entity);
                     } else if( "__deferred".equals(propertyKey) ) {
                         jsonReader.skipValue();
                         jsonReader.endObject();
                         return null;
-                    } else {
-                        final Field entityField = getPropertySerializationInfo(propertyKey);
-                        if( entityField != null ) {
-                            final TypeAdapter<?> fieldAdapter = getAdapterFromField(entityField, gson);
-                            final Object attributeValue = fieldAdapter.read(jsonReader);
-
-                            // To be safe/secure, since fields are declared private in the VDM.
-                            final boolean oldAccessibleValue = entityField.canAccess(entity);
-                            entityField.setAccessible(true);
-                            entityField.set(entity, attributeValue);
-                            entityField.setAccessible(oldAccessibleValue);
-                        } else {
-                            entity.getCustomFields().put(propertyKey, customFieldAdapter.read(jsonReader));
-                        }
+                    } else if( !readProperty(jsonReader, propertyKey, entity) ) {
+                        entity.getCustomFields().put(propertyKey, customFieldAdapter.read(jsonReader));
                     }
                 }
 
@@ -235,10 +195,90 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
         return null;
     }
 
+    /**
+     * Reads the value of the given property into the matching field of the entity, if there is such a field.
+     *
+     * @param jsonReader
+     *            The reader, positioned at the property value.
+     * @param propertyKey
+     *            The OData name of the property.
+     * @param entity
+     *            The entity to read the property into.
+     * @return {@code true} if the value was read into a field, {@code false} if there is no field for the property and
+     *         the value was not consumed.
+     * @throws IOException
+     *             If the value could not be read.
+     * @throws IllegalAccessException
+     *             If the field could not be set.
+     */
+    boolean readProperty(
+        @Nonnull final JsonReader jsonReader,
+        @Nonnull final String propertyKey,
+        @Nonnull final VdmObject<?> entity )
+        throws IOException,
+            IllegalAccessException
+    {
+        final Field entityField = getPropertySerializationInfo(propertyKey);
+        if( entityField == null ) {
+            return false;
+        }
+        entityField.set(entity, getFieldAdapter(entityField).read(jsonReader));
+        return true;
+    }
+
+    /**
+     * Reads the {@code __metadata} object of an OData V2 entity and applies its ETag as version identifier.
+     *
+     * @param jsonReader
+     *            The reader, positioned at the metadata value.
+     * @param entity
+     *            The entity the metadata belongs to.
+     * @throws IOException
+     *             If the metadata could not be read.
+     */
+    static void readMetadata( @Nonnull final JsonReader jsonReader, @Nonnull final VdmObject<?> entity )
+        throws IOException
+    {
+        if( jsonReader.peek() != JsonToken.BEGIN_OBJECT ) {
+            log.warn("Expected JSON value \"__metadata\" to be an object.");
+            jsonReader.skipValue();
+            return;
+        }
+        String etag = null;
+        jsonReader.beginObject();
+        while( jsonReader.hasNext() ) {
+            final boolean isEtag = "etag".equals(jsonReader.nextName());
+            final JsonToken token = jsonReader.peek();
+            if( isEtag && (token == JsonToken.STRING || token == JsonToken.NUMBER) ) {
+                etag = jsonReader.nextString();
+            } else {
+                jsonReader.skipValue();
+            }
+        }
+        jsonReader.endObject();
+
+        if( !Strings.isNullOrEmpty(etag) && entity instanceof VdmEntity<?> vdmEntity ) {
+            vdmEntity.setVersionIdentifier(etag);
+        }
+    }
+
+    @Nonnull
+    private TypeAdapter<?> getFieldAdapter( @Nonnull final Field entityField )
+    {
+        final TypeAdapter<?> cachedAdapter = fieldAdapters.get(entityField);
+        if( cachedAdapter != null ) {
+            return cachedAdapter;
+        }
+        // no computeIfAbsent, since resolving the adapter may recursively resolve adapters of other entity types
+        final TypeAdapter<?> fieldAdapter = getAdapterFromField(entityField, gson);
+        final TypeAdapter<?> previousAdapter = fieldAdapters.putIfAbsent(entityField, fieldAdapter);
+        return previousAdapter != null ? previousAdapter : fieldAdapter;
+    }
+
     @Nullable
     private Field getPropertySerializationInfo( final String propertyKey )
     {
-        Field result = getFieldProperties(entityRawType).get(propertyKey);
+        Field result = fieldProperties.get(entityRawType).get(propertyKey);
         if( result == null && superClassAdapter != null ) {
             result = superClassAdapter.getPropertySerializationInfo(propertyKey);
         }
@@ -253,49 +293,77 @@ public class ODataVdmEntityAdapter<T> extends TypeAdapter<VdmObject<T>>
         throws IOException
     {
         if( value != null ) {
-            final JsonObject entityAsJson = getEntityAsJsonObject(value);
-            final JsonObject customFieldsAsJson = gson.toJsonTree(value.getCustomFields()).getAsJsonObject();
-
-            for( final Map.Entry<String, JsonElement> customField : customFieldsAsJson.entrySet() ) {
-                entityAsJson.add(customField.getKey(), customField.getValue());
+            // Properties are written directly to the JSON writer, without creating a JSON tree of the object first.
+            final Map<String, PropertyValue> properties = new LinkedHashMap<>();
+            collectProperties(value, properties);
+
+            final TypeAdapter<?> customFieldValueAdapter = gson.getAdapter(Object.class);
+            // the custom fields are read by name, so that no map is allocated for objects without custom fields
+            for( final String customFieldName : value.getCustomFieldNames() ) {
+                properties
+                    .put(
+                        customFieldName,
+                        new PropertyValue(value.getCustomField(customFieldName), customFieldValueAdapter));
             }
 
-            gson.toJson(entityAsJson, out);
+            // The null and HTML escaping policy of the GSON reference applies, independent of the given writer.
+            final boolean oldSerializeNulls = out.getSerializeNulls();
+            final boolean oldHtmlSafe = out.isHtmlSafe();
+            out.setSerializeNulls(gson.serializeNulls());
+            out.setHtmlSafe(gson.htmlSafe());
+            try {
+                out.beginObject();
+                for( final Map.Entry<String, PropertyValue> property : properties.entrySet() ) {
+                    out.name(property.getKey());
+                    property.getValue().write(out);
+                }
+                out.endObject();
+            }
+            finally {
+                out.setSerializeNulls(oldSerializeNulls);
+                out.setHtmlSafe(oldHtmlSafe);
+            }
         } else {
             out.nullValue();
         }
     }
 
-    @SuppressWarnings( "unchecked" )
-    private JsonObject getEntityAsJsonObject( final VdmObject<T> value )
+    private void collectProperties( final VdmObject<T> value, final Map<String, PropertyValue> properties )
     {
         if( delegateAdapter != null ) {
-            return delegateAdapter.toJsonTree(value).getAsJsonObject();
+            final TypeAdapter<?> jsonElementAdapter = gson.getAdapter(JsonElement.class);
+            for( final Map.Entry<String, JsonElement> property : delegateAdapter
+                .toJsonTree(value)
+                .getAsJsonObject()
+                .entrySet() ) {
+                properties.put(property.getKey(), new PropertyValue(property.getValue(), jsonElementAdapter));
+            }
         } else {
-            final JsonObject entityAsJson = superClassAdapter.getEntityAsJsonObject(value);
+            superClassAdapter.collectProperties(value, properties);
 
-            for( final Map.Entry<String, Field> entityProperty : getFieldProperties(entityRawType).entrySet() ) {
+            for( final Map.Entry<String, Field> entityProperty : fieldProperties.get(entityRawType).entrySet() ) {
                 try {
                     final Field propertyField = entityProperty.getValue();
-
-                    // To be safe/secure, since fields are declared private in the VDM.
-                    final boolean oldAccessibleValue = propertyField.canAccess(value);
-                    propertyField.setAccessible(true);
                     final Object propertyValue = propertyField.get(value);
-                    propertyField.setAccessible(oldAccessibleValue);
-
-                    final TypeAdapter<Object> fieldAdapter =
-                        (TypeAdapter<Object>) getAdapterFromField(propertyField, gson);
-                    final JsonElement propertyValueAsJson = fieldAdapter.toJsonTree(propertyValue);
 
                     // Overwrites JSON property from the superclass if this class has a property with the same name.
-                    entityAsJson.add(entityProperty.getKey(), propertyValueAsJson);
+                    properties
+                        .put(entityProperty.getKey(), new PropertyValue(propertyValue, getFieldAdapter(propertyField)));
                 }
                 catch( final IllegalAccessException e ) {
                     log.error("Could not serialize property '{}'. Returning null instead.", entityProperty.getKey(), e);
                 }
             }
-            return entityAsJson;
+        }
+    }
+
+    private record PropertyValue( @Nullable Object value, @Nonnull TypeAdapter<?> adapter )
+    {
+        @SuppressWarnings( "unchecked" )
+        void write( @Nonnull final JsonWriter out )
+            throws IOException
+        {
+            ((TypeAdapter<Object>) adapter).write(out, value);
         }
     }
 }
@@ -1,5 +1,11 @@
 package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -9,12 +15,27 @@ import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
 import com.sap.cloud.sdk.datamodel.odata.helper.VdmObject;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * For internal use only by data model classes.
+ * <p>
+ * If a data model class declares a generated {@link ODataVdmGeneratedAdapter}, this adapter is used for
+ * deserialization. Otherwise the reflection based {@link ODataVdmEntityAdapter} is used.
  */
+@Slf4j
 @SuppressWarnings( "unchecked" )
 public class ODataVdmEntityAdapterFactory implements TypeAdapterFactory
 {
+    private static final ClassValue<Optional<Constructor<?>>> generatedAdapterConstructors = new ClassValue<>()
+    {
+        @Override
+        protected Optional<Constructor<?>> computeValue( @Nonnull final Class<?> type )
+        {
+            return findGeneratedAdapterConstructor(type);
+        }
+    };
+
     /**
      * For internal use only by data model classes.
      *
@@ -27,8 +48,37 @@ public class ODataVdmEntityAdapterFactory implements TypeAdapterFactory
         final Class<? super T> entityType = type.getRawType();
 
         if( VdmObject.class.isAssignableFrom(entityType) ) {
-            return (TypeAdapter<T>) new ODataVdmEntityAdapter<>(this, gson, entityType);
+            final ODataVdmEntityAdapter<T> reflectiveAdapter = new ODataVdmEntityAdapter<>(this, gson, entityType);
+            final Optional<Constructor<?>> generatedAdapter = generatedAdapterConstructors.get(entityType);
+            if( generatedAdapter.isPresent() ) {
+                try {
+                    return (TypeAdapter<T>) generatedAdapter.get().newInstance(gson, reflectiveAdapter);
+                }
+                catch( final InstantiationException | IllegalAccessException | InvocationTargetException e ) {
+                    log
+                        .warn(
+                            "Could not instantiate the generated type adapter of {}. Falling back to reflection.",
+                            entityType.getName(),
+                            e);
+                }
+            }
+            return (TypeAdapter<T>) reflectiveAdapter;
         }
         return null;
     }
+
+    @Nonnull
+    private static Optional<Constructor<?>> findGeneratedAdapterConstructor( @Nonnull final Class<?> type )
+    {
+        // only adapters declared by the class itself are considered, sub-classes may declare additional fields
+        return Arrays
+            .stream(type.getDeclaredClasses())
+            .filter(ODataVdmGeneratedAdapter.class::isAssignableFrom)
+            .filter(adapter -> Modifier.isStatic(adapter.getModifiers()))
+            .flatMap(adapter -> Arrays.stream(adapter.getConstructors()))
+            .filter(constructor -> constructor.getParameterCount() == 2)
+            .filter(constructor -> constructor.getParameterTypes()[0] == Gson.class)
+            .filter(constructor -> constructor.getParameterTypes()[1] == ODataVdmEntityAdapter.class)
+            .findFirst();
+    }
 }
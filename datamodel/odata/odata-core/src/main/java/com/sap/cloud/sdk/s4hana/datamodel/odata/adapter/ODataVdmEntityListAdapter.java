@@ -8,7 +8,6 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonToken;
@@ -22,7 +21,6 @@ import com.google.gson.stream.JsonWriter;
  */
 public class ODataVdmEntityListAdapter<T> extends TypeAdapter<List<T>>
 {
-    private final Gson gson;
     private final TypeAdapter<T> entityAdapter;
 
     /**
@@ -35,7 +33,6 @@ public class ODataVdmEntityListAdapter<T> extends TypeAdapter<List<T>>
      */
     public ODataVdmEntityListAdapter( @Nonnull final Gson gson, @Nonnull final TypeAdapter<T> entityAdapter )
     {
-        this.gson = gson;
         this.entityAdapter = entityAdapter;
     }
 
@@ -91,11 +88,11 @@ public class ODataVdmEntityListAdapter<T> extends TypeAdapter<List<T>>
         throws IOException
     {
         if( entityList != null ) {
-            final JsonArray entityListAsJson = new JsonArray();
+            out.beginArray();
             for( final T entity : entityList ) {
-                entityListAsJson.add(entityAdapter.toJsonTree(entity));
+                entityAdapter.write(out, entity);
             }
-            gson.toJson(entityListAsJson, out);
+            out.endArray();
         } else {
             out.nullValue();
         }
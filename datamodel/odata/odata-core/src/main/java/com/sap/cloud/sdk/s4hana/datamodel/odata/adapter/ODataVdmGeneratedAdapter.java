@@ -0,0 +1,170 @@
+package com.sap.cloud.sdk.s4hana.datamodel.odata.adapter;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.google.common.annotations.Beta;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmObject;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * For internal use only by data model classes.
+ * <p>
+ * Base class of the type adapters the OData generator creates for entities and complex types when the generation of
+ * type adapters is enabled. Generated adapters read the properties of the data model class directly from the JSON
+ * tokens into its fields, instead of discovering the fields via reflection for every deserialized object. The
+ * {@link ODataVdmEntityAdapterFactory} prefers a generated adapter over the {@link ODataVdmEntityAdapter}, if the data
+ * model class declares one.
+ * <p>
+ * Serialization, as well as properties unknown to the generated adapter, are handled by the reflection based
+ * {@link ODataVdmEntityAdapter}.
+ *
+ * @param <T>
+ *            The type of the data model class.
+ * @since 5.23.0
+ */
+@Beta
+@Slf4j
+public abstract class ODataVdmGeneratedAdapter<T extends VdmObject<T>> extends TypeAdapter<T>
+{
+    @Nonnull
+    private final Gson gson;
+
+    @Nonnull
+    private final ODataVdmEntityAdapter<T> fallbackAdapter;
+
+    @Nonnull
+    private final TypeAdapter<Object> customFieldAdapter;
+
+    /**
+     * For internal use only by data model classes.
+     *
+     * @param gson
+     *            The GSON reference.
+     * @param fallbackAdapter
+     *            The reflection based adapter of the data model class, used for serialization and for properties that
+     *            are not known to the generated adapter.
+     */
+    protected ODataVdmGeneratedAdapter(
+        @Nonnull final Gson gson,
+        @Nonnull final ODataVdmEntityAdapter<T> fallbackAdapter )
+    {
+        this.gson = gson;
+        this.fallbackAdapter = fallbackAdapter;
+        customFieldAdapter = new ODataCustomFieldAdapter(gson);
+    }
+
+    /**
+     * Creates a new, empty instance of the data model class.
+     *
+     * @return The new instance.
+     */
+    @Nonnull
+    protected abstract T newInstance();
+
+    /**
+     * Reads the value of a property into the matching field of the given object.
+     *
+     * @param jsonReader
+     *            The reader, positioned at the property value.
+     * @param name
+     *            The OData name of the property.
+     * @param object
+     *            The object to read the property into.
+     * @return {@code true} if the value was read, {@code false} if the property is unknown and the value was not
+     *         consumed.
+     * @throws IOException
+     *             If the value could not be read.
+     */
+    protected abstract
+        boolean
+        readProperty( @Nonnull final JsonReader jsonReader, @Nonnull final String name, @Nonnull final T object )
+            throws IOException;
+
+    /**
+     * Resolves the adapter of a field of the data model class, considering its {@code JsonAdapter} annotation and
+     * element type the same way the {@link ODataVdmEntityAdapter} does. Generated adapters resolve the adapters of all
+     * fields once, when they are created.
+     *
+     * @param type
+     *            The data model class.
+     * @param fieldName
+     *            The name of the field declared in the data model class.
+     * @return The adapter to read the field value with.
+     * @throws IllegalStateException
+     *             If the data model class does not declare the field.
+     */
+    @Nonnull
+    protected final TypeAdapter<?> getFieldAdapter( @Nonnull final Class<?> type, @Nonnull final String fieldName )
+    {
+        try {
+            return ODataVdmEntityAdapter.getAdapterFromField(type.getDeclaredField(fieldName), gson);
+        }
+        catch( final NoSuchFieldException e ) {
+            throw new IllegalStateException("Field '" + fieldName + "' is not declared in " + type.getName() + ".", e);
+        }
+    }
+
+    /**
+     * For internal use only by data model classes.
+     */
+    @Override
+    @Nullable
+    public T read( @Nonnull final JsonReader jsonReader )
+        throws IOException
+    {
+        if( jsonReader.peek() == JsonToken.NULL ) {
+            jsonReader.nextNull();
+            return null;
+        }
+
+        final T object = newInstance();
+        if( jsonReader.peek() != JsonToken.BEGIN_OBJECT ) {
+            return object;
+        }
+
+        jsonReader.beginObject();
+        while( jsonReader.hasNext() ) {
+            final String propertyKey = jsonReader.nextName();
+
+            if( "__metadata".equals(propertyKey) ) {
+                ODataVdmEntityAdapter.readMetadata(jsonReader, object);
+            } else if( "__deferred".equals(propertyKey) ) {
+                jsonReader.skipValue();
+                jsonReader.endObject();
+                return null;
+            } else if( !readProperty(jsonReader, propertyKey, object) ) {
+                try {
+                    if( !fallbackAdapter.readProperty(jsonReader, propertyKey, object) ) {
+                        object.getCustomFields().put(propertyKey, customFieldAdapter.read(jsonReader));
+                    }
+                }
+                catch( final IllegalAccessException e ) {
+                    log.error("Could not initialize '{}'. Returning null instead.", object.getClass().getName(), e);
+                    return null;
+                }
+            }
+        }
+        jsonReader.endObject();
+
+        return object;
+    }
+
+    /**
+     * For internal use only by data model classes.
+     */
+    @Override
+    public void write( @Nonnull final JsonWriter jsonWriter, @Nullable final T value )
+        throws IOException
+    {
+        fallbackAdapter.write(jsonWriter, value);
+    }
+}
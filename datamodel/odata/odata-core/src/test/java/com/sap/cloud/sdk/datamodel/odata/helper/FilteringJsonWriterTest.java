@@ -0,0 +1,86 @@
+package com.sap.cloud.sdk.datamodel.odata.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+class FilteringJsonWriterTest
+{
+    @Test
+    void testNestedEmptyArraysAreRemoved()
+        throws IOException
+    {
+        final String json = """
+            {"a":[],"b":{"c":[],"d":[[]],"e":[1]},"f":[{"g":[]}],"h":[[],[2]]}""";
+
+        assertThat(write(json, false, FilteringJsonWriter::removingEmptyArrays)).isEqualTo("""
+            {"b":{"d":[[]],"e":[1]},"f":[{}],"h":[[],[2]]}""");
+    }
+
+    @Test
+    void testExcludedRootMembersAreKeptInNestedObjects()
+        throws IOException
+    {
+        final String json = """
+            {"a":1,"b":{"a":2,"c":null,"d":[{"a":3}]},"c":null,"e":4}""";
+
+        assertThat(write(json, false, writer -> writer.excludingRootMembers(Set.of("a", "c")))).isEqualTo("""
+            {"b":{"a":2,"d":[{"a":3}]},"e":4}""");
+    }
+
+    @Test
+    void testIncludedRootMembersAreWrittenInGivenOrder()
+        throws IOException
+    {
+        final String json = """
+            {"a":{"x":[1,2],"y":null},"b":2,"c":"3","d":null}""";
+        final List<String> included = List.of("c", "missing", "d", "a");
+
+        assertThat(write(json, true, writer -> writer.includingRootMembers(included))).isEqualTo("""
+            {"c":"3","missing":null,"d":null,"a":{"x":[1,2],"y":null}}""");
+        assertThat(write(json, false, writer -> writer.includingRootMembers(included))).isEqualTo("""
+            {"c":"3","a":{"x":[1,2]}}""");
+    }
+
+    @Test
+    void testVersionIdentifiersAreRemovedAtAnyDepth()
+        throws IOException
+    {
+        final String json =
+            """
+                {"versionIdentifier":"W/\\"1\\"","nested":{"versionIdentifier":null,"items":[{"versionIdentifier":"x","id":1}]},"other":{"versionIdentifier":{"keep":true}}}""";
+
+        assertThat(write(json, true, FilteringJsonWriter::removingVersionIdentifiers)).isEqualTo("""
+            {"nested":{"items":[{"id":1}]},"other":{"versionIdentifier":{"keep":true}}}""");
+    }
+
+    @Nonnull
+    private static String write(
+        @Nonnull final String json,
+        final boolean serializeNulls,
+        @Nonnull final UnaryOperator<FilteringJsonWriter> configuration )
+        throws IOException
+    {
+        final StringWriter output = new StringWriter();
+        final JsonWriter delegate = new JsonWriter(output);
+        delegate.setSerializeNulls(serializeNulls);
+
+        final JsonWriter writer = configuration.apply(new FilteringJsonWriter(delegate));
+        new Gson().getAdapter(JsonElement.class).write(writer, JsonParser.parseString(json));
+        writer.flush();
+        return output.toString();
+    }
+}
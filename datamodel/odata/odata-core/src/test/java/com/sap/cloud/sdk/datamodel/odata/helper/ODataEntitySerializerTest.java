@@ -2,14 +2,21 @@ package com.sap.cloud.sdk.datamodel.odata.helper;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
+import org.apache.http.util.EntityUtils;
 import org.junit.jupiter.api.Test;
 
 import com.sap.cloud.sdk.datamodel.odata.client.expression.FieldReference;
 
+import lombok.SneakyThrows;
+
 class ODataEntitySerializerTest
 {
     @Test
@@ -22,6 +29,53 @@ class ODataEntitySerializerTest
         assertThat(payload).isEqualTo("{\"IntegerValue\":42,\"StringValue\":\"string\",\"BooleanValue\":false}");
     }
 
+    @Test
+    void testSerializeDeepEntityForCreate()
+    {
+        final TestVdmEntity child = TestVdmEntity.builder().integerValue(1).toChildren(new ArrayList<>()).build();
+        child.setCustomField("EmptyList", Collections.emptyList());
+        final TestVdmEntity entity = TestVdmEntity.builder().stringValue("root").toChildren(List.of(child)).build();
+
+        final String payload = ODataEntitySerializer.serializeEntityForCreate(entity);
+        assertThat(payload).isEqualTo("{\"StringValue\":\"root\",\"to_Children\":[{\"IntegerValue\":1}]}");
+    }
+
+    @Test
+    void testSerializeDeepEntityForUpdatePut()
+    {
+        final TestVdmEntity child = TestVdmEntity.builder().integerValue(1).build();
+        child.setVersionIdentifier("child-etag");
+        final TestVdmEntity entity = TestVdmEntity.builder().stringValue("root").toChildren(List.of(child)).build();
+        entity.setVersionIdentifier("root-etag");
+
+        final List<FieldReference> fieldsToExclude = Arrays.asList(FieldReference.of("IntegerValue"));
+        final String payload = ODataEntitySerializer.serializeEntityForUpdatePut(entity, fieldsToExclude);
+        assertThat(payload)
+            .doesNotContain("versionIdentifier", "etag")
+            .startsWith("{\"GuidValue\":null,\"StringValue\":\"root\"")
+            .contains("\"to_Children\":[{\"IntegerValue\":1,\"GuidValue\":null,");
+    }
+
+    @Test
+    @SneakyThrows
+    void testStreamingJsonEntity()
+    {
+        final TestVdmEntity entity = TestVdmEntity.builder().stringValue("<ü>").toChildren(new ArrayList<>()).build();
+        final StreamingJsonEntity httpEntity =
+            new StreamingJsonEntity(writer -> ODataEntitySerializer.writeEntityForCreate(entity, writer));
+
+        assertThat(httpEntity.isRepeatable()).isTrue();
+        assertThat(httpEntity.getContentLength()).isEqualTo(-1);
+        assertThat(httpEntity.getContentType().getValue()).isEqualTo("application/json");
+
+        final String expectedPayload = ODataEntitySerializer.serializeEntityForCreate(entity);
+        assertThat(EntityUtils.toString(httpEntity, StandardCharsets.UTF_8)).isEqualTo(expectedPayload);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        httpEntity.writeTo(outputStream);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(expectedPayload);
+    }
+
     @Test
     void testSerializeEntityForUpdatePut()
     {
@@ -10,6 +10,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -179,6 +180,47 @@ class PaginationUnitTest
         assertThat(countEntities).isEqualTo(ENTITIES_COUNT);
     }
 
+    @Test
+    void testGetAllIteratingPagesWithPrefetching()
+    {
+        final Iterable<List<Customer>> result =
+            newCustomerRead()
+                .select(Customer.CUSTOMER_ID)
+                .withPreferredPageSize(PAGE_SIZE)
+                .withPagePrefetching(2)
+                .iteratingPages()
+                .executeRequest(destination);
+
+        final List<String> customerIds = new ArrayList<>();
+        for( final List<Customer> entities : result ) {
+            entities.forEach(customer -> customerIds.add(customer.getCustomerId()));
+        }
+        assertThat(customerIds).hasSize(ENTITIES_COUNT).startsWith("ALFKI").endsWith("WOLZA").doesNotHaveDuplicates();
+        verify(PAGES_COUNT, getRequestedFor(UrlPattern.ANY));
+    }
+
+    @Test
+    void testGetAllWithValueInterning()
+    {
+        final String customer = "{ \"CustomerID\": \"ALFKI\" }";
+        stubFor(
+            get(UrlPattern.ANY)
+                .withQueryParam("$top", equalTo("3"))
+                .atPriority(1)
+                .willReturn(
+                    okJson(
+                        "{ \"d\" : { \"results\": [ " + String.join(", ", customer, customer, customer) + " ] } }")));
+
+        final List<Customer> interned = newCustomerRead().top(3).withValueInterning(10).executeRequest(destination);
+        assertThat(interned).hasSize(3).extracting(Customer::getCustomerId).containsOnly("ALFKI");
+        assertThat(interned.get(1).getCustomerId()).isSameAs(interned.get(0).getCustomerId());
+        assertThat(interned.get(2).getCustomerId()).isSameAs(interned.get(0).getCustomerId());
+
+        final List<Customer> plain = newCustomerRead().top(3).executeRequest(destination);
+        assertThat(plain).hasSize(3).extracting(Customer::getCustomerId).containsOnly("ALFKI");
+        assertThat(plain.get(1).getCustomerId()).isNotSameAs(plain.get(0).getCustomerId());
+    }
+
     @Builder
     @Data
     @NoArgsConstructor
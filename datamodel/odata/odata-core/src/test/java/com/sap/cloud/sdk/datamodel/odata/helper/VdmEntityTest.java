@@ -7,6 +7,7 @@ import javax.annotation.Nonnull;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.Gson;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DestinationProperty;
 import com.sap.cloud.sdk.cloudplatform.connectivity.HttpDestinationProperties;
@@ -159,4 +160,35 @@ class VdmEntityTest
         entity.setCustomField("foo", "baz");
         assertThat(entity.getChangedFields()).containsOnlyKeys("foo");
     }
+
+    @Test
+    @SuppressWarnings( "deprecation" )
+    void testFieldMapsAreAllocatedLazily()
+    {
+        final Gson gson = new Gson();
+        final TestVdmEntity entity =
+            gson.fromJson(gson.toJson(TestVdmEntity.builder().stringValue("old").build()), TestVdmEntity.class);
+        final TestVdmEntity other = new TestVdmEntity();
+
+        // neither reading nor writing an object allocates maps for its custom and changed fields
+        assertThat(entity.getStringValue()).isEqualTo("old");
+        assertThat(entity.getChangedFields()).isEmpty();
+        assertThat(entity.customFields).isSameAs(other.customFields).isEmpty();
+        assertThat(entity.changedOriginalFields).isSameAs(other.changedOriginalFields).isEmpty();
+
+        // the map returned by getCustomFields is modifiable and backs the custom fields
+        entity.getCustomFields().put("foo", "bar");
+        assertThat(entity.getCustomFieldNames()).containsExactly("foo");
+        assertThat(entity.customFields).isNotSameAs(other.customFields);
+        assertThat(other.customFields).isEmpty();
+
+        entity.setStringValue("new");
+        assertThat(entity.getChangedFields()).containsOnlyKeys("StringValue");
+
+        entity.resetChangedFields();
+        assertThat(entity.getChangedFields()).isEmpty();
+
+        entity.setStringValue("newer");
+        assertThat(entity.getChangedFields()).containsOnlyKeys("StringValue");
+    }
 }
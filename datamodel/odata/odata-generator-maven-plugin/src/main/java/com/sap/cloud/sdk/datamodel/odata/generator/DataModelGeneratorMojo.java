@@ -133,6 +133,14 @@ public class DataModelGeneratorMojo extends AbstractMojo
     @Parameter( property = "odatav2.generate.pojosOnly" )
     private Boolean pojosOnly;
 
+    /**
+     * Defines whether to generate reflection-free Gson type adapters for entities and complex types.
+     *
+     * @since 5.23.0
+     */
+    @Parameter( property = "odatav2.generate.typeAdapters" )
+    private Boolean typeAdapters;
+
     /**
      * Defines whether to exit with failure in case a warning occurs during processing.
      */
@@ -225,6 +233,10 @@ public class DataModelGeneratorMojo extends AbstractMojo
             pojosOnly = DataModelGenerator.DEFAULT_POJOS_ONLY;
         }
 
+        if( typeAdapters == null ) {
+            typeAdapters = DataModelGenerator.DEFAULT_TYPE_ADAPTERS;
+        }
+
         if( linkToApiBusinessHub == null ) {
             linkToApiBusinessHub = DataModelGenerator.DEFAULT_LINK_TO_API_BUSINESS_HUB;
         }
@@ -279,6 +291,7 @@ public class DataModelGeneratorMojo extends AbstractMojo
             .withNameSource(nameSource)
             .withAnnotationStrategy(annotationStrategy)
             .pojosOnly(pojosOnly)
+            .typeAdapters(typeAdapters)
             .withExcludeFilePattern(excludes)
             .linkToApiBusinessHub(linkToApiBusinessHub)
             .versionReference(versionReference)
@@ -42,6 +42,7 @@ class DataModelGeneratorMojoTest
                 .assertThat(generator.getAnnotationStrategy().getClass().getName())
                 .isEqualTo(DefaultAnnotationStrategy.class.getName());
             softly.assertThat(generator.isGeneratePojosOnly()).isTrue();
+            softly.assertThat(generator.isGenerateTypeAdapters()).isTrue();
             softly.assertThat(generator.getExcludeFilePattern()).isEqualTo("**/myExclusions/**");
             softly.assertThat(generator.isGenerateLinksToApiBusinessHub()).isTrue();
             softly.assertThat(generator.getIncludedEntitySets()).contains("entitySet1", "entitySet2");
@@ -52,7 +52,8 @@ class CodeModelClassGenerator
                 namespaceParentPackage,
                 namingStrategy,
                 config.getAnnotationStrategy(),
-                config.isGeneratePojosOnly());
+                config.isGeneratePojosOnly(),
+                config.isGenerateTypeAdapters());
 
         if( config.isGeneratePojosOnly() ) {
             serviceClassGenerator = null;
@@ -10,6 +10,7 @@ import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.datamodel.odata.generator.annotation.AnnotationStrategy;
 import com.sap.cloud.sdk.datamodel.odata.utility.NameSource;
 import com.sap.cloud.sdk.datamodel.odata.utility.NamingStrategy;
@@ -89,6 +90,12 @@ public class DataModelGenerator implements DataModelGeneratorConfig
      */
     public static final Boolean DEFAULT_POJOS_ONLY = false;
 
+    /**
+     * The default flag indicating whether to generate reflection-free Gson type adapters for entities and complex
+     * types.
+     */
+    public static final Boolean DEFAULT_TYPE_ADAPTERS = false;
+
     /**
      * The default ant style pattern of filenames for which VDM should not be generated - empty string.
      */
@@ -140,6 +147,7 @@ public class DataModelGenerator implements DataModelGeneratorConfig
     private AnnotationStrategy annotationStrategy =
         getStrategyInstanceFromName(DEFAULT_ANNOTATION_STRATEGY, AnnotationStrategy.class);
     private boolean generatePojosOnly = DEFAULT_POJOS_ONLY;
+    private boolean generateTypeAdapters = DEFAULT_TYPE_ADAPTERS;
     private String excludeFilePattern = DEFAULT_EXCLUDES_PATTERN;
     private boolean generateLinksToApiBusinessHub = DEFAULT_LINK_TO_API_BUSINESS_HUB;
     private boolean generateVersionReference = DEFAULT_VERSION_REFERENCE;
@@ -483,6 +491,38 @@ public class DataModelGenerator implements DataModelGeneratorConfig
         return pojosOnly(true);
     }
 
+    /**
+     * Defines whether to generate a reflection-free Gson type adapter for each entity and complex type. The generated
+     * adapters read the JSON properties directly into the fields of the generated classes and are preferred over the
+     * reflection based adapter during deserialization.
+     *
+     * @param typeAdapters
+     *            Flag indicating whether to generate type adapters.
+     *
+     * @return This {@code DataModelGenerator} for chained method calls.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public DataModelGenerator typeAdapters( final boolean typeAdapters )
+    {
+        this.generateTypeAdapters = typeAdapters;
+        return this;
+    }
+
+    /**
+     * Activates the generation of reflection-free Gson type adapters for entities and complex types.
+     *
+     * @return This {@code DataModelGenerator} for chained method calls.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public DataModelGenerator typeAdapters()
+    {
+        return typeAdapters(true);
+    }
+
     /**
      * The generator generates service methods for each entity set of one entity type. If this flag is not used, the
      * generator generates service methods only for the first entity set of one entity type. All additional entity sets
@@ -701,6 +741,7 @@ public class DataModelGenerator implements DataModelGeneratorConfig
             logger.info("  Pattern for excluded files:     " + getExcludeFilePattern());
             logger.info("  SAP Business Accelerator Hub:   " + isGenerateLinksToApiBusinessHub());
             logger.info("  Fail on Warning:                " + isFailOnWarning());
+            logger.info("  Generate type adapters:         " + isGenerateTypeAdapters());
             logger
                 .info(
                     "  Entity sets to process:         "
@@ -35,6 +35,14 @@ interface DataModelGeneratorConfig
      */
     boolean isGeneratePojosOnly();
 
+    /**
+     * Getter for the flag indicating whether to generate reflection-free Gson type adapters for entities and complex
+     * types.
+     *
+     * @return true, if type adapters should be generated; false otherwise.
+     */
+    boolean isGenerateTypeAdapters();
+
     /**
      * Getter for the flag indicating whether service methods are generated per entity set.
      *
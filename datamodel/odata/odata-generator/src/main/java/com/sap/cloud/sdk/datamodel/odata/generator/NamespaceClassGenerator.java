@@ -72,19 +72,25 @@ class NamespaceClassGenerator
     private final AnnotationStrategy annotationStrategy;
 
     private final boolean generatePojosOnly;
+    private final boolean generateTypeAdapters;
+
+    // type adapters of the generated entity classes, which are completed with the navigation properties later on
+    private final Map<JDefinedClass, TypeAdapterGenerator> typeAdapterGenerators = new HashMap<>();
 
     NamespaceClassGenerator(
         final JCodeModel codeModel,
         final JPackage namespaceParentPackage,
         final NamingStrategy codeNamingStrategy,
         final AnnotationStrategy annotationStrategy,
-        final boolean generatePojosOnly )
+        final boolean generatePojosOnly,
+        final boolean generateTypeAdapters )
     {
         this.codeModel = codeModel;
         this.namespaceParentPackage = namespaceParentPackage;
         this.codeNamingStrategy = codeNamingStrategy;
         this.annotationStrategy = annotationStrategy;
         this.generatePojosOnly = generatePojosOnly;
+        this.generateTypeAdapters = generateTypeAdapters;
     }
 
     private ClassGeneratorResult generateEdmEntityClass(
@@ -195,6 +201,7 @@ class NamespaceClassGenerator
         final JDefinedClass specificEntityFieldClass,
         final VdmObjectModel entityModel,
         final JDefinedClass selectableInterface )
+        throws JClassAlreadyExistsException
     {
         // getType method
         final JMethod getTypeMethod =
@@ -222,9 +229,19 @@ class NamespaceClassGenerator
                 annotationStrategy.getAnnotationsForEntity(entityAnnotationModel),
                 entityClass);
 
+        final TypeAdapterGenerator typeAdapterGenerator =
+            generateTypeAdapters ? new TypeAdapterGenerator(codeModel, entityClass) : null;
+        if( typeAdapterGenerator != null ) {
+            typeAdapterGenerators.put(entityClass, typeAdapterGenerator);
+        }
+
         for( final Map.Entry<String, EntityPropertyModel> entry : entityModel.getProperties().entrySet() ) {
             final EntityPropertyModel mapping = entry.getValue();
-            addPropertyAsField(entityClass, specificEntityFieldClass, selectableInterface, mapping);
+            final JFieldVar field =
+                addPropertyAsField(entityClass, specificEntityFieldClass, selectableInterface, mapping);
+            if( typeAdapterGenerator != null ) {
+                typeAdapterGenerator.addProperty(mapping.getEdmName(), field);
+            }
         }
 
         // String getEntityCollection()
@@ -253,7 +270,7 @@ class NamespaceClassGenerator
         return entityClass;
     }
 
-    private void addPropertyAsField(
+    private JFieldVar addPropertyAsField(
         final JDefinedClass entityClass,
         final JDefinedClass specificEntityFieldClass,
         final JDefinedClass selectableInterface,
@@ -314,6 +331,7 @@ class NamespaceClassGenerator
             // add fluentHelperField class to EntitySelectable java docs
             JavadocUtils.addFieldReference(selectableInterface, entityClass, fluentHelperField);
         }
+        return entityClassField;
     }
 
     private void generateSetterMethod(
@@ -354,6 +372,16 @@ class NamespaceClassGenerator
                     generatedEntities,
                     annotationStrategy);
 
+        final TypeAdapterGenerator typeAdapterGenerator = typeAdapterGenerators.get(entityBluePrint.getEntityClass());
+        if( typeAdapterGenerator != null ) {
+            for( final NavigationPropertyModel navigationProperty : entityBluePrint.getNavigationProperties() ) {
+                final JFieldVar field = generatedNavigationPropertyFields.get(navigationProperty.getEdmName());
+                if( field != null ) {
+                    typeAdapterGenerator.addProperty(navigationProperty.getEdmName(), field);
+                }
+            }
+        }
+
         if( !generatePojosOnly ) {
             navPropGenerator
                 .addNavigationPropertyMethods(
@@ -408,17 +436,25 @@ class NamespaceClassGenerator
         // Map<String,Object> getKey()
         createMethodGetKey(complexTypeModel.getProperties(), complexTypeClass);
 
+        final TypeAdapterGenerator typeAdapterGenerator =
+            generateTypeAdapters ? new TypeAdapterGenerator(codeModel, complexTypeClass) : null;
+
         // Base entity portion
         for( final Map.Entry<String, EntityPropertyModel> entry : complexTypeModel.getProperties().entrySet() ) {
             final EntityPropertyModel mapping = entry.getValue();
 
-            processComplexTypeClassField(complexTypeClass, mapping);
+            final JFieldVar field = processComplexTypeClassField(complexTypeClass, mapping);
+            if( typeAdapterGenerator != null ) {
+                typeAdapterGenerator.addProperty(mapping.getEdmName(), field);
+            }
         }
 
         return complexTypeClass;
     }
 
-    private void processComplexTypeClassField( final JDefinedClass complexTypeClass, final EntityPropertyModel mapping )
+    private
+        JFieldVar
+        processComplexTypeClassField( final JDefinedClass complexTypeClass, final EntityPropertyModel mapping )
     {
         final JFieldVar complexTypeClassField =
             complexTypeClass.field(JMod.PRIVATE, mapping.getJavaFieldType(), mapping.getJavaFieldName());
@@ -454,6 +490,7 @@ class NamespaceClassGenerator
             complexTypeClassField,
             mapping.getEdmName(),
             mapping.getBasicDescription());
+        return complexTypeClassField;
     }
 
     private void createMemberAllFields( final JDefinedClass entityClass, final JDefinedClass selectableInterface )
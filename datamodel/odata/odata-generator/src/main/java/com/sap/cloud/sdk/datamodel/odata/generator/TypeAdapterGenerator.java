@@ -0,0 +1,116 @@
+package com.sap.cloud.sdk.datamodel.odata.generator;
+
+import java.io.IOException;
+
+import javax.annotation.Nonnull;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JMethod;
+import com.sun.codemodel.JMod;
+import com.sun.codemodel.JSwitch;
+import com.sun.codemodel.JVar;
+
+/**
+ * Generates a reflection-free Gson type adapter as nested class of an entity or complex type class. Properties are
+ * added one by one, since the fields of navigation properties are generated after all entity classes exist.
+ */
+class TypeAdapterGenerator
+{
+    static final String TYPE_ADAPTER_CLASS_NAME = "GsonTypeAdapter";
+
+    private final JCodeModel codeModel;
+    private final JDefinedClass vdmClass;
+    private final JDefinedClass adapterClass;
+    private final JBlock constructorBody;
+    private final JSwitch propertySwitch;
+    private final JVar readerParam;
+    private final JVar objectParam;
+
+    TypeAdapterGenerator( final JCodeModel codeModel, final JDefinedClass vdmClass ) throws JClassAlreadyExistsException
+    {
+        this.codeModel = codeModel;
+        this.vdmClass = vdmClass;
+
+        adapterClass = vdmClass._class(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, TYPE_ADAPTER_CLASS_NAME);
+        adapterClass._extends(codeModel.ref(ODataVdmGeneratedAdapter.class).narrow(vdmClass));
+        adapterClass
+            .javadoc()
+            .add(
+                String
+                    .format(
+                        "Reflection-free Gson type adapter of {@link %s}, preferred by the {@link %s}.",
+                        vdmClass.name(),
+                        ODataVdmEntityAdapterFactory.class.getName()));
+
+        final JMethod constructor = adapterClass.constructor(JMod.PUBLIC);
+        constructor.annotate(SuppressWarnings.class).param("value", "unchecked");
+        final JVar gsonParam = constructor.param(JMod.FINAL, Gson.class, "gson");
+        gsonParam.annotate(Nonnull.class);
+        final JVar fallbackParam =
+            constructor
+                .param(JMod.FINAL, codeModel.ref(ODataVdmEntityAdapter.class).narrow(vdmClass), "fallbackAdapter");
+        fallbackParam.annotate(Nonnull.class);
+        constructor.javadoc().add("For internal use only by data model classes.");
+        constructor.javadoc().addParam(gsonParam).add("The GSON reference.");
+        constructor.javadoc().addParam(fallbackParam).add("The reflection based adapter of the data model class.");
+        constructorBody = constructor.body();
+        constructorBody.invoke("super").arg(gsonParam).arg(fallbackParam);
+
+        final JMethod newInstanceMethod = adapterClass.method(JMod.PROTECTED, vdmClass, "newInstance");
+        newInstanceMethod.annotate(Nonnull.class);
+        newInstanceMethod.annotate(Override.class);
+        newInstanceMethod.body()._return(JExpr._new(vdmClass));
+
+        final JMethod readPropertyMethod = adapterClass.method(JMod.PROTECTED, codeModel.BOOLEAN, "readProperty");
+        readPropertyMethod.annotate(Override.class);
+        readPropertyMethod._throws(IOException.class);
+        readerParam = readPropertyMethod.param(JMod.FINAL, JsonReader.class, "jsonReader");
+        readerParam.annotate(Nonnull.class);
+        final JVar nameParam = readPropertyMethod.param(JMod.FINAL, String.class, "name");
+        nameParam.annotate(Nonnull.class);
+        objectParam = readPropertyMethod.param(JMod.FINAL, vdmClass, "object");
+        objectParam.annotate(Nonnull.class);
+
+        propertySwitch = readPropertyMethod.body()._switch(nameParam);
+        propertySwitch._default().body()._return(JExpr.FALSE);
+    }
+
+    /**
+     * Adds a property to the generated type adapter.
+     *
+     * @param edmName
+     *            The name of the property in the OData EDM, which is also the name of the JSON property.
+     * @param field
+     *            The field of the data model class holding the property value.
+     */
+    void addProperty( @Nonnull final String edmName, @Nonnull final JFieldVar field )
+    {
+        final JClass fieldAdapterType = codeModel.ref(TypeAdapter.class).narrow(field.type());
+        final JFieldVar fieldAdapter =
+            adapterClass.field(JMod.PRIVATE | JMod.FINAL, fieldAdapterType, field.name() + "Adapter");
+
+        constructorBody
+            .assign(
+                fieldAdapter,
+                JExpr
+                    .cast(
+                        fieldAdapterType,
+                        JExpr.invoke("getFieldAdapter").arg(vdmClass.dotclass()).arg(JExpr.lit(field.name()))));
+
+        final JBlock caseBody = propertySwitch._case(JExpr.lit(edmName)).body();
+        caseBody.assign(objectParam.ref(field), fieldAdapter.invoke("read").arg(readerParam));
+        caseBody._return(JExpr.TRUE);
+    }
+}
@@ -183,6 +183,29 @@ class ODataGeneratorIntegrationTest
         assertThatDirectoriesHaveSameContent(tempOutputDirectory, comparisonDirectory);
     }
 
+    @Test
+    void testTypeAdapterGeneration( @TempDir final Path path )
+    {
+        final Path inputDirectory = Paths.get("src/test/resources/oDataGeneratorIntegrationTest/groceryStore/input");
+        assertThat(inputDirectory).exists().isReadable().isDirectory();
+        final Path tempOutputDirectory = path.resolve("outputDirectory");
+        final Path comparisonDirectory =
+            Paths.get("src/test/resources/oDataGeneratorIntegrationTest/groceryStoreTypeAdapters/output");
+
+        new DataModelGenerator()
+            .withInputDirectory(inputDirectory.toFile())
+            .withOutputDirectory(tempOutputDirectory.toFile())
+            .withServiceNameMapping(inputDirectory.resolve("serviceNameMappings.properties").toFile())
+            .withNameSource(NameSource.NAME)
+            .withPackageName("testcomparison")
+            .pojosOnly()
+            .typeAdapters()
+            .versionReference(false)
+            .execute();
+
+        assertThatDirectoriesHaveSameContent(tempOutputDirectory, comparisonDirectory);
+    }
+
     // Add these annotations to regenerate all sources
     // @ParameterizedTest
     // @EnumSource( TestCase.class ) // use this to regenerate all...
@@ -0,0 +1,337 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>Address</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class Address
+    extends VdmEntity<Address>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Street</b></p>
+     * 
+     * @return
+     *     The street contained in this entity.
+     */
+    @SerializedName("Street")
+    @JsonProperty("Street")
+    @Nullable
+    @ODataField(odataName = "Street")
+    private String street;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>City</b></p>
+     * 
+     * @return
+     *     The city contained in this entity.
+     */
+    @SerializedName("City")
+    @JsonProperty("City")
+    @Nullable
+    @ODataField(odataName = "City")
+    private String city;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>State</b></p>
+     * 
+     * @return
+     *     The state contained in this entity.
+     */
+    @SerializedName("State")
+    @JsonProperty("State")
+    @Nullable
+    @ODataField(odataName = "State")
+    private String state;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Country</b></p>
+     * 
+     * @return
+     *     The country contained in this entity.
+     */
+    @SerializedName("Country")
+    @JsonProperty("Country")
+    @Nullable
+    @ODataField(odataName = "Country")
+    private String country;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>PostalCode</b></p>
+     * 
+     * @return
+     *     The postalCode contained in this entity.
+     */
+    @SerializedName("PostalCode")
+    @JsonProperty("PostalCode")
+    @Nullable
+    @ODataField(odataName = "PostalCode")
+    private String postalCode;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Latitude</b></p>
+     * 
+     * @return
+     *     The latitude contained in this entity.
+     */
+    @SerializedName("Latitude")
+    @JsonProperty("Latitude")
+    @Nullable
+    @ODataField(odataName = "Latitude")
+    private Double latitude;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Longitude</b></p>
+     * 
+     * @return
+     *     The longitude contained in this entity.
+     */
+    @SerializedName("Longitude")
+    @JsonProperty("Longitude")
+    @Nullable
+    @ODataField(odataName = "Longitude")
+    private Double longitude;
+
+    @Nonnull
+    @Override
+    public Class<Address> getType() {
+        return Address.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Street</b></p>
+     * 
+     * @param street
+     *     The street to set.
+     */
+    public void setStreet(
+        @Nullable
+        final String street) {
+        rememberChangedField("Street", this.street);
+        this.street = street;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>City</b></p>
+     * 
+     * @param city
+     *     The city to set.
+     */
+    public void setCity(
+        @Nullable
+        final String city) {
+        rememberChangedField("City", this.city);
+        this.city = city;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>State</b></p>
+     * 
+     * @param state
+     *     The state to set.
+     */
+    public void setState(
+        @Nullable
+        final String state) {
+        rememberChangedField("State", this.state);
+        this.state = state;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Country</b></p>
+     * 
+     * @param country
+     *     The country to set.
+     */
+    public void setCountry(
+        @Nullable
+        final String country) {
+        rememberChangedField("Country", this.country);
+        this.country = country;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>PostalCode</b></p>
+     * 
+     * @param postalCode
+     *     The postalCode to set.
+     */
+    public void setPostalCode(
+        @Nullable
+        final String postalCode) {
+        rememberChangedField("PostalCode", this.postalCode);
+        this.postalCode = postalCode;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Latitude</b></p>
+     * 
+     * @param latitude
+     *     The latitude to set.
+     */
+    public void setLatitude(
+        @Nullable
+        final Double latitude) {
+        rememberChangedField("Latitude", this.latitude);
+        this.latitude = latitude;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Longitude</b></p>
+     * 
+     * @param longitude
+     *     The longitude to set.
+     */
+    public void setLongitude(
+        @Nullable
+        final Double longitude) {
+        rememberChangedField("Longitude", this.longitude);
+        this.longitude = longitude;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Addresses";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link Address}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<Address>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> streetAdapter;
+        private final TypeAdapter<String> cityAdapter;
+        private final TypeAdapter<String> stateAdapter;
+        private final TypeAdapter<String> countryAdapter;
+        private final TypeAdapter<String> postalCodeAdapter;
+        private final TypeAdapter<Double> latitudeAdapter;
+        private final TypeAdapter<Double> longitudeAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<Address> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Address.class, "id"));
+            streetAdapter = ((TypeAdapter<String> ) getFieldAdapter(Address.class, "street"));
+            cityAdapter = ((TypeAdapter<String> ) getFieldAdapter(Address.class, "city"));
+            stateAdapter = ((TypeAdapter<String> ) getFieldAdapter(Address.class, "state"));
+            countryAdapter = ((TypeAdapter<String> ) getFieldAdapter(Address.class, "country"));
+            postalCodeAdapter = ((TypeAdapter<String> ) getFieldAdapter(Address.class, "postalCode"));
+            latitudeAdapter = ((TypeAdapter<Double> ) getFieldAdapter(Address.class, "latitude"));
+            longitudeAdapter = ((TypeAdapter<Double> ) getFieldAdapter(Address.class, "longitude"));
+        }
+
+        @Nonnull
+        @Override
+        protected Address newInstance() {
+            return new Address();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final Address object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Street":
+                    object.street = streetAdapter.read(jsonReader);
+                    return true;
+                case "City":
+                    object.city = cityAdapter.read(jsonReader);
+                    return true;
+                case "State":
+                    object.state = stateAdapter.read(jsonReader);
+                    return true;
+                case "Country":
+                    object.country = countryAdapter.read(jsonReader);
+                    return true;
+                case "PostalCode":
+                    object.postalCode = postalCodeAdapter.read(jsonReader);
+                    return true;
+                case "Latitude":
+                    object.latitude = latitudeAdapter.read(jsonReader);
+                    return true;
+                case "Longitude":
+                    object.longitude = longitudeAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+}
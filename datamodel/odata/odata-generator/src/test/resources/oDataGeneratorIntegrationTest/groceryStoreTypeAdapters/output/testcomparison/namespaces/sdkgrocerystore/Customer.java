@@ -0,0 +1,264 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * OData entity representation of Customer<p></p><p>Original entity name from the Odata EDM: <b>Customer</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class Customer
+    extends VdmEntity<Customer>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p><p>With this numeric identifier it's possible to resolve and manipulate customer information</p>
+     * 
+     * @return
+     *     Customer identifier used as entity key value.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: Not nullable, Maximum length: 100 <p>Original property name from the Odata EDM: <b>Name</b></p><p>The mandatory field may contain different combinations of first- and last-name.</p>
+     * 
+     * @return
+     *     Customer name.
+     */
+    @SerializedName("Name")
+    @JsonProperty("Name")
+    @Nullable
+    @ODataField(odataName = "Name")
+    private String name;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Email</b></p><p>The optional field for customer email address is checked server-side for validity.</p>
+     * 
+     * @return
+     *     Customer email address.
+     */
+    @SerializedName("Email")
+    @JsonProperty("Email")
+    @Nullable
+    @ODataField(odataName = "Email")
+    private String email;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>AddressId</b></p><p>The optional field can be used to resolve the current customer address id.</p>
+     * 
+     * @return
+     *     Customer address identifier.
+     */
+    @SerializedName("AddressId")
+    @JsonProperty("AddressId")
+    @Nullable
+    @ODataField(odataName = "AddressId")
+    private Integer addressId;
+    /**
+     * Navigation property <b>Address</b> for <b>Customer</b> to single <b>Address</b>.
+     * 
+     */
+    @SerializedName("Address")
+    @JsonProperty("Address")
+    @ODataField(odataName = "Address")
+    @Nullable
+    private Address toAddress;
+
+    @Nonnull
+    @Override
+    public Class<Customer> getType() {
+        return Customer.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p><p>With this numeric identifier it's possible to resolve and manipulate customer information</p>
+     * 
+     * @param id
+     *     Customer identifier used as entity key value.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: Not nullable, Maximum length: 100 <p>Original property name from the Odata EDM: <b>Name</b></p><p>The mandatory field may contain different combinations of first- and last-name.</p>
+     * 
+     * @param name
+     *     Customer name.
+     */
+    public void setName(
+        @Nullable
+        final String name) {
+        rememberChangedField("Name", this.name);
+        this.name = name;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Email</b></p><p>The optional field for customer email address is checked server-side for validity.</p>
+     * 
+     * @param email
+     *     Customer email address.
+     */
+    public void setEmail(
+        @Nullable
+        final String email) {
+        rememberChangedField("Email", this.email);
+        this.email = email;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>AddressId</b></p><p>The optional field can be used to resolve the current customer address id.</p>
+     * 
+     * @param addressId
+     *     Customer address identifier.
+     */
+    public void setAddressId(
+        @Nullable
+        final Integer addressId) {
+        rememberChangedField("AddressId", this.addressId);
+        this.addressId = addressId;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Customers";
+    }
+
+
+    /**
+     * Helper class to allow for fluent creation of Customer instances.
+     * 
+     */
+    public final static class CustomerBuilder {
+
+        private Address toAddress;
+
+        private Customer.CustomerBuilder toAddress(final Address cloudSdkValue) {
+            toAddress = cloudSdkValue;
+            return this;
+        }
+
+        /**
+         * Navigation property <b>Address</b> for <b>Customer</b> to single <b>Address</b>.
+         * 
+         * @param cloudSdkValue
+         *     The Address to build this Customer with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Customer.CustomerBuilder address(final Address cloudSdkValue) {
+            return toAddress(cloudSdkValue);
+        }
+
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link Customer}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<Customer>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> nameAdapter;
+        private final TypeAdapter<String> emailAdapter;
+        private final TypeAdapter<Integer> addressIdAdapter;
+        private final TypeAdapter<Address> toAddressAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<Customer> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Customer.class, "id"));
+            nameAdapter = ((TypeAdapter<String> ) getFieldAdapter(Customer.class, "name"));
+            emailAdapter = ((TypeAdapter<String> ) getFieldAdapter(Customer.class, "email"));
+            addressIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Customer.class, "addressId"));
+            toAddressAdapter = ((TypeAdapter<Address> ) getFieldAdapter(Customer.class, "toAddress"));
+        }
+
+        @Nonnull
+        @Override
+        protected Customer newInstance() {
+            return new Customer();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final Customer object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Name":
+                    object.name = nameAdapter.read(jsonReader);
+                    return true;
+                case "Email":
+                    object.email = emailAdapter.read(jsonReader);
+                    return true;
+                case "AddressId":
+                    object.addressId = addressIdAdapter.read(jsonReader);
+                    return true;
+                case "Address":
+                    object.toAddress = toAddressAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+}
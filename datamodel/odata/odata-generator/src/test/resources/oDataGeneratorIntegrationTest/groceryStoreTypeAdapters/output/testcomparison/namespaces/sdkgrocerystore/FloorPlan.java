@@ -0,0 +1,163 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>FloorPlan</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class FloorPlan
+    extends VdmEntity<FloorPlan>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>ImageUri</b></p>
+     * 
+     * @return
+     *     The imageUri contained in this entity.
+     */
+    @SerializedName("ImageUri")
+    @JsonProperty("ImageUri")
+    @Nullable
+    @ODataField(odataName = "ImageUri")
+    private String imageUri;
+
+    @Nonnull
+    @Override
+    public Class<FloorPlan> getType() {
+        return FloorPlan.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>ImageUri</b></p>
+     * 
+     * @param imageUri
+     *     The imageUri to set.
+     */
+    public void setImageUri(
+        @Nullable
+        final String imageUri) {
+        rememberChangedField("ImageUri", this.imageUri);
+        this.imageUri = imageUri;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Floors";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link FloorPlan}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<FloorPlan>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> imageUriAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<FloorPlan> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(FloorPlan.class, "id"));
+            imageUriAdapter = ((TypeAdapter<String> ) getFieldAdapter(FloorPlan.class, "imageUri"));
+        }
+
+        @Nonnull
+        @Override
+        protected FloorPlan newInstance() {
+            return new FloorPlan();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final FloorPlan object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "ImageUri":
+                    object.imageUri = imageUriAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+}
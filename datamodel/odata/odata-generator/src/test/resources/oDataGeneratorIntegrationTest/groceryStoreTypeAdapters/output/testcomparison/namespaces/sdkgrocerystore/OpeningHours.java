@@ -0,0 +1,230 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import java.time.LocalTime;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>OpeningHours</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class OpeningHours
+    extends VdmEntity<OpeningHours>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>DayOfWeek</b></p>
+     * 
+     * @return
+     *     The dayOfWeek contained in this entity.
+     */
+    @SerializedName("DayOfWeek")
+    @JsonProperty("DayOfWeek")
+    @Nullable
+    @ODataField(odataName = "DayOfWeek")
+    private Integer dayOfWeek;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>OpenTime</b></p>
+     * 
+     * @return
+     *     The openTime contained in this entity.
+     */
+    @SerializedName("OpenTime")
+    @JsonProperty("OpenTime")
+    @Nullable
+    @JsonSerialize(using = com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.JacksonLocalTimeSerializer.class)
+    @JsonDeserialize(using = com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.JacksonLocalTimeDeserializer.class)
+    @JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.LocalTimeAdapter.class)
+    @ODataField(odataName = "OpenTime", converter = com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.LocalTimeCalendarConverter.class)
+    private LocalTime openTime;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>CloseTime</b></p>
+     * 
+     * @return
+     *     The closeTime contained in this entity.
+     */
+    @SerializedName("CloseTime")
+    @JsonProperty("CloseTime")
+    @Nullable
+    @JsonSerialize(using = com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.JacksonLocalTimeSerializer.class)
+    @JsonDeserialize(using = com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.JacksonLocalTimeDeserializer.class)
+    @JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.LocalTimeAdapter.class)
+    @ODataField(odataName = "CloseTime", converter = com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.LocalTimeCalendarConverter.class)
+    private LocalTime closeTime;
+
+    @Nonnull
+    @Override
+    public Class<OpeningHours> getType() {
+        return OpeningHours.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>DayOfWeek</b></p>
+     * 
+     * @param dayOfWeek
+     *     The dayOfWeek to set.
+     */
+    public void setDayOfWeek(
+        @Nullable
+        final Integer dayOfWeek) {
+        rememberChangedField("DayOfWeek", this.dayOfWeek);
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>OpenTime</b></p>
+     * 
+     * @param openTime
+     *     The openTime to set.
+     */
+    public void setOpenTime(
+        @Nullable
+        final LocalTime openTime) {
+        rememberChangedField("OpenTime", this.openTime);
+        this.openTime = openTime;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>CloseTime</b></p>
+     * 
+     * @param closeTime
+     *     The closeTime to set.
+     */
+    public void setCloseTime(
+        @Nullable
+        final LocalTime closeTime) {
+        rememberChangedField("CloseTime", this.closeTime);
+        this.closeTime = closeTime;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "OpeningHours";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link OpeningHours}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<OpeningHours>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<Integer> dayOfWeekAdapter;
+        private final TypeAdapter<LocalTime> openTimeAdapter;
+        private final TypeAdapter<LocalTime> closeTimeAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<OpeningHours> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(OpeningHours.class, "id"));
+            dayOfWeekAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(OpeningHours.class, "dayOfWeek"));
+            openTimeAdapter = ((TypeAdapter<LocalTime> ) getFieldAdapter(OpeningHours.class, "openTime"));
+            closeTimeAdapter = ((TypeAdapter<LocalTime> ) getFieldAdapter(OpeningHours.class, "closeTime"));
+        }
+
+        @Nonnull
+        @Override
+        protected OpeningHours newInstance() {
+            return new OpeningHours();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final OpeningHours object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "DayOfWeek":
+                    object.dayOfWeek = dayOfWeekAdapter.read(jsonReader);
+                    return true;
+                case "OpenTime":
+                    object.openTime = openTimeAdapter.read(jsonReader);
+                    return true;
+                case "CloseTime":
+                    object.closeTime = closeTimeAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+}
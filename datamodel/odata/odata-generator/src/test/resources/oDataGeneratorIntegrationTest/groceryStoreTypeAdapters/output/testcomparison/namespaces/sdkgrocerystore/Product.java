@@ -0,0 +1,358 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmMediaEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>Product</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class Product
+    extends VdmMediaEntity<Product>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Name</b></p>
+     * 
+     * @return
+     *     The name contained in this entity.
+     */
+    @SerializedName("Name")
+    @JsonProperty("Name")
+    @Nullable
+    @ODataField(odataName = "Name")
+    private String name;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>ShelfId</b></p>
+     * 
+     * @return
+     *     The shelfId contained in this entity.
+     */
+    @SerializedName("ShelfId")
+    @JsonProperty("ShelfId")
+    @Nullable
+    @ODataField(odataName = "ShelfId")
+    private Integer shelfId;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>VendorId</b></p>
+     * 
+     * @return
+     *     The vendorId contained in this entity.
+     */
+    @SerializedName("VendorId")
+    @JsonProperty("VendorId")
+    @Nullable
+    @ODataField(odataName = "VendorId")
+    private Integer vendorId;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Price</b></p>
+     * 
+     * @return
+     *     The price contained in this entity.
+     */
+    @SerializedName("Price")
+    @JsonProperty("Price")
+    @Nullable
+    @ODataField(odataName = "Price")
+    private BigDecimal price;
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Image</b></p>
+     * 
+     * @return
+     *     The image contained in this entity.
+     */
+    @SerializedName("Image")
+    @JsonProperty("Image")
+    @Nullable
+    @JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataBinaryAdapter.class)
+    @ODataField(odataName = "Image")
+    private byte[] image;
+    /**
+     * Navigation property <b>Vendor</b> for <b>Product</b> to single <b>Vendor</b>.
+     * 
+     */
+    @SerializedName("Vendor")
+    @JsonProperty("Vendor")
+    @ODataField(odataName = "Vendor")
+    @Nullable
+    private Vendor toVendor;
+    /**
+     * Navigation property <b>Shelf</b> for <b>Product</b> to multiple <b>Shelf</b>.
+     * 
+     */
+    @SerializedName("Shelf")
+    @JsonProperty("Shelf")
+    @ODataField(odataName = "Shelf")
+    private List<Shelf> toShelf;
+
+    @Nonnull
+    @Override
+    public Class<Product> getType() {
+        return Product.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Name</b></p>
+     * 
+     * @param name
+     *     The name to set.
+     */
+    public void setName(
+        @Nullable
+        final String name) {
+        rememberChangedField("Name", this.name);
+        this.name = name;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>ShelfId</b></p>
+     * 
+     * @param shelfId
+     *     The shelfId to set.
+     */
+    public void setShelfId(
+        @Nullable
+        final Integer shelfId) {
+        rememberChangedField("ShelfId", this.shelfId);
+        this.shelfId = shelfId;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>VendorId</b></p>
+     * 
+     * @param vendorId
+     *     The vendorId to set.
+     */
+    public void setVendorId(
+        @Nullable
+        final Integer vendorId) {
+        rememberChangedField("VendorId", this.vendorId);
+        this.vendorId = vendorId;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Price</b></p>
+     * 
+     * @param price
+     *     The price to set.
+     */
+    public void setPrice(
+        @Nullable
+        final BigDecimal price) {
+        rememberChangedField("Price", this.price);
+        this.price = price;
+    }
+
+    /**
+     * Constraints: none<p>Original property name from the Odata EDM: <b>Image</b></p>
+     * 
+     * @param image
+     *     The image to set.
+     */
+    public void setImage(
+        @Nullable
+        final byte[] image) {
+        rememberChangedField("Image", this.image);
+        this.image = image;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Products";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link Product}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<Product>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> nameAdapter;
+        private final TypeAdapter<Integer> shelfIdAdapter;
+        private final TypeAdapter<Integer> vendorIdAdapter;
+        private final TypeAdapter<BigDecimal> priceAdapter;
+        private final TypeAdapter<byte[]> imageAdapter;
+        private final TypeAdapter<Vendor> toVendorAdapter;
+        private final TypeAdapter<List<Shelf>> toShelfAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<Product> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Product.class, "id"));
+            nameAdapter = ((TypeAdapter<String> ) getFieldAdapter(Product.class, "name"));
+            shelfIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Product.class, "shelfId"));
+            vendorIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Product.class, "vendorId"));
+            priceAdapter = ((TypeAdapter<BigDecimal> ) getFieldAdapter(Product.class, "price"));
+            imageAdapter = ((TypeAdapter<byte[]> ) getFieldAdapter(Product.class, "image"));
+            toVendorAdapter = ((TypeAdapter<Vendor> ) getFieldAdapter(Product.class, "toVendor"));
+            toShelfAdapter = ((TypeAdapter<List<Shelf>> ) getFieldAdapter(Product.class, "toShelf"));
+        }
+
+        @Nonnull
+        @Override
+        protected Product newInstance() {
+            return new Product();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final Product object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Name":
+                    object.name = nameAdapter.read(jsonReader);
+                    return true;
+                case "ShelfId":
+                    object.shelfId = shelfIdAdapter.read(jsonReader);
+                    return true;
+                case "VendorId":
+                    object.vendorId = vendorIdAdapter.read(jsonReader);
+                    return true;
+                case "Price":
+                    object.price = priceAdapter.read(jsonReader);
+                    return true;
+                case "Image":
+                    object.image = imageAdapter.read(jsonReader);
+                    return true;
+                case "Vendor":
+                    object.toVendor = toVendorAdapter.read(jsonReader);
+                    return true;
+                case "Shelf":
+                    object.toShelf = toShelfAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+
+    /**
+     * Helper class to allow for fluent creation of Product instances.
+     * 
+     */
+    public final static class ProductBuilder {
+
+        private Vendor toVendor;
+        private List<Shelf> toShelf = Lists.newArrayList();
+
+        private Product.ProductBuilder toVendor(final Vendor cloudSdkValue) {
+            toVendor = cloudSdkValue;
+            return this;
+        }
+
+        /**
+         * Navigation property <b>Vendor</b> for <b>Product</b> to single <b>Vendor</b>.
+         * 
+         * @param cloudSdkValue
+         *     The Vendor to build this Product with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Product.ProductBuilder vendor(final Vendor cloudSdkValue) {
+            return toVendor(cloudSdkValue);
+        }
+
+        private Product.ProductBuilder toShelf(final List<Shelf> cloudSdkValue) {
+            toShelf.addAll(cloudSdkValue);
+            return this;
+        }
+
+        /**
+         * Navigation property <b>Shelf</b> for <b>Product</b> to multiple <b>Shelf</b>.
+         * 
+         * @param cloudSdkValue
+         *     The Shelfs to build this Product with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Product.ProductBuilder shelf(Shelf... cloudSdkValue) {
+            return toShelf(Lists.newArrayList(cloudSdkValue));
+        }
+
+    }
+
+}
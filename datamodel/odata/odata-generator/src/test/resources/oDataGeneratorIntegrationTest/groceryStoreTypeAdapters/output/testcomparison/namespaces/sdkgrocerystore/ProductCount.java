@@ -0,0 +1,203 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Maps;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmComplex;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original complex type name from the Odata EDM: <b>ProductCount</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class ProductCount
+    extends VdmComplex<ProductCount>
+{
+
+    /**
+     * Constraints: Not nullable<p>Original property from the Odata EDM: <b>ProductId</b></p>
+     * 
+     * @param productId
+     *     
+     */
+    @SerializedName("ProductId")
+    @JsonProperty("ProductId")
+    @Nullable
+    @ODataField(odataName = "ProductId")
+    private Integer productId;
+    /**
+     * Constraints: Not nullable<p>Original property from the Odata EDM: <b>Quantity</b></p>
+     * 
+     * @param quantity
+     *     
+     * @return
+     *     Product quantity indiciator.
+     */
+    @SerializedName("Quantity")
+    @JsonProperty("Quantity")
+    @Nullable
+    @ODataField(odataName = "Quantity")
+    private Integer quantity;
+
+    @Nonnull
+    @Override
+    public Class<ProductCount> getType() {
+        return ProductCount.class;
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, Object> toMapOfFields() {
+        final Map<String, Object> cloudSdkValues = super.toMapOfFields();
+        cloudSdkValues.put("ProductId", getProductId());
+        cloudSdkValues.put("Quantity", getQuantity());
+        return cloudSdkValues;
+    }
+
+    @Override
+    protected void fromMap(final Map<String, Object> inputValues) {
+        final Map<String, Object> cloudSdkValues = Maps.newLinkedHashMap(inputValues);
+        // simple properties
+        {
+            if (cloudSdkValues.containsKey("ProductId")) {
+                final Object value = cloudSdkValues.remove("ProductId");
+                if ((value == null)||(!value.equals(getProductId()))) {
+                    setProductId(((Integer) value));
+                }
+            }
+            if (cloudSdkValues.containsKey("Quantity")) {
+                final Object value = cloudSdkValues.remove("Quantity");
+                if ((value == null)||(!value.equals(getQuantity()))) {
+                    setQuantity(((Integer) value));
+                }
+            }
+        }
+        // structured properties
+        {
+        }
+        // navigation properties
+        {
+        }
+        super.fromMap(cloudSdkValues);
+    }
+
+    @Nonnull
+    @Override
+    protected Map<String, Object> getKey() {
+        final Map<String, Object> result = Maps.newLinkedHashMap();
+        return result;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property from the Odata EDM: <b>ProductId</b></p>
+     * 
+     * @param productId
+     *     The productId to set.
+     */
+    public void setProductId(
+        @Nullable
+        final Integer productId) {
+        rememberChangedField("ProductId", this.productId);
+        this.productId = productId;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property from the Odata EDM: <b>Quantity</b></p>
+     * 
+     * @param quantity
+     *     Product quantity indiciator.
+     */
+    public void setQuantity(
+        @Nullable
+        final Integer quantity) {
+        rememberChangedField("Quantity", this.quantity);
+        this.quantity = quantity;
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link ProductCount}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<ProductCount>
+    {
+
+        private final TypeAdapter<Integer> productIdAdapter;
+        private final TypeAdapter<Integer> quantityAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<ProductCount> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            productIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(ProductCount.class, "productId"));
+            quantityAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(ProductCount.class, "quantity"));
+        }
+
+        @Nonnull
+        @Override
+        protected ProductCount newInstance() {
+            return new ProductCount();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final ProductCount object)
+            throws IOException
+        {
+            switch (name) {
+                case "ProductId":
+                    object.productId = productIdAdapter.read(jsonReader);
+                    return true;
+                case "Quantity":
+                    object.quantity = quantityAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+}
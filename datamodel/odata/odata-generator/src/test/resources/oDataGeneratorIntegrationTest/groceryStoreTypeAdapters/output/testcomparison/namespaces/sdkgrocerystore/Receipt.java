@@ -0,0 +1,526 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>Receipt</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class Receipt
+    extends VdmEntity<Receipt>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>CustomerId</b></p>
+     * 
+     * @return
+     *     The customerId contained in this entity.
+     */
+    @SerializedName("CustomerId")
+    @JsonProperty("CustomerId")
+    @Nullable
+    @ODataField(odataName = "CustomerId")
+    private Integer customerId;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>TotalAmount</b></p>
+     * 
+     * @return
+     *     The totalAmount contained in this entity.
+     */
+    @SerializedName("TotalAmount")
+    @JsonProperty("TotalAmount")
+    @Nullable
+    @ODataField(odataName = "TotalAmount")
+    private BigDecimal totalAmount;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>ProductCount1</b></p>
+     * 
+     * @return
+     *     The productCount1 contained in this entity.
+     */
+    @SerializedName("ProductCount1")
+    @JsonProperty("ProductCount1")
+    @Nullable
+    @ODataField(odataName = "ProductCount1")
+    private ProductCount productCount1;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount2</b></p>
+     * 
+     * @return
+     *     The productCount2 contained in this entity.
+     */
+    @SerializedName("ProductCount2")
+    @JsonProperty("ProductCount2")
+    @Nullable
+    @ODataField(odataName = "ProductCount2")
+    private ProductCount productCount2;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount3</b></p>
+     * 
+     * @return
+     *     The productCount3 contained in this entity.
+     */
+    @SerializedName("ProductCount3")
+    @JsonProperty("ProductCount3")
+    @Nullable
+    @ODataField(odataName = "ProductCount3")
+    private ProductCount productCount3;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount4</b></p>
+     * 
+     * @return
+     *     The productCount4 contained in this entity.
+     */
+    @SerializedName("ProductCount4")
+    @JsonProperty("ProductCount4")
+    @Nullable
+    @ODataField(odataName = "ProductCount4")
+    private ProductCount productCount4;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount5</b></p>
+     * 
+     * @return
+     *     The productCount5 contained in this entity.
+     */
+    @SerializedName("ProductCount5")
+    @JsonProperty("ProductCount5")
+    @Nullable
+    @ODataField(odataName = "ProductCount5")
+    private ProductCount productCount5;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount6</b></p>
+     * 
+     * @return
+     *     The productCount6 contained in this entity.
+     */
+    @SerializedName("ProductCount6")
+    @JsonProperty("ProductCount6")
+    @Nullable
+    @ODataField(odataName = "ProductCount6")
+    private ProductCount productCount6;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount7</b></p>
+     * 
+     * @return
+     *     The productCount7 contained in this entity.
+     */
+    @SerializedName("ProductCount7")
+    @JsonProperty("ProductCount7")
+    @Nullable
+    @ODataField(odataName = "ProductCount7")
+    private ProductCount productCount7;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount8</b></p>
+     * 
+     * @return
+     *     The productCount8 contained in this entity.
+     */
+    @SerializedName("ProductCount8")
+    @JsonProperty("ProductCount8")
+    @Nullable
+    @ODataField(odataName = "ProductCount8")
+    private ProductCount productCount8;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount9</b></p>
+     * 
+     * @return
+     *     The productCount9 contained in this entity.
+     */
+    @SerializedName("ProductCount9")
+    @JsonProperty("ProductCount9")
+    @Nullable
+    @ODataField(odataName = "ProductCount9")
+    private ProductCount productCount9;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount10</b></p>
+     * 
+     * @return
+     *     The productCount10 contained in this entity.
+     */
+    @SerializedName("ProductCount10")
+    @JsonProperty("ProductCount10")
+    @Nullable
+    @ODataField(odataName = "ProductCount10")
+    private ProductCount productCount10;
+    /**
+     * Navigation property <b>Customer</b> for <b>Receipt</b> to single <b>Customer</b>.
+     * 
+     */
+    @SerializedName("Customer")
+    @JsonProperty("Customer")
+    @ODataField(odataName = "Customer")
+    @Nullable
+    private Customer toCustomer;
+
+    @Nonnull
+    @Override
+    public Class<Receipt> getType() {
+        return Receipt.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>CustomerId</b></p>
+     * 
+     * @param customerId
+     *     The customerId to set.
+     */
+    public void setCustomerId(
+        @Nullable
+        final Integer customerId) {
+        rememberChangedField("CustomerId", this.customerId);
+        this.customerId = customerId;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>TotalAmount</b></p>
+     * 
+     * @param totalAmount
+     *     The totalAmount to set.
+     */
+    public void setTotalAmount(
+        @Nullable
+        final BigDecimal totalAmount) {
+        rememberChangedField("TotalAmount", this.totalAmount);
+        this.totalAmount = totalAmount;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>ProductCount1</b></p>
+     * 
+     * @param productCount1
+     *     The productCount1 to set.
+     */
+    public void setProductCount1(
+        @Nullable
+        final ProductCount productCount1) {
+        rememberChangedField("ProductCount1", this.productCount1);
+        this.productCount1 = productCount1;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount2</b></p>
+     * 
+     * @param productCount2
+     *     The productCount2 to set.
+     */
+    public void setProductCount2(
+        @Nullable
+        final ProductCount productCount2) {
+        rememberChangedField("ProductCount2", this.productCount2);
+        this.productCount2 = productCount2;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount3</b></p>
+     * 
+     * @param productCount3
+     *     The productCount3 to set.
+     */
+    public void setProductCount3(
+        @Nullable
+        final ProductCount productCount3) {
+        rememberChangedField("ProductCount3", this.productCount3);
+        this.productCount3 = productCount3;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount4</b></p>
+     * 
+     * @param productCount4
+     *     The productCount4 to set.
+     */
+    public void setProductCount4(
+        @Nullable
+        final ProductCount productCount4) {
+        rememberChangedField("ProductCount4", this.productCount4);
+        this.productCount4 = productCount4;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount5</b></p>
+     * 
+     * @param productCount5
+     *     The productCount5 to set.
+     */
+    public void setProductCount5(
+        @Nullable
+        final ProductCount productCount5) {
+        rememberChangedField("ProductCount5", this.productCount5);
+        this.productCount5 = productCount5;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount6</b></p>
+     * 
+     * @param productCount6
+     *     The productCount6 to set.
+     */
+    public void setProductCount6(
+        @Nullable
+        final ProductCount productCount6) {
+        rememberChangedField("ProductCount6", this.productCount6);
+        this.productCount6 = productCount6;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount7</b></p>
+     * 
+     * @param productCount7
+     *     The productCount7 to set.
+     */
+    public void setProductCount7(
+        @Nullable
+        final ProductCount productCount7) {
+        rememberChangedField("ProductCount7", this.productCount7);
+        this.productCount7 = productCount7;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount8</b></p>
+     * 
+     * @param productCount8
+     *     The productCount8 to set.
+     */
+    public void setProductCount8(
+        @Nullable
+        final ProductCount productCount8) {
+        rememberChangedField("ProductCount8", this.productCount8);
+        this.productCount8 = productCount8;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount9</b></p>
+     * 
+     * @param productCount9
+     *     The productCount9 to set.
+     */
+    public void setProductCount9(
+        @Nullable
+        final ProductCount productCount9) {
+        rememberChangedField("ProductCount9", this.productCount9);
+        this.productCount9 = productCount9;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>ProductCount10</b></p>
+     * 
+     * @param productCount10
+     *     The productCount10 to set.
+     */
+    public void setProductCount10(
+        @Nullable
+        final ProductCount productCount10) {
+        rememberChangedField("ProductCount10", this.productCount10);
+        this.productCount10 = productCount10;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Receipts";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link Receipt}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<Receipt>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<Integer> customerIdAdapter;
+        private final TypeAdapter<BigDecimal> totalAmountAdapter;
+        private final TypeAdapter<ProductCount> productCount1Adapter;
+        private final TypeAdapter<ProductCount> productCount2Adapter;
+        private final TypeAdapter<ProductCount> productCount3Adapter;
+        private final TypeAdapter<ProductCount> productCount4Adapter;
+        private final TypeAdapter<ProductCount> productCount5Adapter;
+        private final TypeAdapter<ProductCount> productCount6Adapter;
+        private final TypeAdapter<ProductCount> productCount7Adapter;
+        private final TypeAdapter<ProductCount> productCount8Adapter;
+        private final TypeAdapter<ProductCount> productCount9Adapter;
+        private final TypeAdapter<ProductCount> productCount10Adapter;
+        private final TypeAdapter<Customer> toCustomerAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<Receipt> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Receipt.class, "id"));
+            customerIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Receipt.class, "customerId"));
+            totalAmountAdapter = ((TypeAdapter<BigDecimal> ) getFieldAdapter(Receipt.class, "totalAmount"));
+            productCount1Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount1"));
+            productCount2Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount2"));
+            productCount3Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount3"));
+            productCount4Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount4"));
+            productCount5Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount5"));
+            productCount6Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount6"));
+            productCount7Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount7"));
+            productCount8Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount8"));
+            productCount9Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount9"));
+            productCount10Adapter = ((TypeAdapter<ProductCount> ) getFieldAdapter(Receipt.class, "productCount10"));
+            toCustomerAdapter = ((TypeAdapter<Customer> ) getFieldAdapter(Receipt.class, "toCustomer"));
+        }
+
+        @Nonnull
+        @Override
+        protected Receipt newInstance() {
+            return new Receipt();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final Receipt object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "CustomerId":
+                    object.customerId = customerIdAdapter.read(jsonReader);
+                    return true;
+                case "TotalAmount":
+                    object.totalAmount = totalAmountAdapter.read(jsonReader);
+                    return true;
+                case "ProductCount1":
+                    object.productCount1 = productCount1Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount2":
+                    object.productCount2 = productCount2Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount3":
+                    object.productCount3 = productCount3Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount4":
+                    object.productCount4 = productCount4Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount5":
+                    object.productCount5 = productCount5Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount6":
+                    object.productCount6 = productCount6Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount7":
+                    object.productCount7 = productCount7Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount8":
+                    object.productCount8 = productCount8Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount9":
+                    object.productCount9 = productCount9Adapter.read(jsonReader);
+                    return true;
+                case "ProductCount10":
+                    object.productCount10 = productCount10Adapter.read(jsonReader);
+                    return true;
+                case "Customer":
+                    object.toCustomer = toCustomerAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+
+    /**
+     * Helper class to allow for fluent creation of Receipt instances.
+     * 
+     */
+    public final static class ReceiptBuilder {
+
+        private Customer toCustomer;
+
+        private Receipt.ReceiptBuilder toCustomer(final Customer cloudSdkValue) {
+            toCustomer = cloudSdkValue;
+            return this;
+        }
+
+        /**
+         * Navigation property <b>Customer</b> for <b>Receipt</b> to single <b>Customer</b>.
+         * 
+         * @param cloudSdkValue
+         *     The Customer to build this Receipt with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Receipt.ReceiptBuilder customer(final Customer cloudSdkValue) {
+            return toCustomer(cloudSdkValue);
+        }
+
+    }
+
+}
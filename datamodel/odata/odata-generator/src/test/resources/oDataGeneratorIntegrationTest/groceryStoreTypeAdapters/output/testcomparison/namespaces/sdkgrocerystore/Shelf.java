@@ -0,0 +1,240 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.collect.Lists;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>Shelf</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class Shelf
+    extends VdmEntity<Shelf>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>FloorPlanId</b></p>
+     * 
+     * @return
+     *     The floorPlanId contained in this entity.
+     */
+    @SerializedName("FloorPlanId")
+    @JsonProperty("FloorPlanId")
+    @Nullable
+    @ODataField(odataName = "FloorPlanId")
+    private Integer floorPlanId;
+    /**
+     * Navigation property <b>FloorPlan</b> for <b>Shelf</b> to single <b>FloorPlan</b>.
+     * 
+     */
+    @SerializedName("FloorPlan")
+    @JsonProperty("FloorPlan")
+    @ODataField(odataName = "FloorPlan")
+    @Nullable
+    private FloorPlan toFloorPlan;
+    /**
+     * Navigation property <b>Products</b> for <b>Shelf</b> to multiple <b>Product</b>.
+     * 
+     */
+    @SerializedName("Products")
+    @JsonProperty("Products")
+    @ODataField(odataName = "Products")
+    private List<Product> toProducts;
+
+    @Nonnull
+    @Override
+    public Class<Shelf> getType() {
+        return Shelf.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: Not nullable<p>Original property name from the Odata EDM: <b>FloorPlanId</b></p>
+     * 
+     * @param floorPlanId
+     *     The floorPlanId to set.
+     */
+    public void setFloorPlanId(
+        @Nullable
+        final Integer floorPlanId) {
+        rememberChangedField("FloorPlanId", this.floorPlanId);
+        this.floorPlanId = floorPlanId;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Shelves";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link Shelf}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<Shelf>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<Integer> floorPlanIdAdapter;
+        private final TypeAdapter<FloorPlan> toFloorPlanAdapter;
+        private final TypeAdapter<List<Product>> toProductsAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<Shelf> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Shelf.class, "id"));
+            floorPlanIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Shelf.class, "floorPlanId"));
+            toFloorPlanAdapter = ((TypeAdapter<FloorPlan> ) getFieldAdapter(Shelf.class, "toFloorPlan"));
+            toProductsAdapter = ((TypeAdapter<List<Product>> ) getFieldAdapter(Shelf.class, "toProducts"));
+        }
+
+        @Nonnull
+        @Override
+        protected Shelf newInstance() {
+            return new Shelf();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final Shelf object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "FloorPlanId":
+                    object.floorPlanId = floorPlanIdAdapter.read(jsonReader);
+                    return true;
+                case "FloorPlan":
+                    object.toFloorPlan = toFloorPlanAdapter.read(jsonReader);
+                    return true;
+                case "Products":
+                    object.toProducts = toProductsAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+
+    /**
+     * Helper class to allow for fluent creation of Shelf instances.
+     * 
+     */
+    public final static class ShelfBuilder {
+
+        private FloorPlan toFloorPlan;
+        private List<Product> toProducts = Lists.newArrayList();
+
+        private Shelf.ShelfBuilder toFloorPlan(final FloorPlan cloudSdkValue) {
+            toFloorPlan = cloudSdkValue;
+            return this;
+        }
+
+        /**
+         * Navigation property <b>FloorPlan</b> for <b>Shelf</b> to single <b>FloorPlan</b>.
+         * 
+         * @param cloudSdkValue
+         *     The FloorPlan to build this Shelf with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Shelf.ShelfBuilder floorPlan(final FloorPlan cloudSdkValue) {
+            return toFloorPlan(cloudSdkValue);
+        }
+
+        private Shelf.ShelfBuilder toProducts(final List<Product> cloudSdkValue) {
+            toProducts.addAll(cloudSdkValue);
+            return this;
+        }
+
+        /**
+         * Navigation property <b>Products</b> for <b>Shelf</b> to multiple <b>Product</b>.
+         * 
+         * @param cloudSdkValue
+         *     The Products to build this Shelf with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Shelf.ShelfBuilder products(Product... cloudSdkValue) {
+            return toProducts(Lists.newArrayList(cloudSdkValue));
+        }
+
+    }
+
+}
@@ -0,0 +1,235 @@
+
+package testcomparison.namespaces.sdkgrocerystore;
+
+import java.io.IOException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.sap.cloud.sdk.datamodel.odata.helper.VdmEntity;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataField;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmGeneratedAdapter;
+import com.sap.cloud.sdk.s4hana.datamodel.odata.annotation.Key;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+
+/**
+ * <p>Original entity name from the Odata EDM: <b>Vendor</b></p>
+ * 
+ */
+@Builder
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(doNotUseGetters = true, callSuper = true)
+@EqualsAndHashCode(doNotUseGetters = true, callSuper = true)
+@JsonAdapter(com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory.class)
+public class Vendor
+    extends VdmEntity<Vendor>
+{
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @return
+     *     The id contained in this entity.
+     */
+    @Key
+    @SerializedName("Id")
+    @JsonProperty("Id")
+    @Nullable
+    @ODataField(odataName = "Id")
+    private Integer id;
+    /**
+     * Constraints: Not nullable, Maximum length: 100 <p>Original property name from the Odata EDM: <b>Name</b></p>
+     * 
+     * @return
+     *     The name contained in this entity.
+     */
+    @SerializedName("Name")
+    @JsonProperty("Name")
+    @Nullable
+    @ODataField(odataName = "Name")
+    private String name;
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>AddressId</b></p>
+     * 
+     * @return
+     *     The addressId contained in this entity.
+     */
+    @SerializedName("AddressId")
+    @JsonProperty("AddressId")
+    @Nullable
+    @ODataField(odataName = "AddressId")
+    private Integer addressId;
+    /**
+     * Navigation property <b>Address</b> for <b>Vendor</b> to single <b>Address</b>.
+     * 
+     */
+    @SerializedName("Address")
+    @JsonProperty("Address")
+    @ODataField(odataName = "Address")
+    @Nullable
+    private Address toAddress;
+
+    @Nonnull
+    @Override
+    public Class<Vendor> getType() {
+        return Vendor.class;
+    }
+
+    /**
+     * (Key Field) Constraints: Not nullable<p>Original property name from the Odata EDM: <b>Id</b></p>
+     * 
+     * @param id
+     *     The id to set.
+     */
+    public void setId(
+        @Nullable
+        final Integer id) {
+        rememberChangedField("Id", this.id);
+        this.id = id;
+    }
+
+    /**
+     * Constraints: Not nullable, Maximum length: 100 <p>Original property name from the Odata EDM: <b>Name</b></p>
+     * 
+     * @param name
+     *     The name to set.
+     */
+    public void setName(
+        @Nullable
+        final String name) {
+        rememberChangedField("Name", this.name);
+        this.name = name;
+    }
+
+    /**
+     * Constraints: Nullable<p>Original property name from the Odata EDM: <b>AddressId</b></p>
+     * 
+     * @param addressId
+     *     The addressId to set.
+     */
+    public void setAddressId(
+        @Nullable
+        final Integer addressId) {
+        rememberChangedField("AddressId", this.addressId);
+        this.addressId = addressId;
+    }
+
+    @Override
+    protected String getEntityCollection() {
+        return "Vendors";
+    }
+
+
+    /**
+     * Reflection-free Gson type adapter of {@link Vendor}, preferred by the {@link com.sap.cloud.sdk.s4hana.datamodel.odata.adapter.ODataVdmEntityAdapterFactory}.
+     * 
+     */
+    public final static class GsonTypeAdapter
+        extends ODataVdmGeneratedAdapter<Vendor>
+    {
+
+        private final TypeAdapter<Integer> idAdapter;
+        private final TypeAdapter<String> nameAdapter;
+        private final TypeAdapter<Integer> addressIdAdapter;
+        private final TypeAdapter<Address> toAddressAdapter;
+
+        /**
+         * For internal use only by data model classes.
+         * 
+         * @param fallbackAdapter
+         *     The reflection based adapter of the data model class.
+         * @param gson
+         *     The GSON reference.
+         */
+        @SuppressWarnings("unchecked")
+        public GsonTypeAdapter(
+            @Nonnull
+            final Gson gson,
+            @Nonnull
+            final ODataVdmEntityAdapter<Vendor> fallbackAdapter) {
+            super(gson, fallbackAdapter);
+            idAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Vendor.class, "id"));
+            nameAdapter = ((TypeAdapter<String> ) getFieldAdapter(Vendor.class, "name"));
+            addressIdAdapter = ((TypeAdapter<Integer> ) getFieldAdapter(Vendor.class, "addressId"));
+            toAddressAdapter = ((TypeAdapter<Address> ) getFieldAdapter(Vendor.class, "toAddress"));
+        }
+
+        @Nonnull
+        @Override
+        protected Vendor newInstance() {
+            return new Vendor();
+        }
+
+        @Override
+        protected boolean readProperty(
+            @Nonnull
+            final JsonReader jsonReader,
+            @Nonnull
+            final String name,
+            @Nonnull
+            final Vendor object)
+            throws IOException
+        {
+            switch (name) {
+                case "Id":
+                    object.id = idAdapter.read(jsonReader);
+                    return true;
+                case "Name":
+                    object.name = nameAdapter.read(jsonReader);
+                    return true;
+                case "AddressId":
+                    object.addressId = addressIdAdapter.read(jsonReader);
+                    return true;
+                case "Address":
+                    object.toAddress = toAddressAdapter.read(jsonReader);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+    }
+
+
+    /**
+     * Helper class to allow for fluent creation of Vendor instances.
+     * 
+     */
+    public final static class VendorBuilder {
+
+        private Address toAddress;
+
+        private Vendor.VendorBuilder toAddress(final Address cloudSdkValue) {
+            toAddress = cloudSdkValue;
+            return this;
+        }
+
+        /**
+         * Navigation property <b>Address</b> for <b>Vendor</b> to single <b>Address</b>.
+         * 
+         * @param cloudSdkValue
+         *     The Address to build this Vendor with.
+         * @return
+         *     This Builder to allow for a fluent interface.
+         */
+        @Nonnull
+        public Vendor.VendorBuilder address(final Address cloudSdkValue) {
+            return toAddress(cloudSdkValue);
+        }
+
+    }
+
+}
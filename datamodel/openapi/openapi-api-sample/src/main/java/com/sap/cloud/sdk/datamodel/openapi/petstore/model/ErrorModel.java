@@ -15,6 +15,7 @@
 
 package com.sap.cloud.sdk.datamodel.openapi.petstore.model;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -42,9 +43,9 @@ public class ErrorModel
     @JsonProperty( "message" )
     private String message;
 
-    @JsonAnySetter
+    // shared empty map until the first custom field is set, since most instances never have any
     @JsonAnyGetter
-    private final Map<String, Object> cloudSdkCustomFields = new LinkedHashMap<>();
+    private Map<String, Object> cloudSdkCustomFields = Collections.emptyMap();
 
     /**
      * Set the code of this {@link ErrorModel} instance and return the same instance.
@@ -177,9 +178,12 @@ public class ErrorModel
      * @param customFieldValue
      *            The value of the property
      */
-    @JsonIgnore
+    @JsonAnySetter
     public void setCustomField( @Nonnull String customFieldName, @Nullable Object customFieldValue )
     {
+        if( cloudSdkCustomFields.isEmpty() ) {
+            cloudSdkCustomFields = new LinkedHashMap<>();
+        }
         cloudSdkCustomFields.put(customFieldName, customFieldValue);
     }
 
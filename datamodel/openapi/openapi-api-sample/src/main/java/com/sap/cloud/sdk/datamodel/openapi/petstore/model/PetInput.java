@@ -15,6 +15,7 @@
 
 package com.sap.cloud.sdk.datamodel.openapi.petstore.model;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -45,9 +46,9 @@ public class PetInput
     @JsonProperty( "tag" )
     private String tag;
 
-    @JsonAnySetter
+    // shared empty map until the first custom field is set, since most instances never have any
     @JsonAnyGetter
-    private final Map<String, Object> cloudSdkCustomFields = new LinkedHashMap<>();
+    private Map<String, Object> cloudSdkCustomFields = Collections.emptyMap();
 
     /**
      * Set the id of this {@link PetInput} instance and return the same instance.
@@ -218,9 +219,12 @@ public class PetInput
      * @param customFieldValue
      *            The value of the property
      */
-    @JsonIgnore
+    @JsonAnySetter
     public void setCustomField( @Nonnull String customFieldName, @Nullable Object customFieldValue )
     {
+        if( cloudSdkCustomFields.isEmpty() ) {
+            cloudSdkCustomFields = new LinkedHashMap<>();
+        }
         cloudSdkCustomFields.put(customFieldName, customFieldValue);
     }
 
@@ -15,6 +15,7 @@
 
 package com.sap.cloud.sdk.datamodel.openapi.sample.model;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -51,9 +52,9 @@ public class AllOf
     @JsonProperty( "flavor" )
     private FantaFlavor flavor;
 
-    @JsonAnySetter
+    // shared empty map until the first custom field is set, since most instances never have any
     @JsonAnyGetter
-    private final Map<String, Object> cloudSdkCustomFields = new LinkedHashMap<>();
+    private Map<String, Object> cloudSdkCustomFields = Collections.emptyMap();
 
     /**
      * Default constructor for AllOf.
@@ -307,9 +308,12 @@ public class AllOf
      * @param customFieldValue
      *            The value of the property
      */
-    @JsonIgnore
+    @JsonAnySetter
     public void setCustomField( @Nonnull String customFieldName, @Nullable Object customFieldValue )
     {
+        if( cloudSdkCustomFields.isEmpty() ) {
+            cloudSdkCustomFields = new LinkedHashMap<>();
+        }
         cloudSdkCustomFields.put(customFieldName, customFieldValue);
     }
 
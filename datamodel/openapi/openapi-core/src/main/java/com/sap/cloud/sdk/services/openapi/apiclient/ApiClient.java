@@ -17,6 +17,7 @@ import java.util.TimeZone;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import org.apache.hc.client5.http.classic.HttpClient;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -39,6 +40,7 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.common.annotations.Beta;
 import com.sap.cloud.sdk.cloudplatform.connectivity.ApacheHttpClient5Accessor;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
 import com.sap.cloud.sdk.services.openapi.apiclient.auth.ApiKeyAuth;
@@ -95,6 +97,13 @@ public final class ApiClient
         }
     }
 
+    /**
+     * The template of the {@link ObjectMapper} of all default rest templates. Every rest template receives a copy,
+     * since copying a configured mapper is cheaper than building a new one, and customizing the mapper of one rest
+     * template must not affect any other.
+     */
+    private static final ObjectMapper DEFAULT_OBJECT_MAPPER = newDefaultObjectMapper();
+
     private boolean debugging = false;
 
     private final HttpHeaders defaultHeaders = new HttpHeaders();
@@ -141,8 +150,24 @@ public final class ApiClient
      */
     public ApiClient( @Nonnull final Destination destination )
     {
-        this.restTemplate = setRequestFactory(newDefaultRestTemplate(), destination);
-        init();
+        this(getRestTemplate(destination, true));
+    }
+
+    /**
+     * Creates an instance of this class given an instance of {@link Destination}, which does not buffer response bodies
+     * in memory. Instead, responses are deserialized directly from the response stream of the HTTP connection. This
+     * reduces the memory consumption for large responses, but the response body can only be read once.
+     *
+     * @param destination
+     *            An instance of {@link Destination}
+     * @return A new {@link ApiClient} that streams response bodies.
+     * @since 5.23.0
+     */
+    @Beta
+    @Nonnull
+    public static ApiClient ofStreamingResponses( @Nonnull final Destination destination )
+    {
+        return new ApiClient(getRestTemplate(destination, false));
     }
 
     /**
@@ -764,13 +789,12 @@ public final class ApiClient
     {
         final RestTemplate restTemplate = new RestTemplate();
 
-        final ObjectMapper objectMapper = newDefaultObjectMapper();
         restTemplate
             .getMessageConverters()
             .stream()
             .filter(MappingJackson2HttpMessageConverter.class::isInstance)
             .map(MappingJackson2HttpMessageConverter.class::cast)
-            .forEach(converter -> converter.setObjectMapper(objectMapper));
+            .forEach(converter -> converter.setObjectMapper(DEFAULT_OBJECT_MAPPER.copy()));
 
         return restTemplate;
     }
@@ -786,22 +810,33 @@ public final class ApiClient
     }
 
     @Nonnull
-    private static
-        RestTemplate
-        setRequestFactory( @Nonnull final RestTemplate restTemplate, @Nonnull final Destination destination )
+    private static RestTemplate getRestTemplate( @Nonnull final Destination destination, final boolean bufferResponses )
     {
-        // instantiate template with prepared HttpClient, featuring repeated response reading
-        final HttpComponentsClientHttpRequestFactory httpRequestFactory = new HttpComponentsClientHttpRequestFactory();
-
+        final HttpClient httpClient;
         try {
-            httpRequestFactory.setHttpClient(ApacheHttpClient5Accessor.getHttpClient(destination));
+            httpClient = ApacheHttpClient5Accessor.getHttpClient(destination);
         }
         catch( final Exception e ) {
             throw new IllegalStateException("Unable to set the HttpClient for the RestTemplate.", e);
         }
+        return setRequestFactory(newDefaultRestTemplate(), httpClient, bufferResponses);
+    }
 
-        restTemplate.setRequestFactory(new BufferingClientHttpRequestFactory(httpRequestFactory));
+    @Nonnull
+    private static RestTemplate setRequestFactory(
+        @Nonnull final RestTemplate restTemplate,
+        @Nonnull final HttpClient httpClient,
+        final boolean bufferResponses )
+    {
+        final HttpComponentsClientHttpRequestFactory httpRequestFactory =
+            new HttpComponentsClientHttpRequestFactory(httpClient);
 
+        // instantiate template with prepared HttpClient, optionally featuring repeated response reading
+        if( bufferResponses ) {
+            restTemplate.setRequestFactory(new BufferingClientHttpRequestFactory(httpRequestFactory));
+        } else {
+            restTemplate.setRequestFactory(httpRequestFactory);
+        }
         return restTemplate;
     }
 }
@@ -1,12 +1,25 @@
 package com.sap.cloud.sdk.services.openapi.apiclient;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.sap.cloud.sdk.cloudplatform.connectivity.DefaultHttpDestination;
 import com.sap.cloud.sdk.cloudplatform.connectivity.Destination;
@@ -39,6 +52,62 @@ class ApiClientFromDestinationTest
         assertThatExceptionOfType(IllegalAccessException.class).isThrownBy(service::foo);
     }
 
+    @Test
+    void testRestTemplateIsCreatedPerApiClient()
+    {
+        final HttpDestination testDestination = DefaultHttpDestination.builder(SERVER.baseUrl()).build();
+
+        final RestTemplate restTemplate = new ApiClient(testDestination).getRestTemplate();
+        final RestTemplate streamingRestTemplate = ApiClient.ofStreamingResponses(testDestination).getRestTemplate();
+
+        // rest templates reference the destination, so they are not shared between instances
+        assertThat(new ApiClient(testDestination).getRestTemplate()).isNotSameAs(restTemplate);
+        assertThat(restTemplate.getRequestFactory()).isInstanceOf(BufferingClientHttpRequestFactory.class);
+        assertThat(streamingRestTemplate).isNotSameAs(restTemplate);
+        assertThat(streamingRestTemplate.getRequestFactory())
+            .isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void testObjectMapperCustomizationIsNotShared()
+    {
+        final HttpDestination testDestination = DefaultHttpDestination.builder(SERVER.baseUrl()).build();
+
+        final ObjectMapper customized = getObjectMapper(new ApiClient(testDestination));
+        customized.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        final ObjectMapper other = getObjectMapper(new ApiClient(testDestination));
+
+        assertThat(other).isNotSameAs(customized);
+        assertThat(other.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)).isFalse();
+    }
+
+    @Test
+    void testStreamingResponsesAreDeserialized()
+    {
+        SERVER.stubFor(get(urlEqualTo("/endpoint")).willReturn(okJson("{\"firstname\":\"John\"}")));
+        final HttpDestination testDestination = DefaultHttpDestination.builder(SERVER.baseUrl()).build();
+
+        final ApiClient apiClient = ApiClient.ofStreamingResponses(testDestination).setBasePath(SERVER.baseUrl());
+        final Map<String, String> result =
+            apiClient
+                .invokeAPI(
+                    "/endpoint",
+                    HttpMethod.GET,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    new ParameterizedTypeReference<Map<String, String>>()
+                    {
+                    });
+
+        assertThat(result).containsEntry("firstname", "John");
+        assertThat(apiClient.getStatusCode()).isEqualTo(200);
+    }
+
     private class MyTestAbstractOpenApiService extends AbstractOpenApiService
     {
         public MyTestAbstractOpenApiService( final Destination destination )
@@ -65,4 +134,17 @@ class ApiClientFromDestinationTest
             throw new IllegalAccessException("Something went horribly wrong");
         }
     }
+
+    private static ObjectMapper getObjectMapper( final ApiClient apiClient )
+    {
+        return apiClient
+            .getRestTemplate()
+            .getMessageConverters()
+            .stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(MappingJackson2HttpMessageConverter.class::cast)
+            .findFirst()
+            .orElseThrow()
+            .getObjectMapper();
+    }
 }
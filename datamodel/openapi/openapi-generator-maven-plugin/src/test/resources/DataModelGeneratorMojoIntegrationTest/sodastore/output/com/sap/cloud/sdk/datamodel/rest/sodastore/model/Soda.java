@@ -17,6 +17,7 @@ package com.sap.cloud.sdk.datamodel.rest.sodastore.model;
 
 import java.util.Objects;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -56,9 +57,9 @@ public class Soda
   @JsonProperty("price")
   private Float price;
 
-  @JsonAnySetter
+  // shared empty map until the first custom field is set, since most instances never have any
   @JsonAnyGetter
-  private final Map<String, Object> cloudSdkCustomFields = new LinkedHashMap<>();
+  private Map<String, Object> cloudSdkCustomFields = Collections.emptyMap();
 
   /**
    * Set the id of this {@link Soda} instance and return the same instance.
@@ -255,9 +256,12 @@ public class Soda
    * @param customFieldName The name of the property
    * @param customFieldValue The value of the property
    */
-  @JsonIgnore
+  @JsonAnySetter
   public void setCustomField( @Nonnull String customFieldName, @Nullable Object customFieldValue )
   {
+      if( cloudSdkCustomFields.isEmpty() ) {
+          cloudSdkCustomFields = new LinkedHashMap<>();
+      }
       cloudSdkCustomFields.put(customFieldName, customFieldValue);
   }
 